@@ -0,0 +1,155 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIR_GALLERY_CACHE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIR_GALLERY_CACHE_EXPIRE_AFTER_ACCESS_SECS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIR_GALLERY_CACHE_MAX_SIZE_BYTES;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.biometrics.entities.BIR;
+
+/**
+ * The Class BirGalleryCache - holds the BIRs parsed from the stored CBEFF
+ * gallery templates, so that the CBEFF XML of a repeat authenticator is not
+ * parsed again on every bio authentication.
+ * <p>
+ * The entries are keyed by the digest of the CBEFF, hence an updated or
+ * re-issued record is never served the BIR of its previous version; the
+ * entries of the previous version are evicted as the least recently used or on
+ * expiry. The cache is bounded by the total size of the cached CBEFFs.
+ * <p>
+ * The cached BIRs hold the decrypted biometric templates, hence the cache is
+ * disabled by default.
+ */
+@Component
+public class BirGalleryCache {
+
+	@Value("${" + BIR_GALLERY_CACHE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + BIR_GALLERY_CACHE_MAX_SIZE_BYTES + ":268435456}")
+	private long maxSizeBytes;
+
+	@Value("${" + BIR_GALLERY_CACHE_EXPIRE_AFTER_ACCESS_SECS + ":3600}")
+	private long expireAfterAccessSecs;
+
+	/** The entries in the access order, least recently used first. */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The total size of the cached CBEFFs. */
+	private long sizeBytes;
+
+	/**
+	 * Gets the BIR parsed from the CBEFF.
+	 *
+	 * @param cbeff the CBEFF
+	 * @return the BIR, or null if not cached
+	 */
+	public BIR get(byte[] cbeff) {
+		if (!enabled) {
+			return null;
+		}
+		String key = DigestUtils.sha256Hex(cbeff);
+		long nowMillis = System.currentTimeMillis();
+		synchronized (this) {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (isExpired(entry, nowMillis)) {
+				remove(key);
+				return null;
+			}
+			entry.lastAccessMillis = nowMillis;
+			return entry.bir;
+		}
+	}
+
+	/**
+	 * Adds the BIR parsed from the CBEFF, evicting the least recently used
+	 * entries once the maximum size is exceeded.
+	 *
+	 * @param cbeff the CBEFF
+	 * @param bir   the BIR
+	 */
+	public void put(byte[] cbeff, BIR bir) {
+		if (!enabled || bir == null || cbeff.length > maxSizeBytes) {
+			return;
+		}
+		String key = DigestUtils.sha256Hex(cbeff);
+		long nowMillis = System.currentTimeMillis();
+		synchronized (this) {
+			remove(key);
+			entries.put(key, new Entry(bir, cbeff.length, nowMillis));
+			sizeBytes += cbeff.length;
+			Iterator<Entry> iterator = entries.values().iterator();
+			while (iterator.hasNext()) {
+				Entry eldest = iterator.next();
+				if (sizeBytes <= maxSizeBytes && !isExpired(eldest, nowMillis)) {
+					break;
+				}
+				iterator.remove();
+				sizeBytes -= eldest.sizeBytes;
+			}
+		}
+	}
+
+	/**
+	 * Removes all the entries.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		sizeBytes = 0;
+	}
+
+	/**
+	 * Gets the total size of the cached CBEFFs.
+	 *
+	 * @return the size in bytes
+	 */
+	public synchronized long getSizeInBytes() {
+		return sizeBytes;
+	}
+
+	/**
+	 * Gets the count of the cached BIRs.
+	 *
+	 * @return the entry count
+	 */
+	public synchronized int getEntryCount() {
+		return entries.size();
+	}
+
+	private void remove(String key) {
+		Entry removed = entries.remove(key);
+		if (removed != null) {
+			sizeBytes -= removed.sizeBytes;
+		}
+	}
+
+	private boolean isExpired(Entry entry, long nowMillis) {
+		return nowMillis - entry.lastAccessMillis > expireAfterAccessSecs * 1000;
+	}
+
+	private static class Entry {
+
+		private final BIR bir;
+
+		private final long sizeBytes;
+
+		private long lastAccessMillis;
+
+		private Entry(BIR bir, long sizeBytes, long lastAccessMillis) {
+			this.bir = bir;
+			this.sizeBytes = sizeBytes;
+			this.lastAccessMillis = lastAccessMillis;
+		}
+	}
+
+}
@@ -0,0 +1,144 @@
+package io.mosip.authentication.common.service.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The Class IdHashBloomFilter - a Bloom filter of ID hashes. The bits are held
+ * in an {@link AtomicLongArray}, so that additions and lookups can happen
+ * concurrently without locking.
+ */
+public class IdHashBloomFilter {
+
+	/** The bits. */
+	private final AtomicLongArray bits;
+
+	/** The number of bits. */
+	private final long bitCount;
+
+	/** The number of hash functions. */
+	private final int hashCount;
+
+	/** The approximate number of entries added. */
+	private final AtomicLong entryCount = new AtomicLong();
+
+	/**
+	 * Instantiates a new Bloom filter sized for the expected entries and the
+	 * false positive rate.
+	 *
+	 * @param expectedEntries   the expected entries
+	 * @param falsePositiveRate the false positive rate
+	 */
+	public IdHashBloomFilter(long expectedEntries, double falsePositiveRate) {
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("False positive rate should be between 0 and 1: " + falsePositiveRate);
+		}
+		long entries = Math.max(1, expectedEntries);
+		long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) >>> 6));
+		this.bits = new AtomicLongArray(words);
+		this.bitCount = (long) words << 6;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+	}
+
+	/**
+	 * Adds the id hash.
+	 *
+	 * @param idHash the id hash
+	 */
+	public void put(String idHash) {
+		long hash1 = hash(idHash);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+		boolean changed = false;
+		for (int i = 0; i < hashCount; i++) {
+			changed |= setBit(Math.floorMod(hash1 + i * hash2, bitCount));
+		}
+		if (changed) {
+			entryCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Checks whether the id hash might have been added. False means that the id
+	 * hash is definitely not added.
+	 *
+	 * @param idHash the id hash
+	 * @return true, if the id hash might have been added
+	 */
+	public boolean mightContain(String idHash) {
+		long hash1 = hash(idHash);
+		long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitCount);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the size of the bits in bytes.
+	 *
+	 * @return the size in bytes
+	 */
+	public long getSizeInBytes() {
+		return bitCount >>> 3;
+	}
+
+	/**
+	 * Gets the approximate number of entries added.
+	 *
+	 * @return the entry count
+	 */
+	public long getEntryCount() {
+		return entryCount.get();
+	}
+
+	/**
+	 * Gets the false positive rate expected for the entries added so far.
+	 *
+	 * @return the expected false positive rate
+	 */
+	public double getExpectedFalsePositiveRate() {
+		return Math.pow(1 - Math.exp(-(double) hashCount * entryCount.get() / bitCount), hashCount);
+	}
+
+	private boolean setBit(long index) {
+		int word = (int) (index >>> 6);
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return false;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+		return true;
+	}
+
+	/**
+	 * FNV-1a hash of the characters, finalized with {@link #mix(long)}.
+	 */
+	private static long hash(String value) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return mix(hash);
+	}
+
+	/**
+	 * The 64 bit finalizer of MurmurHash3.
+	 */
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xFF51AFD7ED558CCDL;
+		value ^= value >>> 33;
+		value *= 0xC4CEB9FE1A85EC53L;
+		value ^= value >>> 33;
+		return value;
+	}
+
+}
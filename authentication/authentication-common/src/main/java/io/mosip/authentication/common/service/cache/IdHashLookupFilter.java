@@ -0,0 +1,267 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ID_HASH_FILTER_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ID_HASH_FILTER_EXPECTED_ENTRIES;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ID_HASH_FILTER_FALSE_POSITIVE_RATE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ID_HASH_FILTER_LOAD_PAGE_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ID_HASH_FILTER_REBUILD_INTERVAL_SECS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ID_HASH_FILTER_REFRESH_INTERVAL_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ID_HASH_FILTER_REFRESH_OVERLAP_SECS;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+
+/**
+ * The Class IdHashLookupFilter - holds a node local Bloom filter of all the ID
+ * hashes stored in identity_cache table, so that requests for IDs which are
+ * not stored are rejected without a DB round trip.
+ * <p>
+ * The filter is built from the table once the application is ready and
+ * rebuilt periodically to drop the removed ID hashes. ID hashes stored by the
+ * credential store job are added as they are stored. As the job may run on
+ * another node, a miss is confirmed by reading the ID hashes created since the
+ * last refresh whenever the last refresh is older than the refresh interval,
+ * hence an ID stored before the refresh interval is never rejected.
+ * <p>
+ * Until the filter is built, and when it is disabled, every ID hash is treated
+ * as possibly present.
+ */
+@Component
+public class IdHashLookupFilter implements ApplicationListener<ApplicationReadyEvent> {
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(IdHashLookupFilter.class);
+
+	private static final String METRIC_PREFIX = "ida.idhash.filter.";
+
+	/** The identity cache repo. */
+	@Autowired
+	private IdentityCacheRepository identityRepo;
+
+	/** The task scheduler. */
+	@Autowired
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	@Value("${" + ID_HASH_FILTER_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + ID_HASH_FILTER_EXPECTED_ENTRIES + ":10000000}")
+	private long expectedEntries;
+
+	@Value("${" + ID_HASH_FILTER_FALSE_POSITIVE_RATE + ":0.01}")
+	private double falsePositiveRate;
+
+	@Value("${" + ID_HASH_FILTER_LOAD_PAGE_SIZE + ":10000}")
+	private int loadPageSize;
+
+	@Value("${" + ID_HASH_FILTER_REFRESH_INTERVAL_MILLIS + ":5000}")
+	private long refreshIntervalMillis;
+
+	/** The overlap of the refresh window to cover the commit delay and clock skew of the writer. */
+	@Value("${" + ID_HASH_FILTER_REFRESH_OVERLAP_SECS + ":60}")
+	private long refreshOverlapSecs;
+
+	@Value("${" + ID_HASH_FILTER_REBUILD_INTERVAL_SECS + ":86400}")
+	private long rebuildIntervalSecs;
+
+	/** The filter in use, null until built. */
+	private volatile IdHashBloomFilter filter;
+
+	/** The filter being built, receiving the ID hashes added during the build. */
+	private volatile IdHashBloomFilter rebuildingFilter;
+
+	/** The created time from which the ID hashes are read on the next refresh. */
+	private volatile LocalDateTime refreshFrom;
+
+	/** The last refresh time in millis. */
+	private volatile long lastRefreshMillis;
+
+	/** The count of ID hashes removed since the last build. */
+	private final AtomicLong removedCount = new AtomicLong();
+
+	private Timer rebuildTimer;
+
+	private Counter rejectedCounter;
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		if (!enabled) {
+			return;
+		}
+		registerMetrics();
+		taskScheduler.scheduleWithFixedDelay(this::rebuild, Instant.now(), Duration.ofSeconds(rebuildIntervalSecs));
+	}
+
+	/**
+	 * Checks whether none of the ID hashes are stored. An ID hash which might be
+	 * stored is always reported as not absent.
+	 *
+	 * @param idHashes the ID hashes
+	 * @return true, if all the ID hashes are definitely not stored
+	 */
+	public boolean isDefinitelyAbsent(Collection<String> idHashes) {
+		if (!enabled || filter == null || mightContainAny(idHashes)) {
+			return false;
+		}
+		if (System.currentTimeMillis() - lastRefreshMillis > refreshIntervalMillis) {
+			refresh();
+			if (mightContainAny(idHashes)) {
+				return false;
+			}
+		}
+		if (rejectedCounter != null) {
+			rejectedCounter.increment();
+		}
+		return true;
+	}
+
+	/**
+	 * Adds the stored ID hashes.
+	 *
+	 * @param idHashes the ID hashes
+	 */
+	public void put(Collection<String> idHashes) {
+		if (!enabled) {
+			return;
+		}
+		putAll(filter, idHashes);
+		putAll(rebuildingFilter, idHashes);
+	}
+
+	/**
+	 * Records the removal of a stored ID hash. The ID hash is dropped from the
+	 * filter on the next rebuild; until then it is reported as possibly present.
+	 *
+	 * @param idHash the ID hash
+	 */
+	public void remove(String idHash) {
+		if (enabled) {
+			removedCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Builds the filter from all the ID hashes stored in identity_cache table and
+	 * replaces the filter in use.
+	 */
+	public void rebuild() {
+		long startMillis = System.currentTimeMillis();
+		LocalDateTime loadStart = DateUtils.getUTCCurrentDateTime();
+		try {
+			long storedCount = identityRepo.count();
+			IdHashBloomFilter newFilter = new IdHashBloomFilter(Math.max(expectedEntries, storedCount * 2),
+					falsePositiveRate);
+			rebuildingFilter = newFilter;
+			long removedBeforeLoad = removedCount.get();
+			String lastId = "";
+			List<String> ids;
+			do {
+				ids = identityRepo.findIdsGreaterThan(lastId, PageRequest.of(0, loadPageSize));
+				ids.forEach(newFilter::put);
+				if (!ids.isEmpty()) {
+					lastId = ids.get(ids.size() - 1);
+				}
+			} while (ids.size() == loadPageSize);
+
+			synchronized (this) {
+				filter = newFilter;
+				refreshFrom = loadStart;
+				lastRefreshMillis = startMillis;
+			}
+			removedCount.addAndGet(-removedBeforeLoad);
+			long elapsedMillis = System.currentTimeMillis() - startMillis;
+			if (rebuildTimer != null) {
+				rebuildTimer.record(elapsedMillis, TimeUnit.MILLISECONDS);
+			}
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "rebuild",
+					"Loaded ID hashes count: " + newFilter.getEntryCount() + " in millis: " + elapsedMillis);
+		} catch (DataAccessException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "rebuild",
+					ExceptionUtils.getStackTrace(e));
+		} finally {
+			rebuildingFilter = null;
+		}
+	}
+
+	/**
+	 * Adds the ID hashes created since the last refresh. Concurrent misses wait
+	 * for a single refresh instead of querying the DB each.
+	 */
+	private synchronized void refresh() {
+		long startMillis = System.currentTimeMillis();
+		if (startMillis - lastRefreshMillis <= refreshIntervalMillis) {
+			return;
+		}
+		LocalDateTime refreshStart = DateUtils.getUTCCurrentDateTime();
+		try {
+			List<String> ids = identityRepo.findIdsCreatedOnOrAfter(refreshFrom.minusSeconds(refreshOverlapSecs));
+			putAll(filter, ids);
+			putAll(rebuildingFilter, ids);
+			refreshFrom = refreshStart;
+			lastRefreshMillis = startMillis;
+		} catch (DataAccessException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "refresh",
+					ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	private boolean mightContainAny(Collection<String> idHashes) {
+		IdHashBloomFilter currentFilter = filter;
+		return currentFilter == null || idHashes.stream().anyMatch(currentFilter::mightContain);
+	}
+
+	private void putAll(IdHashBloomFilter bloomFilter, Collection<String> idHashes) {
+		if (bloomFilter != null) {
+			idHashes.forEach(bloomFilter::put);
+		}
+	}
+
+	private void registerMetrics() {
+		if (meterRegistry == null) {
+			return;
+		}
+		Gauge.builder(METRIC_PREFIX + "size", this, f -> f.filter == null ? 0 : f.filter.getSizeInBytes())
+				.baseUnit("bytes").description("Size of the ID hash filter").register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + "entries", this, f -> f.filter == null ? 0 : f.filter.getEntryCount())
+				.description("ID hashes added to the ID hash filter").register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + "false.positive.rate", this,
+				f -> f.filter == null ? 0 : f.filter.getExpectedFalsePositiveRate())
+				.description("Expected false positive rate of the ID hash filter").register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + "removed", removedCount, AtomicLong::get)
+				.description("ID hashes removed since the last rebuild of the ID hash filter").register(meterRegistry);
+		rebuildTimer = Timer.builder(METRIC_PREFIX + "rebuild").description("Rebuild time of the ID hash filter")
+				.register(meterRegistry);
+		rejectedCounter = Counter.builder(METRIC_PREFIX + "rejected")
+				.description("ID hashes rejected by the ID hash filter").register(meterRegistry);
+	}
+
+}
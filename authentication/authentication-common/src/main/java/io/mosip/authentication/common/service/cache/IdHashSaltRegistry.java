@@ -0,0 +1,98 @@
+package io.mosip.authentication.common.service.cache;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.common.service.entity.IdaUinHashSalt;
+import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class IdHashSaltRegistry - holds an in-memory snapshot of the
+ * uin_hash_salt table indexed by the salt modulo, so that hashing an ID does
+ * not need a DB round trip.
+ * <p>
+ * The table is loaded fully once the application is ready. A modulo which is
+ * not yet in the snapshot (for example a salt inserted by the credential store
+ * job running on another node) is read through from the DB and added to the
+ * snapshot. Salt of a modulo never changes once inserted, hence the snapshot
+ * never goes stale.
+ */
+@Component
+public class IdHashSaltRegistry implements ApplicationListener<ApplicationReadyEvent> {
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(IdHashSaltRegistry.class);
+
+	/** The uin hash salt repo. */
+	@Autowired
+	private IdaUinHashSaltRepo uinHashSaltRepo;
+
+	/** The salts indexed by modulo. Replaced as a whole (copy-on-write) on every update. */
+	private volatile String[] salts = new String[0];
+
+	/**
+	 * Loads all the salts from the uin_hash_salt table into the snapshot.
+	 */
+	public synchronized void loadSalts() {
+		List<IdaUinHashSalt> saltEntities = uinHashSaltRepo.findAll();
+		int maxModulo = saltEntities.stream().mapToInt(IdaUinHashSalt::getId).max().orElse(-1);
+		String[] loadedSalts = new String[maxModulo + 1];
+		for (IdaUinHashSalt saltEntity : saltEntities) {
+			if (saltEntity.getId() >= 0) {
+				loadedSalts[saltEntity.getId()] = saltEntity.getSalt();
+			}
+		}
+		salts = loadedSalts;
+		logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "loadSalts",
+				"Loaded salts count: " + saltEntities.size());
+	}
+
+	/**
+	 * Gets the salt for the modulo. Falls back to the DB if the modulo is not
+	 * present in the snapshot.
+	 *
+	 * @param modulo the modulo
+	 * @return the salt, or null if the salt does not exist for the modulo
+	 */
+	public String getSalt(int modulo) {
+		String[] currentSalts = salts;
+		if (modulo >= 0 && modulo < currentSalts.length && currentSalts[modulo] != null) {
+			return currentSalts[modulo];
+		}
+		String salt = uinHashSaltRepo.retrieveSaltById(modulo);
+		if (salt != null) {
+			putSalt(modulo, salt);
+		}
+		return salt;
+	}
+
+	/**
+	 * Adds the salt of the modulo into the snapshot.
+	 *
+	 * @param modulo the modulo
+	 * @param salt   the salt
+	 */
+	public synchronized void putSalt(int modulo, String salt) {
+		if (modulo < 0 || salt == null) {
+			return;
+		}
+		String[] currentSalts = salts;
+		String[] newSalts = Arrays.copyOf(currentSalts, Math.max(currentSalts.length, modulo + 1));
+		newSalts[modulo] = salt;
+		salts = newSalts;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		loadSalts();
+	}
+
+}
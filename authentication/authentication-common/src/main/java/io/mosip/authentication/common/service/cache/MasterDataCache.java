@@ -15,6 +15,7 @@ import io.mosip.authentication.core.constant.RestServicesConstants;
 import io.mosip.authentication.core.exception.IDDataValidationException;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.util.DemoNormalizer;
 import io.mosip.idrepository.core.dto.RestRequestDTO;
 import io.mosip.idrepository.core.exception.RestServiceException;
 import io.mosip.idrepository.core.helper.RestHelper;
@@ -46,6 +47,10 @@ public class MasterDataCache {
 	@Qualifier("withSelfTokenWebclient")
 	private RestHelper restHelper;
 
+	/** The demo normalizer, holding the normalized stored names. */
+	@Autowired(required = false)
+	private DemoNormalizer demoNormalizer;
+
 	/**
 	 * Gets the master data titles.
 	 *
@@ -97,10 +102,14 @@ public class MasterDataCache {
 	}
 	
 	/**
-	 * Clear master data titles cache.
+	 * Clear master data titles cache, and the stored names normalized with the
+	 * titles.
 	 */
-	@CacheEvict(value=MASTERDATA_TITLES)
+	@CacheEvict(value=MASTERDATA_TITLES, beforeInvocation = true)
 	public void clearMasterDataTitlesCache() {
+		if (demoNormalizer != null) {
+			demoNormalizer.clearStoredNames();
+		}
 		logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "clearMasterDataTitlesCache",
 				"masterdata cache cleared for titles");
 	}
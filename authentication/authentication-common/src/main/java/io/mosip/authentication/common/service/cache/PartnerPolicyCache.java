@@ -0,0 +1,218 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.PARTNER_POLICY_CACHE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.PARTNER_POLICY_CACHE_EXPIRE_AFTER_WRITE_SECS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.PARTNER_POLICY_CACHE_INVALIDATION_GRACE_SECS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.PARTNER_POLICY_CACHE_MAX_ENTRIES;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.mosip.authentication.common.service.integration.ResolvedPartnerPolicy;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class PartnerPolicyCache - holds the partner policies resolved for the
+ * partner ID, API key and MISP license key of the auth requests, so that the
+ * partner mapping, MISP license, OIDC client and MISP policy are not looked up
+ * on every request.
+ * <p>
+ * The cache is invalidated as a whole on every partner service event, as an
+ * update of a partner, API key, policy, MISP license or OIDC client may affect
+ * any number of entries. The entries also expire after the configured time,
+ * bounding the staleness if an event is missed. An entry resolved before an
+ * invalidation is not cached, so that a lookup racing with an event does not
+ * cache the data replaced by the event.
+ * <p>
+ * The event may arrive before the internal service has stored its update in
+ * the database, so nothing is cached for the grace time after an invalidation,
+ * during which the partner policies are looked up on every request. Disabled
+ * by default.
+ */
+@Component
+public class PartnerPolicyCache {
+
+	private static final Logger mosipLogger = IdaLogger.getLogger(PartnerPolicyCache.class);
+
+	private static final String METRIC_PREFIX = "ida.partner.policy.cache.";
+
+	@Value("${" + PARTNER_POLICY_CACHE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + PARTNER_POLICY_CACHE_MAX_ENTRIES + ":1000}")
+	private int maxEntries;
+
+	@Value("${" + PARTNER_POLICY_CACHE_EXPIRE_AFTER_WRITE_SECS + ":300}")
+	private long expireAfterWriteSecs;
+
+	@Value("${" + PARTNER_POLICY_CACHE_INVALIDATION_GRACE_SECS + ":60}")
+	private long invalidationGraceSecs;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/** The entries in the access order, least recently used first. */
+	private final LinkedHashMap<List<String>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** The count of the invalidations, to detect the entries resolved before. */
+	private long generation;
+
+	/** The time until which nothing is cached after the last invalidation. */
+	private long graceEndMillis;
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	@PostConstruct
+	public void init() {
+		if (meterRegistry == null) {
+			return;
+		}
+		FunctionCounter.builder(METRIC_PREFIX + "hits", hitCount, AtomicLong::get)
+				.description("Partner policies found in the cache").register(meterRegistry);
+		FunctionCounter.builder(METRIC_PREFIX + "misses", missCount, AtomicLong::get)
+				.description("Partner policies not found in the cache").register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + "entries", this, PartnerPolicyCache::getEntryCount)
+				.description("Partner policies in the cache").register(meterRegistry);
+	}
+
+	/**
+	 * Checks if the cache is enabled.
+	 *
+	 * @return true, if enabled
+	 */
+	public boolean isEnabled() {
+		return enabled && maxEntries > 0;
+	}
+
+	/**
+	 * Gets the partner policy resolved for the keys.
+	 *
+	 * @param partnerId  the partner id
+	 * @param apiKey     the api key
+	 * @param licenseKey the misp license key
+	 * @return the resolved partner policy, or null if not cached
+	 */
+	public ResolvedPartnerPolicy get(String partnerId, String apiKey, String licenseKey) {
+		if (!isEnabled()) {
+			return null;
+		}
+		ResolvedPartnerPolicy partnerPolicy = doGet(Arrays.asList(partnerId, apiKey, licenseKey));
+		(partnerPolicy == null ? missCount : hitCount).incrementAndGet();
+		return partnerPolicy;
+	}
+
+	/**
+	 * Gets the generation, to be taken before resolving a partner policy to be
+	 * cached. Within the grace time after an invalidation, a generation never
+	 * cached is returned.
+	 *
+	 * @return the generation
+	 */
+	public synchronized long getGeneration() {
+		if (System.currentTimeMillis() < graceEndMillis) {
+			return -1;
+		}
+		return generation;
+	}
+
+	/**
+	 * Caches the partner policy resolved for the keys, unless the cache is
+	 * invalidated since the generation is taken.
+	 *
+	 * @param partnerId     the partner id
+	 * @param apiKey        the api key
+	 * @param licenseKey    the misp license key
+	 * @param partnerPolicy the resolved partner policy
+	 * @param generation    the generation taken before resolving the policy
+	 */
+	public synchronized void put(String partnerId, String apiKey, String licenseKey,
+			ResolvedPartnerPolicy partnerPolicy, long generation) {
+		if (!isEnabled() || generation != this.generation) {
+			return;
+		}
+		long nowMillis = System.currentTimeMillis();
+		entries.put(Arrays.asList(partnerId, apiKey, licenseKey), new Entry(partnerPolicy, nowMillis));
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			Entry eldest = iterator.next();
+			if (entries.size() <= maxEntries && !isExpired(eldest, nowMillis)) {
+				break;
+			}
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Removes all the partner policies.
+	 */
+	public synchronized void invalidateAll() {
+		generation++;
+		graceEndMillis = System.currentTimeMillis() + invalidationGraceSecs * 1000;
+		entries.clear();
+		mosipLogger.debug(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "invalidateAll",
+				"Partner policy cache invalidated");
+	}
+
+	/**
+	 * Gets the count of the cached partner policies.
+	 *
+	 * @return the entry count
+	 */
+	public synchronized int getEntryCount() {
+		return entries.size();
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	private synchronized ResolvedPartnerPolicy doGet(List<String> key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (isExpired(entry, System.currentTimeMillis())) {
+			entries.remove(key);
+			return null;
+		}
+		return entry.partnerPolicy;
+	}
+
+	private boolean isExpired(Entry entry, long nowMillis) {
+		return nowMillis - entry.createdMillis > expireAfterWriteSecs * 1000;
+	}
+
+	private static class Entry {
+
+		private final ResolvedPartnerPolicy partnerPolicy;
+
+		private final long createdMillis;
+
+		private Entry(ResolvedPartnerPolicy partnerPolicy, long createdMillis) {
+			this.partnerPolicy = partnerPolicy;
+			this.createdMillis = createdMillis;
+		}
+	}
+
+}
@@ -0,0 +1,234 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.VERIFIED_CERT_CACHE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.VERIFIED_CERT_CACHE_EXPIRE_AFTER_WRITE_SECS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.VERIFIED_CERT_CACHE_MAX_ENTRIES;
+
+import java.io.ByteArrayInputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.apache.commons.codec.binary.Hex;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwx.CompactSerializer;
+import org.jose4j.jwx.HeaderParameterNames;
+import org.jose4j.lang.JoseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class VerifiedCertificateCache - holds the certificates carried in the
+ * JWS headers whose trust path has been validated for a domain, keyed by the
+ * domain and the SHA-256 thumbprint of the certificate, so that the signatures
+ * made with the same certificate are verified locally with its public key,
+ * without building the trust path again.
+ * <p>
+ * The signature is verified as the kernel signature service does, along with
+ * the validity dates of the certificate. Only the certificates found trusted
+ * are cached. The entries expire after the configured time since being
+ * verified, and the entries of a domain are invalidated when a CA certificate
+ * of the domain is uploaded or evicted.
+ * <p>
+ * The revocation of a cached certificate is not checked, so a revoked
+ * certificate is still accepted until its entry expires. The cache is hence
+ * disabled by default.
+ */
+@Component
+public class VerifiedCertificateCache {
+
+	private static final Logger mosipLogger = IdaLogger.getLogger(VerifiedCertificateCache.class);
+
+	private static final String PERIOD = "\\.";
+
+	@Value("${" + VERIFIED_CERT_CACHE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + VERIFIED_CERT_CACHE_MAX_ENTRIES + ":1000}")
+	private int maxEntries;
+
+	@Value("${" + VERIFIED_CERT_CACHE_EXPIRE_AFTER_WRITE_SECS + ":300}")
+	private long expireAfterWriteSecs;
+
+	/** The entries in the access order, least recently used first. */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Checks if the cache is enabled.
+	 *
+	 * @return true, if enabled
+	 */
+	public boolean isEnabled() {
+		return enabled && maxEntries > 0;
+	}
+
+	/**
+	 * Verifies the signature with the cached certificate of the JWS header, if
+	 * the certificate is verified as trusted for the domain.
+	 *
+	 * @param jwsSignature the JWS signature
+	 * @param actualData   the base64 URL encoded detached payload, or null if the
+	 *                     payload is included in the signature
+	 * @param domain       the domain
+	 * @return whether the signature is valid, or null if the certificate is not
+	 *         cached, in which case the signature is to be verified by the
+	 *         signature service
+	 */
+	public Boolean verify(String jwsSignature, String actualData, String domain) {
+		try {
+			JsonWebSignature jws = parse(jwsSignature, actualData);
+			String certificateData = getCertificateData(jws);
+			if (certificateData == null) {
+				return null;
+			}
+			String key = getKey(domain, certificateData);
+			X509Certificate certificate = get(key);
+			if (certificate == null) {
+				return null;
+			}
+			try {
+				certificate.checkValidity();
+			} catch (GeneralSecurityException e) {
+				remove(key);
+				return null;
+			}
+			jws.setKey(certificate.getPublicKey());
+			return jws.verifySignature();
+		} catch (JoseException | GeneralSecurityException | IllegalArgumentException e) {
+			mosipLogger.debug(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "verify",
+					"Signature not verified with the cached certificate: " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Adds the certificate of the JWS header, which the signature service has
+	 * verified as trusted for the domain.
+	 *
+	 * @param jwsSignature the JWS signature
+	 * @param domain       the domain
+	 */
+	public void put(String jwsSignature, String domain) {
+		if (!isEnabled()) {
+			return;
+		}
+		try {
+			String certificateData = getCertificateData(parse(jwsSignature, null));
+			if (certificateData == null) {
+				return;
+			}
+			X509Certificate certificate = (X509Certificate) CertificateFactory.getInstance("X.509")
+					.generateCertificate(new ByteArrayInputStream(Base64.getMimeDecoder().decode(certificateData)));
+			put(getKey(domain, certificateData), certificate);
+		} catch (JoseException | GeneralSecurityException | IllegalArgumentException e) {
+			mosipLogger.debug(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "put",
+					"Certificate not cached: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Removes the certificates verified for the domain, or all the certificates
+	 * if the domain is null.
+	 *
+	 * @param domain the domain
+	 */
+	public synchronized void invalidate(String domain) {
+		if (domain == null) {
+			entries.clear();
+		} else {
+			entries.values().removeIf(entry -> entry.domain.equalsIgnoreCase(domain));
+		}
+	}
+
+	/**
+	 * Gets the count of the cached certificates.
+	 *
+	 * @return the entry count
+	 */
+	public synchronized int getEntryCount() {
+		return entries.size();
+	}
+
+	private synchronized X509Certificate get(String key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (isExpired(entry, System.currentTimeMillis())) {
+			entries.remove(key);
+			return null;
+		}
+		return entry.certificate;
+	}
+
+	private synchronized void put(String key, X509Certificate certificate) {
+		long nowMillis = System.currentTimeMillis();
+		entries.put(key, new Entry(key.substring(0, key.lastIndexOf(':')), certificate, nowMillis));
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			Entry eldest = iterator.next();
+			if (entries.size() <= maxEntries && !isExpired(eldest, nowMillis)) {
+				break;
+			}
+			iterator.remove();
+		}
+	}
+
+	private synchronized void remove(String key) {
+		entries.remove(key);
+	}
+
+	private boolean isExpired(Entry entry, long nowMillis) {
+		return nowMillis - entry.createdMillis > expireAfterWriteSecs * 1000;
+	}
+
+	private JsonWebSignature parse(String jwsSignature, String actualData) throws JoseException {
+		String[] jwtTokens = jwsSignature.split(PERIOD, -1);
+		if (actualData != null && jwtTokens.length == 3) {
+			jwtTokens[1] = actualData;
+		}
+		JsonWebSignature jws = new JsonWebSignature();
+		jws.setCompactSerialization(CompactSerializer.serialize(jwtTokens));
+		return jws;
+	}
+
+	private String getCertificateData(JsonWebSignature jws) {
+		Object certificateChain = jws.getHeaders().getObjectHeaderValue(HeaderParameterNames.X509_CERTIFICATE_CHAIN);
+		if (certificateChain instanceof List && !((List<?>) certificateChain).isEmpty()
+				&& ((List<?>) certificateChain).get(0) instanceof String) {
+			return (String) ((List<?>) certificateChain).get(0);
+		}
+		return null;
+	}
+
+	private String getKey(String domain, String certificateData) throws GeneralSecurityException {
+		byte[] thumbprint = MessageDigest.getInstance("SHA-256")
+				.digest(Base64.getMimeDecoder().decode(certificateData));
+		return String.valueOf(domain) + ":" + Hex.encodeHexString(thumbprint);
+	}
+
+	private static class Entry {
+
+		private final String domain;
+
+		private final X509Certificate certificate;
+
+		private final long createdMillis;
+
+		private Entry(String domain, X509Certificate certificate, long createdMillis) {
+			this.domain = domain;
+			this.certificate = certificate;
+			this.createdMillis = createdMillis;
+		}
+	}
+
+}
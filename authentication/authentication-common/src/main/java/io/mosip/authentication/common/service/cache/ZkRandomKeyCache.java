@@ -0,0 +1,131 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ZK_RANDOM_KEY_CACHE_EXPIRE_AFTER_WRITE_SECS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ZK_RANDOM_KEY_CACHE_MAX_ENTRIES;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The Class ZkRandomKeyCache - holds the zero knowledge random keys of
+ * data_encrypt_keystore unwrapped with the master key, so that the master key
+ * is not used to unwrap the random key of the same index on every decryption.
+ * <p>
+ * The cache is bounded by the count of the keys and the keys expire after the
+ * configured time since being unwrapped. The bytes of a key are overwritten
+ * with zeros once the key is evicted, expired or cleared; the callers are
+ * handed over a copy of the key, hence the eviction does not affect a
+ * decryption in progress.
+ */
+@Component
+public class ZkRandomKeyCache {
+
+	@Value("${" + ZK_RANDOM_KEY_CACHE_MAX_ENTRIES + ":10000}")
+	private int maxEntries;
+
+	@Value("${" + ZK_RANDOM_KEY_CACHE_EXPIRE_AFTER_WRITE_SECS + ":3600}")
+	private long expireAfterWriteSecs;
+
+	/** The entries in the access order, least recently used first. */
+	private final LinkedHashMap<Integer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Gets the random key of the index.
+	 *
+	 * @param index the random key index
+	 * @return the copy of the random key, or null if not cached
+	 */
+	public SecretKey get(int index) {
+		long nowMillis = System.currentTimeMillis();
+		synchronized (this) {
+			Entry entry = entries.get(index);
+			if (entry == null) {
+				return null;
+			}
+			if (isExpired(entry, nowMillis)) {
+				destroy(entries.remove(index));
+				return null;
+			}
+			return new SecretKeySpec(entry.keyBytes, entry.algorithm);
+		}
+	}
+
+	/**
+	 * Adds the random key of the index, evicting the least recently used keys
+	 * once the maximum count is exceeded. The cache takes over the key bytes,
+	 * which are zeroised on eviction.
+	 *
+	 * @param index     the random key index
+	 * @param keyBytes  the random key bytes
+	 * @param algorithm the key algorithm
+	 */
+	public void put(int index, byte[] keyBytes, String algorithm) {
+		if (maxEntries <= 0) {
+			Arrays.fill(keyBytes, (byte) 0);
+			return;
+		}
+		long nowMillis = System.currentTimeMillis();
+		synchronized (this) {
+			destroy(entries.put(index, new Entry(keyBytes, algorithm, nowMillis)));
+			Iterator<Entry> iterator = entries.values().iterator();
+			while (iterator.hasNext()) {
+				Entry eldest = iterator.next();
+				if (entries.size() <= maxEntries && !isExpired(eldest, nowMillis)) {
+					break;
+				}
+				iterator.remove();
+				destroy(eldest);
+			}
+		}
+	}
+
+	/**
+	 * Removes all the keys.
+	 */
+	public synchronized void clear() {
+		entries.values().forEach(this::destroy);
+		entries.clear();
+	}
+
+	/**
+	 * Gets the count of the cached keys.
+	 *
+	 * @return the entry count
+	 */
+	public synchronized int getEntryCount() {
+		return entries.size();
+	}
+
+	private boolean isExpired(Entry entry, long nowMillis) {
+		return nowMillis - entry.createdMillis > expireAfterWriteSecs * 1000;
+	}
+
+	private void destroy(Entry entry) {
+		if (entry != null) {
+			Arrays.fill(entry.keyBytes, (byte) 0);
+		}
+	}
+
+	private static class Entry {
+
+		private final byte[] keyBytes;
+
+		private final String algorithm;
+
+		private final long createdMillis;
+
+		private Entry(byte[] keyBytes, String algorithm, long createdMillis) {
+			this.keyBytes = keyBytes;
+			this.algorithm = algorithm;
+			this.createdMillis = createdMillis;
+		}
+	}
+
+}
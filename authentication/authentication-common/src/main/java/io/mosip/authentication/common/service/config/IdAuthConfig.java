@@ -3,9 +3,12 @@ package io.mosip.authentication.common.service.config;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
+import javax.sql.DataSource;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -14,6 +17,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -21,8 +25,11 @@ import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 
 import io.mosip.authentication.common.service.util.EnvUtil;
+import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
 import io.mosip.authentication.core.constant.RestServicesConstants;
 import io.mosip.authentication.core.indauth.dto.IdType;
 import io.mosip.authentication.core.logger.IdaLogger;
@@ -53,6 +60,45 @@ public abstract class IdAuthConfig extends HibernateDaoConfig {
 		IdType.initializeAliases(environment.getEnvironment());
 	}
 
+	/**
+	 * Data source, routing the read-only transactions to the read replica when
+	 * enabled.
+	 *
+	 * @return the data source
+	 */
+	@Override
+	@Bean
+	public DataSource dataSource() {
+		DataSource primaryDataSource = super.dataSource();
+		if (!environment.getProperty(IdAuthConfigKeyConstants.READ_REPLICA_ENABLED, boolean.class, false)) {
+			return primaryDataSource;
+		}
+		HikariConfig replicaConfig = new HikariConfig();
+		replicaConfig.setPoolName("ida-read-replica");
+		replicaConfig.setDriverClassName(environment.getProperty("javax.persistence.jdbc.driver"));
+		replicaConfig.setJdbcUrl(environment.getProperty(IdAuthConfigKeyConstants.READ_REPLICA_JDBC_URL));
+		replicaConfig.setUsername(environment.getProperty(IdAuthConfigKeyConstants.READ_REPLICA_JDBC_USER,
+				environment.getProperty("javax.persistence.jdbc.user")));
+		replicaConfig.setPassword(environment.getProperty(IdAuthConfigKeyConstants.READ_REPLICA_JDBC_PASSWORD,
+				environment.getProperty("javax.persistence.jdbc.password")));
+		if (environment.getProperty("javax.persistence.jdbc.schema") != null) {
+			replicaConfig.setSchema(environment.getProperty("javax.persistence.jdbc.schema"));
+		}
+		replicaConfig.setReadOnly(true);
+		replicaConfig.setMaximumPoolSize(environment.getProperty(
+				IdAuthConfigKeyConstants.READ_REPLICA_MAXIMUM_POOL_SIZE, int.class,
+				environment.getProperty("hikari.maximumPoolSize", int.class, 25)));
+		replicaConfig.setMinimumIdle(environment.getProperty("hikari.minimumIdle", int.class, 0));
+		replicaConfig.setConnectionTimeout(environment.getProperty("hikari.connectionTimeout", long.class, 60000L));
+		replicaConfig.setValidationTimeout(environment.getProperty("hikari.validationTimeout", long.class, 3000L));
+		replicaConfig.setIdleTimeout(environment.getProperty("hikari.idleTimeout", long.class, 200000L));
+		long maxLagMillis = environment.getProperty(IdAuthConfigKeyConstants.READ_REPLICA_MAX_LAG_MILLIS,
+				long.class, 1000L);
+		logger.info("Routing read-only transactions to the read replica with max lag of {} ms", maxLagMillis);
+		return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primaryDataSource,
+				new HikariDataSource(replicaConfig), maxLagMillis));
+	}
+
 	/**
 	 * Locale resolver.
 	 *
@@ -159,6 +205,90 @@ public abstract class IdAuthConfig extends HibernateDaoConfig {
 	    executor.initialize();
 	    return executor;
 	}
+
+	/**
+	 * The executor deciphering the biometric segments of a request concurrently.
+	 * The pool and its queue are bounded; once both are full, the segments are
+	 * deciphered in the request thread.
+	 *
+	 * @return the executor
+	 */
+	@Bean
+	@Qualifier("bioDecryptionExecutor")
+	public Executor bioDecryptionExecutor() {
+	    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+	    executor.setCorePoolSize(Math.max(EnvUtil.getBioDecryptionThreadCount(), 1));
+	    executor.setMaxPoolSize(Math.max(EnvUtil.getBioDecryptionThreadCount(), 1));
+	    executor.setQueueCapacity(EnvUtil.getBioDecryptionQueueCapacity());
+	    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+	    executor.setThreadNamePrefix("idauth-bio-decryption-");
+	    executor.initialize();
+	    return executor;
+	}
+
+	/**
+	 * The executor matching the finger biometrics of a request concurrently with
+	 * its other modalities.
+	 *
+	 * @return the executor
+	 */
+	@Bean
+	@Qualifier("fingerMatchExecutor")
+	public Executor fingerMatchExecutor() {
+	    return bioMatchExecutor("idauth-finger-match-");
+	}
+
+	/**
+	 * The executor matching the iris biometrics of a request concurrently with
+	 * its other modalities.
+	 *
+	 * @return the executor
+	 */
+	@Bean
+	@Qualifier("irisMatchExecutor")
+	public Executor irisMatchExecutor() {
+	    return bioMatchExecutor("idauth-iris-match-");
+	}
+
+	/**
+	 * The executor matching the face biometrics of a request concurrently with
+	 * its other modalities.
+	 *
+	 * @return the executor
+	 */
+	@Bean
+	@Qualifier("faceMatchExecutor")
+	public Executor faceMatchExecutor() {
+	    return bioMatchExecutor("idauth-face-match-");
+	}
+
+	/**
+	 * The pool matching the demographic match inputs of a request in parallel,
+	 * shared by the requests.
+	 *
+	 * @return the fork join pool
+	 */
+	@Bean
+	@Qualifier("demoMatchPool")
+	public ForkJoinPool demoMatchPool() {
+	    return new ForkJoinPool(Math.max(EnvUtil.getDemoMatchingParallelism(), 1));
+	}
+
+	/**
+	 * Creates the bounded executor of a biometric modality, so that a slow
+	 * modality cannot take the threads of the others. Once the threads and the
+	 * queue are full, the modality is matched in the request thread.
+	 */
+	private ThreadPoolTaskExecutor bioMatchExecutor(String threadNamePrefix) {
+	    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+	    executor.setCorePoolSize(Math.max(EnvUtil.getBioMatchingThreadCount(), 1));
+	    executor.setMaxPoolSize(Math.max(EnvUtil.getBioMatchingThreadCount(), 1));
+	    executor.setQueueCapacity(EnvUtil.getBioMatchingQueueCapacity());
+	    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+	    executor.setThreadNamePrefix(threadNamePrefix);
+	    executor.initialize();
+	    return executor;
+	}
 	
 	@Scheduled(fixedRateString = "${" + "mosip.ida.monitor-thread-queue-in-ms" + ":10000}")
 	public void monitorThreadQueueLimit() {
@@ -166,10 +296,18 @@ public abstract class IdAuthConfig extends HibernateDaoConfig {
 			ThreadPoolTaskExecutor threadPoolTaskExecutor = (ThreadPoolTaskExecutor) executor();
 			ThreadPoolTaskExecutor webSubHelperExecutor = (ThreadPoolTaskExecutor) webSubHelperExecutor();
 			ThreadPoolTaskExecutor fraudAnalysisExecutor = (ThreadPoolTaskExecutor) fraudAnalysisExecutor();
+			ThreadPoolTaskExecutor bioDecryptionExecutor = (ThreadPoolTaskExecutor) bioDecryptionExecutor();
+			ThreadPoolTaskExecutor fingerMatchExecutor = (ThreadPoolTaskExecutor) fingerMatchExecutor();
+			ThreadPoolTaskExecutor irisMatchExecutor = (ThreadPoolTaskExecutor) irisMatchExecutor();
+			ThreadPoolTaskExecutor faceMatchExecutor = (ThreadPoolTaskExecutor) faceMatchExecutor();
 			String monitoringLog = "Thread Name : {} Thread Active Count: {} Thread Task count: {} Thread queue count: {}";
 			logThreadQueueDetails(threadPoolTaskExecutor, threadPoolTaskExecutor.getThreadPoolExecutor().getQueue().size(), monitoringLog);
 			logThreadQueueDetails(webSubHelperExecutor, webSubHelperExecutor.getThreadPoolExecutor().getQueue().size(), monitoringLog);
 			logThreadQueueDetails(fraudAnalysisExecutor, fraudAnalysisExecutor.getThreadPoolExecutor().getQueue().size(), monitoringLog);
+			logThreadQueueDetails(bioDecryptionExecutor, bioDecryptionExecutor.getThreadPoolExecutor().getQueue().size(), monitoringLog);
+			logThreadQueueDetails(fingerMatchExecutor, fingerMatchExecutor.getThreadPoolExecutor().getQueue().size(), monitoringLog);
+			logThreadQueueDetails(irisMatchExecutor, irisMatchExecutor.getThreadPoolExecutor().getQueue().size(), monitoringLog);
+			logThreadQueueDetails(faceMatchExecutor, faceMatchExecutor.getThreadPoolExecutor().getQueue().size(), monitoringLog);
 		}
 	}
 
@@ -0,0 +1,84 @@
+package io.mosip.authentication.common.service.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The Class ReadReplicaRoutingDataSource - routes the connections of the
+ * read-only transactions to the read replica data source, and all the other
+ * connections to the primary data source.
+ * <p>
+ * The replica lags behind the primary, hence the read-only transactions
+ * following a write transaction committed by the same thread are routed to the
+ * primary until the configured maximum replica lag elapses, so that a flow
+ * does not miss its own write. The reads which must see the writes of the
+ * other requests, such as of the OTP transactions, are not made in the
+ * read-only transactions and so are always served by the primary.
+ * <p>
+ * The lookup key is determined when a connection is acquired, so this data
+ * source is to be wrapped in a lazy connection proxy, for the read-only flag
+ * of the transaction to be known by then.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	static final String PRIMARY = "PRIMARY";
+
+	static final String REPLICA = "REPLICA";
+
+	/** The time of the last write transaction committed by the thread. */
+	private final ThreadLocal<Long> lastWriteCommitMillis = new ThreadLocal<>();
+
+	private final long maxLagMillis;
+
+	/**
+	 * Instantiates a new read replica routing data source.
+	 *
+	 * @param primaryDataSource the primary data source
+	 * @param replicaDataSource the replica data source
+	 * @param maxLagMillis      the maximum lag of the replica in milliseconds
+	 */
+	public ReadReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+			long maxLagMillis) {
+		this.maxLagMillis = maxLagMillis;
+		setTargetDataSources(Map.of(PRIMARY, primaryDataSource, REPLICA, replicaDataSource));
+		setDefaultTargetDataSource(primaryDataSource);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return PRIMARY;
+		}
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return isWithinReplicaLag() ? PRIMARY : REPLICA;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					lastWriteCommitMillis.set(System.currentTimeMillis());
+				}
+			});
+		}
+		return PRIMARY;
+	}
+
+	private boolean isWithinReplicaLag() {
+		Long lastWriteMillis = lastWriteCommitMillis.get();
+		if (lastWriteMillis == null) {
+			return false;
+		}
+		if (System.currentTimeMillis() - lastWriteMillis < maxLagMillis) {
+			return true;
+		}
+		lastWriteCommitMillis.remove();
+		return false;
+	}
+
+}
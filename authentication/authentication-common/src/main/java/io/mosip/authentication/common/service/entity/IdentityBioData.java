@@ -0,0 +1,62 @@
+package io.mosip.authentication.common.service.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The entity for the biometric attribute records stored in identity_bio_data
+ * table in IDA DB. Each biometric attribute (for example a single finger) of an
+ * identity is stored as a separate record, so that only the attributes needed
+ * for an authentication are read.
+ */
+@Getter
+@Setter
+@ToString(exclude = "bioValue")
+@Entity
+@IdClass(IdentityBioDataPK.class)
+@NoArgsConstructor
+@Table(schema = "ida", name = "identity_bio_data")
+public class IdentityBioData {
+
+	/** The id hash - same as the id of identity_cache. */
+	@Id
+	@NotNull
+	@Column(name = "id_hash")
+	private String idHash;
+
+	/** The biometric attribute name in lower case, used for the lookup. */
+	@Id
+	@NotNull
+	@Column(name = "bio_attribute")
+	private String bioAttribute;
+
+	/** The biometric attribute name as received in the credential. */
+	@NotNull
+	@Column(name = "attribute_name")
+	private String attributeName;
+
+	/** The biometric value. */
+	@NotNull
+	@Column(name = "bio_value")
+	private byte[] bioValue;
+
+	@NotNull
+	@Column(name = "cr_by")
+	private String crBy;
+
+	@NotNull
+	@Column(name = "cr_dtimes")
+	private LocalDateTime crDTimes;
+
+}
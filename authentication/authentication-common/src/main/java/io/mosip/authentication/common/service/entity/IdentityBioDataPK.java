@@ -0,0 +1,20 @@
+package io.mosip.authentication.common.service.entity;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdentityBioDataPK implements Serializable {
+
+	private static final long serialVersionUID = 3262731539584316470L;
+
+	private String idHash;
+
+	private String bioAttribute;
+
+}
@@ -1,11 +1,13 @@
 package io.mosip.authentication.common.service.entity;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.validation.constraints.NotNull;
 
 import lombok.Getter;
@@ -20,7 +22,7 @@ import lombok.ToString;
  */
 @Getter 
 @Setter 
-@ToString 
+@ToString(exclude = "bioAttributes")
 @Entity
 @NoArgsConstructor
 @Table(schema = "ida", name = "identity_cache")
@@ -74,6 +76,10 @@ public class IdentityEntity {
 	@Column(name = "del_dtimes")
 	private LocalDateTime delDTimes;
 
+	/** The biometric attributes to be stored in identity_bio_data table along with this record. */
+	@Transient
+	private List<IdentityBioData> bioAttributes;
+
 	/* (non-Javadoc)
 	 * @see java.lang.Object#hashCode()
 	 */
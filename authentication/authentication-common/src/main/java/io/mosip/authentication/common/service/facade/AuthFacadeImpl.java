@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.StringJoiner;
 
 import io.mosip.authentication.core.spi.indauth.service.KeyBindedTokenAuthService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +28,7 @@ import io.mosip.authentication.common.service.builder.AuthResponseBuilder;
 import io.mosip.authentication.common.service.builder.AuthTransactionBuilder;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.helper.AuditHelper;
+import io.mosip.authentication.common.service.helper.AuthStageMetrics;
 import io.mosip.authentication.common.service.helper.AuthTransactionHelper;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
 import io.mosip.authentication.common.service.impl.match.IdaIdMapping;
@@ -57,6 +59,7 @@ import io.mosip.authentication.core.spi.bioauth.CbeffDocType;
 import io.mosip.authentication.core.spi.id.service.IdService;
 import io.mosip.authentication.core.spi.indauth.facade.AuthFacade;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
+import io.mosip.authentication.core.spi.indauth.match.MatchType.Category;
 import io.mosip.authentication.core.spi.indauth.service.BioAuthService;
 import io.mosip.authentication.core.spi.indauth.service.DemoAuthService;
 import io.mosip.authentication.core.spi.indauth.service.OTPAuthService;
@@ -135,6 +138,9 @@ public class AuthFacadeImpl implements AuthFacade {
 
 	@Autowired
 	private PasswordAuthService passwordAuthService;
+
+	@Autowired
+	private AuthStageMetrics authStageMetrics;
 	
 	/*
 	 * (non-Javadoc)
@@ -200,7 +206,12 @@ public class AuthFacadeImpl implements AuthFacade {
 
 			LinkedHashMap<String, Object> properties = new LinkedHashMap<>(authRequestDTO.getMetadata());
 			properties.put(IdAuthCommonConstants.TOKEN, token);
+			if (authStageMetrics.isEnabled()) {
+				authStageMetrics.setAuthType(getRequestedAuthTypes(authRequestDTO));
+			}
+			long startNanos = authStageMetrics.start();
 			authFiltersValidator.validateAuthFilters(authRequestDTO, idInfo, properties);
+			authStageMetrics.stop(AuthStageMetrics.AUTH_FILTERS, startNanos);
 
 			List<AuthStatusInfo> authStatusList = processAuthType(authRequestDTO, idInfo, token, isExternalAuth, authTokenId,
 					partnerId, authTxnBuilder, idvidHash);
@@ -309,31 +320,80 @@ public class AuthFacadeImpl implements AuthFacade {
 		List<AuthStatusInfo> authStatusList = new ArrayList<>();
 		IdType idType = IdType.getIDTypeOrDefault(authRequestDTO.getIndividualIdType());
 
+		long startNanos = authStageMetrics.start();
 		processOTPAuth(authRequestDTO, token, isAuth, authStatusList, idType, authTokenId, partnerId, authTxnBuilder, idvidHash);
+		stopAuthTypeStage(AuthTypeUtil.isOtp(authRequestDTO), Category.OTP, startNanos);
 
 		if (!isMatchFailed(authStatusList)) {
+			startNanos = authStageMetrics.start();
 			processDemoAuth(authRequestDTO, idInfo, token, isAuth, authStatusList, idType, authTokenId, partnerId,
 					authTxnBuilder, idvidHash);
+			stopAuthTypeStage(AuthTypeUtil.isDemo(authRequestDTO), Category.DEMO, startNanos);
 		}
 
 		if (!isMatchFailed(authStatusList)) {
+			startNanos = authStageMetrics.start();
 			processBioAuth(authRequestDTO, idInfo, token, isAuth, authStatusList, idType, authTokenId, partnerId,
 					authTxnBuilder, idvidHash);
+			stopAuthTypeStage(AuthTypeUtil.isBio(authRequestDTO), Category.BIO, startNanos);
 		}
 
 		if (!isMatchFailed(authStatusList)) {
+			startNanos = authStageMetrics.start();
 			processTokenAuth(authRequestDTO, idInfo, token, isAuth, authStatusList, idType, authTokenId, partnerId,
 					authTxnBuilder, idvidHash);
+			stopAuthTypeStage(AuthTypeUtil.isKeyBindedToken(authRequestDTO), Category.KBT, startNanos);
 		}
 
 		if (!isMatchFailed(authStatusList)) {
+			startNanos = authStageMetrics.start();
 			processPasswordAuth(authRequestDTO, idInfo, token, isAuth, authStatusList, idType, authTokenId, partnerId,
 					authTxnBuilder, idvidHash);
+			stopAuthTypeStage(AuthTypeUtil.isPassword(authRequestDTO), Category.PWD, startNanos);
 		}
 	
 		return authStatusList;
 	}
 
+	/**
+	 * Stops timing the auth type step, if the auth type is requested.
+	 *
+	 * @param requested  whether the auth type is requested
+	 * @param category   the category of the auth type
+	 * @param startNanos the start time of the step
+	 */
+	private void stopAuthTypeStage(boolean requested, Category category, long startNanos) {
+		if (startNanos != 0L && requested) {
+			authStageMetrics.stop(AuthStageMetrics.AUTH_TYPE, category.getType(), startNanos);
+		}
+	}
+
+	/**
+	 * Gets the auth types requested, to tag the auth stage metrics.
+	 *
+	 * @param authRequestDTO the auth request DTO
+	 * @return the requested auth types, comma separated
+	 */
+	private String getRequestedAuthTypes(AuthRequestDTO authRequestDTO) {
+		StringJoiner authTypes = new StringJoiner(",");
+		if (AuthTypeUtil.isOtp(authRequestDTO)) {
+			authTypes.add(Category.OTP.getType());
+		}
+		if (AuthTypeUtil.isDemo(authRequestDTO)) {
+			authTypes.add(Category.DEMO.getType());
+		}
+		if (AuthTypeUtil.isBio(authRequestDTO)) {
+			authTypes.add(Category.BIO.getType());
+		}
+		if (AuthTypeUtil.isKeyBindedToken(authRequestDTO)) {
+			authTypes.add(Category.KBT.getType());
+		}
+		if (AuthTypeUtil.isPassword(authRequestDTO)) {
+			authTypes.add(Category.PWD.getType());
+		}
+		return authTypes.length() == 0 ? null : authTypes.toString();
+	}
+
 	private boolean isMatchFailed(List<AuthStatusInfo> authStatusList) {
 		return authStatusList.stream().anyMatch(st -> st != null && !st.isStatus());
 	}
@@ -1,7 +1,6 @@
 package io.mosip.authentication.common.service.filter;
 
 import java.io.IOException;
-import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
@@ -9,12 +8,12 @@ import java.util.Objects;
 import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
 
-import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.context.support.WebApplicationContextUtils;
 
+import io.mosip.authentication.common.service.helper.AuthStageMetrics;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.core.constant.DomainType;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
@@ -22,7 +21,6 @@ import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationAppException;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.logger.IdaLogger;
-import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.authentication.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.StringUtils;
@@ -71,7 +69,9 @@ public abstract class BaseAuthFilter extends BaseIDAFilter {
 	protected void consumeRequest(ResettableStreamHttpServletRequest requestWrapper, Map<String, Object> requestBody)
 			throws IdAuthenticationAppException {
 		super.consumeRequest(requestWrapper, requestBody);
+		long startNanos = authStageMetrics.start();
 		authenticateRequest(requestWrapper);
+		authStageMetrics.stop(AuthStageMetrics.SIGNATURE_VERIFY, startNanos);
 
 		decipherAndValidateRequest(requestWrapper, requestBody);
 
@@ -88,17 +88,15 @@ public abstract class BaseAuthFilter extends BaseIDAFilter {
 	 */
 	protected void decipherAndValidateRequest(ResettableStreamHttpServletRequest requestWrapper,
 			Map<String, Object> requestBody) throws IdAuthenticationAppException {
-		try {
-			requestWrapper.resetInputStream();
-			Map<String, Object> decipherRequest = decipherRequest(requestBody);
-			decipherRequest = processDecipheredReqeuest(decipherRequest);
-			validateDecipheredRequest(requestWrapper, decipherRequest);
-			String requestAsString = mapper.writeValueAsString(decipherRequest);
-			requestWrapper.replaceData(requestAsString.getBytes());
-		} catch (IOException e) {
-			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_AUTH_FILTER, ExceptionUtils.getStackTrace(e));
-			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS);
-		}
+		requestWrapper.resetInputStream();
+		long startNanos = authStageMetrics.start();
+		Map<String, Object> decipherRequest = decipherRequest(requestBody);
+		authStageMetrics.stop(AuthStageMetrics.REQUEST_DECIPHER, startNanos);
+		decipherRequest = processDecipheredReqeuest(decipherRequest);
+		validateDecipheredRequest(requestWrapper, decipherRequest);
+		// The deciphered request is passed on parsed, to be converted to the
+		// controller argument without serialising and parsing it again
+		requestWrapper.replaceBody(new RequestBodyContext(mapper, decipherRequest));
 	}
 
 	protected Map<String, Object> processDecipheredReqeuest(Map<String, Object> decipheredRequest) {
@@ -136,6 +134,30 @@ public abstract class BaseAuthFilter extends BaseIDAFilter {
 		return true;
 	}
 
+	/**
+	 * Verifies the signature of the first bytes of the request data, such as of
+	 * the request buffer, without copying them.
+	 *
+	 * @param jwsSignature the jws signature
+	 * @param requestData  the request data
+	 * @param length       the length of the data
+	 * @param domain       the domain
+	 * @return true, if successful
+	 */
+	protected boolean verifySignature(String jwsSignature, byte[] requestData, int length, String domain) {
+		if (isSignatureVerificationRequired()) {
+			try {
+				return securityManager.verifySignature(jwsSignature, domain, requestData, 0, length,
+						isTrustValidationRequired());
+			} catch (Exception e) {
+				mosipLogger.error(IdAuthCommonConstants.SESSION_ID, "verifySignature", BASE_AUTH_FILTER,
+						"Invalid JWS data: " + e.getMessage());
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * validateDecipheredRequest - Method used to validate the input stream request
 	 * by validating the policy, partner and MISP id of the authenticating partner
@@ -184,10 +206,8 @@ public abstract class BaseAuthFilter extends BaseIDAFilter {
 							String.format(IdAuthenticationErrorConstants.MISSING_INPUT_PARAMETER.getErrorMessage(),
 									SIGNATURE_HEADER));
 				} else {
-					String requestData = IOUtils.toString(requestWrapper.getInputStream(), Charset.defaultCharset());
-					requestWrapper.resetInputStream();
-					if (!verifySignature(signature,
-							requestData,
+					// The signature is verified against the raw body bytes held by the request
+					if (!verifySignature(signature, requestWrapper.getBodyBuffer(), requestWrapper.getBodySize(),
 							DomainType.AUTH.getType())) {
 						mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_AUTH_FILTER,
 								"signature header verification failed");
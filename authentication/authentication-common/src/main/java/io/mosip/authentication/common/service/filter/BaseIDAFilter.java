@@ -6,8 +6,6 @@ import static io.mosip.authentication.core.constant.IdAuthCommonConstants.SIGNAT
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.VERSION;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -30,7 +28,6 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.springframework.http.MediaType;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.context.support.WebApplicationContextUtils;
@@ -40,6 +37,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.authentication.common.manager.IdAuthFraudAnalysisEventManager;
 import io.mosip.authentication.common.service.exception.IdAuthExceptionHandler;
+import io.mosip.authentication.common.service.helper.AuthStageMetrics;
 import io.mosip.authentication.common.service.integration.KeyManager;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.common.service.util.IdaRequestResponsConsumerUtil;
@@ -95,6 +93,14 @@ public abstract class BaseIDAFilter implements Filter {
 	
 	private IdaRequestResponsConsumerUtil requestResponsConsumerUtil;
 
+	private BodyBufferPool bodyBufferPool;
+
+	/** The auth stage metrics, disabled until the filter is initialized. */
+	protected AuthStageMetrics authStageMetrics = new AuthStageMetrics();
+
+	/** The replay guard, disabled until the filter is initialized. */
+	private ReplayGuard replayGuard = new ReplayGuard();
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -109,6 +115,9 @@ public abstract class BaseIDAFilter implements Filter {
 		keyManager = context.getBean(KeyManager.class);
 		fraudEventManager = context.getBean(IdAuthFraudAnalysisEventManager.class);
 		requestResponsConsumerUtil = context.getBean(IdaRequestResponsConsumerUtil.class);
+		bodyBufferPool = context.getBean(BodyBufferPool.class);
+		authStageMetrics = context.getBean(AuthStageMetrics.class);
+		replayGuard = context.getBean(ReplayGuard.class);
 	}
 
 	/*
@@ -134,8 +143,9 @@ public abstract class BaseIDAFilter implements Filter {
 				IdAuthCommonConstants.REQUEST + " at : " + requestTime);
 
 		ResettableStreamHttpServletRequest requestWrapper = new ResettableStreamHttpServletRequest(
-				(HttpServletRequest) request);
-		CharResponseWrapper responseWrapper = new CharResponseWrapper((HttpServletResponse) response) {
+				(HttpServletRequest) request, bodyBufferPool);
+		BodyBuffer responseBuffer = bodyBufferPool.acquire();
+		CharResponseWrapper responseWrapper = new CharResponseWrapper((HttpServletResponse) response, responseBuffer) {
 
 			@Override
 			public void flushBuffer() throws IOException {
@@ -147,27 +157,37 @@ public abstract class BaseIDAFilter implements Filter {
 		};
 		
 		Map<String, Object> requestBody = null;
+		authStageMetrics.begin();
 		try {
-			requestBody = getRequestBody(requestWrapper.getInputStream());
+			long startNanos = authStageMetrics.start();
+			requestBody = getRequestBody(requestWrapper);
+			authStageMetrics.stop(AuthStageMetrics.BODY_READ, startNanos);
 			if (requestBody == null) {
 				addIdAndVersionToRequestMetadata(requestWrapper);
 				chain.doFilter(requestWrapper, responseWrapper);
-				String responseAsString = responseWrapper.toString();
-				consumeResponse(requestWrapper, responseWrapper, responseAsString, requestTime, requestBody);
-				response.getWriter().write(responseAsString);
+				consumeResponse(requestWrapper, responseWrapper, requestTime, requestBody);
+				writeResponse(response, responseWrapper);
 				return;
 			}
 			
 			addIdAndVersionToRequestMetadata(requestWrapper);
 			addTransactionIdToRequestMetadata(requestWrapper,requestBody);
 			
+			// Duplicates are rejected before the signature is verified and the request is deciphered
+			Object transactionId = requestBody.get(IdAuthCommonConstants.TRANSACTION_ID);
+			List<String> replayKeys = replayGuard.reserve(requestWrapper.getRequestURI(),
+					transactionId instanceof String ? (String) transactionId : null, requestWrapper.getHeader(SIGNATURE));
 			requestWrapper.resetInputStream();
-			consumeRequest(requestWrapper, requestBody);
+			try {
+				consumeRequest(requestWrapper, requestBody);
+			} catch (IdAuthenticationAppException | RuntimeException e) {
+				replayGuard.release(replayKeys);
+				throw e;
+			}
 			requestWrapper.resetInputStream();
 			chain.doFilter(requestWrapper, responseWrapper);
-			String responseAsString = responseWrapper.toString();
-			consumeResponse(requestWrapper, responseWrapper, responseAsString, requestTime, requestBody);
-			response.getWriter().write(responseAsString);
+			consumeResponse(requestWrapper, responseWrapper, requestTime, requestBody);
+			writeResponse(response, responseWrapper);
 		} catch (IdAuthenticationAppException  e) {
 			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER,
 					"\n" + ExceptionUtils.getStackTrace(e));
@@ -178,18 +198,34 @@ public abstract class BaseIDAFilter implements Filter {
 			requestWrapper.resetInputStream();
 			sendErrorResponse(response, responseWrapper, requestWrapper, requestTime, e, requestBody);
 		} finally {
-			logDataSize(responseWrapper.toString(), IdAuthCommonConstants.RESPONSE);
+			logDataSize(responseWrapper.getContentSize(), IdAuthCommonConstants.RESPONSE);
+			bodyBufferPool.release(responseBuffer);
+			requestWrapper.releaseBodyBuffer();
+			authStageMetrics.end();
 		}
 		
 
 	}
 
+	/**
+	 * Writes the response body captured in the response wrapper to the response,
+	 * as is from the buffer.
+	 *
+	 * @param response        the response
+	 * @param responseWrapper the response wrapper
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private void writeResponse(ServletResponse response, CharResponseWrapper responseWrapper) throws IOException {
+		response.getOutputStream().write(responseWrapper.getContentBuffer(), 0, responseWrapper.getContentSize());
+	}
+
 	private void addIdAndVersionToRequestMetadata(ResettableStreamHttpServletRequest requestWrapper) {
 		requestWrapper.putMetadata(VERSION,
 				env.getProperty(fetchId(requestWrapper, IdAuthConfigKeyConstants.MOSIP_IDA_API_VERSION)));
 		requestWrapper.resetInputStream();
-		requestWrapper.putMetadata(IdAuthCommonConstants.ID,
-				env.getProperty(fetchId(requestWrapper, IdAuthConfigKeyConstants.MOSIP_IDA_API_ID)));
+		String id = env.getProperty(fetchId(requestWrapper, IdAuthConfigKeyConstants.MOSIP_IDA_API_ID));
+		requestWrapper.putMetadata(IdAuthCommonConstants.ID, id);
+		authStageMetrics.setEndpoint(id);
 	}
 	
 	private void addTransactionIdToRequestMetadata(ResettableStreamHttpServletRequest requestWrapper, Map<String, Object> requestBody) {
@@ -246,7 +282,8 @@ public abstract class BaseIDAFilter implements Filter {
 		if(needStoreAuthTransaction()) {
 			try {
 				String requestSignature = requestWrapper.getHeader(SIGNATURE);
-				requestResponsConsumerUtil.storeAuthTransaction((Map<String, Object>) requestMap.get(METADATA), requestSignature, responseSignature);
+				requestResponsConsumerUtil.storeAuthTransaction((Map<String, Object>) requestMap.get(METADATA), requestSignature, responseSignature,
+						canWriteBehindAuthTransaction());
 			} catch (IdAuthenticationAppException e) {
 				mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER,
 						"\n" + ExceptionUtils.getStackTrace(e));
@@ -284,11 +321,11 @@ public abstract class BaseIDAFilter implements Filter {
 	/**
 	 * logDataSize method is used to log the size of the request and response data
 	 *
-	 * @param data the request or response boby
+	 * @param dataLength the length of the request or response boby
 	 * @param type wither request or response
 	 */
-	private void logDataSize(String data, String type) {
-		double size = ((double) data.length()) / 1024;
+	private void logDataSize(int dataLength, String type) {
+		double size = ((double) dataLength) / 1024;
 		mosipLogger.info(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER,
 				"Data size of " + type + " : " + ((size > 0) ? size : 1) + " kb");
 	}
@@ -321,6 +358,17 @@ public abstract class BaseIDAFilter implements Filter {
 	protected boolean needStoreAuthTransaction() {
 		return false;
 	}
+
+	/**
+	 * Checks if the auth transaction may be written behind the response. The
+	 * OTP request filters store it before the response, as the OTP flooding check
+	 * counts the stored auth transactions.
+	 *
+	 * @return true, if the auth transaction may be written behind
+	 */
+	protected boolean canWriteBehindAuthTransaction() {
+		return true;
+	}
 	
 	protected boolean needStoreAnonymousProfile() {
 		return false;
@@ -339,9 +387,7 @@ public abstract class BaseIDAFilter implements Filter {
 	protected void consumeRequest(ResettableStreamHttpServletRequest requestWrapper, Map<String, Object> requestBody)
 			throws IdAuthenticationAppException {
 		try {
-			byte[] requestAsByte = IOUtils.toByteArray(requestWrapper.getInputStream());
-			logDataSize(new String(requestAsByte), IdAuthCommonConstants.REQUEST);
-			requestWrapper.resetInputStream();
+			logDataSize(requestWrapper.getBodySize(), IdAuthCommonConstants.REQUEST);
 			validateRequest(requestWrapper, requestBody);
 		} catch (IOException e) {
 			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER, ExceptionUtils.getStackTrace(e));
@@ -450,11 +496,9 @@ public abstract class BaseIDAFilter implements Filter {
 	 * @param responseWrapper {@link CharResponseWrapper}
 	 * @param actualRequestTime     the request time
 	 * @param requestBody 
-	 * @return the string response finally built
-	 * @throws IdAuthenticationAppException the id authentication app exception
 	 */
-	protected String consumeResponse(ResettableStreamHttpServletRequest requestWrapper, CharResponseWrapper responseWrapper, String responseAsString,
-			Temporal actualRequestTime, Map<String, Object> requestBody) throws IdAuthenticationAppException {
+	protected void consumeResponse(ResettableStreamHttpServletRequest requestWrapper, CharResponseWrapper responseWrapper,
+			Temporal actualRequestTime, Map<String, Object> requestBody) {
 		try {
 			// The metadata from requestWrapper is actually response metadata which is
 			// mutated from with the controller so that the values can be obtained here from that.
@@ -465,17 +509,22 @@ public abstract class BaseIDAFilter implements Filter {
 			String requestSignature = requestWrapper.getHeader(SIGNATURE);
 			String responseSignature = null;
 			if(isSigningRequired()) {
-				if (Objects.isNull(responseAsString) || responseAsString.trim().length() == 0) {
+				if (responseWrapper.isContentBlank()) {
 					mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER,
 									" Response String is null or empty for response (JWT) signing");
 					throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorCode(), 
 								IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorMessage());
 				}
-				responseSignature = keyManager.signResponse(responseAsString);
+				long startNanos = authStageMetrics.start();
+				responseSignature = keyManager.signResponse(responseWrapper.getContentBuffer(),
+						responseWrapper.getContentSize());
+				authStageMetrics.stop(AuthStageMetrics.RESPONSE_SIGN, startNanos);
 				responseWrapper.setHeader(EnvUtil.getSignResponse(), responseSignature);
 			}
+			long startNanos = authStageMetrics.start();
 			if(needStoreAuthTransaction()) {
-				requestResponsConsumerUtil.storeAuthTransaction(responseMetadata, requestSignature, responseSignature);
+				requestResponsConsumerUtil.storeAuthTransaction(responseMetadata, requestSignature, responseSignature,
+						canWriteBehindAuthTransaction());
 			}
 			if(needStoreAnonymousProfile()) {
 				if (requestBody != null) {
@@ -485,31 +534,34 @@ public abstract class BaseIDAFilter implements Filter {
 							responseMetadata, status, errors);
 				}
 			}
+			authStageMetrics.stop(AuthStageMetrics.TXN_STORE, startNanos);
 			
 			Object inputRequestTime = requestBody == null ? null : requestBody.get(IdAuthCommonConstants.REQ_TIME);
 			String inputReqTimeStr = inputRequestTime instanceof String? (String) inputRequestTime : null;
 			logTime(inputReqTimeStr, IdAuthCommonConstants.RESPONSE, actualRequestTime);
-			return responseAsString;
 		} catch (IdAuthenticationAppException e ) {
 			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, EVENT_FILTER, BASE_IDA_FILTER, e.getMessage());
-			return responseAsString;
 		}
 	}
 
 	/**
-	 * getRequestBody used to get the request body from the raw input stream
+	 * getRequestBody used to get the request body, parsed in place from the
+	 * buffer holding the raw body
 	 *
-	 * @param requestBody {@link ResettableStreamHttpServletRequest} get request as
-	 *                    input stream
+	 * @param requestWrapper {@link ResettableStreamHttpServletRequest} holding the
+	 *                       raw body
 	 * @return the request body
 	 * @throws IdAuthenticationAppException the id authentication app exception
 	 */
-	protected Map<String, Object> getRequestBody(InputStream requestBody) throws IdAuthenticationAppException {
+	protected Map<String, Object> getRequestBody(ResettableStreamHttpServletRequest requestWrapper)
+			throws IdAuthenticationAppException {
 		try {
-			String reqStr = IOUtils.toString(requestBody, Charset.defaultCharset());
+			int bodySize = requestWrapper.getBodySize();
 			// requestBody empty for service like VID
-			return reqStr.isEmpty() ? null : mapper.readValue(reqStr, new TypeReference<Map<String, Object>>() {
-			});
+			return bodySize == 0 ? null
+					: mapper.readValue(requestWrapper.getBodyBuffer(), 0, bodySize,
+							new TypeReference<Map<String, Object>>() {
+							});
 		} catch (IOException | ClassCastException e) {
 			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorCode(),
 					IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorMessage(), e);
@@ -0,0 +1,76 @@
+package io.mosip.authentication.common.service.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * The Class BodyBuffer - the growable buffer capturing a request or response
+ * body, the bytes of which are accessed in place instead of being copied out.
+ * The buffers are reused across the requests through the
+ * {@link BodyBufferPool}.
+ */
+public class BodyBuffer extends ByteArrayOutputStream {
+
+	/**
+	 * Instantiates a new body buffer.
+	 *
+	 * @param initialCapacity the initial capacity
+	 */
+	public BodyBuffer(int initialCapacity) {
+		super(initialCapacity);
+	}
+
+	/**
+	 * Gets the underlying array holding the body in its first {@link #size()}
+	 * bytes. The array is replaced as the buffer grows, hence is valid only until
+	 * the next write.
+	 *
+	 * @return the buffer
+	 */
+	public synchronized byte[] getBuffer() {
+		return buf;
+	}
+
+	/**
+	 * Gets the capacity of the buffer.
+	 *
+	 * @return the capacity
+	 */
+	public synchronized int capacity() {
+		return buf.length;
+	}
+
+	/**
+	 * Grows the buffer to the given capacity, if less.
+	 *
+	 * @param minCapacity the min capacity
+	 */
+	public synchronized void ensureCapacity(int minCapacity) {
+		if (minCapacity > buf.length) {
+			buf = Arrays.copyOf(buf, Math.max(minCapacity, buf.length * 2));
+		}
+	}
+
+	/**
+	 * Reads the input stream to its end directly into the buffer, growing it as
+	 * needed.
+	 *
+	 * @param in the input stream
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public synchronized void readFrom(InputStream in) throws IOException {
+		while (true) {
+			if (count == buf.length) {
+				ensureCapacity(count + 1);
+			}
+			int read = in.read(buf, count, buf.length - count);
+			if (read == -1) {
+				return;
+			}
+			count += read;
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+package io.mosip.authentication.common.service.filter;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BODY_BUFFER_POOL_MAX_BUFFERS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BODY_BUFFER_POOL_MAX_BUFFER_SIZE;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The Class BodyBufferPool - the pool of the buffers capturing the request and
+ * response bodies in the filters, so that the large bodies do not allocate
+ * and grow a new array on every request.
+ * <p>
+ * The pool retains at most the configured count of the buffers, and does not
+ * retain the buffers grown beyond the configured size, so that the memory held
+ * by the idle buffers stays bounded. A buffer is taken out of the pool while
+ * in use, hence the pool never blocks; a new buffer is created if the pool is
+ * empty.
+ */
+@Component
+public class BodyBufferPool {
+
+	/** The initial capacity of the buffers created by the pool. */
+	static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+	@Value("${" + BODY_BUFFER_POOL_MAX_BUFFERS + ":64}")
+	private int maxBuffers;
+
+	@Value("${" + BODY_BUFFER_POOL_MAX_BUFFER_SIZE + ":1048576}")
+	private int maxBufferSize;
+
+	private BlockingQueue<BodyBuffer> buffers;
+
+	@PostConstruct
+	public void init() {
+		buffers = new ArrayBlockingQueue<>(Math.max(maxBuffers, 1));
+	}
+
+	/**
+	 * Takes a buffer out of the pool, or creates one if the pool is empty.
+	 *
+	 * @return the empty buffer
+	 */
+	public BodyBuffer acquire() {
+		BodyBuffer buffer = maxBuffers > 0 ? buffers.poll() : null;
+		return buffer == null ? new BodyBuffer(INITIAL_BUFFER_SIZE) : buffer;
+	}
+
+	/**
+	 * Takes a buffer out of the pool, or creates one if the pool is empty, sized
+	 * for the expected body size up to the maximum size.
+	 *
+	 * @param expectedSize the expected size, such as the content length, or -1 if
+	 *                     not known
+	 * @return the empty buffer
+	 */
+	public BodyBuffer acquire(int expectedSize) {
+		BodyBuffer buffer = acquire();
+		buffer.ensureCapacity(Math.min(expectedSize, maxBufferSize));
+		return buffer;
+	}
+
+	/**
+	 * Returns the buffer to the pool, unless the buffer has grown beyond the
+	 * maximum size or the pool is full. The buffer must not be used once
+	 * released.
+	 *
+	 * @param buffer the buffer
+	 */
+	public void release(BodyBuffer buffer) {
+		if (buffer == null || maxBuffers <= 0 || buffer.capacity() > maxBufferSize) {
+			return;
+		}
+		buffer.reset();
+		buffers.offer(buffer);
+	}
+
+	/**
+	 * Gets the count of the idle buffers in the pool.
+	 *
+	 * @return the idle buffer count
+	 */
+	public int getIdleBufferCount() {
+		return buffers.size();
+	}
+
+}
@@ -1,6 +1,5 @@
 package io.mosip.authentication.common.service.filter;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
@@ -13,13 +12,16 @@ import javax.servlet.http.HttpServletResponseWrapper;
 /**
  * The response wrapper used in Auth filter to capture the response body in the
  * filter.
+ * <p>
+ * The body is captured as bytes in the given buffer, which the filter signs
+ * and writes to the response in place, without converting it to a String.
  *
  * @author Loganathan Sekar
  */
 class CharResponseWrapper extends HttpServletResponseWrapper {
 
 	/** The output. */
-	private ByteArrayOutputStream output;
+	private BodyBuffer output;
 
 	/** The closed. */
 	private boolean closed;
@@ -38,13 +40,49 @@ class CharResponseWrapper extends HttpServletResponseWrapper {
 	 *
 	 * @param response
 	 *            the response
+	 * @param output
+	 *            the buffer capturing the response body
 	 * @throws IOException
 	 *             Signals that an I/O exception has occurred.
 	 */
-	public CharResponseWrapper(HttpServletResponse response)
+	public CharResponseWrapper(HttpServletResponse response, BodyBuffer output)
 			throws IOException {
 		super(response);
-		this.output = new ByteArrayOutputStream();
+		this.output = output;
+	}
+
+	/**
+	 * Gets the buffer holding the captured response body in its first
+	 * {@link #getContentSize()} bytes.
+	 *
+	 * @return the content buffer
+	 */
+	public byte[] getContentBuffer() {
+		return output.getBuffer();
+	}
+
+	/**
+	 * Gets the size of the captured response body in bytes.
+	 *
+	 * @return the content size
+	 */
+	public int getContentSize() {
+		return output.size();
+	}
+
+	/**
+	 * Checks if the captured response body is empty or has only whitespaces.
+	 *
+	 * @return true, if blank
+	 */
+	public boolean isContentBlank() {
+		byte[] content = output.getBuffer();
+		for (int i = 0, size = output.size(); i < size; i++) {
+			if (content[i] > ' ') {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/*
@@ -70,6 +108,11 @@ class CharResponseWrapper extends HttpServletResponseWrapper {
 				output.write(b);
 			}
 
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				output.write(b, off, len);
+			}
+
 			@Override
 			public void setWriteListener(WriteListener listener) {
 			    //override method
@@ -10,6 +10,7 @@ import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -20,6 +21,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -39,13 +43,16 @@ import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.context.support.WebApplicationContextUtils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 
 import io.mosip.authentication.common.service.config.IDAMappingConfig;
+import io.mosip.authentication.common.service.helper.AuthStageMetrics;
 import io.mosip.authentication.common.service.impl.AuthContextClazzRefProvider;
 import io.mosip.authentication.common.service.impl.match.BioAuthType;
 import io.mosip.authentication.common.service.impl.match.IdaIdMapping;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.common.service.util.AuthTypeUtil;
+import io.mosip.authentication.common.service.util.CompiledAuthPolicies;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.core.constant.DomainType;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
@@ -109,7 +116,11 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 	/** The Authentication Methods Reference Values */
 	private AuthContextClazzRefProvider authContextClazzRefProvider; 
 
-	private AuthMethodsRefValues authMethodsRefValues;
+	/** The authentication factors allowed for the authentication context class references. */
+	private Map<String, Set<String>> authenticationFactorsByAcr = Collections.emptyMap();
+
+	/** The executor deciphering the biometric segments concurrently. */
+	private Executor bioDecryptionExecutor;
 	
 	/**
 	 * Initialize the filter.
@@ -131,7 +142,15 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 			//
 		}
 		authContextClazzRefProvider = context.getBean(AuthContextClazzRefProvider.class);
-		authMethodsRefValues = authContextClazzRefProvider.getAuthMethodsRefValues();
+		authenticationFactorsByAcr = getAuthenticationFactorsByAcr(authContextClazzRefProvider.getAuthMethodsRefValues());
+		Integer bioDecryptionThreadCount = EnvUtil.getBioDecryptionThreadCount();
+		if (bioDecryptionThreadCount != null && bioDecryptionThreadCount > 1) {
+			try {
+				bioDecryptionExecutor = context.getBean("bioDecryptionExecutor", Executor.class);
+			} catch (NoSuchBeanDefinitionException ex) {
+				// The segments are deciphered sequentially
+			}
+		}
 	}
 
 	/**
@@ -231,7 +250,11 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 	}
 
 	/**
-	 * Decipher bio data.
+	 * Decipher bio data. The segments are deciphered concurrently on the bio
+	 * decryption executor, the first of them in the request thread, and the
+	 * deciphered segments are kept in the order of the request. If more than one
+	 * segment fails, the error of the segment with the lowest index is thrown, as
+	 * when deciphered sequentially.
 	 *
 	 * @param request the request
 	 * @throws IdAuthenticationAppException the id authentication app exception
@@ -242,16 +265,92 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 		if (Objects.nonNull(biometrics) && biometrics instanceof List) {
 			List<Object> bioIdentity = (List<Object>) biometrics;
 			List<Object> bioIdentityInfo = new ArrayList<>();
-			for (int i = 0; i < bioIdentity.size(); i++) {
-				Object obj = bioIdentity.get(i);
-				if (obj instanceof Map) {
-					bioIdentityInfo.add(decipherBioData(obj, i));
+			AuthStageMetrics.Context metricsContext = authStageMetrics.getContext();
+			if (bioDecryptionExecutor == null || bioIdentity.size() < 2) {
+				for (int i = 0; i < bioIdentity.size(); i++) {
+					Object obj = bioIdentity.get(i);
+					if (obj instanceof Map) {
+						bioIdentityInfo.add(decipherBioSegment(obj, i, metricsContext));
+					}
 				}
+			} else {
+				bioIdentityInfo.addAll(decipherBioDataConcurrently(bioIdentity, metricsContext));
 			}
 			request.replace(BIOMETRICS, bioIdentityInfo);
 		}
 	}
 
+	/**
+	 * Decipher the bio data segments concurrently.
+	 *
+	 * @param bioIdentity    the bio data segments
+	 * @param metricsContext the auth stage metrics context of the request
+	 * @return the deciphered segments in the order of the request
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	private List<Map<String, Object>> decipherBioDataConcurrently(List<Object> bioIdentity,
+			AuthStageMetrics.Context metricsContext) throws IdAuthenticationAppException {
+		List<CompletableFuture<Map<String, Object>>> segmentFutures = new ArrayList<>();
+		for (int i = 1; i < bioIdentity.size(); i++) {
+			Object obj = bioIdentity.get(i);
+			if (obj instanceof Map) {
+				int index = i;
+				segmentFutures.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return decipherBioSegment(obj, index, metricsContext);
+					} catch (IdAuthenticationAppException e) {
+						throw new CompletionException(e);
+					}
+				}, bioDecryptionExecutor));
+			}
+		}
+
+		List<Map<String, Object>> bioIdentityInfo = new ArrayList<>();
+		try {
+			Object firstObj = bioIdentity.get(0);
+			if (firstObj instanceof Map) {
+				bioIdentityInfo.add(decipherBioSegment(firstObj, 0, metricsContext));
+			}
+			for (CompletableFuture<Map<String, Object>> segmentFuture : segmentFutures) {
+				bioIdentityInfo.add(segmentFuture.join());
+			}
+			return bioIdentityInfo;
+		} catch (CompletionException e) {
+			segmentFutures.forEach(segmentFuture -> segmentFuture.cancel(false));
+			if (e.getCause() instanceof IdAuthenticationAppException) {
+				throw (IdAuthenticationAppException) e.getCause();
+			}
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e.getCause());
+		} catch (IdAuthenticationAppException | RuntimeException e) {
+			segmentFutures.forEach(segmentFuture -> segmentFuture.cancel(false));
+			throw e;
+		}
+	}
+
+	/**
+	 * Decipher a bio data segment, timing it for the request of the metrics
+	 * context, as it may be deciphered on another thread.
+	 *
+	 * @param obj            the obj
+	 * @param index          the index
+	 * @param metricsContext the auth stage metrics context of the request
+	 * @return the map
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	private Map<String, Object> decipherBioSegment(Object obj, int index, AuthStageMetrics.Context metricsContext)
+			throws IdAuthenticationAppException {
+		long startNanos = authStageMetrics.start();
+		Map<String, Object> segment = decipherBioData(obj, index);
+		authStageMetrics.stop(metricsContext, AuthStageMetrics.BIO_SEGMENT_DECRYPT, startNanos);
+		return segment;
+	}
+
 	/**
 	 * Decipher bio data.
 	 *
@@ -394,9 +493,12 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 		String licenseKey = partnerLkMap.get(MISPLICENSE_KEY);
 		String partnerApiKey = partnerLkMap.get(API_KEY);
 
+		authStageMetrics.setPartner(partnerId);
 		if (partnerId != null && licenseKey != null) {
+			long startNanos = authStageMetrics.start();
 			PartnerPolicyResponseDTO partnerServiceResponse = getPartnerPolicyInfo(partnerId, partnerApiKey, licenseKey,
 					isPartnerCertificateNeeded(), headerCertificateThumbprint, isCertificateValidationRequired());
+			authStageMetrics.stop(AuthStageMetrics.PARTNER_POLICY, startNanos);
 			// First, validate MISP Policy.
 			checkMispPolicyAllowed(partnerServiceResponse);
 			// Second, validate the auth policy attributes.
@@ -730,15 +832,14 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 	protected void checkAllowedAuthTypeBasedOnPolicy(PartnerPolicyResponseDTO partnerPolicyResponseDTO, Map<String, Object> requestBody)
 			throws IdAuthenticationAppException {
 		if (partnerPolicyResponseDTO != null) {
-			List<AuthPolicy> authPolicies = partnerPolicyResponseDTO.getPolicy().getAllowedAuthTypes();
+			CompiledAuthPolicies authPolicies = CompiledAuthPolicies
+					.of(partnerPolicyResponseDTO.getPolicy().getAllowedAuthTypes());
 			List<KYCAttributes> allowedKycAttributes = partnerPolicyResponseDTO.getPolicy().getAllowedKycAttributes();
 			List<String> allowedAttibuteNameList = Optional.ofNullable(allowedKycAttributes).stream()
 					.flatMap(Collection::stream).map(KYCAttributes::getAttributeName).collect(Collectors.toList());
 			requestBody.put("allowedKycAttributes", allowedAttibuteNameList);
 			checkAllowedAuthTypeBasedOnPolicy(requestBody, authPolicies);
-			List<AuthPolicy> mandatoryAuthPolicies = authPolicies.stream().filter(AuthPolicy::isMandatory)
-					.collect(Collectors.toList());
-			checkMandatoryAuthTypeBasedOnPolicy(requestBody, mandatoryAuthPolicies);
+			checkMandatoryAuthTypeBasedOnPolicy(requestBody, authPolicies.getMandatoryPolicies());
 		} else {
 			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.INVALID_POLICY_ID);
 		}
@@ -754,8 +855,7 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 	protected void checkAllowedAuthTypeBasedOnPolicy(Map<String, Object> requestBody, List<AuthPolicy> authPolicies)
 			throws IdAuthenticationAppException {
 		try {
-			AuthRequestDTO authRequestDTO = mapper.readValue(mapper.writeValueAsBytes(requestBody),
-					AuthRequestDTO.class);
+			AuthRequestDTO authRequestDTO = convertValue(requestBody, AuthRequestDTO.class);
 			if (AuthTypeUtil.isDemo(authRequestDTO) && !isAllowedAuthType(MatchType.Category.DEMO.getType(), authPolicies)) {
 				throw new IdAuthenticationAppException(
 						IdAuthenticationErrorConstants.AUTHTYPE_NOT_ALLOWED.getErrorCode(),
@@ -800,8 +900,7 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 		Object value = Optional.ofNullable(requestBody.get(IdAuthCommonConstants.REQUEST))
 				.filter(obj -> obj instanceof Map).map(obj -> ((Map<String, Object>) obj).get(BIOMETRICS))
 				.filter(obj -> obj instanceof List).orElse(Collections.emptyList());
-		List<BioIdentityInfoDTO> listBioInfo = mapper.readValue(mapper.writeValueAsBytes(value),
-				new TypeReference<List<BioIdentityInfoDTO>>() {
+		List<BioIdentityInfoDTO> listBioInfo = convertValue(value, new TypeReference<List<BioIdentityInfoDTO>>() {
 				});
 
 		OptionalInt noBioTypeIndex = IntStream.range(0, listBioInfo.size()).filter(i -> {
@@ -846,8 +945,7 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 				.filter(obj -> obj instanceof Map).map(obj -> ((Map<String, Object>) obj).get(KEY_BINDED_TOKEN))
 				.filter(obj -> obj instanceof List).orElse(Collections.emptyMap());
 
-		List<KeyBindedTokenDTO> list = mapper.readValue(mapper.writeValueAsBytes(value),
-				new TypeReference<List<KeyBindedTokenDTO>>() {
+		List<KeyBindedTokenDTO> list = convertValue(value, new TypeReference<List<KeyBindedTokenDTO>>() {
 				});
 
 		if(CollectionUtils.isEmpty(list)) {
@@ -866,8 +964,7 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 
 	protected void checkAllowedAuthTypeForPassword(Map<String, Object> requestBody, List<AuthPolicy> authPolicies)
 			throws IdAuthenticationAppException, IOException {
-		KycAuthRequestDTO authRequestDTO = mapper.readValue(mapper.writeValueAsBytes(requestBody),
-					KycAuthRequestDTO.class);
+		KycAuthRequestDTO authRequestDTO = convertValue(requestBody, KycAuthRequestDTO.class);
 
 		if (AuthTypeUtil.isPassword(authRequestDTO) && !isAllowedAuthType(MatchType.Category.PWD.getType(), authPolicies)) {
 			throw new IdAuthenticationAppException(
@@ -941,17 +1038,24 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 	@SuppressWarnings("unchecked")
 	protected void checkMandatoryAuthTypeBasedOnPolicy(Map<String, Object> requestBody,
 			List<AuthPolicy> mandatoryAuthPolicies) throws IdAuthenticationAppException {
+		CompiledAuthPolicies compiledMandatoryAuthPolicies = CompiledAuthPolicies.of(mandatoryAuthPolicies);
+		if (compiledMandatoryAuthPolicies.isEmpty()) {
+			return;
+		}
 		try {
-			AuthRequestDTO authRequestDto = mapper.readValue(mapper.writeValueAsBytes(requestBody),
-					AuthRequestDTO.class);
+			AuthRequestDTO authRequestDto = convertValue(requestBody, AuthRequestDTO.class);
 			Object value = Optional.ofNullable(requestBody.get(IdAuthCommonConstants.REQUEST))
 					.filter(Map.class::isInstance).map(obj -> ((Map<String, Object>) obj).get(BIOMETRICS))
 					.filter(List.class::isInstance).orElse(Collections.emptyList());
-			List<BioIdentityInfoDTO> listBioInfo = mapper.readValue(mapper.writeValueAsBytes(value),
-					new TypeReference<List<BioIdentityInfoDTO>>() {
+			List<BioIdentityInfoDTO> listBioInfo = convertValue(value, new TypeReference<List<BioIdentityInfoDTO>>() {
 					});
 			List<String> bioTypeList = listBioInfo.stream().map(s -> s.getData().getBioType().toUpperCase())
 					.collect(Collectors.toList());
+			if (compiledMandatoryAuthPolicies.isMandatorySatisfied(getRequestedCategories(authRequestDto),
+					bioTypeList, isKycRequest(requestBody))) {
+				return;
+			}
+			// Find the first mandatory auth type missing, to be reported
 			for (AuthPolicy mandatoryAuthPolicy : mandatoryAuthPolicies) {
 				validateAuthPolicy(requestBody, authRequestDto, bioTypeList, mandatoryAuthPolicy);
 			}
@@ -999,15 +1103,40 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 									MatchType.Category.BIO.getType() + "-" + mandatoryAuthPolicy.getAuthSubType()));
 				}
 			}
-		} else if (mandatoryAuthPolicy.getAuthType().equalsIgnoreCase(KYC)
-				&& !Optional.ofNullable(requestBody.get("id"))
-						.filter(id -> id.equals(EnvUtil.getIdaApiIdWithKyc()))
-						.isPresent()) {
+		} else if (mandatoryAuthPolicy.getAuthType().equalsIgnoreCase(KYC) && !isKycRequest(requestBody)) {
 			throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorCode(),
 					String.format(IdAuthenticationErrorConstants.AUTHTYPE_MANDATORY.getErrorMessage(), KYC));
 		}
 	}
 
+	/**
+	 * Gets the categories of the auth types requested.
+	 *
+	 * @param authRequestDTO the auth request DTO
+	 * @return the requested categories
+	 */
+	private Set<MatchType.Category> getRequestedCategories(AuthRequestDTO authRequestDTO) {
+		Set<MatchType.Category> requestedCategories = EnumSet.noneOf(MatchType.Category.class);
+		if (AuthTypeUtil.isOtp(authRequestDTO)) {
+			requestedCategories.add(MatchType.Category.OTP);
+		}
+		if (AuthTypeUtil.isDemo(authRequestDTO)) {
+			requestedCategories.add(MatchType.Category.DEMO);
+		}
+		if (AuthTypeUtil.isPin(authRequestDTO)) {
+			requestedCategories.add(MatchType.Category.SPIN);
+		}
+		if (AuthTypeUtil.isBio(authRequestDTO)) {
+			requestedCategories.add(MatchType.Category.BIO);
+		}
+		return requestedCategories;
+	}
+
+	private boolean isKycRequest(Map<String, Object> requestBody) {
+		return Optional.ofNullable(requestBody.get("id")).filter(id -> id.equals(EnvUtil.getIdaApiIdWithKyc()))
+				.isPresent();
+	}
+
 	/**
 	 * Checks if is allowed auth type.
 	 *
@@ -1028,12 +1157,7 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 	 * @return true, if is allowed auth type
 	 */
 	protected boolean isAllowedAuthType(String authType, String subAuthType, List<AuthPolicy> policies) {
-		if (subAuthType == null) {
-			return policies.stream().anyMatch(authPolicy -> authPolicy.getAuthType().equalsIgnoreCase(authType));
-		} else {
-			return policies.stream().anyMatch(authPolicy -> authPolicy.getAuthType().equalsIgnoreCase(authType)
-					&& authPolicy.getAuthSubType().equalsIgnoreCase(subAuthType));
-		}
+		return CompiledAuthPolicies.of(policies).isAllowed(authType, subAuthType);
 	}
 
 	private void checkAllowedAMRBasedOnClientConfig(Map<String, Object> requestBody, PartnerPolicyResponseDTO partnerPolicyResponseDTO) 
@@ -1041,8 +1165,7 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 		try {
 			if (isAMRValidationRequired()) {
 				Set<String> allowedAMRs = getAuthenticationFactors(partnerPolicyResponseDTO);
-				AuthRequestDTO authRequestDTO = mapper.readValue(mapper.writeValueAsBytes(requestBody),
-							AuthRequestDTO.class);
+				AuthRequestDTO authRequestDTO = convertValue(requestBody, AuthRequestDTO.class);
 				if (AuthTypeUtil.isDemo(authRequestDTO) && !allowedAMRs.contains(MatchType.Category.DEMO.getType())) {
 					throw new IdAuthenticationAppException(
 							IdAuthenticationErrorConstants.OIDC_CLIENT_AUTHTYPE_NOT_ALLOWED.getErrorCode(),
@@ -1069,8 +1192,7 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 									MatchType.Category.OTP.name()));
 				}
 
-				KycAuthRequestDTO kycAuthRequestDTO = mapper.readValue(mapper.writeValueAsBytes(requestBody),
-										KycAuthRequestDTO.class);
+				KycAuthRequestDTO kycAuthRequestDTO = convertValue(requestBody, KycAuthRequestDTO.class);
 				if (AuthTypeUtil.isPassword(kycAuthRequestDTO)  && !allowedAMRs.contains(MatchType.Category.PWD.getType())) {
 					throw new IdAuthenticationAppException(
 							IdAuthenticationErrorConstants.OIDC_CLIENT_AUTHTYPE_NOT_ALLOWED.getErrorCode(),
@@ -1091,8 +1213,7 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 				.filter(obj -> obj instanceof Map).map(obj -> ((Map<String, Object>) obj).get(KEY_BINDED_TOKEN))
 				.filter(obj -> obj instanceof List).orElse(Collections.emptyMap());
 				
-		List<KeyBindedTokenDTO> list = mapper.readValue(mapper.writeValueAsBytes(value),
-				new TypeReference<List<KeyBindedTokenDTO>>() {
+		List<KeyBindedTokenDTO> list = convertValue(value, new TypeReference<List<KeyBindedTokenDTO>>() {
 				});
 
 		if(CollectionUtils.isEmpty(list)) {
@@ -1115,27 +1236,45 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 	}
 
 	private Set<String> getAuthenticationFactors(PartnerPolicyResponseDTO partnerPolicyResponseDTO) {
+		String[] clientConfiguredAMRs = partnerPolicyResponseDTO.getOidcClientDto().getAuthContextRefs();
+		if (clientConfiguredAMRs.length == 1) {
+			return authenticationFactorsByAcr.getOrDefault(clientConfiguredAMRs[0], Collections.emptySet());
+		}
+		Set<String> filterAMRs = new HashSet<>();
+		for (String clientConfiguredAMR : clientConfiguredAMRs) {
+			filterAMRs.addAll(authenticationFactorsByAcr.getOrDefault(clientConfiguredAMR, Collections.emptySet()));
+		}
+		return filterAMRs;
+	}
 
-		Set<String> clientConfiguredAMRs = Stream.of(partnerPolicyResponseDTO.getOidcClientDto().getAuthContextRefs()).collect(Collectors.toSet());
-		
+	/**
+	 * Gets the authentication factors allowed for each authentication context
+	 * class reference, computed once from the configured values.
+	 *
+	 * @param authMethodsRefValues the auth methods ref values
+	 * @return the authentication factors by the acr
+	 */
+	private static Map<String, Set<String>> getAuthenticationFactorsByAcr(AuthMethodsRefValues authMethodsRefValues) {
+		if (authMethodsRefValues == null || authMethodsRefValues.getAuthMethodsRefValues() == null) {
+			return Collections.emptyMap();
+		}
 		Map<String, List<AuthenticationFactor>> allowedAMRs = authMethodsRefValues.getAuthMethodsRefValues();
-		Set<String> filterAMRs = new HashSet<>();
-		for (String key: allowedAMRs.keySet()) {
-			if (clientConfiguredAMRs.contains(key)) {
-				List<AuthenticationFactor> amrs = allowedAMRs.get(key);
-				// not considering count in AuthenticationFactor. Need to handle later.
-				for (AuthenticationFactor amr : amrs) {
-					if (Objects.nonNull(amr.getSubTypes())) {
-						filterAMRs.addAll(amr.getSubTypes().stream()
-										 .filter( subtype -> !org.springframework.util.StringUtils.isEmpty(subtype))
-				 						 .map(String::toLowerCase)
-										 .collect(Collectors.toSet()));
-					}
-					filterAMRs.add(amr.getType().toLowerCase());
+		Map<String, Set<String>> authenticationFactorsByAcr = new HashMap<>();
+		for (Entry<String, List<AuthenticationFactor>> entry : allowedAMRs.entrySet()) {
+			Set<String> filterAMRs = new HashSet<>();
+			// not considering count in AuthenticationFactor. Need to handle later.
+			for (AuthenticationFactor amr : entry.getValue()) {
+				if (Objects.nonNull(amr.getSubTypes())) {
+					filterAMRs.addAll(amr.getSubTypes().stream()
+									 .filter( subtype -> !org.springframework.util.StringUtils.isEmpty(subtype))
+									 .map(String::toLowerCase)
+									 .collect(Collectors.toSet()));
 				}
+				filterAMRs.add(amr.getType().toLowerCase());
 			}
+			authenticationFactorsByAcr.put(entry.getKey(), Collections.unmodifiableSet(filterAMRs));
 		}
-		return filterAMRs;
+		return Collections.unmodifiableMap(authenticationFactorsByAcr);
 	}
 
 	/**
@@ -1234,4 +1373,32 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 		return new HashSet<>(List.of(languages.split(",")));
 	}
 
+	/**
+	 * Converts the parsed request value to the type, without serialising and
+	 * parsing it again.
+	 *
+	 * @param <T>   the generic type
+	 * @param value the value
+	 * @param type  the type
+	 * @return the converted value
+	 * @throws IOException Signals that the value cannot be converted
+	 */
+	private <T> T convertValue(Object value, Class<T> type) throws IOException {
+		return convertValue(value, mapper.constructType(type));
+	}
+
+	private <T> T convertValue(Object value, TypeReference<T> type) throws IOException {
+		return convertValue(value, mapper.getTypeFactory().constructType(type));
+	}
+
+	private <T> T convertValue(Object value, JavaType type) throws IOException {
+		try {
+			return mapper.convertValue(value, type);
+		} catch (IllegalArgumentException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw e;
+		}
+	}
 }
@@ -8,6 +8,11 @@ public class InternalOtpFilter extends DefaultInternalFilter {
 	protected boolean needStoreAuthTransaction() {
 		return true;
 	}
+
+	@Override
+	protected boolean canWriteBehindAuthTransaction() {
+		return false;
+	}
 	
 	protected boolean needStoreAnonymousProfile() {
 		return false;
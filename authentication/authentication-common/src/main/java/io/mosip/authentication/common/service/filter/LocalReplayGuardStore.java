@@ -0,0 +1,180 @@
+package io.mosip.authentication.common.service.filter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class LocalReplayGuardStore - the node-local {@link ReplayGuardStore},
+ * holding the keys in time buckets that are dropped as a whole once older than
+ * the window, so that no key is expired individually.
+ * <p>
+ * The window is split into one bucket less than the bucket count, hence a key
+ * is retained for the window and at most one more bucket span. At most the max
+ * entries of keys are held; beyond it, the keys are not added and the requests
+ * are let through unchecked. Such requests are counted, and a warning is logged
+ * at most once per warning interval.
+ */
+public class LocalReplayGuardStore implements ReplayGuardStore {
+
+	private static final Logger mosipLogger = IdaLogger.getLogger(LocalReplayGuardStore.class);
+
+	/** The count of the buckets. */
+	static final int BUCKET_COUNT = 8;
+
+	/** The min interval between the warnings of the requests let through. */
+	static final long BYPASS_WARN_INTERVAL_MILLIS = 60_000;
+
+	private final long bucketMillis;
+
+	private final int maxEntries;
+
+	private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+
+	/** The count of the requests let through unchecked as the store is full. */
+	private final AtomicLong bypassedCount = new AtomicLong();
+
+	/** The time of the last warning of the requests let through. */
+	private final AtomicLong lastBypassWarnMillis = new AtomicLong(Long.MIN_VALUE);
+
+	/**
+	 * Instantiates a new local replay guard store.
+	 *
+	 * @param windowMillis the window in milliseconds, for which the keys are
+	 *                     retained
+	 * @param maxEntries   the max entries
+	 */
+	public LocalReplayGuardStore(long windowMillis, int maxEntries) {
+		this.bucketMillis = Math.max(1, (windowMillis + BUCKET_COUNT - 2) / (BUCKET_COUNT - 1));
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Adds the key, unless present, to be retained for the window of the store;
+	 * the given window is not used.
+	 */
+	@Override
+	public boolean putIfAbsent(String key, long windowMillis) {
+		long epoch = currentEpoch();
+		int entryCount = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			Bucket bucket = buckets.get(i);
+			if (isLive(bucket, epoch)) {
+				if (bucket.keys.contains(key)) {
+					return false;
+				}
+				entryCount += bucket.keys.size();
+			}
+		}
+		if (entryCount >= maxEntries) {
+			onBypassed(entryCount);
+			return true;
+		}
+		return getBucket(epoch).keys.add(key);
+	}
+
+	@Override
+	public void remove(String key) {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			Bucket bucket = buckets.get(i);
+			if (bucket != null) {
+				bucket.keys.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Gets the count of the keys retained.
+	 *
+	 * @return the entry count
+	 */
+	public int getEntryCount() {
+		long epoch = currentEpoch();
+		int entryCount = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			Bucket bucket = buckets.get(i);
+			if (isLive(bucket, epoch)) {
+				entryCount += bucket.keys.size();
+			}
+		}
+		return entryCount;
+	}
+
+	/**
+	 * Gets the count of the requests let through unchecked, as the max entries of
+	 * keys were held.
+	 *
+	 * @return the bypassed count
+	 */
+	public long getBypassedCount() {
+		return bypassedCount.get();
+	}
+
+	/**
+	 * Gets the current time, overridden by the tests.
+	 *
+	 * @return the current time in milliseconds
+	 */
+	long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	private long currentEpoch() {
+		return currentTimeMillis() / bucketMillis;
+	}
+
+	/**
+	 * Counts the request let through unchecked, and warns unless warned within
+	 * the warning interval.
+	 */
+	private void onBypassed(int entryCount) {
+		long count = bypassedCount.incrementAndGet();
+		long nowMillis = currentTimeMillis();
+		long lastWarnMillis = lastBypassWarnMillis.get();
+		if ((lastWarnMillis == Long.MIN_VALUE || nowMillis - lastWarnMillis >= BYPASS_WARN_INTERVAL_MILLIS)
+				&& lastBypassWarnMillis.compareAndSet(lastWarnMillis, nowMillis)) {
+			mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "putIfAbsent",
+					"Replay guard is full with " + entryCount
+							+ " keys, requests are let through unchecked; bypassed count: " + count);
+		}
+	}
+
+	private static boolean isLive(Bucket bucket, long epoch) {
+		return bucket != null && epoch - bucket.epoch < BUCKET_COUNT;
+	}
+
+	/**
+	 * Gets the bucket of the epoch, replacing the bucket of the older epoch in its
+	 * slot.
+	 */
+	private Bucket getBucket(long epoch) {
+		int index = (int) (epoch % BUCKET_COUNT);
+		while (true) {
+			Bucket bucket = buckets.get(index);
+			if (bucket != null && bucket.epoch >= epoch) {
+				return bucket;
+			}
+			Bucket newBucket = new Bucket(epoch);
+			if (buckets.compareAndSet(index, bucket, newBucket)) {
+				return newBucket;
+			}
+		}
+	}
+
+	private static class Bucket {
+
+		private final long epoch;
+
+		private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+		private Bucket(long epoch) {
+			this.epoch = epoch;
+		}
+	}
+
+}
@@ -0,0 +1,201 @@
+package io.mosip.authentication.common.service.filter;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTHREQUEST_RECEIVED_TIME_ALLOWED_IN_SECONDS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.REPLAY_GUARD_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.REPLAY_GUARD_MAX_ENTRIES;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.REPLAY_GUARD_REJECT_REUSED_TRANSACTION_ID;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.REPLAY_GUARD_WINDOW_SECS;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationAppException;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class ReplayGuard - rejects the auth requests re-sent within the replay
+ * window before their signature is verified and their request is deciphered,
+ * so that a retried or replayed request does not cost a whole authentication.
+ * <p>
+ * A request is a duplicate if a request to the same URI, which holds the
+ * partner, with the same transaction ID and signature was seen within the
+ * window, and optionally if only the transaction ID is reused. The keys are
+ * held hashed in the node-local {@link LocalReplayGuardStore}, and also in the
+ * {@link ReplayGuardStore} bean if any, to detect the requests replayed to other
+ * nodes. The keys of a request failing before it is processed, such as for an
+ * invalid signature, are released, so that a forged request cannot block the
+ * genuine one.
+ */
+@Component
+public class ReplayGuard {
+
+	private static final Logger mosipLogger = IdaLogger.getLogger(ReplayGuard.class);
+
+	private static final String METRIC_PREFIX = "ida.replay.guard.";
+
+	private static final String SIGNATURE_KEY = "signature";
+
+	private static final String TRANSACTION_ID_KEY = "transactionID";
+
+	@Value("${" + REPLAY_GUARD_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + REPLAY_GUARD_WINDOW_SECS + ":${" + AUTHREQUEST_RECEIVED_TIME_ALLOWED_IN_SECONDS + ":120}}")
+	private long windowSecs;
+
+	@Value("${" + REPLAY_GUARD_MAX_ENTRIES + ":100000}")
+	private int maxEntries;
+
+	@Value("${" + REPLAY_GUARD_REJECT_REUSED_TRANSACTION_ID + ":false}")
+	private boolean rejectReusedTransactionId;
+
+	/** The shared store, if any. */
+	@Autowired(required = false)
+	private ReplayGuardStore sharedStore;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	private LocalReplayGuardStore localStore;
+
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	@PostConstruct
+	public void init() {
+		localStore = new LocalReplayGuardStore(windowSecs * 1000, maxEntries);
+		if (meterRegistry == null) {
+			return;
+		}
+		FunctionCounter.builder(METRIC_PREFIX + "rejected", rejectedCount, AtomicLong::get)
+				.description("Auth requests rejected as duplicates").register(meterRegistry);
+		FunctionCounter.builder(METRIC_PREFIX + "bypassed", localStore, LocalReplayGuardStore::getBypassedCount)
+				.description("Auth requests let through unchecked as the node-local replay guard is full")
+				.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + "entries", localStore, LocalReplayGuardStore::getEntryCount)
+				.description("Auth request keys in the node-local replay guard").register(meterRegistry);
+	}
+
+	/**
+	 * Checks if the guard is enabled.
+	 *
+	 * @return true, if enabled
+	 */
+	public boolean isEnabled() {
+		return enabled && localStore != null && windowSecs > 0 && maxEntries > 0;
+	}
+
+	/**
+	 * Reserves the keys of the request, unless a request with any of the keys was
+	 * seen within the window.
+	 *
+	 * @param requestUri    the request URI
+	 * @param transactionId the transaction ID, or null if none
+	 * @param signature     the request signature, or null if none
+	 * @return the keys reserved, to be released if the request is not processed
+	 * @throws IdAuthenticationAppException if the request is a duplicate
+	 */
+	public List<String> reserve(String requestUri, String transactionId, String signature)
+			throws IdAuthenticationAppException {
+		if (!isEnabled() || transactionId == null) {
+			return Collections.emptyList();
+		}
+		List<String> keys = new ArrayList<>(2);
+		if (signature != null && !signature.isEmpty()) {
+			keys.add(getKey(SIGNATURE_KEY, requestUri, transactionId, signature));
+		}
+		if (rejectReusedTransactionId) {
+			keys.add(getKey(TRANSACTION_ID_KEY, requestUri, transactionId));
+		}
+		for (int i = 0; i < keys.size(); i++) {
+			if (!putIfAbsent(keys.get(i))) {
+				release(keys.subList(0, i));
+				rejectedCount.incrementAndGet();
+				String reason = i == 0 && signature != null && !signature.isEmpty() ? SIGNATURE_KEY
+						: TRANSACTION_ID_KEY;
+				mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "reserve",
+						"Duplicate request by " + reason + " for transaction ID: " + transactionId);
+				throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.DUPLICATE_REQUEST.getErrorCode(),
+						String.format(IdAuthenticationErrorConstants.DUPLICATE_REQUEST.getErrorMessage(), reason));
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Releases the keys of a request not processed, so that it may be sent again.
+	 *
+	 * @param keys the keys returned by {@link #reserve(String, String, String)}
+	 */
+	public void release(List<String> keys) {
+		for (String key : keys) {
+			localStore.remove(key);
+			if (sharedStore != null) {
+				sharedStore.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Gets the count of the requests rejected as duplicates.
+	 *
+	 * @return the rejected count
+	 */
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	/**
+	 * Gets the count of the requests let through unchecked, as the node-local
+	 * store held the max entries.
+	 *
+	 * @return the bypassed count
+	 */
+	public long getBypassedCount() {
+		return localStore == null ? 0 : localStore.getBypassedCount();
+	}
+
+	private boolean putIfAbsent(String key) {
+		long windowMillis = windowSecs * 1000;
+		if (!localStore.putIfAbsent(key, windowMillis)) {
+			return false;
+		}
+		if (sharedStore != null && !sharedStore.putIfAbsent(key, windowMillis)) {
+			localStore.remove(key);
+			return false;
+		}
+		return true;
+	}
+
+	private static String getKey(String... parts) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (String part : parts) {
+				digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+			}
+			return Hex.encodeHexString(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
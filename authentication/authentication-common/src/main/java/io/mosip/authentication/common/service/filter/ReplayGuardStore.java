@@ -0,0 +1,30 @@
+package io.mosip.authentication.common.service.filter;
+
+/**
+ * The Interface ReplayGuardStore - the store of the keys of the auth requests
+ * seen within the replay window, used by the {@link ReplayGuard}.
+ * <p>
+ * A bean of this type, such as one backed by a cache shared by the nodes, is
+ * consulted in addition to the node-local store, so that a request replayed to
+ * another node is detected too. The {@link LocalReplayGuardStore} may be used
+ * as the bean to stub the shared store locally.
+ */
+public interface ReplayGuardStore {
+
+	/**
+	 * Adds the key, unless present, to be retained for at least the window.
+	 *
+	 * @param key          the key
+	 * @param windowMillis the window in milliseconds
+	 * @return true, if added; false, if present
+	 */
+	boolean putIfAbsent(String key, long windowMillis);
+
+	/**
+	 * Removes the key, if present.
+	 *
+	 * @param key the key
+	 */
+	void remove(String key);
+
+}
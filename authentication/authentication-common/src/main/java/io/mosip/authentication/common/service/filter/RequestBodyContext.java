@@ -0,0 +1,111 @@
+package io.mosip.authentication.common.service.filter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The Class RequestBodyContext - holds the request body replaced in the filter,
+ * such as the deciphered auth request, as the parsed JSON object along with
+ * its raw bytes and the typed objects converted from it, each of which is
+ * produced only when asked for and only once.
+ * <p>
+ * The context is set as a request attribute, so that the controller arguments
+ * are converted from the parsed body instead of parsing the body serialised
+ * again.
+ */
+public class RequestBodyContext {
+
+	/** The request attribute holding the context. */
+	public static final String ATTRIBUTE = RequestBodyContext.class.getName();
+
+	private final ObjectMapper mapper;
+
+	private final Map<String, Object> body;
+
+	private byte[] rawData;
+
+	private final Map<JavaType, Object> typedBodies = new HashMap<>();
+
+	/**
+	 * Instantiates a new request body context.
+	 *
+	 * @param mapper the mapper
+	 * @param body   the parsed request body
+	 */
+	public RequestBodyContext(ObjectMapper mapper, Map<String, Object> body) {
+		this.mapper = mapper;
+		this.body = body;
+	}
+
+	/**
+	 * Gets the parsed request body.
+	 *
+	 * @return the body
+	 */
+	public Map<String, Object> getBody() {
+		return body;
+	}
+
+	/**
+	 * Gets the raw bytes of the request body, serialising the body on the first
+	 * call.
+	 *
+	 * @return the raw data
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public byte[] getRawData() throws IOException {
+		if (rawData == null) {
+			rawData = mapper.writeValueAsBytes(body);
+		}
+		return rawData;
+	}
+
+	/**
+	 * Checks if the body is serialised to the raw bytes.
+	 *
+	 * @return true, if the raw data is available
+	 */
+	public boolean isRawDataAvailable() {
+		return rawData != null;
+	}
+
+	/**
+	 * Gets the request body converted to the type, converting it on the first
+	 * call for the type.
+	 *
+	 * @param type the type
+	 * @return the typed body
+	 * @throws IllegalArgumentException if the body cannot be converted to the
+	 *                                  type
+	 */
+	public Object getBodyAs(JavaType type) {
+		Object typedBody = typedBodies.get(type);
+		if (typedBody == null) {
+			typedBody = mapper.convertValue(body, type);
+			typedBodies.put(type, typedBody);
+		}
+		return typedBody;
+	}
+
+	/**
+	 * Gets the context of the current request.
+	 *
+	 * @return the request body context, or null if the body of the current
+	 *         request is not replaced
+	 */
+	public static RequestBodyContext getCurrent() {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes == null) {
+			return null;
+		}
+		return (RequestBodyContext) requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+	}
+
+}
@@ -0,0 +1,56 @@
+package io.mosip.authentication.common.service.filter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The Class RequestBodyContextHttpMessageConverter - the JSON message converter
+ * which converts the controller argument from the request body parsed in the
+ * filter, if held in the {@link RequestBodyContext} of the request, instead of
+ * parsing the body read from the input stream.
+ * <p>
+ * Replaces the default JSON message converter, hence reads the other requests
+ * and writes the responses just as the default one.
+ */
+@Component
+public class RequestBodyContextHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	/**
+	 * Instantiates a new request body context http message converter.
+	 *
+	 * @param objectMapper the object mapper
+	 */
+	@Autowired
+	public RequestBodyContextHttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#
+	 * read(java.lang.reflect.Type, java.lang.Class, org.springframework.http.HttpInputMessage)
+	 */
+	@Override
+	public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+			throws IOException, HttpMessageNotReadableException {
+		RequestBodyContext bodyContext = RequestBodyContext.getCurrent();
+		if (bodyContext == null || bodyContext.getBody() == null) {
+			return super.read(type, contextClass, inputMessage);
+		}
+		try {
+			return bodyContext.getBodyAs(getJavaType(type, contextClass));
+		} catch (IllegalArgumentException e) {
+			throw new HttpMessageNotReadableException("JSON parse error: " + e.getMessage(), e);
+		}
+	}
+
+}
@@ -1,11 +1,10 @@
 package io.mosip.authentication.common.service.filter;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
@@ -19,19 +18,43 @@ import io.mosip.authentication.core.dto.ObjectWithMetadata;
 /**
  * The request wrapper used in Auth filter that allows to re-read the request
  * body.
+ * <p>
+ * The body replaced as the parsed JSON object is serialised only when read
+ * from the input stream; the controller arguments are converted from the
+ * parsed body held in the {@link RequestBodyContext} instead.
+ * <p>
+ * When created with a {@link BodyBufferPool}, the body is read into a pooled
+ * buffer sized from the content length, which is returned to the pool by
+ * {@link #releaseBodyBuffer()} at the end of the filter chain. The input stream
+ * reads the body in place, so that it is reset without any allocation.
  *
  * @author Loganathan Sekar
  */
 public class ResettableStreamHttpServletRequest extends HttpServletRequestWrapper implements ObjectWithMetadata {
 
-	/** The raw data. */
+	/** The raw data, in its first {@link #rawDataLength} bytes. */
 	private byte[] rawData;
 
+	/** The length of the raw data. */
+	private int rawDataLength;
+
+	/** The pool of the body buffers, or null to read the body into a new array. */
+	private BodyBufferPool bodyBufferPool;
+
+	/** The pooled buffer holding the body read from the request. */
+	private BodyBuffer bodyBuffer;
+
+	/** Whether the pooled buffer is released. */
+	private boolean bodyBufferReleased;
+
 	/** The request. */
 	private HttpServletRequest request;
 
 	/** The servlet stream. */
 	private ResettableServletInputStream servletStream;
+
+	/** The context of the replaced body. */
+	private RequestBodyContext bodyContext;
 	
 	private Map<String, Object> metadata;
 	
@@ -46,11 +69,24 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 		this.servletStream = new ResettableServletInputStream();
 	}
 
+	/**
+	 * Instantiates a new resettable stream http servlet request, reading the body
+	 * into a buffer from the pool.
+	 *
+	 * @param request        the request
+	 * @param bodyBufferPool the body buffer pool
+	 */
+	public ResettableStreamHttpServletRequest(HttpServletRequest request, BodyBufferPool bodyBufferPool) {
+		this(request);
+		this.bodyBufferPool = bodyBufferPool;
+	}
+
 	/**
 	 * Reset input stream.
 	 */
 	public void resetInputStream() {
-		servletStream.stream = new ResettableServletInputStream(new ByteArrayInputStream(rawData));
+		servletStream.opened = false;
+		servletStream.eofReached = false;
 	}
 
 	/*
@@ -60,10 +96,6 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 	 */
 	@Override
 	public ServletInputStream getInputStream() throws IOException {
-		if (rawData == null) {
-			rawData = StreamUtils.copyToByteArray(this.request.getInputStream());
-			servletStream.stream = new ByteArrayInputStream(rawData);
-		}
 		return servletStream;
 	}
 
@@ -74,10 +106,6 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 	 */
 	@Override
 	public BufferedReader getReader() throws IOException {
-		if (rawData == null) {
-			rawData = StreamUtils.copyToByteArray(this.request.getInputStream());
-			servletStream.stream = new ByteArrayInputStream(rawData);
-		}
 		return new BufferedReader(new InputStreamReader(servletStream));
 	}
 
@@ -88,7 +116,95 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 	 */
 	public void replaceData(byte[] newData) {
 		rawData = newData;
-		servletStream.stream = new ByteArrayInputStream(rawData);
+		rawDataLength = newData.length;
+		bodyContext = null;
+		removeAttribute(RequestBodyContext.ATTRIBUTE);
+		resetInputStream();
+	}
+
+	/**
+	 * Replace the request data with the parsed body held in the context, which is
+	 * serialised only if read from the input stream.
+	 *
+	 * @param bodyContext the context of the body to be replaced with
+	 */
+	public void replaceBody(RequestBodyContext bodyContext) {
+		rawData = null;
+		this.bodyContext = bodyContext;
+		setAttribute(RequestBodyContext.ATTRIBUTE, bodyContext);
+		resetInputStream();
+	}
+
+	/**
+	 * Gets the size of the body, reading it from the request or serialising the
+	 * replaced body if not read yet.
+	 *
+	 * @return the body size
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public int getBodySize() throws IOException {
+		readRawData();
+		return rawDataLength;
+	}
+
+	/**
+	 * Gets the buffer holding the body, reading it from the request or serialising
+	 * the replaced body if not read yet. Only the first {@link #getBodySize()}
+	 * bytes of the buffer are the body. The buffer is not copied, so it is not to
+	 * be modified, nor used once the body buffer is released.
+	 *
+	 * @return the buffer holding the body
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public byte[] getBodyBuffer() throws IOException {
+		readRawData();
+		return rawData;
+	}
+
+	/**
+	 * Returns the pooled buffer holding the body read from the request to the
+	 * pool. The body read from the request is not available once released.
+	 */
+	public void releaseBodyBuffer() {
+		if (bodyBuffer == null) {
+			return;
+		}
+		if (rawData == bodyBuffer.getBuffer()) {
+			rawData = null;
+			rawDataLength = 0;
+		}
+		BodyBuffer buffer = bodyBuffer;
+		bodyBuffer = null;
+		bodyBufferReleased = true;
+		bodyBufferPool.release(buffer);
+	}
+
+	/**
+	 * Reads the raw data from the request or serialises the replaced body, if not
+	 * read yet.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private void readRawData() throws IOException {
+		if (rawData != null) {
+			return;
+		}
+		if (bodyContext != null) {
+			rawData = bodyContext.getRawData();
+			rawDataLength = rawData.length;
+		} else if (bodyBufferReleased) {
+			throw new IOException("Request body is released");
+		} else if (bodyBufferPool == null) {
+			rawData = StreamUtils.copyToByteArray(this.request.getInputStream());
+			rawDataLength = rawData.length;
+		} else {
+			if (bodyBuffer == null) {
+				bodyBuffer = bodyBufferPool.acquire(request.getContentLength());
+				bodyBuffer.readFrom(this.request.getInputStream());
+			}
+			rawData = bodyBuffer.getBuffer();
+			rawDataLength = bodyBuffer.size();
+		}
 	}
 
 	/**
@@ -97,8 +213,20 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 	 */
 	private class ResettableServletInputStream extends ServletInputStream {
 
-		/** The stream. */
-		private InputStream stream;
+		/** Whether opened on the first read from the start of the data. */
+		private boolean opened;
+
+		/** The position of the next byte to read. */
+		private int pos;
+
+		/** The marked position. */
+		private int markPos;
+
+		/** Whether marked at the start of the data before opening the stream. */
+		private boolean markedAtStart;
+
+		/** Whether the first byte is read without opening the stream. */
+		private boolean firstBytePeeked;
 
 		/** The eof reached. */
 		private boolean eofReached;
@@ -106,15 +234,6 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 		/** The closed. */
 		private boolean closed;
 
-		/**
-		 * Instantiates a new resettable servlet input stream.
-		 *
-		 * @param stream the stream
-		 */
-		public ResettableServletInputStream(InputStream stream) {
-			this.stream = stream;
-		}
-
 		/**
 		 * Instantiates a new resettable servlet input stream.
 		 */
@@ -128,11 +247,112 @@ public class ResettableStreamHttpServletRequest extends HttpServletRequestWrappe
 		 */
 		@Override
 		public int read() throws IOException {
-			int val = stream.read();
-			if (val == -1) {
+			if (!opened && markedAtStart && !firstBytePeeked && rawData == null && bodyContext != null
+					&& bodyContext.getBody() != null && !bodyContext.isRawDataAvailable()) {
+				// Peeking whether the body is empty, such as by the message converters, is
+				// answered without serialising the replaced body, which is a JSON object
+				firstBytePeeked = true;
+				return '{';
+			}
+			openStream();
+			if (pos >= rawDataLength) {
 				eofReached = true;
+				return -1;
+			}
+			return rawData[pos++] & 0xff;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.io.InputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			Objects.checkFromIndexSize(off, len, b.length);
+			openStream();
+			if (pos >= rawDataLength) {
+				eofReached = true;
+				return -1;
+			}
+			int count = Math.min(len, rawDataLength - pos);
+			System.arraycopy(rawData, pos, b, off, count);
+			pos += count;
+			return count;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.io.InputStream#skip(long)
+		 */
+		@Override
+		public long skip(long n) throws IOException {
+			openStream();
+			int count = (int) Math.max(0, Math.min(n, rawDataLength - pos));
+			pos += count;
+			return count;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.io.InputStream#available()
+		 */
+		@Override
+		public int available() throws IOException {
+			return opened ? Math.max(rawDataLength - pos, 0) : 0;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.io.InputStream#markSupported()
+		 */
+		@Override
+		public boolean markSupported() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.io.InputStream#mark(int)
+		 */
+		@Override
+		public synchronized void mark(int readlimit) {
+			if (!opened) {
+				markedAtStart = true;
+			} else {
+				markedAtStart = false;
+				markPos = pos;
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.io.InputStream#reset()
+		 */
+		@Override
+		public synchronized void reset() throws IOException {
+			eofReached = false;
+			if (markedAtStart) {
+				opened = false;
+				firstBytePeeked = false;
+			} else if (opened) {
+				pos = markPos;
+			}
+		}
+
+		private void openStream() throws IOException {
+			if (!opened) {
+				readRawData();
+				pos = firstBytePeeked ? 1 : 0;
+				markPos = 0;
+				firstBytePeeked = false;
+				opened = true;
 			}
-			return val;
 		}
 
 		/*
@@ -0,0 +1,253 @@
+package io.mosip.authentication.common.service.helper;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_STAGE_METRICS_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_STAGE_METRICS_PERCENTILE_HISTOGRAM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The Class AuthStageMetrics - records the time taken by the stages of an auth
+ * request, such as the request body read, signature verification, decipher,
+ * partner policy resolution, identity fetch, auth type matching and response
+ * signing, as the timer {@value #METRIC_NAME} tagged by the stage, endpoint,
+ * partner and auth type.
+ * <p>
+ * The stages are collected in a context bound to the request thread from
+ * {@link #begin()} to {@link #end()}, and recorded at the end of the request,
+ * so that the stages timed before the partner or the auth types are known are
+ * tagged with them. A stage timed without a context is recorded immediately
+ * with the tags not known.
+ * <p>
+ * When disabled, {@link #start()} returns 0 without reading the clock and the
+ * other methods return without any allocation.
+ */
+@Component
+public class AuthStageMetrics {
+
+	public static final String BODY_READ = "body-read";
+
+	public static final String SIGNATURE_VERIFY = "signature-verify";
+
+	public static final String REQUEST_DECIPHER = "request-decipher";
+
+	public static final String BIO_SEGMENT_DECRYPT = "bio-segment-decrypt";
+
+	public static final String PARTNER_POLICY = "partner-policy";
+
+	public static final String IDENTITY_FETCH = "identity-fetch";
+
+	public static final String AUTH_FILTERS = "auth-filters";
+
+	public static final String AUTH_TYPE = "auth-type";
+
+	public static final String RESPONSE_SIGN = "response-sign";
+
+	public static final String TXN_STORE = "txn-store";
+
+	private static final String METRIC_NAME = "ida.auth.stage";
+
+	/** The tag value for the tags not known. */
+	private static final String NONE = "none";
+
+	private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+	@Value("${" + AUTH_STAGE_METRICS_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + AUTH_STAGE_METRICS_PERCENTILE_HISTOGRAM + ":false}")
+	private boolean percentileHistogram;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * Checks if the stages are timed.
+	 *
+	 * @return true, if enabled
+	 */
+	public boolean isEnabled() {
+		return enabled && meterRegistry != null;
+	}
+
+	/**
+	 * Begins the context of a request on the current thread.
+	 */
+	public void begin() {
+		if (isEnabled()) {
+			CONTEXT.set(new Context());
+		}
+	}
+
+	/**
+	 * Ends the context of the request on the current thread, recording the stages
+	 * timed in it.
+	 */
+	public void end() {
+		Context context = CONTEXT.get();
+		if (context == null) {
+			return;
+		}
+		CONTEXT.remove();
+		synchronized (context) {
+			for (Sample sample : context.samples) {
+				record(sample.stage, context.endpoint, context.partner,
+						sample.authType == null ? context.authType : sample.authType, sample.nanos);
+			}
+		}
+	}
+
+	/**
+	 * Gets the context of the request on the current thread, to time the stages
+	 * of the request run on other threads.
+	 *
+	 * @return the context, or null if none
+	 */
+	public Context getContext() {
+		return CONTEXT.get();
+	}
+
+	/**
+	 * Sets the endpoint of the request on the current thread.
+	 *
+	 * @param endpoint the endpoint
+	 */
+	public void setEndpoint(String endpoint) {
+		Context context = CONTEXT.get();
+		if (context != null && endpoint != null) {
+			context.endpoint = endpoint;
+		}
+	}
+
+	/**
+	 * Sets the partner of the request on the current thread.
+	 *
+	 * @param partner the partner id
+	 */
+	public void setPartner(String partner) {
+		Context context = CONTEXT.get();
+		if (context != null && partner != null) {
+			context.partner = partner;
+		}
+	}
+
+	/**
+	 * Sets the auth types of the request on the current thread.
+	 *
+	 * @param authType the auth types
+	 */
+	public void setAuthType(String authType) {
+		Context context = CONTEXT.get();
+		if (context != null && authType != null) {
+			context.authType = authType;
+		}
+	}
+
+	/**
+	 * Starts timing a stage.
+	 *
+	 * @return the start time in nanoseconds, or 0 if disabled
+	 */
+	public long start() {
+		return isEnabled() ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Stops timing a stage of the request on the current thread.
+	 *
+	 * @param stage      the stage
+	 * @param startNanos the start time returned by {@link #start()}
+	 */
+	public void stop(String stage, long startNanos) {
+		stop(CONTEXT.get(), stage, null, startNanos);
+	}
+
+	/**
+	 * Stops timing a stage of the request on the current thread, for the auth type
+	 * of the stage.
+	 *
+	 * @param stage      the stage
+	 * @param authType   the auth type of the stage
+	 * @param startNanos the start time returned by {@link #start()}
+	 */
+	public void stop(String stage, String authType, long startNanos) {
+		stop(CONTEXT.get(), stage, authType, startNanos);
+	}
+
+	/**
+	 * Stops timing a stage of the request of the context.
+	 *
+	 * @param context    the context of the request, or null if none
+	 * @param stage      the stage
+	 * @param startNanos the start time returned by {@link #start()}
+	 */
+	public void stop(Context context, String stage, long startNanos) {
+		stop(context, stage, null, startNanos);
+	}
+
+	private void stop(Context context, String stage, String authType, long startNanos) {
+		if (startNanos == 0L) {
+			return;
+		}
+		long nanos = System.nanoTime() - startNanos;
+		if (context == null) {
+			record(stage, NONE, NONE, authType == null ? NONE : authType, nanos);
+		} else {
+			synchronized (context) {
+				context.samples.add(new Sample(stage, authType, nanos));
+			}
+		}
+	}
+
+	private void record(String stage, String endpoint, String partner, String authType, long nanos) {
+		Timer.builder(METRIC_NAME)
+				.description("Time taken by the stages of the auth requests")
+				.tags("stage", stage, "endpoint", endpoint, "partner", partner, "authType", authType)
+				.publishPercentileHistogram(percentileHistogram)
+				.register(meterRegistry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * The context of a request, holding its tags and the stages timed in it.
+	 */
+	public static final class Context {
+
+		private volatile String endpoint = NONE;
+
+		private volatile String partner = NONE;
+
+		private volatile String authType = NONE;
+
+		private final List<Sample> samples = new ArrayList<>();
+
+		private Context() {
+		}
+	}
+
+	private static final class Sample {
+
+		private final String stage;
+
+		/** The auth type of the stage, or null for the auth types of the request. */
+		private final String authType;
+
+		private final long nanos;
+
+		private Sample(String stage, String authType, long nanos) {
+			this.stage = stage;
+			this.authType = authType;
+			this.nanos = nanos;
+		}
+	}
+
+}
@@ -6,6 +6,9 @@ package io.mosip.authentication.common.service.helper;
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.BIO_SUBTYPE_SEPARATOR;
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.BIO_TYPE_SEPARATOR;
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.LANG_CODE_SEPARATOR;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.DEMO_MATCHING_FAIL_FAST;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.DEMO_MATCHING_PARALLELISM;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.DEMO_MATCHING_PARALLEL_THRESHOLD;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDA_DEFAULT_IDENTITY_FILTER_ATTRIBUTES;
 
 import java.util.ArrayList;
@@ -19,12 +22,17 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -55,6 +63,7 @@ import io.mosip.authentication.core.spi.indauth.match.IdMapping;
 import io.mosip.authentication.core.spi.indauth.match.MatchInput;
 import io.mosip.authentication.core.spi.indauth.match.MatchOutput;
 import io.mosip.authentication.core.spi.indauth.match.MatchType;
+import io.mosip.authentication.core.spi.indauth.match.MatchType.Category;
 import io.mosip.authentication.core.spi.indauth.match.MatchingStrategy;
 import io.mosip.authentication.core.spi.indauth.match.MatchingStrategyType;
 import io.mosip.kernel.biometrics.constant.BiometricType;
@@ -63,6 +72,11 @@ import io.mosip.kernel.core.logger.spi.Logger;
 
 /**
  * Helper class to build Authentication request.
+ * <p>
+ * The demographic match inputs of a request, as many as the attributes in each
+ * language, can be matched in parallel in the shared demo match pool, and the
+ * matching can stop at the first demographic attribute mismatched, as all of
+ * them have to match.
  *
  * @author Dinesh Karuppiah.T
  */
@@ -93,6 +107,23 @@ public class IdInfoHelper {
 	@Autowired
 	private EnvUtil env;
 
+	/** The demo match pool. */
+	@Autowired(required = false)
+	@Qualifier("demoMatchPool")
+	private ForkJoinPool demoMatchPool;
+
+	/** The parallelism of the demographic matching, 0 to match in the request thread. */
+	@Value("${" + DEMO_MATCHING_PARALLELISM + ":0}")
+	private int demoMatchingParallelism;
+
+	/** The min count of the demographic match inputs to match in parallel. */
+	@Value("${" + DEMO_MATCHING_PARALLEL_THRESHOLD + ":8}")
+	private int demoMatchingParallelThreshold;
+
+	/** Whether to stop the demographic matching at the first mismatch. */
+	@Value("${" + DEMO_MATCHING_FAIL_FAST + ":false}")
+	private boolean demoMatchingFailFast;
+
 	/**
 	 * Get Authrequest Info.
 	 *
@@ -346,16 +377,115 @@ public class IdInfoHelper {
 	public List<MatchOutput> matchIdentityData(AuthRequestDTO authRequestDTO,
 			Map<String, List<IdentityInfoDTO>> identityEntity, Collection<MatchInput> listMatchInputs, String partnerId)
 			throws IdAuthenticationBusinessException {
+		boolean demoMatch = isDemoMatch(listMatchInputs);
+		if (demoMatch && demoMatchPool != null && demoMatchingParallelism > 0
+				&& listMatchInputs.size() >= demoMatchingParallelThreshold) {
+			return matchDemoDataInParallel(authRequestDTO, identityEntity, new ArrayList<>(listMatchInputs), partnerId);
+		}
+		boolean failFast = demoMatch && demoMatchingFailFast;
 		List<MatchOutput> matchOutputList = new ArrayList<>();
 		for (MatchInput matchInput : listMatchInputs) {
 			MatchOutput matchOutput = matchType(authRequestDTO, identityEntity, matchInput, partnerId);
 			if (matchOutput != null) {
 				matchOutputList.add(matchOutput);
+				if (failFast && !matchOutput.isMatched()) {
+					break;
+				}
+			}
+		}
+		return matchOutputList;
+	}
+
+	/**
+	 * Matches the demographic match inputs in the demo match pool, merging the
+	 * match outputs in the order of the inputs. When failing fast, the outputs
+	 * end at the first mismatch in that order, as in the request thread, and the
+	 * inputs after a mismatch are not matched.
+	 *
+	 * @param authRequestDTO the auth request DTO
+	 * @param identityEntity the id entity
+	 * @param matchInputs    the match inputs
+	 * @param partnerId      the partner id
+	 * @return the match outputs
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private List<MatchOutput> matchDemoDataInParallel(AuthRequestDTO authRequestDTO,
+			Map<String, List<IdentityInfoDTO>> identityEntity, List<MatchInput> matchInputs, String partnerId)
+			throws IdAuthenticationBusinessException {
+		AtomicInteger firstMismatchIndex = new AtomicInteger(Integer.MAX_VALUE);
+		List<ForkJoinTask<MatchOutput>> tasks = new ArrayList<>(matchInputs.size());
+		for (int i = 0; i < matchInputs.size(); i++) {
+			int index = i;
+			MatchInput matchInput = matchInputs.get(i);
+			tasks.add(demoMatchPool.submit(() -> {
+				if (index > firstMismatchIndex.get()) {
+					return null;
+				}
+				MatchOutput matchOutput = matchType(authRequestDTO, identityEntity, matchInput, partnerId);
+				if (demoMatchingFailFast && matchOutput != null && !matchOutput.isMatched()) {
+					firstMismatchIndex.accumulateAndGet(index, Math::min);
+				}
+				return matchOutput;
+			}));
+		}
+		List<MatchOutput> matchOutputList = new ArrayList<>();
+		try {
+			for (ForkJoinTask<MatchOutput> task : tasks) {
+				MatchOutput matchOutput = task.get();
+				if (matchOutput != null) {
+					matchOutputList.add(matchOutput);
+					if (demoMatchingFailFast && !matchOutput.isMatched()) {
+						break;
+					}
+				}
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		} catch (ExecutionException e) {
+			Optional<IdAuthenticationBusinessException> businessException = findBusinessException(e.getCause());
+			if (businessException.isPresent()) {
+				throw businessException.get();
+			}
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e.getCause());
+		} finally {
+			tasks.forEach(task -> task.cancel(false));
 		}
 		return matchOutputList;
 	}
 
+	/**
+	 * Finds the business exception thrown by a match task. The fork join pool
+	 * wraps the checked exceptions of a task in a runtime exception, which it may
+	 * wrap again when rethrowing it in another thread.
+	 *
+	 * @param throwable the cause of the execution exception
+	 * @return the business exception, if any
+	 */
+	private Optional<IdAuthenticationBusinessException> findBusinessException(Throwable throwable) {
+		for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+			if (cause instanceof IdAuthenticationBusinessException) {
+				return Optional.of((IdAuthenticationBusinessException) cause);
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Checks if all the match inputs are demographic.
+	 *
+	 * @param listMatchInputs the list match inputs
+	 * @return true, if demographic
+	 */
+	private boolean isDemoMatch(Collection<MatchInput> listMatchInputs) {
+		return !listMatchInputs.isEmpty() && listMatchInputs.stream()
+				.allMatch(matchInput -> matchInput.getMatchType().getCategory() == Category.DEMO);
+	}
+
 	/**
 	 * Match identity data.
 	 *
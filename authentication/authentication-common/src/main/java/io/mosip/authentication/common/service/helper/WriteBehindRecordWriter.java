@@ -0,0 +1,491 @@
+package io.mosip.authentication.common.service.helper;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.WRITE_BEHIND_BATCH_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.WRITE_BEHIND_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.WRITE_BEHIND_FLUSH_INTERVAL_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.WRITE_BEHIND_OFFER_TIMEOUT_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.WRITE_BEHIND_QUEUE_CAPACITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.WRITE_BEHIND_SPILL_FILE;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.mosip.authentication.common.service.entity.AnonymousProfileEntity;
+import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.impl.AuthTxnServiceImpl;
+import io.mosip.authentication.common.service.websub.impl.AuthTransactionStatusEventPublisher;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class WriteBehindRecordWriter - stores the auth transactions and the
+ * anonymous profiles of the auth requests behind the response, so that the
+ * requests do not wait for the database commits.
+ * <p>
+ * The records are queued in a bounded queue, drained by a single thread which
+ * inserts them in JDBC batches once the batch size is reached or the flush
+ * interval elapses. When the queue is full, the records are appended to the
+ * spill file if configured, or else the request waits for the offer timeout
+ * and then inserts its record itself. The spilled records, and the records
+ * failed to be inserted when the spill file is configured, are inserted from
+ * the spill file once the queue is drained, including after a restart. The
+ * queued records are flushed on shutdown, but are lost on a crash.
+ * <p>
+ * The auth transaction status event of an auth transaction is published once
+ * its row is inserted.
+ */
+@Component
+public class WriteBehindRecordWriter {
+
+	private static final Logger mosipLogger = IdaLogger.getLogger(WriteBehindRecordWriter.class);
+
+	private static final String METRIC_PREFIX = "ida.write.behind.";
+
+	private static final String INSERT_AUTN_TXN = "INSERT INTO ida.auth_transaction (id, request_dtimes, "
+			+ "response_dtimes, request_trn_id, auth_type_code, status_code, status_comment, lang_code, ref_id_type, "
+			+ "ref_id, static_tkn_id, cr_by, cr_dtimes, upd_by, upd_dtimes, is_deleted, del_dtimes, token_id, "
+			+ "requested_entity_type, requested_entity_id, requested_entity_name, request_signature, "
+			+ "response_signature) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String INSERT_ANONYMOUS_PROFILE = "INSERT INTO ida.anonymous_profile (id, profile, cr_by, "
+			+ "cr_dtimes, upd_by, upd_dtimes, is_deleted, del_dtimes) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String RECORD_TYPE = "type";
+
+	private static final String RECORD = "record";
+
+	private static final String REPLAY_FILE_SUFFIX = ".replay";
+
+	@Value("${" + WRITE_BEHIND_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + WRITE_BEHIND_QUEUE_CAPACITY + ":10000}")
+	private int queueCapacity;
+
+	@Value("${" + WRITE_BEHIND_BATCH_SIZE + ":100}")
+	private int batchSize;
+
+	@Value("${" + WRITE_BEHIND_FLUSH_INTERVAL_MILLIS + ":500}")
+	private long flushIntervalMillis;
+
+	@Value("${" + WRITE_BEHIND_OFFER_TIMEOUT_MILLIS + ":100}")
+	private long offerTimeoutMillis;
+
+	@Value("${" + WRITE_BEHIND_SPILL_FILE + ":}")
+	private String spillFile;
+
+	@Autowired
+	private DataSource dataSource;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/** The auth transaction status event publisher. */
+	@Autowired(required = false)
+	private AuthTransactionStatusEventPublisher authTransactionStatusEventPublisher;
+
+	/** The mapper of the spilled records, independent of the application mapper. */
+	private final ObjectMapper spillMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	private final Object spillLock = new Object();
+
+	private final AtomicLong writtenCount = new AtomicLong();
+
+	private final AtomicLong spilledCount = new AtomicLong();
+
+	private final AtomicLong failedCount = new AtomicLong();
+
+	private JdbcTemplate jdbcTemplate;
+
+	private BlockingQueue<Object> queue;
+
+	private Path spillPath;
+
+	private Thread batcher;
+
+	private volatile boolean running;
+
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			return;
+		}
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+		if (spillFile != null && !spillFile.trim().isEmpty()) {
+			spillPath = Paths.get(spillFile.trim());
+		}
+		if (meterRegistry != null) {
+			Gauge.builder(METRIC_PREFIX + "queued", queue, BlockingQueue::size)
+					.description("Auth records queued to be stored").register(meterRegistry);
+			FunctionCounter.builder(METRIC_PREFIX + "written", writtenCount, AtomicLong::get)
+					.description("Auth records stored").register(meterRegistry);
+			FunctionCounter.builder(METRIC_PREFIX + "spilled", spilledCount, AtomicLong::get)
+					.description("Auth records appended to the spill file").register(meterRegistry);
+			FunctionCounter.builder(METRIC_PREFIX + "failed", failedCount, AtomicLong::get)
+					.description("Auth records failed to be stored").register(meterRegistry);
+		}
+		running = true;
+		batcher = new Thread(this::drain, "idauth-write-behind");
+		batcher.setDaemon(true);
+		batcher.start();
+	}
+
+	/**
+	 * Stops the batcher, flushing the queued records.
+	 *
+	 * @throws InterruptedException the interrupted exception
+	 */
+	@PreDestroy
+	public void destroy() throws InterruptedException {
+		if (batcher == null) {
+			return;
+		}
+		running = false;
+		batcher.interrupt();
+		batcher.join(TimeUnit.SECONDS.toMillis(30));
+		// The records queued by the requests racing with the shutdown
+		List<Object> records = new ArrayList<>();
+		queue.drainTo(records);
+		if (!records.isEmpty()) {
+			flush(records);
+		}
+	}
+
+	/**
+	 * Checks if the records are written behind.
+	 *
+	 * @return true, if enabled
+	 */
+	public boolean isEnabled() {
+		return running;
+	}
+
+	/**
+	 * Queues the auth transaction to be stored.
+	 *
+	 * @param autnTxn the auth transaction
+	 */
+	public void write(AutnTxn autnTxn) {
+		enqueue(autnTxn);
+	}
+
+	/**
+	 * Queues the anonymous profile to be stored.
+	 *
+	 * @param anonymousProfile the anonymous profile
+	 */
+	public void write(AnonymousProfileEntity anonymousProfile) {
+		enqueue(anonymousProfile);
+	}
+
+	private void enqueue(Object record) {
+		if (queue.offer(record)) {
+			return;
+		}
+		if (spillPath != null) {
+			spill(Collections.singletonList(record));
+			return;
+		}
+		try {
+			if (queue.offer(record, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		// Backpressure - the request inserts its own record once the queue stays full
+		insert(Collections.singletonList(record));
+	}
+
+	private void drain() {
+		List<Object> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				Object first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					replaySpill();
+					continue;
+				}
+				batch.add(first);
+				long deadline = System.currentTimeMillis() + flushIntervalMillis;
+				while (batch.size() < batchSize) {
+					queue.drainTo(batch, batchSize - batch.size());
+					long remainingMillis = deadline - System.currentTimeMillis();
+					if (batch.size() >= batchSize || remainingMillis <= 0 || !running) {
+						break;
+					}
+					Object next = queue.poll(remainingMillis, TimeUnit.MILLISECONDS);
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+			} catch (InterruptedException e) {
+				// Stopping - the queued records are flushed before exiting
+			} catch (RuntimeException e) {
+				mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "drain",
+						ExceptionUtils.getStackTrace(e));
+			}
+			if (!batch.isEmpty()) {
+				flush(batch);
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * Inserts the records in batches, spilling the records failed to be inserted
+	 * when the spill file is configured.
+	 *
+	 * @param records the records
+	 * @return true, if all the records are inserted
+	 */
+	boolean flush(List<Object> records) {
+		List<Object> failedRecords = insert(records);
+		if (failedRecords.isEmpty()) {
+			return true;
+		}
+		if (spillPath != null) {
+			spill(failedRecords);
+		} else {
+			failedCount.addAndGet(failedRecords.size());
+		}
+		return false;
+	}
+
+	private List<Object> insert(List<Object> records) {
+		List<AutnTxn> autnTxns = new ArrayList<>();
+		List<AnonymousProfileEntity> anonymousProfiles = new ArrayList<>();
+		for (Object record : records) {
+			if (record instanceof AutnTxn) {
+				autnTxns.add((AutnTxn) record);
+			} else {
+				anonymousProfiles.add((AnonymousProfileEntity) record);
+			}
+		}
+		List<Object> failedRecords = new ArrayList<>();
+		failedRecords.addAll(insert(INSERT_AUTN_TXN, autnTxns, this::setAutnTxnValues, this::publishEvent));
+		failedRecords.addAll(insert(INSERT_ANONYMOUS_PROFILE, anonymousProfiles, this::setAnonymousProfileValues,
+				anonymousProfile -> {
+				}));
+		return failedRecords;
+	}
+
+	private <T> List<T> insert(String sql, List<T> records, ValuesSetter<T> valuesSetter, Consumer<T> onInserted) {
+		if (records.isEmpty()) {
+			return Collections.emptyList();
+		}
+		try {
+			jdbcTemplate.batchUpdate(sql, records, records.size(), valuesSetter::setValues);
+			writtenCount.addAndGet(records.size());
+			records.forEach(onInserted);
+			return Collections.emptyList();
+		} catch (DataAccessException e) {
+			mosipLogger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "insert",
+					"Batch insert failed, inserting the records one by one: " + e.getMessage());
+		}
+		// Insert one by one, so that a failed record (such as a duplicate on replay)
+		// does not fail the rest of the batch
+		List<T> failedRecords = new ArrayList<>();
+		for (T record : records) {
+			try {
+				jdbcTemplate.update(sql, ps -> valuesSetter.setValues(ps, record));
+				writtenCount.incrementAndGet();
+				onInserted.accept(record);
+			} catch (DataIntegrityViolationException e) {
+				failedCount.incrementAndGet();
+				mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "insert",
+						"Record rejected: " + e.getMessage());
+			} catch (DataAccessException e) {
+				failedRecords.add(record);
+				mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "insert",
+						ExceptionUtils.getStackTrace(e));
+			}
+		}
+		return failedRecords;
+	}
+
+	/**
+	 * Publishes the auth transaction status event of an auth transaction
+	 * inserted. A failure to publish does not fail the rest of the batch.
+	 */
+	private void publishEvent(AutnTxn autnTxn) {
+		if (authTransactionStatusEventPublisher == null) {
+			return;
+		}
+		try {
+			authTransactionStatusEventPublisher.publishEvent(AuthTxnServiceImpl.fetchAuthResponseDTO(autnTxn),
+					autnTxn.getId(), autnTxn.getCrDTimes());
+		} catch (RuntimeException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "publishEvent",
+					ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	private void setAutnTxnValues(PreparedStatement ps, AutnTxn autnTxn) throws SQLException {
+		ps.setString(1, autnTxn.getId());
+		ps.setTimestamp(2, toTimestamp(autnTxn.getRequestDTtimes()));
+		ps.setTimestamp(3, toTimestamp(autnTxn.getResponseDTimes()));
+		ps.setString(4, autnTxn.getRequestTrnId());
+		ps.setString(5, autnTxn.getAuthTypeCode());
+		ps.setString(6, autnTxn.getStatusCode());
+		ps.setString(7, autnTxn.getStatusComment());
+		ps.setString(8, autnTxn.getLangCode());
+		ps.setString(9, autnTxn.getRefIdType());
+		ps.setString(10, autnTxn.getRefId());
+		ps.setString(11, autnTxn.getAuthTknId());
+		ps.setString(12, autnTxn.getCrBy());
+		ps.setTimestamp(13, toTimestamp(autnTxn.getCrDTimes()));
+		ps.setString(14, autnTxn.getUpdBy());
+		ps.setTimestamp(15, toTimestamp(autnTxn.getUpdDTimes()));
+		ps.setBoolean(16, autnTxn.isDeleted());
+		ps.setTimestamp(17, toTimestamp(autnTxn.getDelDTimes()));
+		ps.setString(18, autnTxn.getToken());
+		ps.setString(19, autnTxn.getEntitytype());
+		ps.setString(20, autnTxn.getEntityId());
+		ps.setString(21, autnTxn.getEntityName());
+		ps.setString(22, autnTxn.getRequestSignature());
+		ps.setString(23, autnTxn.getResponseSignature());
+	}
+
+	private void setAnonymousProfileValues(PreparedStatement ps, AnonymousProfileEntity anonymousProfile)
+			throws SQLException {
+		ps.setString(1, anonymousProfile.getId());
+		ps.setString(2, anonymousProfile.getProfile());
+		ps.setString(3, anonymousProfile.getCrBy());
+		ps.setTimestamp(4, toTimestamp(anonymousProfile.getCrDTimes()));
+		ps.setString(5, anonymousProfile.getUpdBy());
+		ps.setTimestamp(6, toTimestamp(anonymousProfile.getUpdDTimes()));
+		ps.setBoolean(7, anonymousProfile.isDeleted());
+		ps.setTimestamp(8, toTimestamp(anonymousProfile.getDelDTimes()));
+	}
+
+	private static Timestamp toTimestamp(LocalDateTime dateTime) {
+		return dateTime == null ? null : Timestamp.valueOf(dateTime);
+	}
+
+	private void spill(List<Object> records) {
+		synchronized (spillLock) {
+			try (BufferedWriter writer = Files.newBufferedWriter(spillPath, StandardCharsets.UTF_8,
+					StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+				for (Object record : records) {
+					Map<String, Object> spilledRecord = new LinkedHashMap<>();
+					spilledRecord.put(RECORD_TYPE, record.getClass().getSimpleName());
+					spilledRecord.put(RECORD, record);
+					writer.write(spillMapper.writeValueAsString(spilledRecord));
+					writer.newLine();
+				}
+				spilledCount.addAndGet(records.size());
+			} catch (IOException e) {
+				failedCount.addAndGet(records.size());
+				mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "spill",
+						ExceptionUtils.getStackTrace(e));
+			}
+		}
+	}
+
+	/**
+	 * Inserts the records of the spill file, moving it aside first, so that the
+	 * records spilled meanwhile are appended to a new spill file. The moved file
+	 * is left in place if it cannot be read through, to be replayed again.
+	 */
+	void replaySpill() {
+		if (spillPath == null) {
+			return;
+		}
+		Path replayPath = Paths.get(spillPath.toString() + REPLAY_FILE_SUFFIX);
+		try {
+			synchronized (spillLock) {
+				if (!Files.exists(replayPath)) {
+					if (!Files.exists(spillPath) || Files.size(spillPath) == 0) {
+						return;
+					}
+					Files.move(spillPath, replayPath);
+				}
+			}
+			List<Object> batch = new ArrayList<>(batchSize);
+			try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (!line.trim().isEmpty()) {
+						readSpilledRecord(line, batch);
+					}
+					if (batch.size() >= batchSize) {
+						flush(batch);
+						batch.clear();
+					}
+				}
+			}
+			if (!batch.isEmpty()) {
+				flush(batch);
+			}
+			Files.delete(replayPath);
+		} catch (IOException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "replaySpill",
+					ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	private void readSpilledRecord(String line, List<Object> records) {
+		try {
+			JsonNode spilledRecord = spillMapper.readTree(line);
+			Class<?> recordType = AutnTxn.class.getSimpleName().equals(spilledRecord.path(RECORD_TYPE).asText())
+					? AutnTxn.class
+					: AnonymousProfileEntity.class;
+			records.add(spillMapper.treeToValue(spilledRecord.get(RECORD), recordType));
+		} catch (IOException e) {
+			// A partly written line, such as on a crash while spilling
+			failedCount.incrementAndGet();
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "readSpilledRecord",
+					"Invalid spilled record: " + e.getMessage());
+		}
+	}
+
+	@FunctionalInterface
+	private interface ValuesSetter<T> {
+		void setValues(PreparedStatement ps, T record) throws SQLException;
+	}
+
+}
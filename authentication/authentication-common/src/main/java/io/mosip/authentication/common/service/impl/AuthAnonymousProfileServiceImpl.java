@@ -34,6 +34,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mosip.authentication.common.service.entity.AnonymousProfileEntity;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
+import io.mosip.authentication.common.service.helper.WriteBehindRecordWriter;
 import io.mosip.authentication.common.service.impl.idevent.AnonymousAuthenticationProfile;
 import io.mosip.authentication.common.service.impl.idevent.BiometricProfileInfo;
 import io.mosip.authentication.common.service.impl.match.DemoMatchType;
@@ -74,6 +75,9 @@ public class AuthAnonymousProfileServiceImpl implements AuthAnonymousProfileServ
 	@Autowired
 	private AuthAnonymousProfileRepository authAnonymousProfileRepository;
 	
+	@Autowired
+	private WriteBehindRecordWriter writeBehindRecordWriter;
+	
 	@Value("${" + IdAuthConfigKeyConstants.DATE_TIME_PATTERN + "}")
 	private String dateTimePattern;
 	
@@ -112,8 +116,12 @@ public class AuthAnonymousProfileServiceImpl implements AuthAnonymousProfileServ
 			logger.error("Error saving anonymous profile. %s", ExceptionUtils.getStackTrace(e));
 		}
 		
-		authAnonymousProfileRepository.save(authAnonymousProfileEntity);
-		authAnonymousProfileRepository.flush();
+		if (writeBehindRecordWriter.isEnabled()) {
+			writeBehindRecordWriter.write(authAnonymousProfileEntity);
+		} else {
+			authAnonymousProfileRepository.save(authAnonymousProfileEntity);
+			authAnonymousProfileRepository.flush();
+		}
 	}
 
 	private AnonymousAuthenticationProfile createAnonymousProfile(Map<String, Object> requestBody,
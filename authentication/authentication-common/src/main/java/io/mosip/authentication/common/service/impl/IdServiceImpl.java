@@ -2,6 +2,7 @@ package io.mosip.authentication.common.service.impl;
 
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDA_AUTH_PARTNER_ID;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDA_ZERO_KNOWLEDGE_UNENCRYPTED_CREDENTIAL_ATTRIBUTES;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_CACHE_BIO_ATTRIBUTE_STORE_ENABLED;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -25,11 +26,15 @@ import org.springframework.transaction.TransactionException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.IdHashLookupFilter;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
+import io.mosip.authentication.common.service.helper.AuthStageMetrics;
 import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+import io.mosip.authentication.common.service.repository.IdentityBioDataRepository;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.common.service.util.IdentityDataCodec;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
@@ -53,6 +58,8 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 
 	private static final String ID_HASH = "ID_HASH";
 
+	private static final String TRANSACTION_LIMIT = "TRANSACTION_LIMIT";
+
 	private static final String BIOMETRICS = "biometrics";
 
 	private static final String DEMOGRAPHICS = "demographics";
@@ -67,15 +74,33 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	@Autowired
 	private ObjectMapper mapper;
 
+	@Autowired
+	private IdentityDataCodec identityDataCodec;
+
 	@Autowired
 	private IdentityCacheRepository identityRepo;
 
+	@Autowired
+	private IdentityBioDataRepository identityBioDataRepo;
+
 	@Autowired
 	private IdAuthSecurityManager securityManager;
 
+	@Autowired
+	private IdHashLookupFilter idHashLookupFilter;
+
+	@Autowired
+	private AuthStageMetrics authStageMetrics;
+
+	@Value("${" + IDENTITY_CACHE_BIO_ATTRIBUTE_STORE_ENABLED + ":false}")
+	private boolean bioAttributeStoreEnabled;
+
 	@Value("${" + IDA_ZERO_KNOWLEDGE_UNENCRYPTED_CREDENTIAL_ATTRIBUTES + ":#{null}" + "}")
 	private String zkUnEncryptedCredAttribs;
 
+	/** The attributes not to decrypt in lower case, parsed from {@link #zkUnEncryptedCredAttribs} on first use. */
+	private volatile Set<String> zkUnEncryptedAttributesInLowercase;
+
 	@Value("${"+ IDA_AUTH_PARTNER_ID  +"}")
 	private String authPartherId;
 
@@ -134,7 +159,7 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 			}
 
 			if(markVidConsumed) {
-				updateVIDstatus(idvId);
+				updateVIDstatus(getIdHash(idResDTO), (Integer) idResDTO.get(TRANSACTION_LIMIT));
 			}
 		}
 		return idResDTO;
@@ -182,11 +207,18 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	 * @throws IdAuthenticationBusinessException
 	 *             the id authentication business exception
 	 */
-	@SuppressWarnings("unchecked")
 	public Map<String, Object> getIdentity(String id, boolean isBio, IdType idType, Set<String> filterAttributes) throws IdAuthenticationBusinessException {
-		String hashedId;
+		long startNanos = authStageMetrics.start();
+		Map<String, Object> identity = fetchIdentity(id, isBio, idType, filterAttributes);
+		authStageMetrics.stop(AuthStageMetrics.IDENTITY_FETCH, startNanos);
+		return identity;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> fetchIdentity(String id, boolean isBio, IdType idType, Set<String> filterAttributes) throws IdAuthenticationBusinessException {
+		List<String> idHashes;
 		try {
-			hashedId = securityManager.hash(id);
+			idHashes = securityManager.getIdHashCandidates(id);
 		} catch (IdAuthenticationBusinessException e) {
 			throw new IdAuthenticationBusinessException(
 					IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorCode(),
@@ -194,9 +226,23 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 							idType.getType(), e));
 		}
 
+		if (idHashLookupFilter.isDefinitelyAbsent(idHashes)) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
+					"Id not found in ID hash filter");
+			throw new IdAuthenticationBusinessException(
+					IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorCode(),
+					String.format(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorMessage(),
+							idType.getType()));
+		}
+
 		try {
-			IdentityEntity entity = null;
-			if (!identityRepo.existsById(hashedId)) {
+			// Biometric attributes stored separately are fetched later, only for the requested attributes
+			boolean fetchBioDataColumn = isBio && !bioAttributeStoreEnabled;
+			// Existence check, hash resolution and data fetch are done with a single query
+			List<Object[]> identityRows = fetchBioDataColumn ? identityRepo.findDemoAndBioDataByIdIn(idHashes)
+					: identityRepo.findDemoDataByIdIn(idHashes);
+			Optional<Object[]> dataOpt = getPreferredIdentityRow(idHashes, identityRows);
+			if (dataOpt.isEmpty()) {
 				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
 						"Id not found in DB");
 				throw new IdAuthenticationBusinessException(
@@ -205,19 +251,19 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 								idType.getType()));
 			}
 
+			Object[] data = dataOpt.get();
+			String hashedId = String.valueOf(data[0]);
 			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
 					"Generated HASHID >> " + hashedId);
 
-			if (isBio) {
-				entity = identityRepo.getOne(hashedId);
-			} else {
-				Object[] data = identityRepo.findDemoDataById(hashedId).get(0);
-				entity = new IdentityEntity();
-				entity.setId(String.valueOf(data[0]));
-				entity.setDemographicData((byte[]) data[1]);
-				entity.setExpiryTimestamp(Objects.nonNull(data[2]) ? LocalDateTime.parse(String.valueOf(data[2])) : null);
-				entity.setTransactionLimit(Objects.nonNull(data[3]) ? Integer.parseInt(String.valueOf(data[3])) : null);
-				entity.setToken(String.valueOf(data[4]));
+			IdentityEntity entity = new IdentityEntity();
+			entity.setId(hashedId);
+			entity.setDemographicData((byte[]) data[1]);
+			entity.setExpiryTimestamp(Objects.nonNull(data[2]) ? LocalDateTime.parse(String.valueOf(data[2])) : null);
+			entity.setTransactionLimit(Objects.nonNull(data[3]) ? Integer.parseInt(String.valueOf(data[3])) : null);
+			entity.setToken(String.valueOf(data[4]));
+			if (fetchBioDataColumn) {
+				entity.setBiometricData((byte[]) data[5]);
 			}
 
 			if (Objects.nonNull(entity.getExpiryTimestamp())
@@ -235,28 +281,36 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 
 			Map<String, Object> responseMap = new LinkedHashMap<>();
 
-			Map<String, String> demoDataMap = mapper.readValue(entity.getDemographicData(), Map.class);
 			Set<String> filterAttributesInLowercase = filterAttributes.isEmpty() ? Set.of()
 					: filterAttributes.stream().map(String::toLowerCase).collect(Collectors.toSet());
 
 			if (!filterAttributesInLowercase.isEmpty()) {
-				Map<String, String> demoDataMapPostFilter = demoDataMap.entrySet().stream()
-						.filter(demo -> filterAttributesInLowercase.contains(demo.getKey().toLowerCase()))
-						.collect(Collectors.toMap(Entry::getKey, Entry::getValue));
-				responseMap.put(DEMOGRAPHICS, decryptConfiguredAttributes(id, demoDataMapPostFilter));
-			}
+				Map<String, Object> demoDataMapPostFilter = identityDataCodec.decode(entity.getDemographicData(),
+						filterAttributesInLowercase);
+				Map<String, Object> bioDataMapPostFilter = null;
+				if (isBio && bioAttributeStoreEnabled) {
+					bioDataMapPostFilter = getBioAttributes(hashedId, filterAttributesInLowercase);
+				} else if (entity.getBiometricData() != null) {
+					bioDataMapPostFilter = identityDataCodec.decode(entity.getBiometricData(),
+							filterAttributesInLowercase);
+				}
 
-			if (entity.getBiometricData() != null) {
-				Map<String, String> bioDataMap = mapper.readValue(entity.getBiometricData(), Map.class);
-				if (!filterAttributesInLowercase.isEmpty()) {
-					Map<String, String> bioDataMapPostFilter = bioDataMap.entrySet().stream()
-							.filter(bio -> filterAttributesInLowercase.contains(bio.getKey().toLowerCase()))
-							.collect(Collectors.toMap(Entry::getKey, Entry::getValue));
-					responseMap.put(BIOMETRICS, decryptConfiguredAttributes(id, bioDataMapPostFilter));
+				if (bioDataMapPostFilter == null) {
+					responseMap.put(DEMOGRAPHICS, decryptConfiguredAttributes(id, demoDataMapPostFilter));
+				} else {
+					// Demographic and biometric attributes are disjoint, hence decrypted together
+					Map<String, Object> dataMapPostFilter = new LinkedHashMap<>(demoDataMapPostFilter);
+					dataMapPostFilter.putAll(bioDataMapPostFilter);
+					Map<String, Object> decryptedData = decryptConfiguredAttributes(id, dataMapPostFilter);
+					responseMap.put(DEMOGRAPHICS, selectAttributes(decryptedData, demoDataMapPostFilter.keySet()));
+					responseMap.put(BIOMETRICS, selectAttributes(decryptedData, bioDataMapPostFilter.keySet()));
 				}
 			}
 			responseMap.put(TOKEN, entity.getToken());
 			responseMap.put(ID_HASH, hashedId);
+			if (Objects.nonNull(entity.getTransactionLimit())) {
+				responseMap.put(TRANSACTION_LIMIT, entity.getTransactionLimit());
+			}
 			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
 					"TOKEN in responseMap >> " + entity.getToken());
 			return responseMap;
@@ -267,6 +321,49 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 		}
 	}
 
+	/**
+	 * Gets the requested biometric attributes stored in identity_bio_data table.
+	 * Falls back to the bio_data column for the records stored before the
+	 * biometric attributes were stored separately.
+	 *
+	 * @param idHash the id hash
+	 * @param filterAttributesInLowercase the requested attributes in lower case
+	 * @return the biometric attributes map
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private Map<String, Object> getBioAttributes(String idHash, Set<String> filterAttributesInLowercase)
+			throws IOException {
+		List<Object[]> bioRows = identityBioDataRepo.findBioValuesByIdHashAndBioAttributeIn(idHash,
+				filterAttributesInLowercase);
+		Map<String, Object> bioDataMap = new LinkedHashMap<>();
+		if (!bioRows.isEmpty()) {
+			for (Object[] bioRow : bioRows) {
+				bioDataMap.put(String.valueOf(bioRow[0]), mapper.readValue((byte[]) bioRow[1], String.class));
+			}
+			return bioDataMap;
+		}
+
+		List<byte[]> bioData = identityRepo.findBioDataById(idHash);
+		if (!bioData.isEmpty() && bioData.get(0) != null) {
+			bioDataMap.putAll(identityDataCodec.decode(bioData.get(0), filterAttributesInLowercase));
+		}
+		return bioDataMap;
+	}
+
+	/**
+	 * Gets the identity row of the most preferred id hash among the rows fetched
+	 * for the id hash candidates.
+	 *
+	 * @param idHashes the id hash candidates in the order of preference
+	 * @param identityRows the identity rows having the id hash as first column
+	 * @return the preferred identity row
+	 */
+	private Optional<Object[]> getPreferredIdentityRow(List<String> idHashes, List<Object[]> identityRows) {
+		return idHashes.stream()
+				.flatMap(idHash -> identityRows.stream().filter(row -> idHash.equals(String.valueOf(row[0]))))
+				.findFirst();
+	}
+
 	/**
 	 * Decrypt the attributes as per configuration.
 	 * @param id
@@ -274,41 +371,89 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	 * @return
 	 * @throws IdAuthenticationBusinessException
 	 */
-	private Map<String, Object> decryptConfiguredAttributes(String id, Map<String, String> dataMap) throws IdAuthenticationBusinessException {
-		List<String> zkUnEncryptedAttributes = getZkUnEncryptedAttributes()
-				.stream().map(String::toLowerCase).collect(Collectors.toList());
-		Map<Boolean, Map<String, String>> partitionedMap = dataMap.entrySet()
-				.stream()
-				.collect(Collectors.partitioningBy(entry ->
-								!zkUnEncryptedAttributes.contains(entry.getKey().toLowerCase()),
-						Collectors.toMap(Entry::getKey, Entry::getValue)));
-		Map<String, String> dataToDecrypt = partitionedMap.get(true);
-		Map<String, String> plainData = partitionedMap.get(false);
-		Map<String, String> decryptedData = dataToDecrypt.isEmpty() ? Map.of()
-				: securityManager.zkDecrypt(id, dataToDecrypt);
-		Map<String, String> finalDataStr = new LinkedHashMap<>();
-		finalDataStr.putAll(plainData);
-		finalDataStr.putAll(decryptedData);
-		return finalDataStr.entrySet().stream().collect(Collectors.toMap(entry -> (String) entry.getKey(),
-				entry -> {
-					Object valObject = entry.getValue();
-					if (valObject instanceof String) {
-						String val = (String) valObject;
-						if (val.trim().startsWith("[") || val.trim().startsWith("{")) {
-							try {
-								return mapper.readValue(val.getBytes(), Object.class);
-							} catch (IOException e) {
-								logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(),
-										"decryptConfiguredAttributes", ExceptionUtils.getStackTrace(e));
-								return val;
-							}
-						} else {
-							return val;
-						}
-					} else {
-						return valObject;
-					}
-				}));
+	private Map<String, Object> decryptConfiguredAttributes(String id, Map<String, Object> dataMap) throws IdAuthenticationBusinessException {
+		Set<String> zkUnEncryptedAttributes = getZkUnEncryptedAttributesInLowercase();
+		Map<String, Object> finalData = new LinkedHashMap<>();
+		Map<String, String> dataToDecrypt = new LinkedHashMap<>();
+		for (Entry<String, Object> entry : dataMap.entrySet()) {
+			if (zkUnEncryptedAttributes.contains(entry.getKey().toLowerCase())) {
+				finalData.put(entry.getKey(), toTypedValue(entry.getValue()));
+			} else {
+				dataToDecrypt.put(entry.getKey(), (String) entry.getValue());
+			}
+		}
+		if (!dataToDecrypt.isEmpty()) {
+			for (Entry<String, String> entry : securityManager.zkDecrypt(id, dataToDecrypt).entrySet()) {
+				finalData.put(entry.getKey(), toTypedValue(entry.getValue()));
+			}
+		}
+		return finalData;
+	}
+
+	/**
+	 * Selects the attributes from the decrypted attributes in the given order.
+	 *
+	 * @param decryptedData the decrypted attributes
+	 * @param attributes the attributes to select
+	 * @return the selected attributes
+	 */
+	private Map<String, Object> selectAttributes(Map<String, Object> decryptedData, Set<String> attributes) {
+		Map<String, Object> selectedData = new LinkedHashMap<>();
+		for (String attribute : attributes) {
+			if (decryptedData.containsKey(attribute)) {
+				selectedData.put(attribute, decryptedData.get(attribute));
+			}
+		}
+		return selectedData;
+	}
+
+	/**
+	 * Converts the attribute value holding a JSON array or object into the
+	 * parsed value.
+	 *
+	 * @param value the value
+	 * @return the typed value
+	 */
+	private Object toTypedValue(Object value) {
+		if (value instanceof String) {
+			String val = (String) value;
+			char firstChar = firstNonWhitespaceChar(val);
+			if (firstChar == '[' || firstChar == '{') {
+				try {
+					return mapper.readValue(val, Object.class);
+				} catch (IOException e) {
+					logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(),
+							"decryptConfiguredAttributes", ExceptionUtils.getStackTrace(e));
+				}
+			}
+		}
+		return value;
+	}
+
+	private char firstNonWhitespaceChar(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				return c;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Gets the attributes not to decrypt in lower case, parsed once from the
+	 * config.
+	 *
+	 * @return the attributes not to decrypt
+	 */
+	private Set<String> getZkUnEncryptedAttributesInLowercase() {
+		Set<String> attributes = zkUnEncryptedAttributesInLowercase;
+		if (attributes == null) {
+			attributes = getZkUnEncryptedAttributes().stream().map(String::toLowerCase)
+					.collect(Collectors.toUnmodifiableSet());
+			zkUnEncryptedAttributesInLowercase = attributes;
+		}
+		return attributes;
 	}
 
 	/**
@@ -323,41 +468,42 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	}
 
 	/**
-	 * Update VID dstatus.
+	 * Update VID dstatus. The transaction limit is decremented with a conditional
+	 * update, and the record is deleted with a conditional delete by its last
+	 * transaction, hence a transaction of a temporary VID used concurrently is
+	 * counted only once and no more than the limit are allowed.
 	 *
 	 * @param vid
-	 *            the vid
+	 *            the hash of the vid resolved while fetching the identity
+	 * @param transactionLimit
+	 *            the transaction limit read while fetching the identity
 	 * @throws IdAuthenticationBusinessException
 	 *             the id authentication business exception
 	 */
-	private void updateVIDstatus(String vid) throws IdAuthenticationBusinessException {
+	private void updateVIDstatus(String vid, Integer transactionLimit) throws IdAuthenticationBusinessException {
+		// Assumption : If transactionLimit is null, id is considered as Perpetual VID
+		// If transactionLimit is nonNull, id is considered as Temporary VID
+		if (Objects.isNull(transactionLimit)) {
+			return;
+		}
 		try {
-			vid = securityManager.hash(vid);
-			// Assumption : If transactionLimit is null, id is considered as Perpetual VID
-			// If transactionLimit is nonNull, id is considered as Temporary VID
-
-			//get entity
-			Optional<IdentityEntity> entityOpt = identityRepo.findById(vid);
-			if(entityOpt.isPresent()) {
-				IdentityEntity entity =entityOpt.get();
-				Integer transactionLimit = entity.getTransactionLimit();
-				if (identityRepo.existsById(vid)
-						&& Objects.nonNull(transactionLimit)){
-					int newTransactionLimit = transactionLimit-1;
-					if (newTransactionLimit>0) {
-						entity.setTransactionLimit(newTransactionLimit);
-						identityRepo.save(entity);
-					} else {
-						identityRepo.deleteById(vid);
-					}
-				}
+			// The limit read could have been decremented by a concurrent transaction, hence
+			// the last transaction is tried on the record if the decrement did not apply
+			if (transactionLimit > 1 && identityRepo.decrementTransactionLimit(vid) > 0) {
+				return;
+			}
+			if (identityRepo.deleteByIdIfLastTransaction(vid) > 0) {
+				idHashLookupFilter.remove(vid);
+				return;
 			}
-
 		} catch (DataAccessException | TransactionException | JDBCConnectionException e) {
 			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
 					ExceptionUtils.getStackTrace(e));
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
 		}
+		logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "updateVIDstatus",
+				"Transaction limit of VID is already consumed by concurrent transactions");
+		throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_VID);
 	}
 
 	@Override
@@ -375,21 +521,22 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	@Override
 	public void checkIdKeyBindingPermitted(String idvId, String idvIdType) throws IdAuthenticationBusinessException {
 		try {
-			String idVidHash = securityManager.hash(idvId);
-			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "checkIdKeyBindingPermitted",
-						"Checking Id Key Binding Permitted or not. IdVidHash: " + idVidHash);
+			List<String> idVidHashes = securityManager.getIdHashCandidates(idvId);
 			// Assumption : If transactionLimit is null, id is considered as Perpetual VID
 			// If transactionLimit is nonNull, id is considered as Temporary VID
 			// Duplicated identity data fetching from DB, because to avoid lot of if else conditions needs to be added in 
 			// above getIdentity method. Above getIdentity method also includes data decryption logic. 
-			List<Object[]> entityObjList = identityRepo.findTransactionLimitById(idVidHash);
-			if(entityObjList.size() == 0) {
+			Optional<Object[]> entityObjsOpt = getPreferredIdentityRow(idVidHashes,
+					identityRepo.findTransactionLimitByIdIn(idVidHashes));
+			if(entityObjsOpt.isEmpty()) {
 				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "checkIdKeyBindingPermitted",
 						"Id not found in DB");
 				throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorCode(),
 						String.format(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorMessage()));
 			}
-			Object[] entityObjs = entityObjList.get(0);
+			Object[] entityObjs = entityObjsOpt.get();
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "checkIdKeyBindingPermitted",
+						"Checking Id Key Binding Permitted or not. IdVidHash: " + entityObjs[0]);
 			
 			LocalDateTime expiryTimestamp = Objects.nonNull(entityObjs[1]) ? LocalDateTime.parse(String.valueOf(entityObjs[1])) : null;
 
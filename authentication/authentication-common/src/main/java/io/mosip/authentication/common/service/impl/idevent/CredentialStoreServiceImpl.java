@@ -5,10 +5,12 @@ import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.CRE
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.CREDENTIAL_STORE_RETRY_BACKOFF_EXPONENTIAL_MULTIPLIER;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.CREDENTIAL_STORE_RETRY_BACKOFF_INTERVAL_MILLISECS;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.CREDENTIAL_STORE_RETRY_MAX_LIMIT;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_CACHE_BIO_ATTRIBUTE_STORE_ENABLED;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -27,17 +29,22 @@ import org.springframework.util.Assert;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.IdHashLookupFilter;
+import io.mosip.authentication.common.service.cache.IdHashSaltRegistry;
 import io.mosip.authentication.common.service.entity.CredentialEventStore;
 import io.mosip.authentication.common.service.entity.IdaUinHashSalt;
+import io.mosip.authentication.common.service.entity.IdentityBioData;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
 import io.mosip.authentication.common.service.helper.AuditHelper;
 import io.mosip.authentication.common.service.integration.CredentialRequestManager;
 import io.mosip.authentication.common.service.integration.DataShareManager;
 import io.mosip.authentication.common.service.repository.CredentialEventStoreRepository;
 import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+import io.mosip.authentication.common.service.repository.IdentityBioDataRepository;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.spi.idevent.CredentialStoreService;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.common.service.util.IdentityDataCodec;
 import io.mosip.authentication.common.service.websub.impl.CredentialStoreStatusEventPublisher;
 import io.mosip.authentication.core.constant.AuditEvents;
 import io.mosip.authentication.core.constant.AuditModules;
@@ -102,6 +109,14 @@ public class CredentialStoreServiceImpl implements CredentialStoreService {
 	@Autowired
 	private IdentityCacheRepository identityCacheRepo;
 
+	/** The identity bio data repo. */
+	@Autowired
+	private IdentityBioDataRepository identityBioDataRepo;
+
+	/** The flag to store each biometric attribute in identity_bio_data table instead of the bio_data column. */
+	@Value("${" + IDENTITY_CACHE_BIO_ATTRIBUTE_STORE_ENABLED + ":false}")
+	private boolean bioAttributeStoreEnabled;
+
 	/** The audit helper. */
 	@Autowired
 	private AuditHelper auditHelper;
@@ -114,10 +129,22 @@ public class CredentialStoreServiceImpl implements CredentialStoreService {
 	@Autowired
 	private IdaUinHashSaltRepo uinHashSaltRepo;
 
+	/** The id hash salt registry. */
+	@Autowired
+	private IdHashSaltRegistry saltRegistry;
+
+	/** The id hash lookup filter. */
+	@Autowired
+	private IdHashLookupFilter idHashLookupFilter;
+
 	/** The object mapper. */
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	/** The identity data codec. */
+	@Autowired
+	private IdentityDataCodec identityDataCodec;
+
 	/** The security manager. */
 	@Autowired
 	private IdAuthSecurityManager securityManager;
@@ -394,8 +421,9 @@ public class CredentialStoreServiceImpl implements CredentialStoreService {
 		Map<String, Object>[] demoBioData = splitDemoBioData(
 				(Map<String, Object>) credentialData.get(IdAuthCommonConstants.CREDENTIAL_SUBJECT));
 		try {
-			byte[] demoBytes = objectMapper.writeValueAsBytes(demoBioData[0]);
-			byte[] bioBytes = objectMapper.writeValueAsBytes(demoBioData[1]);
+			byte[] demoBytes = identityDataCodec.encode(demoBioData[0]);
+			// When biometric attributes are stored separately, bio_data column is left with an empty map
+			byte[] bioBytes = identityDataCodec.encode(bioAttributeStoreEnabled ? Map.of() : demoBioData[1]);
 
 			IdentityEntity identityEntity = new IdentityEntity();
 			Optional<IdentityEntity> identityEntityOpt = identityCacheRepo.findById(idHash);
@@ -416,6 +444,9 @@ public class CredentialStoreServiceImpl implements CredentialStoreService {
 
 			identityEntity.setDemographicData(demoBytes);
 			identityEntity.setBiometricData(bioBytes);
+			if (bioAttributeStoreEnabled) {
+				identityEntity.setBioAttributes(createBioAttributes(idHash, demoBioData[1]));
+			}
 			return identityEntity;
 		} catch (ClassCastException | JsonProcessingException e) {
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
@@ -428,8 +459,48 @@ public class CredentialStoreServiceImpl implements CredentialStoreService {
 	 * @param idEntities the id entities
 	 */
 	@Override
+	@Transactional
 	public void storeIdentityEntity(List<? extends IdentityEntity> idEntities) {
 		identityCacheRepo.saveAll(idEntities);
+		idHashLookupFilter.put(idEntities.stream().map(IdentityEntity::getId).collect(Collectors.toList()));
+		List<String> idHashes = idEntities.stream()
+				.filter(entity -> entity.getBioAttributes() != null)
+				.map(IdentityEntity::getId)
+				.collect(Collectors.toList());
+		if (!idHashes.isEmpty()) {
+			// Biometric attributes are replaced as a whole as the credential may not have all the earlier attributes
+			identityBioDataRepo.deleteByIdHashIn(idHashes);
+			identityBioDataRepo.saveAll(idEntities.stream()
+					.filter(entity -> entity.getBioAttributes() != null)
+					.flatMap(entity -> entity.getBioAttributes().stream())
+					.collect(Collectors.toList()));
+		}
+	}
+
+	/**
+	 * Creates the biometric attribute records to be stored in identity_bio_data
+	 * table.
+	 *
+	 * @param idHash  the id hash
+	 * @param bioData the bio data
+	 * @return the list of biometric attribute records
+	 * @throws JsonProcessingException the json processing exception
+	 */
+	private List<IdentityBioData> createBioAttributes(String idHash, Map<String, Object> bioData)
+			throws JsonProcessingException {
+		LocalDateTime crDTimes = DateUtils.getUTCCurrentDateTime();
+		List<IdentityBioData> bioAttributes = new ArrayList<>(bioData.size());
+		for (Entry<String, Object> entry : bioData.entrySet()) {
+			IdentityBioData bioAttribute = new IdentityBioData();
+			bioAttribute.setIdHash(idHash);
+			bioAttribute.setBioAttribute(entry.getKey().toLowerCase());
+			bioAttribute.setAttributeName(entry.getKey());
+			bioAttribute.setBioValue(objectMapper.writeValueAsBytes(entry.getValue()));
+			bioAttribute.setCrBy(IDA);
+			bioAttribute.setCrDTimes(crDTimes);
+			bioAttributes.add(bioAttribute);
+		}
+		return bioAttributes;
 	}
 
 	/**
@@ -467,6 +538,7 @@ public class CredentialStoreServiceImpl implements CredentialStoreService {
 			saltEntity.setCreatedBy(IDA);
 			saltEntity.setCreatedDTimes(DateUtils.getUTCCurrentDateTime());
 			uinHashSaltRepo.save(saltEntity);
+			saltRegistry.putSalt(saltModulo, salt);
 		}
 	}
 	
@@ -9,6 +9,7 @@ import javax.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import io.mosip.authentication.common.service.cache.IdHashLookupFilter;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
 import io.mosip.authentication.common.service.helper.AuditHelper;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
@@ -68,6 +69,10 @@ public class IdChangeEventHandlerServiceImpl implements IdChangeEventHandlerServ
 	/** The identity cache repo. */
 	@Autowired
 	private IdentityCacheRepository identityCacheRepo;
+
+	/** The id hash lookup filter. */
+	@Autowired
+	private IdHashLookupFilter idHashLookupFilter;
 	
 	/** The audit helper. */
 	@Autowired
@@ -186,6 +191,7 @@ public class IdChangeEventHandlerServiceImpl implements IdChangeEventHandlerServ
 		Optional<IdentityEntity> identityEntityOpt = identityCacheRepo.findById(idHash);
 		if(identityEntityOpt.isPresent()) {
 			identityCacheRepo.delete(identityEntityOpt.get());
+			idHashLookupFilter.remove(idHash);
 		}
 	}
 	
@@ -21,6 +21,7 @@ public enum AddressMatchingStrategy implements TextMatchingStrategy {
 				entityInfo, 
 				props,
 				FullAddressMatchingStrategy::normalizeText,
+				FullAddressMatchingStrategy::normalizeStoredText,
 				getDemoMatcherUtilObject(props)::doExactMatch);
 	});
 
@@ -32,12 +32,14 @@ public enum DynamicDemoAttributeMatchingStrategy implements TextMatchingStrategy
 							entityInfo, 
 							props,
 							NameMatchingStrategy::normalizeText,
+							NameMatchingStrategy::normalizeStoredText,
 							demoMatcherUtilObject::doExactMatch);
 				} else if(isFullAddressAttribute(idName, mappingConfig)) {
 					return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 							entityInfo, 
 							props,
 							FullAddressMatchingStrategy::normalizeText,
+							FullAddressMatchingStrategy::normalizeStoredText,
 							demoMatcherUtilObject::doExactMatch);
 				}
 			}
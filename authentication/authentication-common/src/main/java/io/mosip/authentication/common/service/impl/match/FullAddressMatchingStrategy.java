@@ -24,6 +24,7 @@ public enum FullAddressMatchingStrategy implements TextMatchingStrategy {
 				entityInfo, 
 				props,
 				FullAddressMatchingStrategy::normalizeText,
+				FullAddressMatchingStrategy::normalizeStoredText,
 				getDemoMatcherUtilObject(props)::doExactMatch);
 
 	}), PARTIAL(MatchingStrategyType.PARTIAL, (Object reqInfo, Object entityInfo, Map<String, Object> props) -> {
@@ -31,12 +32,14 @@ public enum FullAddressMatchingStrategy implements TextMatchingStrategy {
 				entityInfo, 
 				props,
 				FullAddressMatchingStrategy::normalizeText,
+				FullAddressMatchingStrategy::normalizeStoredText,
 				getDemoMatcherUtilObject(props)::doPartialMatch);
 	}), PHONETICS(MatchingStrategyType.PHONETICS, (Object reqInfo, Object entityInfo, Map<String, Object> props) -> {
 		return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 				entityInfo,
 				props,
 				FullAddressMatchingStrategy::normalizeText,
+				FullAddressMatchingStrategy::normalizeStoredText,
 				(refInfoName, entityInfoName) -> {
 					String language = (String) props.get("language");
 					return getDemoMatcherUtilObject(props).doPhoneticsMatch(refInfoName, entityInfoName, language);
@@ -72,6 +75,14 @@ public enum FullAddressMatchingStrategy implements TextMatchingStrategy {
 		return demoNormalizer.normalizeAddress(inputText, langCode);
 	}
 	
+	/**
+	 * Normalizes the stored text, using the normalized stored values cached.
+	 */
+	public static String normalizeStoredText(DemoNormalizer demoNormalizer, String storedText, String langCode,
+			Map<String, Object> properties) {
+		return demoNormalizer.normalizeStoredAddress(storedText, langCode);
+	}
+
 	/**
 	 * Gets the demoMatcherUtil object
 	 * @param props
@@ -23,6 +23,7 @@ public enum NameMatchingStrategy implements TextMatchingStrategy {
 				entityInfo, 
 				props,
 				NameMatchingStrategy::normalizeText,
+				NameMatchingStrategy::normalizeStoredText,
 				getDemoMatcherUtilObject(props)::doExactMatch);
 
 	}), PARTIAL(MatchingStrategyType.PARTIAL, (Object reqInfo, Object entityInfo, Map<String, Object> props) -> {
@@ -30,12 +31,14 @@ public enum NameMatchingStrategy implements TextMatchingStrategy {
 				entityInfo, 
 				props,
 				NameMatchingStrategy::normalizeText,
+				NameMatchingStrategy::normalizeStoredText,
 				getDemoMatcherUtilObject(props)::doPartialMatch);
 	}), PHONETICS(MatchingStrategyType.PHONETICS, (Object reqInfo, Object entityInfo, Map<String, Object> props) -> {
 		return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 				entityInfo,
 				props,
 				NameMatchingStrategy::normalizeText,
+				NameMatchingStrategy::normalizeStoredText,
 				(refInfoName, entityInfoName) -> {
 					String language = (String) props.get("language");
 					return getDemoMatcherUtilObject(props).doPhoneticsMatch(refInfoName, entityInfoName, language);
@@ -72,6 +75,14 @@ public enum NameMatchingStrategy implements TextMatchingStrategy {
 		return demoNormalizer.normalizeName(inputText, langCode, (MasterDataFetcher) properties.get("titlesFetcher"));
 	}
 
+	/**
+	 * Normalizes the stored text, using the normalized stored values cached.
+	 */
+	public static String normalizeStoredText(DemoNormalizer demoNormalizer, String storedText, String langCode,
+			Map<String, Object> properties) throws IdAuthenticationBusinessException {
+		return demoNormalizer.normalizeStoredName(storedText, langCode, (MasterDataFetcher) properties.get("titlesFetcher"));
+	}
+
 	/**
 	 * Gets the demoMatcherUtil object
 	 * @param props
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.mosip.authentication.common.service.cache.VerifiedCertificateCache;
 import io.mosip.authentication.common.service.integration.DataShareManager;
 import io.mosip.authentication.common.service.spi.websub.PartnerCACertEventService;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
@@ -43,6 +44,10 @@ public class PartnerCACertEventServiceImpl implements PartnerCACertEventService
 	@Autowired
 	private PartnerCertificateManagerService partnerCertManager;
 	
+	/** The verified certificate cache. */
+	@Autowired
+	private VerifiedCertificateCache verifiedCertificateCache;
+	
 	/** The decrypt ca cert from data share. */
 	@Value("${ida-decrypt-ca-cert-data-share-content:false}")
 	private boolean decryptCaCertFromDataShare;
@@ -59,15 +64,17 @@ public class PartnerCACertEventServiceImpl implements PartnerCACertEventService
 			throws RestServiceException, IdAuthenticationBusinessException {
 		Map<String, Object> data = eventModel.getEvent().getData();
 		CACertificateRequestDto caCertRequestDto = new CACertificateRequestDto();
+		String partnerDomain = null;
 		if (data.containsKey(CERTIFICATE_DATA_SHARE_URL) && data.get(CERTIFICATE_DATA_SHARE_URL) instanceof String) {
 			String certificateDataShareUrl = (String) data.get(CERTIFICATE_DATA_SHARE_URL);
 			caCertRequestDto.setCertificateData(downloadCertificate(certificateDataShareUrl));
 		}
 		if (data.containsKey(PARTNER_DOMAIN) && data.get(PARTNER_DOMAIN) instanceof String) {
-			String partnerDomain = (String) data.get(PARTNER_DOMAIN);
+			partnerDomain = (String) data.get(PARTNER_DOMAIN);
 			caCertRequestDto.setPartnerDomain(partnerDomain);
 		}
 		partnerCertManager.uploadCACertificate(caCertRequestDto);
+		verifiedCertificateCache.invalidate(partnerDomain);
 	}
 
 	/**
@@ -94,12 +101,21 @@ public class PartnerCACertEventServiceImpl implements PartnerCACertEventService
 		}
 	}
 
+	/**
+	 * Evict CA cert cache, along with the certificates verified as trusted for
+	 * the partner domain.
+	 *
+	 * @param eventModel the event model
+	 * @throws RestServiceException the rest service exception
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
 	@Override
 	public void evictCACertCache(EventModel eventModel) throws RestServiceException, IdAuthenticationBusinessException {
 		Map<String, Object> data = eventModel.getEvent().getData();
 		if (data.containsKey(PARTNER_DOMAIN) && data.get(PARTNER_DOMAIN) instanceof String) {
 			String partnerDomain = (String) data.get(PARTNER_DOMAIN);
 			partnerCertManager.purgeTrustStoreCache(partnerDomain);
+			verifiedCertificateCache.invalidate(partnerDomain);
 		}		
 	}
 }
\ No newline at end of file
@@ -288,4 +288,16 @@ public class KeyManager {
 		return securityManager.sign(data);
 	}
 
+	/**
+	 * This method is used to digitally sign the response captured in the buffer.
+	 *
+	 * @param data   the buffer holding the response
+	 * @param length the length of the response in the buffer
+	 * @return the signed response string
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	public String signResponse(byte[] data, int length) throws IdAuthenticationAppException {
+		return securityManager.sign(data, 0, length);
+	}
+
 }
@@ -14,11 +14,14 @@ import javax.transaction.Transactional;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.PartnerPolicyCache;
 import io.mosip.authentication.common.service.entity.ApiKeyData;
 import io.mosip.authentication.common.service.entity.MispLicenseData;
 import io.mosip.authentication.common.service.entity.OIDCClientData;
@@ -32,6 +35,7 @@ import io.mosip.authentication.common.service.repository.PartnerDataRepository;
 import io.mosip.authentication.common.service.repository.PartnerMappingRepository;
 import io.mosip.authentication.common.service.repository.PolicyDataRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.common.service.util.CompiledAuthPolicies;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
@@ -104,6 +108,10 @@ public class PartnerServiceManager {
 	@Autowired
 	private IdAuthSecurityManager securityManager;
 
+	/** The partner policy cache. */
+	@Autowired
+	private PartnerPolicyCache partnerPolicyCache;
+
 	/**
 	 * Validate and get policy.
 	 *
@@ -117,9 +125,10 @@ public class PartnerServiceManager {
 	public PartnerPolicyResponseDTO validateAndGetPolicy(String partnerId, String partner_api_key, String misp_license_key,
 									boolean certificateNeeded, String headerCertificateThumbprint, boolean certValidationNeeded) 
 									throws IdAuthenticationBusinessException {
-		Optional<PartnerMapping> partnerMappingDataOptional = partnerMappingRepo.findByPartnerIdAndApiKeyId(partnerId, partner_api_key);
-		Optional<MispLicenseData> mispLicOptional = mispLicDataRepo.findByLicenseKey(misp_license_key);
-		Optional<OIDCClientData> oidcClientData = oidcClientDataRepo.findByClientId(partner_api_key);
+		ResolvedPartnerPolicy partnerPolicy = getPartnerPolicy(partnerId, partner_api_key, misp_license_key);
+		Optional<PartnerMapping> partnerMappingDataOptional = partnerPolicy.getPartnerMapping();
+		Optional<MispLicenseData> mispLicOptional = partnerPolicy.getMispLicense();
+		Optional<OIDCClientData> oidcClientData = partnerPolicy.getOidcClient();
 		validatePartnerMappingDetails(partnerMappingDataOptional, mispLicOptional, headerCertificateThumbprint, certValidationNeeded, oidcClientData);
 		PartnerPolicyResponseDTO response = new PartnerPolicyResponseDTO();
 		PartnerMapping partnerMapping = partnerMappingDataOptional.get();
@@ -129,7 +138,7 @@ public class PartnerServiceManager {
 		MispLicenseData mispLicenseData = mispLicOptional.get();
 		response.setPolicyId(policyData.getPolicyId());
 		response.setPolicyName(policyData.getPolicyName());
-		response.setPolicy(mapper.convertValue(policyData.getPolicy(), PolicyDTO.class));
+		response.setPolicy(getPolicy(partnerPolicy, policyData));
 		response.setPolicyDescription(policyData.getPolicyDescription());
 		response.setPolicyStatus(policyData.getPolicyStatus().contentEquals("ACTIVE"));
 		response.setPartnerId(partnerData.getPartnerId());
@@ -146,11 +155,7 @@ public class PartnerServiceManager {
 		String mispPolicyId = mispLicenseData.getPolicyId();
 		if (Objects.nonNull(mispPolicyId)) {
 			response.setMispPolicyId(mispPolicyId);
-			Optional<PolicyData> mispPolicyDataOpt = policyDataRepo.findByPolicyId(mispPolicyId);
-			if(mispPolicyDataOpt.isPresent()) {
-				PolicyData mispPolicyData = mispPolicyDataOpt.get();
-				response.setMispPolicy(mapper.convertValue(mispPolicyData.getPolicy(), MispPolicyDTO.class));
-			}
+			getMispPolicy(partnerPolicy, mispPolicyId).ifPresent(response::setMispPolicy);
 		}
 		if (oidcClientData.isPresent()){
 			String[] authContextRefs = oidcClientData.get().getAuthContextRefs();
@@ -160,6 +165,83 @@ public class PartnerServiceManager {
 		return response;
 	}
 
+	/**
+	 * Gets the partner mapping, MISP license and OIDC client data for the keys,
+	 * from the partner policy cache if resolved earlier. The data is cached only
+	 * if the partner mapping is found.
+	 *
+	 * @param partnerId the partner id
+	 * @param apiKey the api key
+	 * @param licenseKey the misp license key
+	 * @return the resolved partner policy
+	 */
+	private ResolvedPartnerPolicy getPartnerPolicy(String partnerId, String apiKey, String licenseKey) {
+		ResolvedPartnerPolicy partnerPolicy = partnerPolicyCache.get(partnerId, apiKey, licenseKey);
+		if (partnerPolicy == null) {
+			long generation = partnerPolicyCache.getGeneration();
+			partnerPolicy = new ResolvedPartnerPolicy(partnerMappingRepo.findByPartnerIdAndApiKeyId(partnerId, apiKey),
+					mispLicDataRepo.findByLicenseKey(licenseKey), oidcClientDataRepo.findByClientId(apiKey));
+			if (partnerPolicy.getPartnerMapping().isPresent()) {
+				partnerPolicyCache.put(partnerId, apiKey, licenseKey, partnerPolicy, generation);
+			}
+		}
+		return partnerPolicy;
+	}
+
+	/**
+	 * Gets the policy of the partner, converted and its auth policies compiled once
+	 * per resolved partner policy.
+	 *
+	 * @param partnerPolicy the resolved partner policy
+	 * @param policyData the policy data
+	 * @return the policy
+	 */
+	private PolicyDTO getPolicy(ResolvedPartnerPolicy partnerPolicy, PolicyData policyData) {
+		PolicyDTO policy = partnerPolicy.getPolicy();
+		if (policy == null) {
+			policy = mapper.convertValue(policyData.getPolicy(), PolicyDTO.class);
+			if (policy.getAllowedAuthTypes() != null) {
+				policy.setAllowedAuthTypes(CompiledAuthPolicies.of(policy.getAllowedAuthTypes()));
+			}
+			partnerPolicy.setPolicy(policy);
+		}
+		return policy;
+	}
+
+	/**
+	 * Gets the policy of the MISP, looked up once per resolved partner policy.
+	 *
+	 * @param partnerPolicy the resolved partner policy
+	 * @param mispPolicyId the misp policy id
+	 * @return the misp policy
+	 */
+	private Optional<MispPolicyDTO> getMispPolicy(ResolvedPartnerPolicy partnerPolicy, String mispPolicyId) {
+		Optional<MispPolicyDTO> mispPolicy = partnerPolicy.getMispPolicy();
+		if (mispPolicy == null) {
+			mispPolicy = policyDataRepo.findByPolicyId(mispPolicyId)
+					.map(mispPolicyData -> mapper.convertValue(mispPolicyData.getPolicy(), MispPolicyDTO.class));
+			partnerPolicy.setMispPolicy(mispPolicy);
+		}
+		return mispPolicy;
+	}
+
+	/**
+	 * Invalidates the partner policy cache, now and again once the transaction
+	 * updating the partner data commits, so that a lookup made before the commit
+	 * does not remain cached.
+	 */
+	private void invalidatePartnerPolicyCache() {
+		partnerPolicyCache.invalidateAll();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					partnerPolicyCache.invalidateAll();
+				}
+			});
+		}
+	}
+
 	/**
 	 * Validate partner mapping details.
 	 *
@@ -340,6 +422,7 @@ public class PartnerServiceManager {
 		apiKeyRepo.save(apiKeyEventData);
 		policyDataRepo.save(policyEventData);
 		partnerMappingRepo.save(mapping);
+		invalidatePartnerPolicyCache();
 	}
 	
 
@@ -393,6 +476,7 @@ public class PartnerServiceManager {
 			apiKeyEventData.setCrDTimes(DateUtils.getUTCCurrentDateTime());
 			apiKeyRepo.save(apiKeyEventData);
 		}
+		invalidatePartnerPolicyCache();
 	}
 
 	/**
@@ -417,6 +501,7 @@ public class PartnerServiceManager {
 			partnerEventData.setCrDTimes(DateUtils.getUTCCurrentDateTime());
 			partnerDataRepo.save(partnerEventData);
 		}
+		invalidatePartnerPolicyCache();
 	}
 
 	/**
@@ -444,6 +529,7 @@ public class PartnerServiceManager {
 			policyEventData.setCrDTimes(DateUtils.getUTCCurrentDateTime());
 			policyDataRepo.save(policyEventData);
 		}
+		invalidatePartnerPolicyCache();
 	}
 
 	/**
@@ -480,6 +566,7 @@ public class PartnerServiceManager {
 			mispLicenseEventData.setCrDTimes(DateUtils.getUTCCurrentDateTime());
 			mispLicDataRepo.save(mispLicenseEventData);
 		}
+		invalidatePartnerPolicyCache();
 	}
 
 	/**
@@ -545,6 +632,7 @@ public class PartnerServiceManager {
 			partnerMapping.setCrDTimes(DateUtils.getUTCCurrentDateTime());
 			partnerMappingRepo.save(partnerMapping);
 		}
+		invalidatePartnerPolicyCache();
 	}
 
 	/**
@@ -587,6 +675,7 @@ public class PartnerServiceManager {
 			oidcClientData.setClientAuthMethods(oidcClientEventData.getClientAuthMethods());
 			oidcClientDataRepo.save(oidcClientData);
 		} 
+		invalidatePartnerPolicyCache();
 
 		logger.info(IdAuthCommonConstants.IDA, this.getClass().getSimpleName(), "OIDC_CLIENT_EVENT", 
 				"Updated OIDC client. OIDC Clinet Id: " + oidcClientEventData.getClientId());
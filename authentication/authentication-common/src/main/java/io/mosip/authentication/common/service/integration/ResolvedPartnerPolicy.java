@@ -0,0 +1,81 @@
+package io.mosip.authentication.common.service.integration;
+
+import java.util.Optional;
+
+import io.mosip.authentication.common.service.entity.MispLicenseData;
+import io.mosip.authentication.common.service.entity.OIDCClientData;
+import io.mosip.authentication.common.service.entity.PartnerMapping;
+import io.mosip.authentication.core.partner.dto.MispPolicyDTO;
+import io.mosip.authentication.core.partner.dto.PolicyDTO;
+
+/**
+ * The Class ResolvedPartnerPolicy - the partner mapping, MISP license and OIDC
+ * client data looked up for a partner ID, API key and MISP license key, along
+ * with the policies converted from them once validated. The data is validated
+ * on every request, as the validity depends on the current time.
+ */
+public class ResolvedPartnerPolicy {
+
+	private final Optional<PartnerMapping> partnerMapping;
+
+	private final Optional<MispLicenseData> mispLicense;
+
+	private final Optional<OIDCClientData> oidcClient;
+
+	private volatile PolicyDTO policy;
+
+	private volatile Optional<MispPolicyDTO> mispPolicy;
+
+	/**
+	 * Instantiates a new resolved partner policy.
+	 *
+	 * @param partnerMapping the partner mapping
+	 * @param mispLicense    the misp license
+	 * @param oidcClient     the oidc client
+	 */
+	public ResolvedPartnerPolicy(Optional<PartnerMapping> partnerMapping, Optional<MispLicenseData> mispLicense,
+			Optional<OIDCClientData> oidcClient) {
+		this.partnerMapping = partnerMapping;
+		this.mispLicense = mispLicense;
+		this.oidcClient = oidcClient;
+	}
+
+	public Optional<PartnerMapping> getPartnerMapping() {
+		return partnerMapping;
+	}
+
+	public Optional<MispLicenseData> getMispLicense() {
+		return mispLicense;
+	}
+
+	public Optional<OIDCClientData> getOidcClient() {
+		return oidcClient;
+	}
+
+	/**
+	 * Gets the policy of the partner, or null if not yet converted.
+	 *
+	 * @return the policy
+	 */
+	public PolicyDTO getPolicy() {
+		return policy;
+	}
+
+	public void setPolicy(PolicyDTO policy) {
+		this.policy = policy;
+	}
+
+	/**
+	 * Gets the policy of the MISP, or null if not yet looked up.
+	 *
+	 * @return the misp policy
+	 */
+	public Optional<MispPolicyDTO> getMispPolicy() {
+		return mispPolicy;
+	}
+
+	public void setMispPolicy(Optional<MispPolicyDTO> mispPolicy) {
+		this.mispPolicy = mispPolicy;
+	}
+
+}
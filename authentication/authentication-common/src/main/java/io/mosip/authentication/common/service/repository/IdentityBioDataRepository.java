@@ -0,0 +1,45 @@
+package io.mosip.authentication.common.service.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.mosip.authentication.common.service.entity.IdentityBioData;
+import io.mosip.authentication.common.service.entity.IdentityBioDataPK;
+import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
+
+/**
+ * Repository class for Identity Bio Data table
+ *
+ */
+@Repository
+public interface IdentityBioDataRepository extends BaseRepository<IdentityBioData, IdentityBioDataPK> {
+
+	/**
+	 * Find the biometric attribute name and value of the given biometric
+	 * attributes of the id hash.
+	 *
+	 * @param idHash        the id hash
+	 * @param bioAttributes the biometric attributes in lower case
+	 * @return the rows of attributeName, bioValue
+	 */
+	@Query("SELECT b.attributeName, b.bioValue FROM IdentityBioData b "
+			+ "where b.idHash = :idHash and b.bioAttribute in :bioAttributes")
+	List<Object[]> findBioValuesByIdHashAndBioAttributeIn(@Param("idHash") String idHash,
+			@Param("bioAttributes") Collection<String> bioAttributes);
+
+	/**
+	 * Delete all the biometric attributes of the given id hashes.
+	 *
+	 * @param idHashes the id hashes
+	 * @return the deleted records count
+	 */
+	@Modifying
+	@Query("DELETE FROM IdentityBioData b where b.idHash in :idHashes")
+	int deleteByIdHashIn(@Param("idHashes") Collection<String> idHashes);
+
+}
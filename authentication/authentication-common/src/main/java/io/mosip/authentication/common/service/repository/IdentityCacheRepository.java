@@ -1,10 +1,15 @@
 package io.mosip.authentication.common.service.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.authentication.common.service.entity.IdentityEntity;
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
@@ -25,4 +30,109 @@ public interface IdentityCacheRepository extends BaseRepository<IdentityEntity,
 	@Query("SELECT i.id, i.expiryTimestamp, i.transactionLimit "
 			+ " FROM IdentityEntity i where i.id = :id")
 	List<Object[]> findTransactionLimitById(@Param("id") String id);
+
+	/**
+	 * Find the demographic data along with id, expiry timestamp, transaction
+	 * limit and token of the records matching any of the given id hashes.
+	 *
+	 * @param ids the id hashes
+	 * @return the rows of id, demographicData, expiryTimestamp, transactionLimit, token
+	 */
+	@Transactional(readOnly = true)
+	@Query("SELECT i.id, i.demographicData, i.expiryTimestamp, i.transactionLimit, i.token "
+			+ "FROM IdentityEntity i where i.id in :ids")
+	List<Object[]> findDemoDataByIdIn(@Param("ids") Collection<String> ids);
+
+	/**
+	 * Find the biometric data of the record with the given id hash.
+	 *
+	 * @param id the id hash
+	 * @return the biometric data, empty if the record does not exist
+	 */
+	@Transactional(readOnly = true)
+	@Query("SELECT i.biometricData FROM IdentityEntity i where i.id = :id")
+	List<byte[]> findBioDataById(@Param("id") String id);
+
+	/**
+	 * Find the ids greater than the given id in the order of id, used to page
+	 * through all the ids.
+	 *
+	 * @param lastId   the last id of the previous page
+	 * @param pageable the pageable with the page size
+	 * @return the ids
+	 */
+	@Query("SELECT i.id FROM IdentityEntity i where i.id > :lastId order by i.id")
+	List<String> findIdsGreaterThan(@Param("lastId") String lastId, Pageable pageable);
+
+	/**
+	 * Find the ids of the records created on or after the given time.
+	 *
+	 * @param crDTimes the created time
+	 * @return the ids
+	 */
+	@Query("SELECT i.id FROM IdentityEntity i where i.crDTimes >= :crDTimes")
+	List<String> findIdsCreatedOnOrAfter(@Param("crDTimes") LocalDateTime crDTimes);
+
+	/**
+	 * Find the demographic and biometric data along with id, expiry timestamp,
+	 * transaction limit and token of the records matching any of the given id
+	 * hashes.
+	 *
+	 * @param ids the id hashes
+	 * @return the rows of id, demographicData, expiryTimestamp, transactionLimit, token, biometricData
+	 */
+	@Transactional(readOnly = true)
+	@Query("SELECT i.id, i.demographicData, i.expiryTimestamp, i.transactionLimit, i.token, i.biometricData "
+			+ "FROM IdentityEntity i where i.id in :ids")
+	List<Object[]> findDemoAndBioDataByIdIn(@Param("ids") Collection<String> ids);
+
+	@Transactional(readOnly = true)
+	@Query("SELECT i.id, i.expiryTimestamp, i.transactionLimit "
+			+ " FROM IdentityEntity i where i.id in :ids")
+	List<Object[]> findTransactionLimitByIdIn(@Param("ids") Collection<String> ids);
+
+	/**
+	 * Update the demographic and biometric data of the record only if its
+	 * demographic data is not changed since it was read, so that a record
+	 * updated meanwhile by the credential store job is not overwritten.
+	 *
+	 * @param id                  the id hash
+	 * @param demographicData     the demographic data
+	 * @param biometricData       the biometric data
+	 * @param readDemographicData the demographic data as read
+	 * @return the updated count
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE IdentityEntity i set i.demographicData = :demographicData, i.biometricData = :biometricData "
+			+ "where i.id = :id and i.demographicData = :readDemographicData")
+	int updateDataIfUnchanged(@Param("id") String id, @Param("demographicData") byte[] demographicData,
+			@Param("biometricData") byte[] biometricData, @Param("readDemographicData") byte[] readDemographicData);
+
+	/**
+	 * Decrement the transaction limit of the temporary VID record only if more
+	 * than one transaction is left, as a single conditional update.
+	 *
+	 * @param id the id hash
+	 * @return the updated count, 0 if the record is absent, perpetual or left
+	 *         with its last transaction
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE IdentityEntity i set i.transactionLimit = i.transactionLimit - 1 "
+			+ "where i.id = :id and i.transactionLimit > 1")
+	int decrementTransactionLimit(@Param("id") String id);
+
+	/**
+	 * Delete the temporary VID record only if it is left with its last
+	 * transaction, as a single conditional delete.
+	 *
+	 * @param id the id hash
+	 * @return the deleted count, 0 if the record is absent, perpetual or left
+	 *         with more transactions
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM IdentityEntity i where i.id = :id and i.transactionLimit <= 1")
+	int deleteByIdIfLastTransaction(@Param("id") String id);
 }
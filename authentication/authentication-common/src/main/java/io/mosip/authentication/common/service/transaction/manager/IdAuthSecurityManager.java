@@ -11,6 +11,7 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -28,7 +29,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.mosip.kernel.cryptomanager.dto.JWTEncryptRequestDto;
-import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+import io.mosip.authentication.common.service.cache.IdHashLookupFilter;
+import io.mosip.authentication.common.service.cache.IdHashSaltRegistry;
+import io.mosip.authentication.common.service.cache.VerifiedCertificateCache;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.common.service.util.TokenEncoderUtil;
@@ -154,9 +157,17 @@ public class IdAuthSecurityManager {
 	@Value("${mosip.ida.vci.exchange.sign.applicationid:IDA_VCI_EXCHANGE}")
 	private String vciExchSignApplicationId;
 
-	/** The uin hash salt repo. */
+	/** The id hash salt registry. */
 	@Autowired
-	private IdaUinHashSaltRepo uinHashSaltRepo;
+	private IdHashSaltRegistry saltRegistry;
+
+	/** The id hash lookup filter. */
+	@Autowired
+	private IdHashLookupFilter idHashLookupFilter;
+
+	/** The verified certificate cache. */
+	@Autowired
+	private VerifiedCertificateCache verifiedCertificateCache;
 
 	/** The repo. */
 	@Autowired
@@ -192,6 +203,10 @@ public class IdAuthSecurityManager {
 	
 	@Autowired
 	private IdentityCacheRepository identityRepo;
+
+	/** The zk decryption engine. */
+	@Autowired
+	private ZkDecryptionEngine zkDecryptionEngine;
 	
 	@Autowired
 	private IdTypeUtil idTypeUtil;
@@ -310,7 +325,9 @@ public class IdAuthSecurityManager {
 	}
 
 	/**
-	 * Zk decrypt.
+	 * Zk decrypt. The attributes are decrypted within IDA when the local zero
+	 * knowledge decryption is enabled, otherwise by the kernel ZK crypto manager
+	 * service.
 	 *
 	 * @param id the id
 	 * @param encryptedAttributes the encrypted attributes
@@ -320,6 +337,9 @@ public class IdAuthSecurityManager {
 	@WithRetry
 	public Map<String, String> zkDecrypt(String id, Map<String, String> encryptedAttributes)
 			throws IdAuthenticationBusinessException {
+		if (zkDecryptionEngine.isEnabled()) {
+			return zkDecryptionEngine.zkDecrypt(id, encryptedAttributes);
+		}
 		ZKCryptoRequestDto cryptoRequestDto = new ZKCryptoRequestDto();
 		cryptoRequestDto.setId(id);
 		List<CryptoDataDto> zkDataAttributes = encryptedAttributes.entrySet().stream()
@@ -360,10 +380,25 @@ public class IdAuthSecurityManager {
 	 */
 	@WithRetry
 	public String sign(String data) {
+		byte[] dataBytes = data.getBytes();
+		return sign(dataBytes, 0, dataBytes.length);
+	}
+
+	/**
+	 * Sign the range of the data, such as of the response buffer, without copying
+	 * it.
+	 *
+	 * @param data   the data
+	 * @param offset the offset of the range
+	 * @param length the length of the range
+	 * @return the string
+	 */
+	@WithRetry
+	public String sign(byte[] data, int offset, int length) {
 		// TODO: check whether any exception will be thrown
 		JWTSignatureRequestDto request = new JWTSignatureRequestDto();
 		request.setApplicationId(signApplicationid);
-		request.setDataToSign(CryptoUtil.encodeBase64Url(data.getBytes()));
+		request.setDataToSign(CryptoUtil.encodeBase64Url(data, offset, length));
 		request.setIncludeCertHash(true);
 		request.setIncludeCertificate(true);
 		request.setIncludePayload(false);
@@ -372,7 +407,10 @@ public class IdAuthSecurityManager {
 	}
 
 	/**
-	 * Verify signature.
+	 * Verify signature. When the trust validation is required, the signature is
+	 * verified locally if the certificate in its header is already verified as
+	 * trusted for the domain, and the certificate is cached once the signature
+	 * service verifies it as trusted.
 	 *
 	 * @param signature the signature
 	 * @param domain the domain
@@ -382,12 +420,44 @@ public class IdAuthSecurityManager {
 	 */
 	public boolean verifySignature(String signature, String domain, String requestData,
 			Boolean isTrustValidationRequired) {
+		String actualData = Objects.nonNull(requestData) ? CryptoUtil.encodeBase64Url(requestData.getBytes()) : null;
+		return verifyEncodedSignature(signature, domain, actualData, isTrustValidationRequired);
+	}
+
+	/**
+	 * Verify signature of the range of the request data, such as of the request
+	 * buffer, without copying it.
+	 *
+	 * @param signature the signature
+	 * @param domain the domain
+	 * @param requestData the request data
+	 * @param offset the offset of the range
+	 * @param length the length of the range
+	 * @param isTrustValidationRequired the is trust validation required
+	 * @return true, if successful
+	 */
+	public boolean verifySignature(String signature, String domain, byte[] requestData, int offset, int length,
+			Boolean isTrustValidationRequired) {
+		return verifyEncodedSignature(signature, domain, CryptoUtil.encodeBase64Url(requestData, offset, length),
+				isTrustValidationRequired);
+	}
+
+	private boolean verifyEncodedSignature(String signature, String domain, String actualData,
+			Boolean isTrustValidationRequired) {
+		boolean useCertificateCache = Boolean.TRUE.equals(isTrustValidationRequired)
+				&& verifiedCertificateCache.isEnabled();
+		if (useCertificateCache) {
+			Boolean signatureValid = verifiedCertificateCache.verify(signature, actualData, domain);
+			if (signatureValid != null) {
+				mosipLogger.info(getUser(), ID_AUTH_TRANSACTION_MANAGER, "verifySignature",
+						"SIGNATURE VALID : " + signatureValid + " - TRUST VALID : true (cached)");
+				return signatureValid;
+			}
+		}
 		JWTSignatureVerifyRequestDto jwtSignatureVerifyRequestDto = new JWTSignatureVerifyRequestDto();
 		jwtSignatureVerifyRequestDto.setApplicationId(signApplicationid);
 		jwtSignatureVerifyRequestDto.setReferenceId(signRefid);
-		if (Objects.nonNull(requestData)) {
-			jwtSignatureVerifyRequestDto.setActualData(CryptoUtil.encodeBase64Url(requestData.getBytes()));
-		}
+		jwtSignatureVerifyRequestDto.setActualData(actualData);
 		jwtSignatureVerifyRequestDto.setJwtSignatureData(signature);
 		jwtSignatureVerifyRequestDto.setValidateTrust(isTrustValidationRequired);
 		jwtSignatureVerifyRequestDto.setDomain(domain);
@@ -395,6 +465,10 @@ public class IdAuthSecurityManager {
 		mosipLogger.info(getUser(), ID_AUTH_TRANSACTION_MANAGER, "verifySignature",
 				"SIGNATURE VALID : " + jwtResponse.isSignatureValid() + " - TRUST VALID : "
 						+ jwtResponse.getTrustValid().contentEquals(SignatureConstant.TRUST_VALID));
+		if (useCertificateCache && jwtResponse.isSignatureValid()
+				&& jwtResponse.getTrustValid().contentEquals(SignatureConstant.TRUST_VALID)) {
+			verifiedCertificateCache.put(signature, domain);
+		}
 		return isTrustValidationRequired
 				? jwtResponse.isSignatureValid()
 						&& jwtResponse.getTrustValid().contentEquals(SignatureConstant.TRUST_VALID)
@@ -412,9 +486,33 @@ public class IdAuthSecurityManager {
 	}
 	
 	public String hash(String id) throws IdAuthenticationBusinessException {
-		String hashWithNewMethod = null;
+		List<String> idHashes = getIdHashCandidates(id);
+		if (!idHashLookupFilter.isDefinitelyAbsent(idHashes)) {
+			for (String idHash : idHashes) {
+				if (identityRepo.existsById(idHash)) {
+					return idHash;
+				}
+			}
+		}
+		throwIdNotAvailabeError(id);
+		return null;
+	}
+
+	/**
+	 * Gets the possible hashes of the ID in the order of preference - the hash
+	 * with the new salt selection followed by the hash with the legacy salt
+	 * selection when it is enabled. The caller can look up all of them in
+	 * identity_cache in one go and pick the first one present, instead of
+	 * checking existence of each hash separately.
+	 *
+	 * @param id the id
+	 * @return the id hash candidates
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	public List<String> getIdHashCandidates(String id) throws IdAuthenticationBusinessException {
+		List<String> idHashes = new ArrayList<>(2);
 		try {
-			hashWithNewMethod = newHash(id);
+			idHashes.add(newHash(id));
 		} catch (IdAuthenticationBusinessException e) {
 			//If salt key is not present in the DB, this error will occur.
 			if (e.getErrorCode().equals(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorCode())) {
@@ -430,23 +528,19 @@ public class IdAuthSecurityManager {
 				throw e;
 			}
 		}
-		// If either salt key is not present in uin_hash_salt table
-		// or the new hash is not present in the identity_cache table
-		if(hashWithNewMethod == null || !identityRepo.existsById(hashWithNewMethod)) {
-			if(!legacySaltSelectionEnabled) {
-				//Throw error
-				throwIdNotAvailabeError(id);
-			}
-			
-			String hashWithLegacyMethod = legacyHash(id);
-			if(!identityRepo.existsById(hashWithLegacyMethod)) {
-				//Throw error
-				throwIdNotAvailabeError(id);
+
+		if (legacySaltSelectionEnabled) {
+			try {
+				idHashes.add(legacyHash(id));
+			} catch (IdAuthenticationBusinessException e) {
+				// Missing legacy salt key matters only if there is no new hash either
+				if (idHashes.isEmpty() || !e.getErrorCode()
+						.equals(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorCode())) {
+					throw e;
+				}
 			}
-			
-			return hashWithLegacyMethod;
 		}
-		return hashWithNewMethod;
+		return idHashes;
 	}
 
 	private void throwIdNotAvailabeError(String id) throws IdAuthenticationBusinessException {
@@ -457,7 +551,7 @@ public class IdAuthSecurityManager {
 	}
 
 	private String doGetHashForIdAndSaltKey(String id, Integer idModulo) throws IdAuthenticationBusinessException {
-		String hashSaltValue = uinHashSaltRepo.retrieveSaltById(idModulo);
+		String hashSaltValue = saltRegistry.getSalt(idModulo);
 		if (hashSaltValue != null) {
 			try {
 				return HMACUtils2.digestAsPlainTextWithSalt(id.getBytes(), hashSaltValue.getBytes());
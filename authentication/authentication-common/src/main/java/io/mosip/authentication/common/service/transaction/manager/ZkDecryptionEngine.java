@@ -0,0 +1,229 @@
+package io.mosip.authentication.common.service.transaction.manager;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ZK_DECRYPTION_PARALLEL_THRESHOLD;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ZK_LOCAL_DECRYPTION_ENABLED;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.common.service.cache.ZkRandomKeyCache;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthUncheckedException;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.util.CryptoUtil;
+import io.mosip.kernel.core.keymanager.spi.KeyStore;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.helper.KeymanagerDBHelper;
+import io.mosip.kernel.keymanagerservice.repository.DataEncryptKeystoreRepository;
+import io.mosip.kernel.zkcryptoservice.constant.ZKCryptoManagerConstants;
+
+/**
+ * The Class ZkDecryptionEngine - decrypts the zero knowledge encrypted
+ * attributes of an identity within IDA, in the same way as the kernel
+ * ZKCryptoManagerService does, without unwrapping the random key with the
+ * master key and deriving the key of the ID for every attribute.
+ * <p>
+ * Each encrypted attribute holds the index of the random key, the GCM nonce,
+ * the AAD and the cipher text. The random keys unwrapped with the master key
+ * are held in {@link ZkRandomKeyCache}; the key of the ID is derived once per
+ * random key index for all the attributes of a request, and is zeroised once
+ * the attributes are decrypted. The attributes are decrypted in parallel once
+ * their count reaches the configured threshold, such as for the biometric
+ * attributes with face photo.
+ */
+@Component
+public class ZkDecryptionEngine {
+
+	private static final String AES = "AES";
+
+	private static final String HASH_ALGORITHM_NAME = "SHA-256";
+
+	private static final String CURRENT_KEY_ALIAS = "currentKeyAlias";
+
+	private static final int GCM_TAG_LENGTH_BITS = ZKCryptoManagerConstants.GCM_TAG_LENGTH * 8;
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(ZkDecryptionEngine.class);
+
+	@Value("${" + ZK_LOCAL_DECRYPTION_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + ZK_DECRYPTION_PARALLEL_THRESHOLD + ":8}")
+	private int parallelThreshold;
+
+	@Value("${mosip.kernel.zkcrypto.masterkey.application.id}")
+	private String masterKeyAppId;
+
+	@Value("${mosip.kernel.zkcrypto.masterkey.reference.id}")
+	private String masterKeyRefId;
+
+	@Value("${mosip.kernel.crypto.symmetric-algorithm-name}")
+	private String aesGcmTransformation;
+
+	@Value("${mosip.kernel.zkcrypto.wrap.algorithm-name}")
+	private String aesEcbTransformation;
+
+	/** The data encrypt keystore repo. */
+	@Autowired
+	private DataEncryptKeystoreRepository dataEncryptKeystoreRepo;
+
+	@Autowired
+	private KeymanagerDBHelper keymanagerDBHelper;
+
+	@Autowired
+	private KeyStore keyStore;
+
+	@Autowired
+	private ZkRandomKeyCache randomKeyCache;
+
+	/**
+	 * Checks if the attributes are decrypted within IDA.
+	 *
+	 * @return true, if enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Decrypts the zero knowledge encrypted attributes of the ID.
+	 *
+	 * @param id                  the id
+	 * @param encryptedAttributes the encrypted attributes
+	 * @return the decrypted attributes
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public Map<String, String> zkDecrypt(String id, Map<String, String> encryptedAttributes)
+			throws IdAuthenticationBusinessException {
+		Map<Integer, byte[]> derivedKeys = new HashMap<>();
+		try {
+			Map<String, byte[]> encryptedData = new LinkedHashMap<>();
+			for (Entry<String, String> entry : encryptedAttributes.entrySet()) {
+				byte[] data = CryptoUtil.decodeBase64Url(entry.getValue());
+				int index = ByteBuffer.wrap(data, 0, ZKCryptoManagerConstants.INT_BYTES_LEN).getInt();
+				if (!derivedKeys.containsKey(index)) {
+					derivedKeys.put(index, deriveKey(id, index));
+				}
+				encryptedData.put(entry.getKey(), data);
+			}
+
+			Stream<Entry<String, byte[]>> stream = encryptedData.size() >= parallelThreshold
+					? encryptedData.entrySet().parallelStream()
+					: encryptedData.entrySet().stream();
+			return stream.collect(Collectors.toMap(Entry::getKey,
+					entry -> decryptAttribute(entry.getValue(), derivedKeys), (value1, value2) -> value1,
+					LinkedHashMap::new));
+		} catch (GeneralSecurityException | IllegalArgumentException | IndexOutOfBoundsException
+				| BufferUnderflowException | IdAuthUncheckedException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "zkDecrypt",
+					"Zero knowledge decryption failed: " + e.getMessage());
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		} finally {
+			derivedKeys.values().forEach(keyBytes -> Arrays.fill(keyBytes, (byte) 0));
+		}
+	}
+
+	/**
+	 * Decrypts the attribute laid out as the random key index, the GCM nonce,
+	 * the AAD and the cipher text.
+	 *
+	 * @param data        the encrypted data
+	 * @param derivedKeys the keys of the id derived for the random key indices
+	 * @return the decrypted value
+	 */
+	private String decryptAttribute(byte[] data, Map<Integer, byte[]> derivedKeys) {
+		int index = ByteBuffer.wrap(data, 0, ZKCryptoManagerConstants.INT_BYTES_LEN).getInt();
+		try {
+			Cipher cipher = Cipher.getInstance(aesGcmTransformation);
+			cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(derivedKeys.get(index), AES),
+					new GCMParameterSpec(GCM_TAG_LENGTH_BITS, data, ZKCryptoManagerConstants.INT_BYTES_LEN,
+							ZKCryptoManagerConstants.GCM_NONCE_LENGTH));
+			cipher.updateAAD(data, ZKCryptoManagerConstants.GCM_NONCE_PLUS_INT_BYTES_LEN,
+					ZKCryptoManagerConstants.GCM_AAD_LENGTH);
+			int cipherTextOffset = ZKCryptoManagerConstants.GCM_NONCE_PLUS_INT_BYTES_PLUS_GCM_AAD_LEN;
+			// Decoded with the default charset as encoded by the kernel ZK encryption
+			return new String(cipher.doFinal(data, cipherTextOffset, data.length - cipherTextOffset));
+		} catch (GeneralSecurityException e) {
+			throw new IdAuthUncheckedException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		}
+	}
+
+	/**
+	 * Derives the key of the id by encrypting the hash of the id with the random
+	 * key of the index.
+	 *
+	 * @param id    the id
+	 * @param index the random key index
+	 * @return the derived key bytes
+	 * @throws GeneralSecurityException the general security exception
+	 */
+	private byte[] deriveKey(String id, int index) throws GeneralSecurityException {
+		byte[] idHash = MessageDigest.getInstance(HASH_ALGORITHM_NAME).digest(id.getBytes());
+		Cipher cipher = Cipher.getInstance(aesEcbTransformation);
+		cipher.init(Cipher.ENCRYPT_MODE, getRandomKey(index));
+		return cipher.doFinal(idHash);
+	}
+
+	/**
+	 * Gets the random key of the index, unwrapping it with the master key if not
+	 * cached.
+	 *
+	 * @param index the random key index
+	 * @return the random key
+	 * @throws GeneralSecurityException the general security exception
+	 */
+	private SecretKey getRandomKey(int index) throws GeneralSecurityException {
+		SecretKey randomKey = randomKeyCache.get(index);
+		if (randomKey != null) {
+			return randomKey;
+		}
+		String wrappedKey = dataEncryptKeystoreRepo.findKeyById(index);
+		if (wrappedKey == null) {
+			throw new IdAuthUncheckedException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorCode(),
+					"Random key not found for index: " + index);
+		}
+		Cipher cipher = Cipher.getInstance(aesEcbTransformation);
+		cipher.init(Cipher.DECRYPT_MODE, getMasterKey());
+		byte[] keyBytes = cipher.doFinal(CryptoUtil.decodeBase64(wrappedKey));
+		randomKey = new SecretKeySpec(keyBytes, AES);
+		randomKeyCache.put(index, keyBytes, AES);
+		return randomKey;
+	}
+
+	private Key getMasterKey() {
+		List<KeyAlias> currentKeyAliases = keymanagerDBHelper
+				.getKeyAliases(masterKeyAppId, masterKeyRefId, DateUtils.getUTCCurrentDateTime())
+				.get(CURRENT_KEY_ALIAS);
+		if (currentKeyAliases == null || currentKeyAliases.size() != 1) {
+			throw new IdAuthUncheckedException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorCode(),
+					"No unique zero knowledge master key alias found");
+		}
+		return keyStore.getSymmetricKey(currentKeyAliases.get(0).getAlias());
+	}
+
+}
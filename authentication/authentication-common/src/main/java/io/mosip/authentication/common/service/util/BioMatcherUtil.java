@@ -1,11 +1,14 @@
 package io.mosip.authentication.common.service.util;
 
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.BDB_DEAULT_PROCESSED_LEVEL;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCHING_THREAD_COUNT;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCHING_TIMEOUT_MILLIS;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDA_BDB_PROCESSED_LEVEL;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,14 +16,27 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.PostConstruct;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.authentication.common.service.cache.BirGalleryCache;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
@@ -73,6 +89,53 @@ public class BioMatcherUtil {
 	@Autowired
 	private CbeffUtil cbeffUtil;
 
+	/** The parsed gallery BIR cache. */
+	@Autowired
+	private BirGalleryCache birGalleryCache;
+
+	/** The threads matching each modality; 0 matches the modalities sequentially. */
+	@Value("${" + BIO_MATCHING_THREAD_COUNT + ":0}")
+	private int matchingThreadCount;
+
+	/** The time allowed to match all the modalities of a request concurrently. */
+	@Value("${" + BIO_MATCHING_TIMEOUT_MILLIS + ":30000}")
+	private long matchingTimeoutMillis;
+
+	@Autowired(required = false)
+	@Qualifier("fingerMatchExecutor")
+	private Executor fingerMatchExecutor;
+
+	@Autowired(required = false)
+	@Qualifier("irisMatchExecutor")
+	private Executor irisMatchExecutor;
+
+	@Autowired(required = false)
+	@Qualifier("faceMatchExecutor")
+	private Executor faceMatchExecutor;
+
+	/** The concurrent call limit of the Bio SDK. */
+	@Autowired
+	private BioSdkBulkhead bioSdkBulkhead;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	/** The executors of the modalities matched concurrently, empty if sequential. */
+	private Map<BiometricType, Executor> matchExecutors = Collections.emptyMap();
+
+	@PostConstruct
+	public void init() {
+		if (matchingThreadCount > 0 && fingerMatchExecutor != null && irisMatchExecutor != null
+				&& faceMatchExecutor != null) {
+			Map<BiometricType, Executor> executors = new EnumMap<>(BiometricType.class);
+			executors.put(BiometricType.FINGER, fingerMatchExecutor);
+			executors.put(BiometricType.IRIS, irisMatchExecutor);
+			executors.put(BiometricType.FACE, faceMatchExecutor);
+			matchExecutors = executors;
+		}
+	}
+
 	/**
 	 * Match function.
 	 *
@@ -101,39 +164,17 @@ public class BioMatcherUtil {
 
 		
 		boolean res = !reqBirByType.isEmpty();
-		for (BiometricType modality : Arrays.asList(BiometricType.FINGER, BiometricType.IRIS, BiometricType.FACE)) {
-			if(reqBirByType.containsKey(modality)) {
+		List<BiometricType> modalities = Stream.of(BiometricType.FINGER, BiometricType.IRIS, BiometricType.FACE)
+				.filter(reqBirByType::containsKey)
+				.collect(Collectors.toList());
+		if (modalities.size() > 1 && !matchExecutors.isEmpty()) {
+			res = matchConcurrently(modalities, reqBirByType, entityBirByType);
+		} else {
+			for (BiometricType modality : modalities) {
 				logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "Matching for " + modality.name());
-				try {
-					iBioProviderApi bioProvider = bioApiFactory.getBioProvider(modality,
-							BiometricFunction.MATCH);
-					logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "bioProvider - " + bioProvider.getClass().getCanonicalName());
-					List<BIR> sample = reqBirByType.get(modality);
-					List<BIR> record = entityBirByType.get(modality);
-					if(sample != null) {
-						logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "sample birs list is not null");
-						if(record != null) {
-							logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "record birs list is not null");
-							Map<String, String> flags = new HashMap<>();
-							flags.put("uniqueRefID", UUID.randomUUID().toString());
-							flags.put("timestamp", DateUtils.getUTCCurrentDateTimeString());
-							res =  bioProvider.verify(sample, record, modality, flags);
-							logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "match response : " + res + " for " + modality);
-							if(!res) {
-								break;
-							}
-						} else {
-							logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "record birs list is null");
-							throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorCode(), 
-									String.format(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorMessage(), modality));
-						}
-					} else {
-						logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "sample birs list is null");
-					}
-				} catch (BiometricException e) {
-					logger.error(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction",
-							String.format("%s: %s", e.getClass().getSimpleName(), ExceptionUtils.getStackTrace(e)));
-					throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, e);
+				res = verify(modality, reqBirByType.get(modality), getRecord(modality, entityBirByType));
+				if(!res) {
+					break;
 				}
 			}
 		}
@@ -143,6 +184,133 @@ public class BioMatcherUtil {
 		return res ? (double)  100 : (double) 0;
 	}
 
+	/**
+	 * Matches the modalities on their executors concurrently, with the fail-fast
+	 * semantics of the sequential match: the verifications outstanding are
+	 * cancelled once a modality does not match or fails. The modalities after
+	 * the first one without a record are not matched, and the record is reported
+	 * missing only if the modalities before it match.
+	 *
+	 * @param modalities the modalities, in the order they are matched sequentially
+	 * @param reqBirByType the sample BIRs by type
+	 * @param entityBirByType the record BIRs by type
+	 * @return true, if all the modalities match
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private boolean matchConcurrently(List<BiometricType> modalities, Map<BiometricType, List<BIR>> reqBirByType,
+			Map<BiometricType, List<BIR>> entityBirByType) throws IdAuthenticationBusinessException {
+		BlockingQueue<Future<Boolean>> completed = new LinkedBlockingQueue<>();
+		List<Future<Boolean>> futures = new ArrayList<>(modalities.size());
+		BiometricType missingModality = null;
+		try {
+			for (BiometricType modality : modalities) {
+				List<BIR> record = entityBirByType.get(modality);
+				if (record == null) {
+					missingModality = modality;
+					break;
+				}
+				List<BIR> sample = reqBirByType.get(modality);
+				logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchConcurrently", "Matching for " + modality.name());
+				FutureTask<Boolean> future = new FutureTask<Boolean>(() -> verify(modality, sample, record)) {
+					@Override
+					protected void done() {
+						completed.add(this);
+					}
+				};
+				futures.add(future);
+				matchExecutors.get(modality).execute(future);
+			}
+
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(matchingTimeoutMillis);
+			for (int i = 0; i < futures.size(); i++) {
+				Future<Boolean> future = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+				if (future == null) {
+					logger.error(IdAuthCommonConstants.SESSION_ID, "IDA", "matchConcurrently",
+							"Bio matching timed out after " + matchingTimeoutMillis + " ms");
+					throw new IdAuthenticationBusinessException(
+							IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO.getErrorCode(),
+							IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO.getErrorMessage());
+				}
+				if (!future.get()) {
+					return false;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IdAuthenticationBusinessException) {
+				throw (IdAuthenticationBusinessException) e.getCause();
+			}
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, e.getCause());
+		} finally {
+			futures.forEach(future -> future.cancel(true));
+		}
+		if (missingModality != null) {
+			getRecord(missingModality, entityBirByType);
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the record BIRs of the modality.
+	 *
+	 * @param modality the modality
+	 * @param entityBirByType the record BIRs by type
+	 * @return the record BIRs
+	 * @throws IdAuthenticationBusinessException if the record has no BIR of the modality
+	 */
+	private List<BIR> getRecord(BiometricType modality, Map<BiometricType, List<BIR>> entityBirByType)
+			throws IdAuthenticationBusinessException {
+		List<BIR> record = entityBirByType.get(modality);
+		if (record == null) {
+			logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "record birs list is null");
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorCode(), 
+					String.format(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorMessage(), modality));
+		}
+		return record;
+	}
+
+	/**
+	 * Verifies the sample BIRs of a modality against the record BIRs with the Bio
+	 * SDK, recording the time taken as the timer {@code ida.bio.match} tagged by
+	 * the modality and the result.
+	 *
+	 * @param modality the modality
+	 * @param sample the sample BIRs
+	 * @param record the record BIRs
+	 * @return true, if matched
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private boolean verify(BiometricType modality, List<BIR> sample, List<BIR> record)
+			throws IdAuthenticationBusinessException {
+		long startNanos = System.nanoTime();
+		String result = "error";
+		try {
+			iBioProviderApi bioProvider = bioApiFactory.getBioProvider(modality, BiometricFunction.MATCH);
+			logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "bioProvider - " + bioProvider.getClass().getCanonicalName());
+			Map<String, String> flags = new HashMap<>();
+			flags.put("uniqueRefID", UUID.randomUUID().toString());
+			flags.put("timestamp", DateUtils.getUTCCurrentDateTimeString());
+			boolean res = bioSdkBulkhead.verify(modality, bioProvider, sample, record, flags);
+			logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "match response : " + res + " for " + modality);
+			result = res ? "match" : "mismatch";
+			return res;
+		} catch (BiometricException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction",
+					String.format("%s: %s", e.getClass().getSimpleName(), ExceptionUtils.getStackTrace(e)));
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, e);
+		} finally {
+			if (meterRegistry != null) {
+				Timer.builder("ida.bio.match")
+						.description("Time taken by the Bio SDK to match a modality")
+						.tags("modality", modality.name(), "result", result)
+						.register(meterRegistry)
+						.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
 	/**
 	 * Gets the bir by type.
 	 *
@@ -234,8 +402,15 @@ public class BioMatcherUtil {
 	
 	private BIR getBirFromCbeff(String cbeff) throws IdAuthenticationBusinessException {
 		try {
-			List<BIR> birList = cbeffUtil.getBIRDataFromXML(cbeff.getBytes());
-			return birList.get(0);
+			byte[] cbeffBytes = cbeff.getBytes();
+			BIR cachedBir = birGalleryCache.get(cbeffBytes);
+			if (cachedBir != null) {
+				return cachedBir;
+			}
+			List<BIR> birList = cbeffUtil.getBIRDataFromXML(cbeffBytes);
+			BIR bir = birList.get(0);
+			birGalleryCache.put(cbeffBytes, bir);
+			return bir;
 		} catch (Exception e) {
 			logger.error(IdAuthCommonConstants.SESSION_ID, "IDA", "getBirFromCbeff", "Cabit convert cbeff to BIR, " + ExceptionUtils.getStackTrace(e));
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
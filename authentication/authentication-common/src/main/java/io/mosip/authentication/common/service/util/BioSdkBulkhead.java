@@ -0,0 +1,309 @@
+package io.mosip.authentication.common.service.util;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCHING_MAX_CONCURRENT_CALLS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCHING_MAX_WAITING_CALLS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCHING_MAX_WAIT_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCHING_SDK_INSTANCE_POOL_ENABLED;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.biometrics.constant.BiometricFunction;
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.entities.BIR;
+import io.mosip.kernel.biosdk.provider.factory.BioAPIFactory;
+import io.mosip.kernel.biosdk.provider.spi.iBioProviderApi;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class BioSdkBulkhead - limits the concurrent Bio SDK match calls of each
+ * modality, so that a burst of biometric requests cannot take all the CPU from
+ * the other requests, nor a slow modality the calls of the others.
+ * <p>
+ * The calls beyond the limit wait for a call to complete, up to the max wait
+ * time; the calls beyond the max waiting calls are rejected at once with
+ * {@link IdAuthenticationErrorConstants#BIO_MATCH_BUSY}. When the SDK instance
+ * pool is enabled, each call is served by an SDK provider instance of its own,
+ * created with the vendor parameters of the modality, for the SDKs which are
+ * not thread-safe.
+ * <p>
+ * The waiting calls, the wait time, the SDK call time and the rejected calls
+ * are published as the {@code ida.bio.sdk.*} metrics tagged by the modality.
+ * Disabled when the max concurrent calls is 0.
+ */
+@Component
+public class BioSdkBulkhead {
+
+	private static final Logger mosipLogger = IdaLogger.getLogger(BioSdkBulkhead.class);
+
+	private static final String METRIC_PREFIX = "ida.bio.sdk.";
+
+	@Value("${" + BIO_MATCHING_MAX_CONCURRENT_CALLS + ":0}")
+	private int maxConcurrentCalls;
+
+	@Value("${" + BIO_MATCHING_MAX_WAITING_CALLS + ":100}")
+	private int maxWaitingCalls;
+
+	@Value("${" + BIO_MATCHING_MAX_WAIT_MILLIS + ":2000}")
+	private long maxWaitMillis;
+
+	@Value("${" + BIO_MATCHING_SDK_INSTANCE_POOL_ENABLED + ":false}")
+	private boolean sdkInstancePoolEnabled;
+
+	/** The bio api factory, holding the vendor parameters of the modalities. */
+	@Autowired
+	private BioAPIFactory bioApiFactory;
+
+	/** The meter registry. */
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	private Map<BiometricType, Compartment> compartments = Collections.emptyMap();
+
+	@PostConstruct
+	public void init() {
+		if (maxConcurrentCalls <= 0) {
+			return;
+		}
+		Map<BiometricType, Compartment> modalityCompartments = new EnumMap<>(BiometricType.class);
+		for (BiometricType modality : List.of(BiometricType.FINGER, BiometricType.IRIS, BiometricType.FACE)) {
+			modalityCompartments.put(modality, new Compartment(modality));
+		}
+		compartments = modalityCompartments;
+	}
+
+	/**
+	 * Checks if the calls are limited.
+	 *
+	 * @return true, if enabled
+	 */
+	public boolean isEnabled() {
+		return !compartments.isEmpty();
+	}
+
+	/**
+	 * Verifies the sample BIRs of a modality against the record BIRs, within the
+	 * concurrent call limit of the modality.
+	 *
+	 * @param modality    the modality
+	 * @param bioProvider the SDK provider of the modality
+	 * @param sample      the sample BIRs
+	 * @param record      the record BIRs
+	 * @param flags       the flags
+	 * @return true, if matched
+	 * @throws IdAuthenticationBusinessException if the call is rejected as the
+	 *                                           modality is busy, or it is
+	 *                                           interrupted while waiting
+	 */
+	public boolean verify(BiometricType modality, iBioProviderApi bioProvider, List<BIR> sample, List<BIR> record,
+			Map<String, String> flags) throws IdAuthenticationBusinessException {
+		Compartment compartment = compartments.get(modality);
+		if (compartment == null) {
+			return bioProvider.verify(sample, record, modality, flags);
+		}
+		compartment.acquire();
+		try {
+			iBioProviderApi instance = compartment.borrowInstance(bioProvider);
+			long startNanos = System.nanoTime();
+			try {
+				return instance.verify(sample, record, modality, flags);
+			} finally {
+				compartment.record(compartment.callTimer, startNanos);
+				compartment.returnInstance(instance, bioProvider);
+			}
+		} finally {
+			compartment.permits.release();
+		}
+	}
+
+	/**
+	 * Gets the count of the calls of the modality waiting for a call to complete.
+	 *
+	 * @param modality the modality
+	 * @return the waiting count
+	 */
+	public int getWaitingCount(BiometricType modality) {
+		Compartment compartment = compartments.get(modality);
+		return compartment == null ? 0 : compartment.waiting.get();
+	}
+
+	/**
+	 * Gets the count of the calls of the modality rejected as busy.
+	 *
+	 * @param modality the modality
+	 * @return the rejected count
+	 */
+	public long getRejectedCount(BiometricType modality) {
+		Compartment compartment = compartments.get(modality);
+		return compartment == null ? 0 : compartment.rejected.get();
+	}
+
+	/**
+	 * Creates an SDK provider instance of the class of the registered provider,
+	 * initialized with the vendor parameters of the modality supporting match.
+	 */
+	private iBioProviderApi createInstance(BiometricType modality, iBioProviderApi bioProvider)
+			throws IdAuthenticationBusinessException {
+		try {
+			for (Map<String, String> params : getVendorParams(modality).values()) {
+				iBioProviderApi instance = bioProvider.getClass().getDeclaredConstructor().newInstance();
+				Map<BiometricType, List<BiometricFunction>> supported = instance.init(Map.of(modality, params));
+				if (supported != null && supported.getOrDefault(modality, List.of()).contains(BiometricFunction.MATCH)) {
+					return instance;
+				}
+			}
+		} catch (Exception e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "createInstance",
+					"Unable to create the SDK instance of " + modality + ": " + ExceptionUtils.getStackTrace(e));
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, e);
+		}
+		mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "createInstance",
+				"No SDK vendor supports match for " + modality);
+		throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO.getErrorCode(),
+				IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO.getErrorMessage());
+	}
+
+	private Map<String, Map<String, String>> getVendorParams(BiometricType modality) {
+		Map<String, Map<String, String>> vendorParams;
+		switch (modality) {
+		case FINGER:
+			vendorParams = bioApiFactory.getFinger();
+			break;
+		case IRIS:
+			vendorParams = bioApiFactory.getIris();
+			break;
+		default:
+			vendorParams = bioApiFactory.getFace();
+			break;
+		}
+		return vendorParams == null ? Map.of() : vendorParams;
+	}
+
+	/**
+	 * The concurrent call limit of a modality, with its waiting calls, its SDK
+	 * instance pool and its metrics.
+	 */
+	private final class Compartment {
+
+		private final BiometricType modality;
+
+		private final Semaphore permits = new Semaphore(maxConcurrentCalls, true);
+
+		private final AtomicInteger waiting = new AtomicInteger();
+
+		private final AtomicLong rejected = new AtomicLong();
+
+		private final Timer waitTimer;
+
+		private final Timer callTimer;
+
+		/** The pooled SDK instances, created on first use. */
+		private volatile BlockingQueue<iBioProviderApi> instances;
+
+		private Compartment(BiometricType modality) {
+			this.modality = modality;
+			if (meterRegistry == null) {
+				waitTimer = null;
+				callTimer = null;
+				return;
+			}
+			String modalityTag = modality.name();
+			Gauge.builder(METRIC_PREFIX + "waiting", waiting, AtomicInteger::get).tag("modality", modalityTag)
+					.description("Bio SDK match calls waiting for a call to complete").register(meterRegistry);
+			FunctionCounter.builder(METRIC_PREFIX + "rejected", rejected, AtomicLong::get).tag("modality", modalityTag)
+					.description("Bio SDK match calls rejected as busy").register(meterRegistry);
+			waitTimer = Timer.builder(METRIC_PREFIX + "wait").tag("modality", modalityTag)
+					.description("Time waited by the Bio SDK match calls").register(meterRegistry);
+			callTimer = Timer.builder(METRIC_PREFIX + "call").tag("modality", modalityTag)
+					.description("Time taken by the Bio SDK match calls").register(meterRegistry);
+		}
+
+		private void acquire() throws IdAuthenticationBusinessException {
+			if (permits.tryAcquire()) {
+				return;
+			}
+			if (waiting.incrementAndGet() > maxWaitingCalls) {
+				waiting.decrementAndGet();
+				reject("the waiting calls are full");
+			}
+			long startNanos = System.nanoTime();
+			boolean acquired;
+			try {
+				acquired = permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, e);
+			} finally {
+				waiting.decrementAndGet();
+				record(waitTimer, startNanos);
+			}
+			if (!acquired) {
+				reject("no call completed within " + maxWaitMillis + " ms");
+			}
+		}
+
+		private void reject(String reason) throws IdAuthenticationBusinessException {
+			rejected.incrementAndGet();
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, BioSdkBulkhead.class.getSimpleName(), "acquire",
+					"Bio SDK match call for " + modality + " rejected as " + reason);
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.BIO_MATCH_BUSY.getErrorCode(),
+					String.format(IdAuthenticationErrorConstants.BIO_MATCH_BUSY.getErrorMessage(), modality));
+		}
+
+		private iBioProviderApi borrowInstance(iBioProviderApi bioProvider) throws IdAuthenticationBusinessException {
+			if (!sdkInstancePoolEnabled) {
+				return bioProvider;
+			}
+			if (instances == null) {
+				synchronized (this) {
+					if (instances == null) {
+						BlockingQueue<iBioProviderApi> pool = new ArrayBlockingQueue<>(maxConcurrentCalls);
+						for (int i = 0; i < maxConcurrentCalls; i++) {
+							pool.add(createInstance(modality, bioProvider));
+						}
+						instances = pool;
+					}
+				}
+			}
+			// A permit is held, so an instance is always free
+			iBioProviderApi instance = instances.poll();
+			return instance == null ? bioProvider : instance;
+		}
+
+		private void returnInstance(iBioProviderApi instance, iBioProviderApi bioProvider) {
+			if (instance != bioProvider) {
+				instances.offer(instance);
+			}
+		}
+
+		private void record(Timer timer, long startNanos) {
+			if (timer != null) {
+				timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+}
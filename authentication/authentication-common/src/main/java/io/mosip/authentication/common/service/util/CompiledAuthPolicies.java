@@ -0,0 +1,212 @@
+package io.mosip.authentication.common.service.util;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.partner.dto.AuthPolicy;
+import io.mosip.authentication.core.spi.indauth.match.MatchType.Category;
+import io.mosip.kernel.biometrics.constant.BiometricType;
+
+/**
+ * The Class CompiledAuthPolicies - the allowed auth types of a partner policy,
+ * compiled once into the sets of the allowed and mandatory auth types and bio
+ * sub-types, so that the auth types of a request are checked without comparing
+ * the strings of every policy.
+ * <p>
+ * It is an immutable list of the auth policies, so that it is passed to the
+ * policy checks of the filters in place of the policies it is compiled from.
+ */
+public final class CompiledAuthPolicies extends AbstractList<AuthPolicy> {
+
+	/** The categories by the lower case auth type. */
+	private static final Map<String, Category> CATEGORIES = new HashMap<>();
+
+	/** The biometric types by the lower case value. */
+	private static final Map<String, BiometricType> BIOMETRIC_TYPES = new HashMap<>();
+
+	/** The categories checked for the mandatory auth policies. */
+	private static final Set<Category> MANDATORY_CHECKED_CATEGORIES = EnumSet.of(Category.OTP, Category.DEMO,
+			Category.SPIN, Category.BIO);
+
+	static {
+		for (Category category : Category.values()) {
+			CATEGORIES.put(toLowerCase(category.getType()), category);
+		}
+		for (BiometricType biometricType : BiometricType.values()) {
+			BIOMETRIC_TYPES.put(toLowerCase(biometricType.value()), biometricType);
+		}
+	}
+
+	private static final CompiledAuthPolicies EMPTY = new CompiledAuthPolicies(Collections.emptyList(), true);
+
+	private final List<AuthPolicy> policies;
+
+	private final EnumSet<Category> allowedCategories = EnumSet.noneOf(Category.class);
+
+	/** The allowed auth types other than the categories, in lower case. */
+	private final Set<String> allowedOtherAuthTypes = new HashSet<>();
+
+	private final EnumSet<BiometricType> allowedBioSubTypes = EnumSet.noneOf(BiometricType.class);
+
+	/** The allowed bio sub-types other than the biometric types, in lower case. */
+	private final Set<String> allowedOtherBioSubTypes = new HashSet<>();
+
+	/** Whether any non bio policy has a sub-type, to be matched by the policies. */
+	private boolean hasOtherSubTypes;
+
+	private final EnumSet<Category> mandatoryCategories = EnumSet.noneOf(Category.class);
+
+	/** The mandatory bio sub-types, in upper case. */
+	private final Set<String> mandatoryBioSubTypes = new HashSet<>();
+
+	private boolean kycMandatory;
+
+	private final CompiledAuthPolicies mandatoryPolicies;
+
+	private CompiledAuthPolicies(List<AuthPolicy> policies, boolean mandatoryOnly) {
+		this.policies = Collections.unmodifiableList(policies);
+		boolean allMandatory = true;
+		for (AuthPolicy policy : policies) {
+			compile(policy);
+			allMandatory &= policy.isMandatory();
+		}
+		if (allMandatory || mandatoryOnly) {
+			mandatoryPolicies = this;
+		} else {
+			mandatoryPolicies = new CompiledAuthPolicies(
+					policies.stream().filter(AuthPolicy::isMandatory).collect(Collectors.toList()), true);
+		}
+	}
+
+	/**
+	 * Compiles the auth policies, unless already compiled.
+	 *
+	 * @param policies the policies
+	 * @return the compiled auth policies
+	 */
+	public static CompiledAuthPolicies of(List<AuthPolicy> policies) {
+		if (policies instanceof CompiledAuthPolicies) {
+			return (CompiledAuthPolicies) policies;
+		}
+		if (policies == null || policies.isEmpty()) {
+			return EMPTY;
+		}
+		return new CompiledAuthPolicies(policies, false);
+	}
+
+	private void compile(AuthPolicy policy) {
+		String authType = toLowerCase(policy.getAuthType());
+		if (authType == null) {
+			return;
+		}
+		Category category = CATEGORIES.get(authType);
+		if (category == null) {
+			allowedOtherAuthTypes.add(authType);
+		} else {
+			allowedCategories.add(category);
+		}
+		String subType = toLowerCase(policy.getAuthSubType());
+		if (subType != null) {
+			if (category != Category.BIO) {
+				hasOtherSubTypes = true;
+			} else if (BIOMETRIC_TYPES.containsKey(subType)) {
+				allowedBioSubTypes.add(BIOMETRIC_TYPES.get(subType));
+			} else {
+				allowedOtherBioSubTypes.add(subType);
+			}
+		}
+		if (policy.isMandatory()) {
+			if (category != null && MANDATORY_CHECKED_CATEGORIES.contains(category)) {
+				mandatoryCategories.add(category);
+				if (category == Category.BIO && subType != null) {
+					mandatoryBioSubTypes.add(policy.getAuthSubType().toUpperCase());
+				}
+			} else if (authType.equals(toLowerCase(IdAuthCommonConstants.KYC))) {
+				kycMandatory = true;
+			}
+		}
+	}
+
+	/**
+	 * Checks if the auth type is allowed.
+	 *
+	 * @param authType the auth type
+	 * @return true, if allowed
+	 */
+	public boolean isAllowed(String authType) {
+		String type = toLowerCase(authType);
+		Category category = CATEGORIES.get(type);
+		return category == null ? allowedOtherAuthTypes.contains(type) : allowedCategories.contains(category);
+	}
+
+	/**
+	 * Checks if the auth type is allowed for the sub-type.
+	 *
+	 * @param authType    the auth type
+	 * @param subAuthType the sub auth type, or null for any sub-type
+	 * @return true, if allowed
+	 */
+	public boolean isAllowed(String authType, String subAuthType) {
+		if (subAuthType == null) {
+			return isAllowed(authType);
+		}
+		String subType = toLowerCase(subAuthType);
+		if (CATEGORIES.get(toLowerCase(authType)) == Category.BIO) {
+			BiometricType biometricType = BIOMETRIC_TYPES.get(subType);
+			return biometricType == null ? allowedOtherBioSubTypes.contains(subType)
+					: allowedBioSubTypes.contains(biometricType);
+		}
+		return hasOtherSubTypes && policies.stream()
+				.anyMatch(policy -> authType.equalsIgnoreCase(policy.getAuthType())
+						&& subAuthType.equalsIgnoreCase(policy.getAuthSubType()));
+	}
+
+	/**
+	 * Gets the mandatory auth policies.
+	 *
+	 * @return the mandatory policies
+	 */
+	public CompiledAuthPolicies getMandatoryPolicies() {
+		return mandatoryPolicies;
+	}
+
+	/**
+	 * Checks if the mandatory auth policies are satisfied by the auth types of a
+	 * request.
+	 *
+	 * @param requestedCategories the categories of the auth types requested
+	 * @param requestedBioTypes   the bio types requested, in upper case
+	 * @param kycRequested        whether the request is a KYC request
+	 * @return true, if satisfied
+	 */
+	public boolean isMandatorySatisfied(Set<Category> requestedCategories, List<String> requestedBioTypes,
+			boolean kycRequested) {
+		return requestedCategories.containsAll(mandatoryCategories)
+				&& (mandatoryBioSubTypes.isEmpty() || requestedBioTypes.containsAll(mandatoryBioSubTypes))
+				&& (!kycMandatory || kycRequested);
+	}
+
+	@Override
+	public AuthPolicy get(int index) {
+		return policies.get(index);
+	}
+
+	@Override
+	public int size() {
+		return policies.size();
+	}
+
+	private static String toLowerCase(String value) {
+		return value == null ? null : value.toLowerCase(Locale.ROOT);
+	}
+
+}
@@ -62,6 +62,11 @@ import static io.mosip.idrepository.core.constant.IdRepoConstants.SALT_KEY_LENGT
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.KYC_TOKEN_EXPIRE_TIME_ADJUSTMENT_IN_SECONDS;
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.DEFAULT_KYC_TOKEN_EXPIRE_TIME_ADJUSTMENT_IN_SECONDS;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.KYC_EXCHANGE_DEFAULT_LANGUAGE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_DECRYPTION_THREAD_COUNT;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_DECRYPTION_QUEUE_CAPACITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCHING_THREAD_COUNT;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCHING_QUEUE_CAPACITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.DEMO_MATCHING_PARALLELISM;
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.DEFAULT_KYC_EXCHANGE_DEFAULT_LANGUAGE;
 
 import javax.annotation.PostConstruct;
@@ -200,6 +205,16 @@ public class EnvUtil {
 	@Getter @Setter private static String monitorAsyncThreadQueue;
 	
 	@Getter @Setter private static Integer asyncThreadQueueThreshold;
+
+	@Getter @Setter private static Integer bioDecryptionThreadCount;
+
+	@Getter @Setter private static Integer bioDecryptionQueueCapacity;
+
+	@Getter @Setter private static Integer bioMatchingThreadCount;
+
+	@Getter @Setter private static Integer bioMatchingQueueCapacity;
+
+	@Getter @Setter private static Integer demoMatchingParallelism;
 	
 	@Getter @Setter private static Long kycTokenExpireTimeAdjustmentSeconds;
 
@@ -275,6 +290,12 @@ public class EnvUtil {
 		setActiveAsyncThreadCount(this.getProperty("mosip.ida.active-async-thread-count", Integer.class));
 		setMonitorAsyncThreadQueue(this.getProperty("mosip.ida.monitor-thread-queue-in-ms"));
 		setAsyncThreadQueueThreshold(this.getProperty("mosip.ida.max-thread-queue-threshold", Integer.class, 0));
+		setBioDecryptionThreadCount(this.getProperty(BIO_DECRYPTION_THREAD_COUNT, Integer.class,
+				Runtime.getRuntime().availableProcessors()));
+		setBioDecryptionQueueCapacity(this.getProperty(BIO_DECRYPTION_QUEUE_CAPACITY, Integer.class, 1000));
+		setBioMatchingThreadCount(this.getProperty(BIO_MATCHING_THREAD_COUNT, Integer.class, 0));
+		setBioMatchingQueueCapacity(this.getProperty(BIO_MATCHING_QUEUE_CAPACITY, Integer.class, 100));
+		setDemoMatchingParallelism(this.getProperty(DEMO_MATCHING_PARALLELISM, Integer.class, 0));
 		setKycTokenExpireTimeAdjustmentSeconds(this.getProperty(KYC_TOKEN_EXPIRE_TIME_ADJUSTMENT_IN_SECONDS, Long.class,
 			DEFAULT_KYC_TOKEN_EXPIRE_TIME_ADJUSTMENT_IN_SECONDS));
 		setKycExchangeDefaultLanguage(this.getProperty(KYC_EXCHANGE_DEFAULT_LANGUAGE, DEFAULT_KYC_EXCHANGE_DEFAULT_LANGUAGE));
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.helper.WriteBehindRecordWriter;
 import io.mosip.authentication.common.service.impl.AuthTxnServiceImpl;
 import io.mosip.authentication.common.service.websub.impl.AuthTransactionStatusEventPublisher;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
@@ -65,6 +66,10 @@ public class IdaRequestResponsConsumerUtil implements AuthTransactionStoreFuncti
 	@Autowired
 	private IdService<AutnTxn> idService;
 
+	/** The write behind record writer. */
+	@Autowired
+	private WriteBehindRecordWriter writeBehindRecordWriter;
+
 	
 	/**
 	 * Store anonymous profile.
@@ -95,6 +100,22 @@ public class IdaRequestResponsConsumerUtil implements AuthTransactionStoreFuncti
 	@Override
 	public void storeAuthTransaction(Map<String, Object> metadata, String requestSignature,
 			String responseSignature) throws IdAuthenticationAppException {
+		storeAuthTransaction(metadata, requestSignature, responseSignature, true);
+	}
+
+	/**
+	 * Store auth transaction, before the response unless it may be written behind
+	 * and the write behind is enabled. The auth transaction status event is
+	 * published once the auth transaction is stored.
+	 *
+	 * @param metadata the metadata
+	 * @param requestSignature the request signature
+	 * @param responseSignature the response signature
+	 * @param canWriteBehind whether the auth transaction may be written behind
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	public void storeAuthTransaction(Map<String, Object> metadata, String requestSignature,
+			String responseSignature, boolean canWriteBehind) throws IdAuthenticationAppException {
 		if(metadata != null) {
 			Object authTxnObj = metadata.get(AutnTxn.class.getSimpleName());
 			if(authTxnObj != null) {
@@ -102,6 +123,11 @@ public class IdaRequestResponsConsumerUtil implements AuthTransactionStoreFuncti
 				autnTxn.setRequestSignature(requestSignature);
 				autnTxn.setResponseSignature(responseSignature);
 				try {
+					if (canWriteBehind && writeBehindRecordWriter.isEnabled()) {
+						// The event is published by the writer once the auth transaction is inserted
+						writeBehindRecordWriter.write(autnTxn);
+						return;
+					}
 					idService.saveAutnTxn(autnTxn);
 					authTransactionStatusEventPublisher.publishEvent(AuthTxnServiceImpl.fetchAuthResponseDTO(autnTxn), autnTxn.getId(), autnTxn.getCrDTimes());
 				} catch (IdAuthenticationBusinessException e) {
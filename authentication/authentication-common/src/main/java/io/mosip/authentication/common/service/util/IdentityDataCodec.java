@@ -0,0 +1,333 @@
+package io.mosip.authentication.common.service.util;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_CACHE_DATA_FORMAT;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The Class IdentityDataCodec - encodes and decodes the attribute maps stored
+ * in demo_data and bio_data columns of identity_cache table.
+ * <p>
+ * Two formats are supported:
+ * <ul>
+ * <li>json - the attribute map serialised with Jackson, as stored so far.</li>
+ * <li>binary - a length prefixed layout with the attribute directory at the
+ * head, followed by the attribute values. String values are stored as UTF-8
+ * bytes without JSON escaping, and Base64 values (such as the zero knowledge
+ * encrypted values) are stored as the decoded raw bytes. Attributes which are
+ * not requested are skipped without reading their values.</li>
+ * </ul>
+ * The format used to encode is selected by configuration, while both the
+ * formats are always decoded, hence the records can be migrated from one
+ * format to another while being read.
+ */
+@Component
+public class IdentityDataCodec {
+
+	public static final String FORMAT_JSON = "json";
+
+	public static final String FORMAT_BINARY = "binary";
+
+	/** The header of the binary format, never a valid start of a JSON document. */
+	private static final byte[] BINARY_HEADER = { 0, 'I', 'D', 'C', 1 };
+
+	private static final byte KIND_STRING = 0;
+
+	private static final byte KIND_BASE64 = 1;
+
+	private static final byte KIND_BASE64_URL = 2;
+
+	private static final byte KIND_BASE64_URL_NO_PADDING = 3;
+
+	private static final byte KIND_JSON = 4;
+
+	/** The minimum length of a string value to be checked for Base64. */
+	private static final int MIN_BASE64_LENGTH = 16;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	@Value("${" + IDENTITY_CACHE_DATA_FORMAT + ":" + FORMAT_JSON + "}")
+	private String dataFormat;
+
+	/**
+	 * Checks if the configured format to encode is binary.
+	 *
+	 * @return true, if binary
+	 */
+	public boolean isBinaryFormatEnabled() {
+		return FORMAT_BINARY.equalsIgnoreCase(dataFormat);
+	}
+
+	/**
+	 * Checks if the data is encoded in the binary format.
+	 *
+	 * @param data the data
+	 * @return true, if binary
+	 */
+	public boolean isBinary(byte[] data) {
+		if (data == null || data.length < BINARY_HEADER.length) {
+			return false;
+		}
+		for (int i = 0; i < BINARY_HEADER.length; i++) {
+			if (data[i] != BINARY_HEADER[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Encodes the attribute map in the configured format.
+	 *
+	 * @param data the attribute map
+	 * @return the encoded data
+	 * @throws JsonProcessingException the json processing exception
+	 */
+	public byte[] encode(Map<String, ?> data) throws JsonProcessingException {
+		return isBinaryFormatEnabled() ? encodeBinary(data) : mapper.writeValueAsBytes(data);
+	}
+
+	/**
+	 * Decodes all the attributes of the data encoded in any of the formats.
+	 *
+	 * @param data the data
+	 * @return the attribute map
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public Map<String, Object> decode(byte[] data) throws IOException {
+		return decode(data, null);
+	}
+
+	/**
+	 * Decodes the requested attributes of the data encoded in any of the
+	 * formats.
+	 *
+	 * @param data                        the data
+	 * @param filterAttributesInLowercase the requested attributes in lower case,
+	 *                                    or null to decode all the attributes
+	 * @return the attribute map
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, Object> decode(byte[] data, Set<String> filterAttributesInLowercase) throws IOException {
+		if (isBinary(data)) {
+			return decodeBinary(data, filterAttributesInLowercase);
+		}
+		if (filterAttributesInLowercase == null) {
+			return mapper.readValue(data, Map.class);
+		}
+		return decodeJson(data, filterAttributesInLowercase);
+	}
+
+	/**
+	 * Decodes the requested attributes of the data in json format while
+	 * streaming through it, skipping the values of the other attributes without
+	 * building them.
+	 *
+	 * @param data                        the data
+	 * @param filterAttributesInLowercase the requested attributes in lower case
+	 * @return the attribute map
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private Map<String, Object> decodeJson(byte[] data, Set<String> filterAttributesInLowercase) throws IOException {
+		Map<String, Object> dataMap = new LinkedHashMap<>();
+		try (JsonParser parser = mapper.getFactory().createParser(data)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "Identity data is not a JSON object");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String attribute = parser.getCurrentName();
+				JsonToken valueToken = parser.nextToken();
+				if (!filterAttributesInLowercase.contains(attribute.toLowerCase())) {
+					parser.skipChildren();
+				} else if (valueToken == JsonToken.VALUE_STRING) {
+					dataMap.put(attribute, parser.getText());
+				} else {
+					dataMap.put(attribute, mapper.readValue(parser, Object.class));
+				}
+			}
+		}
+		return dataMap;
+	}
+
+	private byte[] encodeBinary(Map<String, ?> data) throws JsonProcessingException {
+		List<byte[]> keys = new ArrayList<>(data.size());
+		List<byte[]> values = new ArrayList<>(data.size());
+		byte[] kinds = new byte[data.size()];
+		int index = 0;
+		for (Entry<String, ?> entry : data.entrySet()) {
+			keys.add(entry.getKey().getBytes(StandardCharsets.UTF_8));
+			Object value = entry.getValue();
+			if (value instanceof String) {
+				String strValue = (String) value;
+				byte kind = getBase64Kind(strValue);
+				kinds[index] = kind;
+				values.add(kind == KIND_STRING ? strValue.getBytes(StandardCharsets.UTF_8)
+						: getBase64Decoder(kind).decode(strValue));
+			} else {
+				kinds[index] = KIND_JSON;
+				values.add(mapper.writeValueAsBytes(value));
+			}
+			index++;
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.write(BINARY_HEADER);
+			out.writeInt(data.size());
+			int offset = 0;
+			for (int i = 0; i < kinds.length; i++) {
+				out.writeShort(keys.get(i).length);
+				out.write(keys.get(i));
+				out.writeByte(kinds[i]);
+				out.writeInt(offset);
+				out.writeInt(values.get(i).length);
+				offset += values.get(i).length;
+			}
+			for (byte[] value : values) {
+				out.write(value);
+			}
+		} catch (IOException e) {
+			// Not thrown while writing into a byte array
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private Map<String, Object> decodeBinary(byte[] data, Set<String> filterAttributesInLowercase)
+			throws IOException {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(data);
+			buffer.position(BINARY_HEADER.length);
+			int count = buffer.getInt();
+			String[] keys = new String[count];
+			byte[] kinds = new byte[count];
+			int[] offsets = new int[count];
+			int[] lengths = new int[count];
+			for (int i = 0; i < count; i++) {
+				int keyLength = buffer.getShort() & 0xFFFF;
+				keys[i] = new String(data, buffer.position(), keyLength, StandardCharsets.UTF_8);
+				buffer.position(buffer.position() + keyLength);
+				kinds[i] = buffer.get();
+				offsets[i] = buffer.getInt();
+				lengths[i] = buffer.getInt();
+			}
+			int valuesStart = buffer.position();
+
+			Map<String, Object> dataMap = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++) {
+				if (filterAttributesInLowercase == null
+						|| filterAttributesInLowercase.contains(keys[i].toLowerCase())) {
+					int start = valuesStart + offsets[i];
+					if (start < valuesStart || lengths[i] < 0 || start + lengths[i] > data.length) {
+						throw new IOException("Invalid binary identity data");
+					}
+					dataMap.put(keys[i], decodeValue(kinds[i], data, start, lengths[i]));
+				}
+			}
+			return dataMap;
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IOException("Invalid binary identity data", e);
+		}
+	}
+
+	private Object decodeValue(byte kind, byte[] data, int start, int length) throws IOException {
+		switch (kind) {
+		case KIND_STRING:
+			return new String(data, start, length, StandardCharsets.UTF_8);
+		case KIND_BASE64:
+			return Base64.getEncoder().encodeToString(copyOfRange(data, start, length));
+		case KIND_BASE64_URL:
+			return Base64.getUrlEncoder().encodeToString(copyOfRange(data, start, length));
+		case KIND_BASE64_URL_NO_PADDING:
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(copyOfRange(data, start, length));
+		case KIND_JSON:
+			return mapper.readValue(data, start, length, Object.class);
+		default:
+			throw new IOException("Invalid value kind in binary identity data: " + kind);
+		}
+	}
+
+	private byte[] copyOfRange(byte[] data, int start, int length) {
+		byte[] value = new byte[length];
+		System.arraycopy(data, start, value, 0, length);
+		return value;
+	}
+
+	/**
+	 * Gets the Base64 variant of the string value, only if the value is restored
+	 * exactly by encoding the decoded bytes with that variant.
+	 *
+	 * @param value the value
+	 * @return the Base64 kind, or string kind if the value is not Base64
+	 */
+	private byte getBase64Kind(String value) {
+		if (value.length() < MIN_BASE64_LENGTH) {
+			return KIND_STRING;
+		}
+		boolean plainChars = false;
+		boolean urlChars = false;
+		int padding = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '=') {
+				padding++;
+			} else if (padding > 0) {
+				return KIND_STRING;
+			} else if (c == '+' || c == '/') {
+				plainChars = true;
+			} else if (c == '-' || c == '_') {
+				urlChars = true;
+			} else if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9'))) {
+				return KIND_STRING;
+			}
+		}
+		if ((plainChars && urlChars) || padding > 2) {
+			return KIND_STRING;
+		}
+
+		byte kind;
+		if (urlChars) {
+			kind = value.length() % 4 == 0 ? KIND_BASE64_URL : KIND_BASE64_URL_NO_PADDING;
+		} else if (value.length() % 4 == 0) {
+			kind = KIND_BASE64;
+		} else {
+			kind = KIND_BASE64_URL_NO_PADDING;
+		}
+		try {
+			byte[] decoded = getBase64Decoder(kind).decode(value);
+			String reencoded = (String) decodeValue(kind, decoded, 0, decoded.length);
+			return value.equals(reencoded) ? kind : KIND_STRING;
+		} catch (IllegalArgumentException | IOException e) {
+			return KIND_STRING;
+		}
+	}
+
+	private Base64.Decoder getBase64Decoder(byte kind) {
+		return kind == KIND_BASE64 ? Base64.getDecoder() : Base64.getUrlDecoder();
+	}
+
+}
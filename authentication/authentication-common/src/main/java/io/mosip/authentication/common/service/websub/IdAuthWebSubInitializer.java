@@ -6,11 +6,13 @@ import org.apache.http.HttpStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import io.mosip.authentication.common.service.cache.PartnerPolicyCache;
 import io.mosip.authentication.common.service.websub.impl.AuthAnonymousEventPublisher;
 import io.mosip.authentication.common.service.websub.impl.AuthTransactionStatusEventPublisher;
 import io.mosip.authentication.common.service.websub.impl.IdAuthFraudAnalysisEventPublisher;
 import io.mosip.authentication.common.service.websub.impl.MasterDataUpdateEventInitializer;
 import io.mosip.authentication.common.service.websub.impl.PartnerCACertEventInitializer;
+import io.mosip.authentication.common.service.websub.impl.PartnerServiceEventsInitializer;
 
 /**
  * Websub Initializer for External facing IDA services such as Auth, EKYC and
@@ -38,6 +40,13 @@ public final class IdAuthWebSubInitializer extends CacheUpdatingWebsubInitialize
 	@Autowired
 	private PartnerCACertEventInitializer partnerCACertEventInitializer;
 
+	/** The partner service events initializer, to evict the partner policy cache. */
+	@Autowired
+	private PartnerServiceEventsInitializer partnerServiceEventsInitializer;
+
+	@Autowired
+	private PartnerPolicyCache partnerPolicyCache;
+
 	/**
 	 * Do init subscriptions.
 	 */
@@ -45,6 +54,7 @@ public final class IdAuthWebSubInitializer extends CacheUpdatingWebsubInitialize
 	protected int doInitSubscriptions() {
 		webSubHelper.initSubscriber(masterDataUpdateEventInitializer, this::isCacheEnabled);
 		webSubHelper.initSubscriber(partnerCACertEventInitializer);
+		webSubHelper.initSubscriber(partnerServiceEventsInitializer, partnerPolicyCache::isEnabled);
 		return HttpStatus.SC_OK;
 	}
 
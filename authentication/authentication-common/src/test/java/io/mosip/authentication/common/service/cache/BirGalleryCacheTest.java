@@ -0,0 +1,89 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.biometrics.entities.BIR;
+
+public class BirGalleryCacheTest {
+
+    private BirGalleryCache birGalleryCache;
+
+    @Before
+    public void before() {
+        birGalleryCache = new BirGalleryCache();
+        ReflectionTestUtils.setField(birGalleryCache, "enabled", true);
+        ReflectionTestUtils.setField(birGalleryCache, "maxSizeBytes", 10L);
+        ReflectionTestUtils.setField(birGalleryCache, "expireAfterAccessSecs", 3600L);
+    }
+
+    /**
+     * Cached BIR is served for the same CBEFF content
+     */
+    @Test
+    public void getCachedTest() {
+        BIR bir = bir();
+        birGalleryCache.put("abcd".getBytes(), bir);
+        assertSame(bir, birGalleryCache.get("abcd".getBytes()));
+        assertNull(birGalleryCache.get("abce".getBytes()));
+        assertEquals(4, birGalleryCache.getSizeInBytes());
+    }
+
+    /**
+     * Least recently used entries are evicted once the maximum size is exceeded
+     */
+    @Test
+    public void putEvictsLeastRecentlyUsedTest() {
+        BIR first = bir();
+        BIR second = bir();
+        birGalleryCache.put("aaaa".getBytes(), first);
+        birGalleryCache.put("bbbb".getBytes(), second);
+        birGalleryCache.get("aaaa".getBytes());
+        birGalleryCache.put("cccc".getBytes(), bir());
+        assertSame(first, birGalleryCache.get("aaaa".getBytes()));
+        assertNull(birGalleryCache.get("bbbb".getBytes()));
+        assertEquals(2, birGalleryCache.getEntryCount());
+        assertEquals(8, birGalleryCache.getSizeInBytes());
+    }
+
+    /**
+     * CBEFF larger than the maximum size is not cached
+     */
+    @Test
+    public void putOversizedTest() {
+        birGalleryCache.put("aaaaaaaaaaa".getBytes(), bir());
+        assertNull(birGalleryCache.get("aaaaaaaaaaa".getBytes()));
+        assertEquals(0, birGalleryCache.getSizeInBytes());
+    }
+
+    /**
+     * Entry not accessed within the expiry is not served
+     */
+    @Test
+    public void getExpiredTest() {
+        ReflectionTestUtils.setField(birGalleryCache, "expireAfterAccessSecs", -1L);
+        birGalleryCache.put("abcd".getBytes(), bir());
+        assertNull(birGalleryCache.get("abcd".getBytes()));
+        assertEquals(0, birGalleryCache.getEntryCount());
+    }
+
+    /**
+     * Nothing is cached when disabled
+     */
+    @Test
+    public void disabledTest() {
+        ReflectionTestUtils.setField(birGalleryCache, "enabled", false);
+        birGalleryCache.put("abcd".getBytes(), bir());
+        assertNull(birGalleryCache.get("abcd".getBytes()));
+        assertEquals(0, birGalleryCache.getEntryCount());
+    }
+
+    private BIR bir() {
+        return new BIR.BIRBuilder().build();
+    }
+}
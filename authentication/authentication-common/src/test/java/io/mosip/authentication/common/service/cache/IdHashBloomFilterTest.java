@@ -0,0 +1,62 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class IdHashBloomFilterTest {
+
+    /**
+     * Added id hashes are always reported as possibly present
+     */
+    @Test
+    public void putAndMightContainTest() {
+        IdHashBloomFilter filter = new IdHashBloomFilter(1000, 0.01);
+        List<String> idHashes = randomIdHashes(1000);
+        idHashes.forEach(filter::put);
+        assertTrue(idHashes.stream().allMatch(filter::mightContain));
+        assertFalse(filter.mightContain("not-added"));
+    }
+
+    /**
+     * False positive rate stays around the configured rate when filled up to the expected entries
+     */
+    @Test
+    public void falsePositiveRateTest() {
+        IdHashBloomFilter filter = new IdHashBloomFilter(10000, 0.01);
+        randomIdHashes(10000).forEach(filter::put);
+        long falsePositives = randomIdHashes(10000).stream().filter(filter::mightContain).count();
+        assertTrue("False positives: " + falsePositives, falsePositives < 200);
+        assertTrue(filter.getExpectedFalsePositiveRate() < 0.02);
+    }
+
+    /**
+     * Adding the same id hash again is not counted as a new entry
+     */
+    @Test
+    public void entryCountTest() {
+        IdHashBloomFilter filter = new IdHashBloomFilter(100, 0.01);
+        filter.put("idHash1");
+        filter.put("idHash1");
+        filter.put("idHash2");
+        assertEquals(2, filter.getEntryCount());
+        assertTrue(filter.getSizeInBytes() > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidFalsePositiveRateTest() {
+        new IdHashBloomFilter(100, 1);
+    }
+
+    private List<String> randomIdHashes(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID().toString().replace("-", "").toUpperCase())
+                .collect(Collectors.toList());
+    }
+}
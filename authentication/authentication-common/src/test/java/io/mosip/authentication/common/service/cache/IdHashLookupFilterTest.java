@@ -0,0 +1,138 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
+
+@WebMvcTest
+@ContextConfiguration(classes = {TestContext.class, WebApplicationContext.class})
+@RunWith(SpringRunner.class)
+public class IdHashLookupFilterTest {
+
+    @InjectMocks
+    private IdHashLookupFilter idHashLookupFilter;
+
+    @Mock
+    private IdentityCacheRepository identityRepo;
+
+    @Mock
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Before
+    public void before() {
+        ReflectionTestUtils.setField(idHashLookupFilter, "enabled", true);
+        ReflectionTestUtils.setField(idHashLookupFilter, "expectedEntries", 1000L);
+        ReflectionTestUtils.setField(idHashLookupFilter, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(idHashLookupFilter, "loadPageSize", 2);
+        ReflectionTestUtils.setField(idHashLookupFilter, "refreshIntervalMillis", 60000L);
+        ReflectionTestUtils.setField(idHashLookupFilter, "refreshOverlapSecs", 60L);
+        ReflectionTestUtils.setField(idHashLookupFilter, "rebuildIntervalSecs", 86400L);
+        Mockito.when(identityRepo.count()).thenReturn(3L);
+        Mockito.when(identityRepo.findIdsGreaterThan("", PageRequest.of(0, 2))).thenReturn(List.of("idHash1", "idHash2"));
+        Mockito.when(identityRepo.findIdsGreaterThan("idHash2", PageRequest.of(0, 2))).thenReturn(List.of("idHash3"));
+    }
+
+    /**
+     * Disabled filter never rejects an id hash
+     */
+    @Test
+    public void disabledTest() {
+        ReflectionTestUtils.setField(idHashLookupFilter, "enabled", false);
+        idHashLookupFilter.onApplicationEvent(readyEvent());
+        assertFalse(idHashLookupFilter.isDefinitelyAbsent(List.of("unknown")));
+        Mockito.verifyZeroInteractions(taskScheduler, identityRepo);
+    }
+
+    /**
+     * Id hash is not rejected until the filter is built
+     */
+    @Test
+    public void notBuiltTest() {
+        assertFalse(idHashLookupFilter.isDefinitelyAbsent(List.of("unknown")));
+        Mockito.verifyZeroInteractions(identityRepo);
+    }
+
+    /**
+     * Stored id hashes are loaded page by page and unknown id hashes are rejected without DB query
+     */
+    @Test
+    public void rebuildTest() {
+        idHashLookupFilter.rebuild();
+        assertFalse(idHashLookupFilter.isDefinitelyAbsent(List.of("idHash1")));
+        assertFalse(idHashLookupFilter.isDefinitelyAbsent(List.of("unknown", "idHash3")));
+        assertTrue(idHashLookupFilter.isDefinitelyAbsent(List.of("unknown")));
+        Mockito.verify(identityRepo, Mockito.never()).findIdsCreatedOnOrAfter(Mockito.any());
+    }
+
+    /**
+     * Miss after the refresh interval reads the id hashes stored since the last refresh
+     */
+    @Test
+    public void refreshOnMissTest() {
+        ReflectionTestUtils.setField(idHashLookupFilter, "refreshIntervalMillis", 0L);
+        idHashLookupFilter.rebuild();
+        Mockito.when(identityRepo.findIdsCreatedOnOrAfter(Mockito.any())).thenReturn(List.of("idHash4"));
+        assertFalse(idHashLookupFilter.isDefinitelyAbsent(List.of("idHash4")));
+        Mockito.verify(identityRepo, Mockito.times(1)).findIdsCreatedOnOrAfter(Mockito.any());
+    }
+
+    /**
+     * Id hashes stored by this node are added without DB query
+     */
+    @Test
+    public void putTest() {
+        idHashLookupFilter.rebuild();
+        idHashLookupFilter.put(List.of("idHash5"));
+        assertFalse(idHashLookupFilter.isDefinitelyAbsent(List.of("idHash5")));
+    }
+
+    /**
+     * Rebuild is scheduled and metrics are published once the application is ready
+     */
+    @Test
+    public void metricsTest() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(idHashLookupFilter, "meterRegistry", meterRegistry);
+        idHashLookupFilter.onApplicationEvent(readyEvent());
+        Mockito.verify(taskScheduler).scheduleWithFixedDelay(Mockito.any(Runnable.class), Mockito.any(Instant.class),
+                Mockito.eq(Duration.ofSeconds(86400L)));
+        idHashLookupFilter.rebuild();
+        idHashLookupFilter.remove("idHash1");
+        idHashLookupFilter.isDefinitelyAbsent(List.of("unknown"));
+        assertEquals(3, meterRegistry.get("ida.idhash.filter.entries").gauge().value(), 0);
+        assertTrue(meterRegistry.get("ida.idhash.filter.size").gauge().value() > 0);
+        assertTrue(meterRegistry.get("ida.idhash.filter.false.positive.rate").gauge().value() < 0.01);
+        assertEquals(1, meterRegistry.get("ida.idhash.filter.removed").gauge().value(), 0);
+        assertEquals(1, meterRegistry.get("ida.idhash.filter.rebuild").timer().count());
+        assertEquals(1, meterRegistry.get("ida.idhash.filter.rejected").counter().count(), 0);
+    }
+
+    private ApplicationReadyEvent readyEvent() {
+        return new ApplicationReadyEvent(new SpringApplication(), new String[0], null);
+    }
+}
@@ -0,0 +1,89 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.mosip.authentication.common.service.entity.IdaUinHashSalt;
+import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+
+@WebMvcTest
+@ContextConfiguration(classes = {TestContext.class, WebApplicationContext.class})
+@RunWith(SpringRunner.class)
+public class IdHashSaltRegistryTest {
+
+    @InjectMocks
+    private IdHashSaltRegistry saltRegistry;
+
+    @Mock
+    private IdaUinHashSaltRepo uinHashSaltRepo;
+
+    /**
+     * Loaded salts are served without querying the DB again
+     */
+    @Test
+    public void onApplicationEventLoadsAllSaltsTest() {
+        Mockito.when(uinHashSaltRepo.findAll()).thenReturn(List.of(salt(0, "salt0"), salt(999, "salt999")));
+        SpringApplication application = new SpringApplication();
+        ApplicationReadyEvent event = new ApplicationReadyEvent(application, new String[0], null);
+        saltRegistry.onApplicationEvent(event);
+        assertEquals("salt0", saltRegistry.getSalt(0));
+        assertEquals("salt999", saltRegistry.getSalt(999));
+        Mockito.verify(uinHashSaltRepo, Mockito.never()).retrieveSaltById(Mockito.any());
+    }
+
+    /**
+     * Missing modulo is read through from the DB only once
+     */
+    @Test
+    public void getSaltReadThroughTest() {
+        Mockito.when(uinHashSaltRepo.retrieveSaltById(12)).thenReturn("salt12");
+        assertEquals("salt12", saltRegistry.getSalt(12));
+        assertEquals("salt12", saltRegistry.getSalt(12));
+        Mockito.verify(uinHashSaltRepo, Mockito.times(1)).retrieveSaltById(12);
+    }
+
+    /**
+     * Salt not present in DB is not cached
+     */
+    @Test
+    public void getSaltNotExistsTest() {
+        assertNull(saltRegistry.getSalt(12));
+        assertNull(saltRegistry.getSalt(12));
+        Mockito.verify(uinHashSaltRepo, Mockito.times(2)).retrieveSaltById(12);
+    }
+
+    /**
+     * Salt added after load is served from the registry
+     */
+    @Test
+    public void putSaltTest() {
+        Mockito.when(uinHashSaltRepo.findAll()).thenReturn(List.of(salt(1, "salt1")));
+        saltRegistry.loadSalts();
+        saltRegistry.putSalt(500, "salt500");
+        assertEquals("salt1", saltRegistry.getSalt(1));
+        assertEquals("salt500", saltRegistry.getSalt(500));
+        Mockito.verify(uinHashSaltRepo, Mockito.never()).retrieveSaltById(Mockito.any());
+    }
+
+    private IdaUinHashSalt salt(int id, String salt) {
+        IdaUinHashSalt saltEntity = new IdaUinHashSalt();
+        saltEntity.setId(id);
+        saltEntity.setSalt(salt);
+        return saltEntity;
+    }
+}
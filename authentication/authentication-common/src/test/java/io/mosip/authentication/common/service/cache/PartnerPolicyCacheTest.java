@@ -0,0 +1,116 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.integration.ResolvedPartnerPolicy;
+
+public class PartnerPolicyCacheTest {
+
+	private PartnerPolicyCache cache;
+
+	private MeterRegistry meterRegistry;
+
+	@Before
+	public void before() {
+		cache = new PartnerPolicyCache();
+		meterRegistry = new SimpleMeterRegistry();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxEntries", 2);
+		ReflectionTestUtils.setField(cache, "expireAfterWriteSecs", 600L);
+		ReflectionTestUtils.setField(cache, "meterRegistry", meterRegistry);
+		cache.init();
+	}
+
+	/**
+	 * The cached partner policy is returned for the same keys, and the hits and
+	 * misses are counted
+	 */
+	@Test
+	public void getAndPutTest() {
+		ResolvedPartnerPolicy partnerPolicy = partnerPolicy();
+		assertNull(cache.get("partner", "apiKey", "license"));
+		cache.put("partner", "apiKey", "license", partnerPolicy, cache.getGeneration());
+		assertSame(partnerPolicy, cache.get("partner", "apiKey", "license"));
+		assertNull(cache.get("partner", "apiKey", "other"));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+		assertEquals(1.0, meterRegistry.get("ida.partner.policy.cache.hits").functionCounter().count(), 0);
+		assertEquals(2.0, meterRegistry.get("ida.partner.policy.cache.misses").functionCounter().count(), 0);
+		assertEquals(1.0, meterRegistry.get("ida.partner.policy.cache.entries").gauge().value(), 0);
+	}
+
+	/**
+	 * A partner policy resolved before the invalidation is not cached
+	 */
+	@Test
+	public void invalidateAllTest() {
+		long generation = cache.getGeneration();
+		cache.put("partner", "apiKey", "license", partnerPolicy(), generation);
+		cache.invalidateAll();
+		assertNull(cache.get("partner", "apiKey", "license"));
+		cache.put("partner", "apiKey", "license", partnerPolicy(), generation);
+		assertEquals(0, cache.getEntryCount());
+		cache.put("partner", "apiKey", "license", partnerPolicy(), cache.getGeneration());
+		assertEquals(1, cache.getEntryCount());
+	}
+
+	/**
+	 * Nothing is cached within the grace time after an invalidation, as the
+	 * update of the event may not be stored yet
+	 */
+	@Test
+	public void invalidationGraceTest() {
+		ReflectionTestUtils.setField(cache, "invalidationGraceSecs", 60L);
+		cache.invalidateAll();
+		cache.put("partner", "apiKey", "license", partnerPolicy(), cache.getGeneration());
+		assertEquals(0, cache.getEntryCount());
+
+		ReflectionTestUtils.setField(cache, "graceEndMillis", System.currentTimeMillis() - 1);
+		cache.put("partner", "apiKey", "license", partnerPolicy(), cache.getGeneration());
+		assertEquals(1, cache.getEntryCount());
+	}
+
+	/**
+	 * The least recently used entries are evicted beyond the maximum entries, and
+	 * the expired entries are not returned
+	 */
+	@Test
+	public void evictionAndExpiryTest() {
+		cache.put("partner1", "apiKey", "license", partnerPolicy(), cache.getGeneration());
+		cache.put("partner2", "apiKey", "license", partnerPolicy(), cache.getGeneration());
+		cache.get("partner1", "apiKey", "license");
+		cache.put("partner3", "apiKey", "license", partnerPolicy(), cache.getGeneration());
+		assertEquals(2, cache.getEntryCount());
+		assertNull(cache.get("partner2", "apiKey", "license"));
+
+		ReflectionTestUtils.setField(cache, "expireAfterWriteSecs", -1L);
+		assertNull(cache.get("partner1", "apiKey", "license"));
+		assertEquals(1, cache.getEntryCount());
+	}
+
+	/**
+	 * Nothing is cached when disabled
+	 */
+	@Test
+	public void disabledTest() {
+		ReflectionTestUtils.setField(cache, "enabled", false);
+		cache.put("partner", "apiKey", "license", partnerPolicy(), cache.getGeneration());
+		assertEquals(0, cache.getEntryCount());
+		assertNull(cache.get("partner", "apiKey", "license"));
+		assertEquals(0, cache.getMissCount());
+	}
+
+	private ResolvedPartnerPolicy partnerPolicy() {
+		return new ResolvedPartnerPolicy(Optional.empty(), Optional.empty(), Optional.empty());
+	}
+}
@@ -0,0 +1,138 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.core.util.CryptoUtil;
+
+public class VerifiedCertificateCacheTest {
+
+	private static final String DOMAIN = "DEVICE";
+
+	private static final String PAYLOAD = "{\"bioValue\":\"test\"}";
+
+	private static KeyPair keyPair;
+
+	private static X509Certificate certificate;
+
+	private VerifiedCertificateCache cache;
+
+	@BeforeClass
+	public static void beforeClass() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		keyPair = generator.generateKeyPair();
+		X500Name name = new X500Name("CN=test");
+		long now = System.currentTimeMillis();
+		JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(name, BigInteger.ONE,
+				new Date(now - 60_000), new Date(now + 3_600_000), name, keyPair.getPublic());
+		certificate = new JcaX509CertificateConverter().getCertificate(
+				builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate())));
+	}
+
+	@Before
+	public void before() {
+		cache = new VerifiedCertificateCache();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxEntries", 2);
+		ReflectionTestUtils.setField(cache, "expireAfterWriteSecs", 600L);
+	}
+
+	/**
+	 * The signature is verified locally once its certificate is cached for the
+	 * domain
+	 */
+	@Test
+	public void verifyCachedCertificateTest() throws Exception {
+		String signature = sign(PAYLOAD);
+		assertNull(cache.verify(signature, null, DOMAIN));
+		cache.put(signature, DOMAIN);
+		assertEquals(1, cache.getEntryCount());
+		assertTrue(cache.verify(signature, null, DOMAIN));
+		assertNull(cache.verify(signature, null, "FTM"));
+	}
+
+	/**
+	 * The detached payload is verified against the signature
+	 */
+	@Test
+	public void verifyDetachedPayloadTest() throws Exception {
+		String signature = sign(PAYLOAD);
+		String detachedSignature = signature.substring(0, signature.indexOf('.')) + ".."
+				+ signature.substring(signature.lastIndexOf('.') + 1);
+		cache.put(detachedSignature, DOMAIN);
+		assertTrue(cache.verify(detachedSignature, CryptoUtil.encodeBase64Url(PAYLOAD.getBytes()), DOMAIN));
+		assertFalse(cache.verify(detachedSignature, CryptoUtil.encodeBase64Url("{}".getBytes()), DOMAIN));
+	}
+
+	/**
+	 * The expired and the invalidated entries are not used
+	 */
+	@Test
+	public void expireAndInvalidateTest() throws Exception {
+		String signature = sign(PAYLOAD);
+		cache.put(signature, DOMAIN);
+		ReflectionTestUtils.setField(cache, "expireAfterWriteSecs", -1L);
+		assertNull(cache.verify(signature, null, DOMAIN));
+		assertEquals(0, cache.getEntryCount());
+
+		ReflectionTestUtils.setField(cache, "expireAfterWriteSecs", 600L);
+		cache.put(signature, DOMAIN);
+		cache.put(signature, "FTM");
+		cache.invalidate(DOMAIN);
+		assertNull(cache.verify(signature, null, DOMAIN));
+		assertTrue(cache.verify(signature, null, "FTM"));
+		cache.invalidate(null);
+		assertEquals(0, cache.getEntryCount());
+	}
+
+	/**
+	 * The least recently used entry is evicted beyond the maximum entries, and
+	 * nothing is cached when disabled
+	 */
+	@Test
+	public void maxEntriesAndDisabledTest() throws Exception {
+		String signature = sign(PAYLOAD);
+		cache.put(signature, "A");
+		cache.put(signature, "B");
+		assertTrue(cache.verify(signature, null, "A"));
+		cache.put(signature, "C");
+		assertEquals(2, cache.getEntryCount());
+		assertNull(cache.verify(signature, null, "B"));
+		assertTrue(cache.verify(signature, null, "A"));
+
+		cache.invalidate(null);
+		ReflectionTestUtils.setField(cache, "enabled", false);
+		cache.put(signature, DOMAIN);
+		assertEquals(0, cache.getEntryCount());
+		assertNull(cache.verify("invalid", null, DOMAIN));
+	}
+
+	private String sign(String payload) throws Exception {
+		JsonWebSignature jws = new JsonWebSignature();
+		jws.setPayload(payload);
+		jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.RSA_USING_SHA256);
+		jws.setCertificateChainHeaderValue(certificate);
+		jws.setKey(keyPair.getPrivate());
+		return jws.getCompactSerialization();
+	}
+}
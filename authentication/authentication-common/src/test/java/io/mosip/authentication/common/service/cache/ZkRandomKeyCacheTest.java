@@ -0,0 +1,92 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+
+import javax.crypto.SecretKey;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ZkRandomKeyCacheTest {
+
+    private ZkRandomKeyCache randomKeyCache;
+
+    @Before
+    public void before() {
+        randomKeyCache = new ZkRandomKeyCache();
+        ReflectionTestUtils.setField(randomKeyCache, "maxEntries", 2);
+        ReflectionTestUtils.setField(randomKeyCache, "expireAfterWriteSecs", 3600L);
+    }
+
+    /**
+     * Copy of the cached key is served for the same index
+     */
+    @Test
+    public void getCachedTest() {
+        byte[] keyBytes = keyBytes(1);
+        randomKeyCache.put(1, keyBytes, "AES");
+        SecretKey key = randomKeyCache.get(1);
+        assertArrayEquals(keyBytes(1), key.getEncoded());
+        assertEquals("AES", key.getAlgorithm());
+        assertNotSame(keyBytes, key.getEncoded());
+        assertNull(randomKeyCache.get(2));
+    }
+
+    /**
+     * Least recently used keys are evicted once the maximum count is exceeded,
+     * and the evicted key bytes are zeroised
+     */
+    @Test
+    public void putEvictsLeastRecentlyUsedTest() {
+        byte[] first = keyBytes(1);
+        byte[] second = keyBytes(2);
+        randomKeyCache.put(1, first, "AES");
+        randomKeyCache.put(2, second, "AES");
+        randomKeyCache.get(1);
+        randomKeyCache.put(3, keyBytes(3), "AES");
+        assertArrayEquals(keyBytes(1), randomKeyCache.get(1).getEncoded());
+        assertNull(randomKeyCache.get(2));
+        assertArrayEquals(new byte[32], second);
+        assertEquals(2, randomKeyCache.getEntryCount());
+    }
+
+    /**
+     * Key is not served once expired, and the key bytes are zeroised
+     */
+    @Test
+    public void getExpiredTest() {
+        ReflectionTestUtils.setField(randomKeyCache, "expireAfterWriteSecs", -1L);
+        byte[] keyBytes = keyBytes(1);
+        randomKeyCache.put(1, keyBytes, "AES");
+        assertNull(randomKeyCache.get(1));
+        assertArrayEquals(new byte[32], keyBytes);
+        assertEquals(0, randomKeyCache.getEntryCount());
+    }
+
+    /**
+     * All the key bytes are zeroised on clear, without affecting the copies
+     * served
+     */
+    @Test
+    public void clearTest() {
+        byte[] keyBytes = keyBytes(1);
+        randomKeyCache.put(1, keyBytes, "AES");
+        SecretKey key = randomKeyCache.get(1);
+        randomKeyCache.clear();
+        assertArrayEquals(new byte[32], keyBytes);
+        assertArrayEquals(keyBytes(1), key.getEncoded());
+        assertEquals(0, randomKeyCache.getEntryCount());
+    }
+
+    private byte[] keyBytes(int value) {
+        byte[] keyBytes = new byte[32];
+        Arrays.fill(keyBytes, (byte) value);
+        return keyBytes;
+    }
+}
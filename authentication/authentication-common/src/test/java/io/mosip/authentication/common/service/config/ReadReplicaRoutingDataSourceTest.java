@@ -0,0 +1,117 @@
+package io.mosip.authentication.common.service.config;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReadReplicaRoutingDataSourceTest {
+
+	@Mock
+	private DataSource primaryDataSource;
+
+	@Mock
+	private DataSource replicaDataSource;
+
+	private ReadReplicaRoutingDataSource routingDataSource;
+
+	@Before
+	public void before() {
+		routingDataSource = new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, 60000);
+	}
+
+	@After
+	public void after() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	/**
+	 * Connections outside transactions are served by the primary
+	 */
+	@Test
+	public void noTransactionTest() throws SQLException {
+		routingDataSource.getConnection();
+		Mockito.verify(primaryDataSource).getConnection();
+		Mockito.verifyZeroInteractions(replicaDataSource);
+	}
+
+	/**
+	 * Read-only transactions are served by the replica and the other
+	 * transactions by the primary
+	 */
+	@Test
+	public void readOnlyTransactionTest() throws SQLException {
+		beginTransaction(true);
+		routingDataSource.getConnection();
+		Mockito.verify(replicaDataSource).getConnection();
+
+		beginTransaction(false);
+		routingDataSource.getConnection();
+		Mockito.verify(primaryDataSource).getConnection();
+	}
+
+	/**
+	 * Read-only transactions are served by the primary within the replica lag
+	 * after a write transaction is committed by the thread
+	 */
+	@Test
+	public void readOnlyTransactionAfterWriteTest() throws SQLException {
+		beginTransaction(false);
+		assertEquals(ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+		commit();
+
+		beginTransaction(true);
+		assertEquals(ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+	}
+
+	/**
+	 * Read-only transactions are served by the replica once the replica lag
+	 * elapses after a write transaction, or if the write transaction is not
+	 * committed
+	 */
+	@Test
+	public void readOnlyTransactionAfterReplicaLagTest() {
+		routingDataSource = new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, 0);
+		beginTransaction(false);
+		routingDataSource.determineCurrentLookupKey();
+		commit();
+		beginTransaction(true);
+		assertEquals(ReadReplicaRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+
+		routingDataSource = new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, 60000);
+		beginTransaction(false);
+		routingDataSource.determineCurrentLookupKey();
+		TransactionSynchronizationManager.clearSynchronization();
+		beginTransaction(true);
+		assertEquals(ReadReplicaRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+	}
+
+	private void beginTransaction(boolean readOnly) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.initSynchronization();
+		}
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+	}
+
+	private void commit() {
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+}
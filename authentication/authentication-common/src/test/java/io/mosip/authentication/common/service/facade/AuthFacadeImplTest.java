@@ -40,6 +40,7 @@ import io.mosip.authentication.common.service.builder.AuthTransactionBuilder;
 import io.mosip.authentication.common.service.config.IDAMappingConfig;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.helper.AuditHelper;
+import io.mosip.authentication.common.service.helper.AuthStageMetrics;
 import io.mosip.authentication.common.service.helper.AuthTransactionHelper;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
 import io.mosip.authentication.common.service.impl.AuthtypeStatusImpl;
@@ -201,6 +202,9 @@ public class AuthFacadeImplTest {
 	@Mock
 	private AuthFiltersValidator authFiltersValidator;
 
+	@Mock
+	private AuthStageMetrics authStageMetrics;
+
 	/**
 	 * Before.
 	 */
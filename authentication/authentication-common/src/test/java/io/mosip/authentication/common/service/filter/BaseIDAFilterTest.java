@@ -1,5 +1,8 @@
 package io.mosip.authentication.common.service.filter;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -25,6 +28,7 @@ import javax.servlet.ServletInputStream;
 import javax.servlet.ServletOutputStream;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -39,6 +43,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -161,6 +166,9 @@ public class BaseIDAFilterTest {
 		ReflectionTestUtils.setField(baseIDAFilter, "mapper", mapper);
 		ReflectionTestUtils.setField(baseIDAFilter, "keyManager", keyManager);
 		ReflectionTestUtils.setField(baseIDAFilter, "requestResponsConsumerUtil", requestResponsConsumerUtil);
+		BodyBufferPool bodyBufferPool = new BodyBufferPool();
+		bodyBufferPool.init();
+		ReflectionTestUtils.setField(baseIDAFilter, "bodyBufferPool", bodyBufferPool);
 		
 		EnvUtil.setDateTimePattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
 	}
@@ -576,8 +584,10 @@ public class BaseIDAFilterTest {
 		Mockito.when(requestWrapper.getHeader("Authorization")).thenReturn(signature);
 		Mockito.when(output.toString()).thenReturn(responsewrapper);
 		Mockito.when(responseWrapper.toString()).thenReturn(responsewrapper);
-		Mockito.when(responseWrapper.getWriter()).thenReturn(new PrintWriter(new ByteArrayOutputStream()));
+		ByteArrayOutputStream responseOutput = new ByteArrayOutputStream();
+		Mockito.when(responseWrapper.getOutputStream()).thenReturn(servletOutputStream(responseOutput));
 		ReflectionTestUtils.invokeMethod(baseIDAFilter, "doFilter", requ, responseWrapper, chain);
+		assertEquals(responsewrapper, responseOutput.toString());
 	}
 
 	@Test
@@ -1124,7 +1134,7 @@ public class BaseIDAFilterTest {
 		Mockito.when(requestWrapper.getContextPath()).thenReturn("/identity");
 		Mockito.when(requestWrapper.getHeader("Authorization")).thenReturn(signature);
 		Mockito.when(output.toString()).thenReturn(responsewrapper);
-		Mockito.when(responseWrapper.getWriter()).thenReturn(new PrintWriter(new ByteArrayOutputStream()));
+		Mockito.when(responseWrapper.getOutputStream()).thenReturn(servletOutputStream(new ByteArrayOutputStream()));
 		ReflectionTestUtils.invokeMethod(baseIDAFilter, "doFilter", requ, responseWrapper, chain);
 	}
 
@@ -1266,4 +1276,37 @@ public class BaseIDAFilterTest {
 	public void dateTest() {
 		ReflectionTestUtils.invokeMethod(baseIDAFilter, "isDate", "");
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void getRequestBodyTest() throws IdAuthenticationAppException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent("{\"id\":\"mosip.identity.auth\",\"version\":\"1.0\"}".getBytes());
+		ResettableStreamHttpServletRequest pooledRequest = new ResettableStreamHttpServletRequest(request,
+				(BodyBufferPool) ReflectionTestUtils.getField(baseIDAFilter, "bodyBufferPool"));
+		Map<String, Object> requestBody = baseIDAFilter.getRequestBody(pooledRequest);
+		assertEquals("mosip.identity.auth", requestBody.get("id"));
+		assertEquals("1.0", requestBody.get("version"));
+
+		request.setContent(new byte[0]);
+		assertNull(baseIDAFilter.getRequestBody(new ResettableStreamHttpServletRequest(request)));
+	}
+
+	private ServletOutputStream servletOutputStream(ByteArrayOutputStream output) {
+		return new ServletOutputStream() {
+
+			@Override
+			public void write(int b) throws IOException {
+				output.write(b);
+			}
+
+			@Override
+			public void setWriteListener(WriteListener listener) {
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+		};
+	}
+}
@@ -0,0 +1,91 @@
+package io.mosip.authentication.common.service.filter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class BodyBufferPoolTest {
+
+	private BodyBufferPool bodyBufferPool;
+
+	@Before
+	public void before() {
+		bodyBufferPool = new BodyBufferPool();
+		ReflectionTestUtils.setField(bodyBufferPool, "maxBuffers", 2);
+		ReflectionTestUtils.setField(bodyBufferPool, "maxBufferSize", 64 * 1024);
+		bodyBufferPool.init();
+	}
+
+	/**
+	 * The buffers are sized for the expected size up to the maximum size, and
+	 * read a stream in place
+	 */
+	@Test
+	public void acquireExpectedSizeTest() throws IOException {
+		assertEquals(BodyBufferPool.INITIAL_BUFFER_SIZE, bodyBufferPool.acquire(-1).capacity());
+		assertEquals(32 * 1024, bodyBufferPool.acquire(32 * 1024).capacity());
+		assertEquals(64 * 1024, bodyBufferPool.acquire(1024 * 1024).capacity());
+
+		byte[] data = new byte[20 * 1024];
+		Arrays.fill(data, (byte) 1);
+		BodyBuffer buffer = bodyBufferPool.acquire(-1);
+		buffer.readFrom(new ByteArrayInputStream(data));
+		assertEquals(data.length, buffer.size());
+		assertArrayEquals(data, buffer.toByteArray());
+	}
+
+	/**
+	 * Released buffers are reset and reused
+	 */
+	@Test
+	public void acquireReleasedBufferTest() {
+		BodyBuffer buffer = bodyBufferPool.acquire();
+		buffer.write(new byte[100], 0, 100);
+		bodyBufferPool.release(buffer);
+		assertEquals(1, bodyBufferPool.getIdleBufferCount());
+
+		BodyBuffer reused = bodyBufferPool.acquire();
+		assertSame(buffer, reused);
+		assertEquals(0, reused.size());
+		assertEquals(0, bodyBufferPool.getIdleBufferCount());
+	}
+
+	/**
+	 * Buffers grown beyond the maximum size, and the buffers beyond the maximum
+	 * count, are not retained
+	 */
+	@Test
+	public void releaseBeyondLimitsTest() {
+		BodyBuffer largeBuffer = bodyBufferPool.acquire();
+		largeBuffer.write(new byte[128 * 1024], 0, 128 * 1024);
+		bodyBufferPool.release(largeBuffer);
+		assertEquals(0, bodyBufferPool.getIdleBufferCount());
+		assertNotSame(largeBuffer, bodyBufferPool.acquire());
+
+		bodyBufferPool.release(new BodyBuffer(BodyBufferPool.INITIAL_BUFFER_SIZE));
+		bodyBufferPool.release(new BodyBuffer(BodyBufferPool.INITIAL_BUFFER_SIZE));
+		bodyBufferPool.release(new BodyBuffer(BodyBufferPool.INITIAL_BUFFER_SIZE));
+		assertEquals(2, bodyBufferPool.getIdleBufferCount());
+	}
+
+	/**
+	 * The buffer content is accessed in place
+	 */
+	@Test
+	public void getBufferTest() {
+		BodyBuffer buffer = bodyBufferPool.acquire();
+		buffer.write("{}".getBytes(), 0, 2);
+		assertEquals('{', buffer.getBuffer()[0]);
+		assertEquals('}', buffer.getBuffer()[1]);
+		assertEquals(2, buffer.size());
+	}
+}
@@ -2,16 +2,23 @@ package io.mosip.authentication.common.service.filter;
 
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.DispatcherType;
@@ -49,11 +56,13 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.authentication.common.service.integration.KeyManager;
+import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationAppException;
 import io.mosip.authentication.core.partner.dto.PartnerPolicyResponseDTO;
 import io.mosip.authentication.core.spi.partner.service.PartnerService;
+import io.mosip.authentication.core.util.CryptoUtil;
 
 /**
  * The Class IdAuthFilterTest.
@@ -901,4 +910,89 @@ public class IdAuthFilterTest {
 
 		return policyDto;
 	}
+
+	/**
+	 * Bio segments are deciphered concurrently, keeping the order of the request
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	public void decipherBioDataConcurrentlyTest() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			mockBioDecryption(executor);
+			Map<String, Object> request = new HashMap<>();
+			List<Object> biometrics = new ArrayList<>();
+			for (int i = 0; i < 13; i++) {
+				biometrics.add(bioSegment("bio" + i));
+			}
+			request.put("biometrics", biometrics);
+
+			ReflectionTestUtils.invokeMethod(filter, "decipherBioData", request);
+
+			List<Map<String, Object>> decipheredBiometrics = (List<Map<String, Object>>) request.get("biometrics");
+			assertEquals(13, decipheredBiometrics.size());
+			for (int i = 0; i < 13; i++) {
+				Map<String, Object> data = (Map<String, Object>) decipheredBiometrics.get(i).get("data");
+				assertEquals("decrypted-bio" + i, data.get("bioValue"));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * The error of the lowest failing segment index is thrown
+	 */
+	@Test
+	public void decipherBioDataConcurrentlyFailureTest() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			mockBioDecryption(executor);
+			Map<String, Object> request = new HashMap<>();
+			List<Object> biometrics = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				biometrics.add(bioSegment(i == 3 || i == 6 ? null : "bio" + i));
+			}
+			request.put("biometrics", biometrics);
+
+			ReflectionTestUtils.invokeMethod(filter, "decipherBioData", request);
+			fail();
+		} catch (UndeclaredThrowableException e) {
+			IdAuthenticationAppException ex = (IdAuthenticationAppException) e.getCause();
+			assertEquals(IdAuthenticationErrorConstants.MISSING_INPUT_PARAMETER.getErrorCode(), ex.getErrorCode());
+			assertTrue(ex.getErrorText().contains("request/biometrics/3/data/bioValue"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void mockBioDecryption(ExecutorService executor) throws IdAuthenticationAppException {
+		KeyManager keyManager = Mockito.mock(KeyManager.class);
+		IdAuthSecurityManager securityManager = Mockito.mock(IdAuthSecurityManager.class);
+		ReflectionTestUtils.setField(filter, "keyManager", keyManager);
+		ReflectionTestUtils.setField(filter, "securityManager", securityManager);
+		ReflectionTestUtils.setField(filter, "bioDecryptionExecutor", executor);
+		Mockito.when(securityManager.verifySignature(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(true);
+		Mockito.when(keyManager.kernelDecrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+					String bioValue = new String((byte[]) invocation.getArgument(2));
+					Thread.sleep(30 - 2 * Integer.parseInt(bioValue.substring(3)));
+					return "decrypted-" + bioValue;
+				});
+	}
+
+	private Map<String, Object> bioSegment(String bioValue) throws JsonProcessingException {
+		Map<String, Object> data = new HashMap<>();
+		if (bioValue != null) {
+			data.put("bioValue", CryptoUtil.encodeBase64Url(bioValue.getBytes()));
+		}
+		data.put("timestamp", "2019-03-13T10:01:57.086+05:30");
+		data.put("transactionId", "1234567890");
+		Map<String, Object> segment = new HashMap<>();
+		segment.put("data", "header." + CryptoUtil.encodeBase64Url(mapper.writeValueAsBytes(data)) + ".signature");
+		segment.put("sessionKey", CryptoUtil.encodeBase64Url("sessionKey".getBytes()));
+		segment.put("thumbprint", "thumbprint");
+		return segment;
+	}
 }
@@ -0,0 +1,59 @@
+package io.mosip.authentication.common.service.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class LocalReplayGuardStoreTest {
+
+	private long now = 1_000_000L;
+
+	private LocalReplayGuardStore store;
+
+	@Before
+	public void before() {
+		store = new LocalReplayGuardStore(7000, 3) {
+			@Override
+			long currentTimeMillis() {
+				return now;
+			}
+		};
+	}
+
+	/**
+	 * A key is present until its bucket is older than the window, and is added
+	 * again once removed
+	 */
+	@Test
+	public void putIfAbsentTest() {
+		assertTrue(store.putIfAbsent("key", 0));
+		assertFalse(store.putIfAbsent("key", 0));
+		now += 7000;
+		assertFalse(store.putIfAbsent("key", 0));
+		now += 1000;
+		assertEquals(0, store.getEntryCount());
+		assertTrue(store.putIfAbsent("key", 0));
+
+		store.remove("key");
+		assertTrue(store.putIfAbsent("key", 0));
+	}
+
+	/**
+	 * The keys beyond the max entries are let through without being added
+	 */
+	@Test
+	public void maxEntriesTest() {
+		assertTrue(store.putIfAbsent("key1", 0));
+		now += 1000;
+		assertTrue(store.putIfAbsent("key2", 0));
+		assertTrue(store.putIfAbsent("key3", 0));
+		assertTrue(store.putIfAbsent("key4", 0));
+		assertTrue(store.putIfAbsent("key4", 0));
+		assertEquals(3, store.getEntryCount());
+		assertFalse(store.putIfAbsent("key1", 0));
+		assertEquals(2, store.getBypassedCount());
+	}
+}
@@ -0,0 +1,124 @@
+package io.mosip.authentication.common.service.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationAppException;
+
+public class ReplayGuardTest {
+
+	private static final String URI = "/idauthentication/v1/auth/license/partner/apiKey";
+
+	private ReplayGuard replayGuard;
+
+	private MeterRegistry meterRegistry;
+
+	@Before
+	public void before() {
+		replayGuard = new ReplayGuard();
+		meterRegistry = new SimpleMeterRegistry();
+		ReflectionTestUtils.setField(replayGuard, "enabled", true);
+		ReflectionTestUtils.setField(replayGuard, "windowSecs", 120L);
+		ReflectionTestUtils.setField(replayGuard, "maxEntries", 100);
+		ReflectionTestUtils.setField(replayGuard, "meterRegistry", meterRegistry);
+		replayGuard.init();
+	}
+
+	/**
+	 * The same signed request is rejected, while a request with another signature
+	 * or URI is not
+	 */
+	@Test
+	public void duplicateSignatureTest() throws IdAuthenticationAppException {
+		assertEquals(1, replayGuard.reserve(URI, "1234567890", "signature").size());
+		assertDuplicate(URI, "1234567890", "signature");
+		replayGuard.reserve(URI, "1234567890", "signature2");
+		replayGuard.reserve(URI.replace("partner", "partner2"), "1234567890", "signature");
+		assertEquals(1, replayGuard.getRejectedCount());
+		assertEquals(1.0, meterRegistry.get("ida.replay.guard.rejected").functionCounter().count(), 0);
+		assertEquals(3.0, meterRegistry.get("ida.replay.guard.entries").gauge().value(), 0);
+	}
+
+	/**
+	 * The reused transaction ID is rejected only if configured
+	 */
+	@Test
+	public void reusedTransactionIdTest() throws IdAuthenticationAppException {
+		ReflectionTestUtils.setField(replayGuard, "rejectReusedTransactionId", true);
+		assertEquals(2, replayGuard.reserve(URI, "1234567890", "signature").size());
+		assertDuplicate(URI, "1234567890", "signature2");
+		assertEquals(1, replayGuard.reserve(URI, "1234567891", null).size());
+	}
+
+	/**
+	 * The request released is not a duplicate, and the keys are checked in the
+	 * shared store
+	 */
+	@Test
+	public void releaseAndSharedStoreTest() throws IdAuthenticationAppException {
+		List<String> keys = replayGuard.reserve(URI, "1234567890", "signature");
+		replayGuard.release(keys);
+		replayGuard.reserve(URI, "1234567890", "signature");
+
+		LocalReplayGuardStore sharedStore = new LocalReplayGuardStore(120000, 100);
+		ReflectionTestUtils.setField(replayGuard, "sharedStore", sharedStore);
+		replayGuard.release(replayGuard.reserve(URI, "1234567891", "signature"));
+		assertEquals(0, sharedStore.getEntryCount());
+		replayGuard.reserve(URI, "1234567892", "signature");
+		assertEquals(1, sharedStore.getEntryCount());
+
+		ReflectionTestUtils.setField(replayGuard, "sharedStore", null);
+		List<String> otherNodeKeys = replayGuard.reserve(URI, "1234567893", "signature");
+		replayGuard.release(otherNodeKeys);
+		sharedStore.putIfAbsent(otherNodeKeys.get(0), 0);
+		ReflectionTestUtils.setField(replayGuard, "sharedStore", sharedStore);
+		assertDuplicate(URI, "1234567893", "signature");
+	}
+
+	/**
+	 * The requests beyond the max entries are let through and counted as bypassed
+	 */
+	@Test
+	public void bypassedTest() throws IdAuthenticationAppException {
+		ReflectionTestUtils.setField(replayGuard, "maxEntries", 1);
+		meterRegistry = new SimpleMeterRegistry();
+		ReflectionTestUtils.setField(replayGuard, "meterRegistry", meterRegistry);
+		replayGuard.init();
+		replayGuard.reserve(URI, "1234567890", "signature");
+		assertEquals(1, replayGuard.reserve(URI, "1234567891", "signature").size());
+		assertEquals(1, replayGuard.reserve(URI, "1234567891", "signature").size());
+		assertEquals(2, replayGuard.getBypassedCount());
+		assertEquals(2.0, meterRegistry.get("ida.replay.guard.bypassed").functionCounter().count(), 0);
+		assertEquals(0, replayGuard.getRejectedCount());
+	}
+
+	/**
+	 * Nothing is reserved when disabled or without a transaction ID
+	 */
+	@Test
+	public void disabledTest() throws IdAuthenticationAppException {
+		assertTrue(replayGuard.reserve(URI, null, "signature").isEmpty());
+		assertTrue(new ReplayGuard().reserve(URI, "1234567890", "signature").isEmpty());
+		ReflectionTestUtils.setField(replayGuard, "enabled", false);
+		assertTrue(replayGuard.reserve(URI, "1234567890", "signature").isEmpty());
+	}
+
+	private void assertDuplicate(String uri, String transactionId, String signature) {
+		try {
+			replayGuard.reserve(uri, transactionId, signature);
+			fail();
+		} catch (IdAuthenticationAppException e) {
+			assertEquals(IdAuthenticationErrorConstants.DUPLICATE_REQUEST.getErrorCode(), e.getErrorCode());
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package io.mosip.authentication.common.service.filter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
+
+public class ResettableStreamHttpServletRequestTest {
+
+	private static final String BODY = "{\"id\":\"mosip.identity.auth\",\"individualId\":\"2345678901\"}";
+
+	private ObjectMapper mapper = new ObjectMapper();
+
+	private MockHttpServletRequest request;
+
+	private ResettableStreamHttpServletRequest requestWrapper;
+
+	@Before
+	public void before() {
+		request = new MockHttpServletRequest();
+		request.setContent(BODY.getBytes());
+		requestWrapper = new ResettableStreamHttpServletRequest(request);
+	}
+
+	/**
+	 * The request body is re-read after reset
+	 */
+	@Test
+	public void resetInputStreamTest() throws IOException {
+		assertEquals(BODY, IOUtils.toString(requestWrapper.getInputStream()));
+		assertTrue(requestWrapper.getInputStream().isFinished());
+		requestWrapper.resetInputStream();
+		assertFalse(requestWrapper.getInputStream().isFinished());
+		assertEquals(BODY, IOUtils.toString(requestWrapper.getReader()));
+	}
+
+	/**
+	 * The replaced data is read instead of the request body
+	 */
+	@Test
+	public void replaceDataTest() throws IOException {
+		IOUtils.toByteArray(requestWrapper.getInputStream());
+		requestWrapper.replaceData("{}".getBytes());
+		assertArrayEquals("{}".getBytes(), IOUtils.toByteArray(requestWrapper.getInputStream()));
+		assertNull(requestWrapper.getAttribute(RequestBodyContext.ATTRIBUTE));
+	}
+
+	/**
+	 * The replaced body is set as the request attribute, and is serialised only
+	 * once read from the input stream
+	 */
+	@Test
+	public void replaceBodyTest() throws IOException {
+		RequestBodyContext bodyContext = new RequestBodyContext(mapper, body());
+		requestWrapper.replaceBody(bodyContext);
+		assertSame(bodyContext, requestWrapper.getAttribute(RequestBodyContext.ATTRIBUTE));
+		assertFalse(bodyContext.isRawDataAvailable());
+
+		assertEquals(BODY, IOUtils.toString(requestWrapper.getInputStream()));
+		assertTrue(bodyContext.isRawDataAvailable());
+
+		requestWrapper.replaceData(BODY.getBytes());
+		assertNull(requestWrapper.getAttribute(RequestBodyContext.ATTRIBUTE));
+	}
+
+	/**
+	 * Peeking the first byte of the replaced body does not serialise it, and the
+	 * whole body is read after the reset
+	 */
+	@Test
+	public void replaceBodyPeekTest() throws IOException {
+		RequestBodyContext bodyContext = new RequestBodyContext(mapper, body());
+		requestWrapper.replaceBody(bodyContext);
+		InputStream inputStream = requestWrapper.getInputStream();
+		assertTrue(inputStream.markSupported());
+		inputStream.mark(1);
+		assertEquals('{', inputStream.read());
+		assertFalse(bodyContext.isRawDataAvailable());
+		inputStream.reset();
+		assertEquals(BODY, IOUtils.toString(inputStream));
+
+		requestWrapper.resetInputStream();
+		inputStream.mark(1);
+		assertEquals('{', inputStream.read());
+		assertEquals(BODY.substring(1), IOUtils.toString(inputStream));
+	}
+
+	/**
+	 * The body is read into a pooled buffer sized from the content length, read in
+	 * place after reset and mark, and the buffer is returned to the pool once
+	 * released
+	 */
+	@Test
+	public void pooledBodyBufferTest() throws IOException {
+		BodyBufferPool bodyBufferPool = new BodyBufferPool();
+		ReflectionTestUtils.setField(bodyBufferPool, "maxBuffers", 2);
+		ReflectionTestUtils.setField(bodyBufferPool, "maxBufferSize", 64 * 1024);
+		bodyBufferPool.init();
+		requestWrapper = new ResettableStreamHttpServletRequest(request, bodyBufferPool);
+		assertEquals(BODY.length(), requestWrapper.getBodySize());
+		assertEquals(BODY, IOUtils.toString(requestWrapper.getInputStream()));
+		requestWrapper.resetInputStream();
+
+		InputStream inputStream = requestWrapper.getInputStream();
+		assertEquals(5, inputStream.skip(5));
+		inputStream.mark(10);
+		assertEquals(BODY.charAt(5), inputStream.read());
+		inputStream.reset();
+		assertEquals(BODY.length() - 5, inputStream.available());
+		assertEquals(BODY.substring(5), IOUtils.toString(inputStream));
+
+		requestWrapper.releaseBodyBuffer();
+		assertEquals(1, bodyBufferPool.getIdleBufferCount());
+		requestWrapper.resetInputStream();
+		try {
+			requestWrapper.getInputStream().read();
+			fail();
+		} catch (IOException e) {
+			assertEquals("Request body is released", e.getMessage());
+		}
+		requestWrapper.releaseBodyBuffer();
+		assertEquals(1, bodyBufferPool.getIdleBufferCount());
+	}
+
+	/**
+	 * The body buffer is the pooled buffer the body is read into, not a copy of it
+	 */
+	@Test
+	public void getBodyBufferTest() throws IOException {
+		BodyBufferPool bodyBufferPool = new BodyBufferPool();
+		ReflectionTestUtils.setField(bodyBufferPool, "maxBuffers", 2);
+		ReflectionTestUtils.setField(bodyBufferPool, "maxBufferSize", 64 * 1024);
+		bodyBufferPool.init();
+		requestWrapper = new ResettableStreamHttpServletRequest(request, bodyBufferPool);
+		byte[] bodyBuffer = requestWrapper.getBodyBuffer();
+		assertEquals(BODY, new String(bodyBuffer, 0, requestWrapper.getBodySize()));
+		assertEquals(BODY, IOUtils.toString(requestWrapper.getInputStream()));
+		assertSame(bodyBuffer, requestWrapper.getBodyBuffer());
+	}
+
+	/**
+	 * The replaced body is converted to the type only once
+	 */
+	@Test
+	public void getBodyAsTest() {
+		RequestBodyContext bodyContext = new RequestBodyContext(mapper, body());
+		AuthRequestDTO authRequestDTO = (AuthRequestDTO) bodyContext.getBodyAs(mapper.constructType(AuthRequestDTO.class));
+		assertEquals("2345678901", authRequestDTO.getIndividualId());
+		assertSame(authRequestDTO, bodyContext.getBodyAs(mapper.constructType(AuthRequestDTO.class)));
+		assertFalse(bodyContext.isRawDataAvailable());
+	}
+
+	private Map<String, Object> body() {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("id", "mosip.identity.auth");
+		body.put("individualId", "2345678901");
+		return body;
+	}
+}
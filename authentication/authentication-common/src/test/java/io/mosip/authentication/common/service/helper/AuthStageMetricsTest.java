@@ -0,0 +1,91 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AuthStageMetricsTest {
+
+	private AuthStageMetrics authStageMetrics;
+
+	private MeterRegistry meterRegistry;
+
+	@Before
+	public void before() {
+		authStageMetrics = new AuthStageMetrics();
+		meterRegistry = new SimpleMeterRegistry();
+		ReflectionTestUtils.setField(authStageMetrics, "enabled", true);
+		ReflectionTestUtils.setField(authStageMetrics, "meterRegistry", meterRegistry);
+	}
+
+	@After
+	public void after() {
+		authStageMetrics.end();
+	}
+
+	/**
+	 * The stages of a request are recorded at its end, tagged with the endpoint,
+	 * partner and auth types set after they are timed
+	 */
+	@Test
+	public void requestStagesTest() throws Exception {
+		authStageMetrics.begin();
+		authStageMetrics.stop(AuthStageMetrics.BODY_READ, authStageMetrics.start());
+		authStageMetrics.setEndpoint("mosip.identity.auth");
+		authStageMetrics.setPartner("partner");
+		AuthStageMetrics.Context context = authStageMetrics.getContext();
+		CompletableFuture.runAsync(() -> authStageMetrics.stop(context, AuthStageMetrics.BIO_SEGMENT_DECRYPT,
+				authStageMetrics.start())).get();
+		authStageMetrics.setAuthType("demo,bio");
+		authStageMetrics.stop(AuthStageMetrics.AUTH_TYPE, "bio", authStageMetrics.start());
+		assertTrue(meterRegistry.getMeters().isEmpty());
+
+		authStageMetrics.end();
+		assertNull(authStageMetrics.getContext());
+		assertEquals(3, meterRegistry.getMeters().size());
+		assertEquals(1, meterRegistry.get("ida.auth.stage").tag("stage", AuthStageMetrics.BODY_READ)
+				.tag("endpoint", "mosip.identity.auth").tag("partner", "partner").tag("authType", "demo,bio")
+				.timer().count());
+		assertEquals(1, meterRegistry.get("ida.auth.stage").tag("stage", AuthStageMetrics.BIO_SEGMENT_DECRYPT)
+				.tag("partner", "partner").timer().count());
+		assertEquals(1, meterRegistry.get("ida.auth.stage").tag("stage", AuthStageMetrics.AUTH_TYPE)
+				.tag("authType", "bio").timer().count());
+	}
+
+	/**
+	 * A stage timed without a request is recorded immediately
+	 */
+	@Test
+	public void noContextTest() {
+		authStageMetrics.stop(AuthStageMetrics.IDENTITY_FETCH, authStageMetrics.start());
+		assertEquals(1, meterRegistry.get("ida.auth.stage").tag("stage", AuthStageMetrics.IDENTITY_FETCH)
+				.tag("endpoint", "none").tag("partner", "none").tag("authType", "none").timer().count());
+	}
+
+	/**
+	 * Nothing is timed when disabled
+	 */
+	@Test
+	public void disabledTest() {
+		ReflectionTestUtils.setField(authStageMetrics, "enabled", false);
+		assertFalse(authStageMetrics.isEnabled());
+		authStageMetrics.begin();
+		assertNull(authStageMetrics.getContext());
+		long startNanos = authStageMetrics.start();
+		assertEquals(0L, startNanos);
+		authStageMetrics.stop(AuthStageMetrics.BODY_READ, startNanos);
+		authStageMetrics.end();
+		assertTrue(meterRegistry.getMeters().isEmpty());
+	}
+}
@@ -1,6 +1,9 @@
 package io.mosip.authentication.common.service.helper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.AbstractMap.SimpleEntry;
@@ -12,6 +15,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -42,6 +47,7 @@ import io.mosip.authentication.common.service.impl.match.IdaIdMapping;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
 import io.mosip.authentication.core.indauth.dto.BioIdentityInfoDTO;
@@ -412,6 +418,8 @@ public class IdInfoHelperTest {
 		DemoNormalizer demoNormalizer = Mockito.mock(DemoNormalizer.class);
 		Mockito.when(demoNormalizer.normalizeAddress("Address Line1 Address Line2 Address Line3 City Region Province 11223344", "fre"))
 			.thenReturn("Address Line1 Address Line2 Address Line3 City Region Province 11223344");
+		Mockito.when(demoNormalizer.normalizeStoredAddress("Address Line1 Address Line2 Address Line3 City Region Province 11223344", "fre"))
+			.thenReturn("Address Line1 Address Line2 Address Line3 City Region Province 11223344");
 		matchProperties.put("demoNormalizer", demoNormalizer);
 		matchProperties.put("langCode", "fre");
 		
@@ -1170,4 +1178,126 @@ public class IdInfoHelperTest {
 		assertEquals(Map.of("newAttribute1", "New Attribute1"), entityInfo);
 	}
 	
+
+	/**
+	 * The demographic match inputs are matched in the demo match pool, and the
+	 * outputs are merged in the order of the inputs
+	 */
+	@Test
+	public void matchDemoDataInParallelTest() throws IdAuthenticationBusinessException {
+		ForkJoinPool demoMatchPool = new ForkJoinPool(4);
+		try {
+			Set<String> threadNames = ConcurrentHashMap.newKeySet();
+			enableParallelDemoMatching(demoMatchPool, false);
+			List<MatchOutput> matchOutputs = idInfoHelper.matchIdentityData(getEmailAuthRequest(), getEmailEntity(),
+					getEmailMatchInputs(10, 6, threadNames), "12523823232");
+			assertEquals(10, matchOutputs.size());
+			for (int i = 0; i < matchOutputs.size(); i++) {
+				assertEquals(i != 6, matchOutputs.get(i).isMatched());
+			}
+			assertFalse(threadNames.isEmpty());
+			assertTrue(threadNames.stream().allMatch(threadName -> threadName.contains("ForkJoinPool")));
+		} finally {
+			demoMatchPool.shutdownNow();
+		}
+	}
+
+	/**
+	 * The outputs end at the first mismatch when failing fast, in the request
+	 * thread as in the demo match pool
+	 */
+	@Test
+	public void matchDemoDataFailFastTest() throws IdAuthenticationBusinessException {
+		ForkJoinPool demoMatchPool = new ForkJoinPool(4);
+		try {
+			enableParallelDemoMatching(demoMatchPool, true);
+			List<MatchOutput> matchOutputs = idInfoHelper.matchIdentityData(getEmailAuthRequest(), getEmailEntity(),
+					getEmailMatchInputs(10, 6, ConcurrentHashMap.newKeySet()), "12523823232");
+			assertEquals(7, matchOutputs.size());
+			assertFalse(matchOutputs.get(6).isMatched());
+
+			Set<String> threadNames = ConcurrentHashMap.newKeySet();
+			matchOutputs = idInfoHelper.matchIdentityData(getEmailAuthRequest(), getEmailEntity(),
+					getEmailMatchInputs(5, 2, threadNames), "12523823232");
+			assertEquals(3, matchOutputs.size());
+			assertFalse(matchOutputs.get(2).isMatched());
+			assertEquals(Set.of(Thread.currentThread().getName()), threadNames);
+		} finally {
+			demoMatchPool.shutdownNow();
+		}
+	}
+
+	/**
+	 * The business exception of the first input failing, in the order of the
+	 * inputs, is thrown as in the request thread, unless the matching failed
+	 * fast on an earlier mismatch
+	 */
+	@Test
+	public void matchDemoDataInParallelExceptionTest() throws IdAuthenticationBusinessException {
+		ForkJoinPool demoMatchPool = new ForkJoinPool(4);
+		try {
+			enableParallelDemoMatching(demoMatchPool, false);
+			AuthRequestDTO authRequestDTO = getEmailAuthRequest();
+			authRequestDTO.getRequest().getDemographics().setPhoneNumber("9876543210");
+			List<MatchInput> matchInputs = getEmailMatchInputs(10, 2, ConcurrentHashMap.newKeySet());
+			matchInputs.set(4, new MatchInput(DemoAuthType.PERSONAL_IDENTITY,
+					DemoMatchType.PHONE.getIdMapping().getIdname(), DemoMatchType.PHONE, null, 100,
+					matchInputs.get(0).getMatchProperties(), null));
+			try {
+				idInfoHelper.matchIdentityData(authRequestDTO, getEmailEntity(), matchInputs, "12523823232");
+				fail();
+			} catch (IdAuthenticationBusinessException e) {
+				assertEquals(IdAuthenticationErrorConstants.DEMO_MISSING.getErrorCode(), e.getErrorCode());
+			}
+
+			enableParallelDemoMatching(demoMatchPool, true);
+			List<MatchOutput> matchOutputs = idInfoHelper.matchIdentityData(authRequestDTO, getEmailEntity(),
+					matchInputs, "12523823232");
+			assertEquals(3, matchOutputs.size());
+		} finally {
+			demoMatchPool.shutdownNow();
+		}
+	}
+
+	private void enableParallelDemoMatching(ForkJoinPool demoMatchPool, boolean failFast) {
+		ReflectionTestUtils.setField(idInfoHelper, "demoMatchPool", demoMatchPool);
+		ReflectionTestUtils.setField(idInfoHelper, "demoMatchingParallelism", 4);
+		ReflectionTestUtils.setField(idInfoHelper, "demoMatchingParallelThreshold", 8);
+		ReflectionTestUtils.setField(idInfoHelper, "demoMatchingFailFast", failFast);
+	}
+
+	private AuthRequestDTO getEmailAuthRequest() {
+		AuthRequestDTO authRequestDTO = new AuthRequestDTO();
+		RequestDTO request = new RequestDTO();
+		IdentityDTO demographics = new IdentityDTO();
+		demographics.setEmailId("abc@test.com");
+		request.setDemographics(demographics);
+		authRequestDTO.setRequest(request);
+		return authRequestDTO;
+	}
+
+	private Map<String, List<IdentityInfoDTO>> getEmailEntity() {
+		return Map.of("email", List.of(new IdentityInfoDTO(null, "abc@test.com")));
+	}
+
+	/**
+	 * Gets the email match inputs, all matching but the mismatch index, which
+	 * requires a match value above the one matched
+	 */
+	private List<MatchInput> getEmailMatchInputs(int count, int mismatchIndex, Set<String> threadNames) {
+		DemoMatcherUtil demoMatcherUtil = Mockito.mock(DemoMatcherUtil.class);
+		Mockito.when(demoMatcherUtil.doExactMatch(Mockito.anyString(), Mockito.anyString())).thenAnswer(invocation -> {
+			threadNames.add(Thread.currentThread().getName());
+			return 100;
+		});
+		Map<String, Object> matchProperties = new HashMap<>();
+		matchProperties.put("demoMatcherUtil", demoMatcherUtil);
+		List<MatchInput> matchInputs = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			matchInputs.add(new MatchInput(DemoAuthType.PERSONAL_IDENTITY, DemoMatchType.EMAIL.getIdMapping().getIdname(),
+					DemoMatchType.EMAIL, null, i == mismatchIndex ? 101 : 100, matchProperties, null));
+		}
+		return matchInputs;
+	}
+	
 }
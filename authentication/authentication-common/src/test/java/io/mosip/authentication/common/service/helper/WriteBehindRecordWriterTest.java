@@ -0,0 +1,187 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.common.service.entity.AnonymousProfileEntity;
+import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.websub.impl.AuthTransactionStatusEventPublisher;
+
+public class WriteBehindRecordWriterTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private JdbcTemplate jdbcTemplate;
+
+	private WriteBehindRecordWriter writer;
+
+	private AuthTransactionStatusEventPublisher authTransactionStatusEventPublisher;
+
+	@Before
+	public void before() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:writebehind;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS ida");
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ida.auth_transaction (id VARCHAR(36) PRIMARY KEY, "
+				+ "request_dtimes TIMESTAMP, response_dtimes TIMESTAMP, request_trn_id VARCHAR(64), "
+				+ "auth_type_code VARCHAR(36), status_code VARCHAR(36), status_comment VARCHAR(1024), "
+				+ "lang_code VARCHAR(3), ref_id_type VARCHAR(36), ref_id VARCHAR(64), static_tkn_id VARCHAR(128), "
+				+ "cr_by VARCHAR(256), cr_dtimes TIMESTAMP, upd_by VARCHAR(256), upd_dtimes TIMESTAMP, "
+				+ "is_deleted BOOLEAN, del_dtimes TIMESTAMP, token_id VARCHAR(128), "
+				+ "requested_entity_type VARCHAR(64), requested_entity_id VARCHAR(64), "
+				+ "requested_entity_name VARCHAR(128), request_signature VARCHAR(4096), "
+				+ "response_signature VARCHAR(4096))");
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ida.anonymous_profile (id VARCHAR(36) PRIMARY KEY, "
+				+ "profile VARCHAR(4096), cr_by VARCHAR(256), cr_dtimes TIMESTAMP, upd_by VARCHAR(256), "
+				+ "upd_dtimes TIMESTAMP, is_deleted BOOLEAN, del_dtimes TIMESTAMP)");
+		jdbcTemplate.execute("DELETE FROM ida.auth_transaction");
+		jdbcTemplate.execute("DELETE FROM ida.anonymous_profile");
+
+		writer = new WriteBehindRecordWriter();
+		ReflectionTestUtils.setField(writer, "dataSource", dataSource);
+		ReflectionTestUtils.setField(writer, "queueCapacity", 10);
+		ReflectionTestUtils.setField(writer, "batchSize", 5);
+		ReflectionTestUtils.setField(writer, "flushIntervalMillis", 50L);
+		ReflectionTestUtils.setField(writer, "offerTimeoutMillis", 10L);
+		authTransactionStatusEventPublisher = Mockito.mock(AuthTransactionStatusEventPublisher.class);
+		ReflectionTestUtils.setField(writer, "authTransactionStatusEventPublisher", authTransactionStatusEventPublisher);
+	}
+
+	@After
+	public void after() throws InterruptedException {
+		writer.destroy();
+	}
+
+	/**
+	 * The records are not written behind when disabled
+	 */
+	@Test
+	public void disabledTest() {
+		writer.init();
+		assertFalse(writer.isEnabled());
+	}
+
+	/**
+	 * The queued records are inserted by the batcher, and the records left are
+	 * flushed on shutdown
+	 */
+	@Test
+	public void writeBehindTest() throws InterruptedException {
+		ReflectionTestUtils.setField(writer, "enabled", true);
+		writer.init();
+		assertTrue(writer.isEnabled());
+		for (int i = 0; i < 7; i++) {
+			writer.write(autnTxn());
+		}
+		writer.write(anonymousProfile());
+		writer.destroy();
+		assertFalse(writer.isEnabled());
+		assertEquals(7, count("ida.auth_transaction"));
+		assertEquals(1, count("ida.anonymous_profile"));
+		assertEquals("responseSignature",
+				jdbcTemplate.queryForObject("SELECT response_signature FROM ida.auth_transaction LIMIT 1", String.class));
+		Mockito.verify(authTransactionStatusEventPublisher, Mockito.times(7)).publishEvent(Mockito.any(), Mockito.any(),
+				Mockito.any());
+	}
+
+	/**
+	 * The records are spilled when the queue is full, and inserted from the spill
+	 * file, skipping the duplicates
+	 */
+	@Test
+	public void spillAndReplayTest() throws Exception {
+		File spillFile = new File(temporaryFolder.getRoot(), "write-behind.spill");
+		startStopped(spillFile.getPath());
+		AutnTxn autnTxn = autnTxn();
+		writer.write(autnTxn);
+		writer.write(anonymousProfile());
+		assertEquals(2, Files.readAllLines(spillFile.toPath()).size());
+		Mockito.verify(authTransactionStatusEventPublisher, Mockito.never()).publishEvent(Mockito.any(), Mockito.any(),
+				Mockito.any());
+
+		writer.flush(Arrays.asList(autnTxn));
+		writer.replaySpill();
+		Mockito.verify(authTransactionStatusEventPublisher, Mockito.times(1)).publishEvent(Mockito.any(),
+				Mockito.eq(autnTxn.getId()), Mockito.any());
+		assertFalse(spillFile.exists());
+		assertFalse(new File(spillFile.getPath() + ".replay").exists());
+		assertEquals(1, count("ida.auth_transaction"));
+		assertEquals(1, count("ida.anonymous_profile"));
+	}
+
+	/**
+	 * The request inserts its own record when the queue stays full without a
+	 * spill file
+	 */
+	@Test
+	public void backpressureTest() {
+		startStopped(null);
+		writer.write(autnTxn());
+		assertEquals(1, count("ida.auth_transaction"));
+	}
+
+	/**
+	 * Sets up the writer with a full queue and no batcher.
+	 */
+	private void startStopped(String spillFile) {
+		BlockingQueue<Object> queue = new ArrayBlockingQueue<>(1);
+		queue.add(anonymousProfile());
+		ReflectionTestUtils.setField(writer, "queue", queue);
+		ReflectionTestUtils.setField(writer, "jdbcTemplate", jdbcTemplate);
+		if (spillFile != null) {
+			ReflectionTestUtils.setField(writer, "spillPath", new File(spillFile).toPath());
+		}
+	}
+
+	private int count(String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+
+	private AutnTxn autnTxn() {
+		AutnTxn autnTxn = new AutnTxn();
+		autnTxn.setId(UUID.randomUUID().toString());
+		autnTxn.setRequestTrnId("1234567890");
+		autnTxn.setRequestDTtimes(LocalDateTime.now());
+		autnTxn.setResponseDTimes(LocalDateTime.now());
+		autnTxn.setAuthTypeCode("OTP-AUTH");
+		autnTxn.setStatusCode("Y");
+		autnTxn.setStatusComment("OTP Authentication Success");
+		autnTxn.setLangCode("eng");
+		autnTxn.setRefIdType("UIN");
+		autnTxn.setCrBy("IDA");
+		autnTxn.setCrDTimes(LocalDateTime.now());
+		autnTxn.setToken("token");
+		autnTxn.setResponseSignature("responseSignature");
+		return autnTxn;
+	}
+
+	private AnonymousProfileEntity anonymousProfile() {
+		AnonymousProfileEntity anonymousProfile = new AnonymousProfileEntity();
+		anonymousProfile.setId(UUID.randomUUID().toString());
+		anonymousProfile.setProfile("{}");
+		anonymousProfile.setCrBy("IDA");
+		anonymousProfile.setCrDTimes(LocalDateTime.now());
+		return anonymousProfile;
+	}
+}
@@ -30,6 +30,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
+import io.mosip.authentication.common.service.helper.WriteBehindRecordWriter;
 import io.mosip.authentication.common.service.impl.idevent.AnonymousAuthenticationProfile;
 import io.mosip.authentication.common.service.impl.match.DemoMatchType;
 import io.mosip.authentication.common.service.repository.AuthAnonymousProfileRepository;
@@ -56,6 +57,9 @@ public class AuthAnonymousProfileServiceImplTest {
 	@Mock
 	private AuthAnonymousProfileRepository authAnonymousProfileRepository;
 	
+	@Mock
+	private WriteBehindRecordWriter writeBehindRecordWriter;
+	
 	@InjectMocks
 	private IdInfoFetcherImpl idInfoFetcherImpl;
 	
@@ -524,6 +524,8 @@ public class DemoAuthServiceTest {
 		valueSet.add("fra");
 		Mockito.when(demoNormalizer.normalizeName(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
 				.thenReturn("Dinesh");
+		Mockito.when(demoNormalizer.normalizeStoredName(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+				.thenReturn("Dinesh");
 		Mockito.when(demoMatcherUtil.doExactMatch(Mockito.anyString(), Mockito.anyString())).thenReturn(100);
 		AuthStatusInfo authenticate = demoAuthServiceImpl.authenticate(authRequestDTO, individualId, demoEntity,
 				"1234567890");
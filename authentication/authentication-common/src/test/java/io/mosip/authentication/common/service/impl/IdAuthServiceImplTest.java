@@ -34,6 +34,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
+import io.mosip.authentication.common.service.helper.AuthStageMetrics;
 import io.mosip.authentication.common.service.factory.AuditRequestFactory;
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
 import io.mosip.authentication.common.service.repository.AutnTxnRepository;
@@ -88,6 +89,9 @@ public class IdAuthServiceImplTest {
 	
 	@Mock
 	private IdentityCacheRepository identityRepo;
+
+	@Mock
+	private AuthStageMetrics authStageMetrics;
 	
 	@Autowired
 	private ObjectMapper mapper;
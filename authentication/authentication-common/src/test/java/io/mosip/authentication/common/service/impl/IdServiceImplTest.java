@@ -5,14 +5,22 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.hibernate.exception.JDBCConnectionException;
 import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -23,11 +31,16 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.IdHashLookupFilter;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
+import io.mosip.authentication.common.service.helper.AuthStageMetrics;
 import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+import io.mosip.authentication.common.service.repository.IdentityBioDataRepository;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.common.service.util.IdentityDataCodec;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.IdType;
 import io.mosip.kernel.core.util.DateUtils;
@@ -44,11 +57,27 @@ public class IdServiceImplTest {
 	@Mock
 	private IdentityCacheRepository identityRepo;
 
+	@Mock
+	private IdentityBioDataRepository identityBioDataRepo;
+
+	@Mock
+	private IdHashLookupFilter idHashLookupFilter;
+
+	@Mock
+	private AuthStageMetrics authStageMetrics;
+
 	@Mock
 	private ObjectMapper mapper;
 
 	@Mock
 	private AutnTxnRepository autntxnrepository;
+
+	@Before
+	public void before() {
+		IdentityDataCodec identityDataCodec = new IdentityDataCodec();
+		ReflectionTestUtils.setField(identityDataCodec, "mapper", new ObjectMapper());
+		ReflectionTestUtils.setField(idServiceImpl, "identityDataCodec", identityDataCodec);
+	}
 	
 	@Test
 	public void getIdentityTest1() throws IdAuthenticationBusinessException, IOException {
@@ -59,22 +88,9 @@ public class IdServiceImplTest {
 		filterAttributes.add("11");
 		filterAttributes.add("22");
 		filterAttributes.add("33");
-		Map<String, String> demoDataMap = new HashMap<String, String>();
-		demoDataMap.put("1", "11");
-		demoDataMap.put("2", "22");
-		demoDataMap.put("3", "33");
-
-		Map<String, String> bioDataMap = new HashMap<String, String>();
-		bioDataMap.put("1", "11");
-		bioDataMap.put("2", "22");
-		bioDataMap.put("3", "33");
 		IdentityEntity entity = getEntity();
-		Mockito.when(mapper.readValue(entity.getDemographicData(), Map.class)).thenReturn(demoDataMap);
-		Mockito.when(mapper.readValue(entity.getBiometricData(), Map.class)).thenReturn(bioDataMap);
-		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
-
-		Mockito.when(identityRepo.getOne("12")).thenReturn(entity);
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
+		Mockito.when(identityRepo.findDemoAndBioDataByIdIn(List.of("12"))).thenReturn(getBioDataRows("12", entity));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -84,22 +100,102 @@ public class IdServiceImplTest {
 		Boolean isBio = false;
 		IdType idType = IdType.VID;
 		Set<String> filterAttributes = new HashSet<String>();
-		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
 		byte[] demographicData = {};
-		Object[] data = new Object[] { 1, demographicData, null, null, 1 };
+		Object[] data = new Object[] { "12", demographicData, null, null, 1 };
 
-		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Collections.singletonList(data));
+		Mockito.when(identityRepo.findDemoDataByIdIn(List.of("12"))).thenReturn(Collections.singletonList(data));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
+	@Test
+	public void getIdentityTest_legacyHashPresent() throws IdAuthenticationBusinessException {
+		String uin = "12312312";
+		Set<String> filterAttributes = new HashSet<String>();
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12", "13"));
+		byte[] demographicData = {};
+		Object[] data = new Object[] { "13", demographicData, null, null, "token" };
+		Mockito.when(identityRepo.findDemoDataByIdIn(List.of("12", "13"))).thenReturn(Collections.singletonList(data));
+		Map<String, Object> identity = idServiceImpl.getIdentity(uin, false, IdType.UIN, filterAttributes);
+		assertEquals("13", idServiceImpl.getIdHash(identity));
+		assertEquals("token", idServiceImpl.getToken(identity));
+	}
+
+	@Test
+	public void getIdentityTest_newHashPreferred() throws IdAuthenticationBusinessException {
+		String uin = "12312312";
+		Set<String> filterAttributes = new HashSet<String>();
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12", "13"));
+		byte[] demographicData = {};
+		Object[] legacyData = new Object[] { "13", demographicData, null, null, "token13" };
+		Object[] newData = new Object[] { "12", demographicData, null, null, "token12" };
+		Mockito.when(identityRepo.findDemoDataByIdIn(List.of("12", "13"))).thenReturn(List.of(legacyData, newData));
+		Map<String, Object> identity = idServiceImpl.getIdentity(uin, false, IdType.UIN, filterAttributes);
+		assertEquals("12", idServiceImpl.getIdHash(identity));
+		assertEquals("token12", idServiceImpl.getToken(identity));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void getIdentityTest_bioAttributeStore() throws IdAuthenticationBusinessException, IOException {
+		ReflectionTestUtils.setField(idServiceImpl, "bioAttributeStoreEnabled", true);
+		ReflectionTestUtils.setField(idServiceImpl, "zkUnEncryptedCredAttribs", "Finger_Left Thumb");
+		String uin = "12312312";
+		byte[] demographicData = "{}".getBytes();
+		byte[] bioValue = "\"template\"".getBytes();
+		Object[] data = new Object[] { "12", demographicData, null, null, "token" };
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
+		Mockito.when(identityRepo.findDemoDataByIdIn(List.of("12"))).thenReturn(Collections.singletonList(data));
+		Mockito.when(identityBioDataRepo.findBioValuesByIdHashAndBioAttributeIn("12", Set.of("finger_left thumb")))
+				.thenReturn(Collections.singletonList(new Object[] { "Finger_Left Thumb", bioValue }));
+		Mockito.when(mapper.readValue(bioValue, String.class)).thenReturn("template");
+
+		Map<String, Object> identity = idServiceImpl.getIdentity(uin, true, IdType.UIN, Set.of("Finger_Left Thumb"));
+		assertEquals(Map.of("Finger_Left Thumb", "template"), identity.get("biometrics"));
+		Mockito.verify(identityRepo, Mockito.never()).findDemoAndBioDataByIdIn(Mockito.any());
+		Mockito.verify(identityRepo, Mockito.never()).findBioDataById(Mockito.any());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void getIdentityTest_bioAttributeStoreLegacyRecord() throws IdAuthenticationBusinessException, IOException {
+		ReflectionTestUtils.setField(idServiceImpl, "bioAttributeStoreEnabled", true);
+		ReflectionTestUtils.setField(idServiceImpl, "zkUnEncryptedCredAttribs", "Finger_Left Thumb");
+		String uin = "12312312";
+		byte[] demographicData = "{}".getBytes();
+		byte[] bioData = "{\"Finger_Left Thumb\":\"template\",\"Iris_Left\":\"iris\"}".getBytes();
+		Object[] data = new Object[] { "12", demographicData, null, null, "token" };
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
+		Mockito.when(identityRepo.findDemoDataByIdIn(List.of("12"))).thenReturn(Collections.singletonList(data));
+		Mockito.when(identityBioDataRepo.findBioValuesByIdHashAndBioAttributeIn("12", Set.of("finger_left thumb")))
+				.thenReturn(Collections.emptyList());
+		Mockito.when(identityRepo.findBioDataById("12")).thenReturn(Collections.singletonList(bioData));
+
+		Map<String, Object> identity = idServiceImpl.getIdentity(uin, true, IdType.UIN, Set.of("Finger_Left Thumb"));
+		assertEquals(Map.of("Finger_Left Thumb", "template"), identity.get("biometrics"));
+	}
+
+	@Test
+	public void getIdentityTest_idHashDefinitelyAbsent() {
+		String uin = "12312312";
+		try {
+			Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12", "13"));
+			Mockito.when(idHashLookupFilter.isDefinitelyAbsent(List.of("12", "13"))).thenReturn(true);
+			idServiceImpl.getIdentity(uin, false, IdType.UIN, Set.of());
+			Assert.fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals("IDA-MLC-018", e.getErrorCode());
+		}
+		Mockito.verify(identityRepo, Mockito.never()).findDemoDataByIdIn(Mockito.any());
+	}
+
 	@Test(expected = IdAuthenticationBusinessException.class)
 	public void getIdentityTestException1() throws IdAuthenticationBusinessException {
 		String uin = "12312312";
 		Boolean isBio = true;
 		IdType idType = IdType.UIN;
 		Set<String> filterAttributes = new HashSet<String>();
-		Mockito.doThrow(IdAuthenticationBusinessException.class).when(securityManager).hash(uin);
+		Mockito.doThrow(IdAuthenticationBusinessException.class).when(securityManager).getIdHashCandidates(uin);
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -109,23 +205,50 @@ public class IdServiceImplTest {
 		Boolean isBio = true;
 		IdType idType = IdType.UIN;
 		Set<String> filterAttributes = new HashSet<String>();
-		Map<String, String> demoDataMap = new HashMap<String, String>();
-		demoDataMap.put("1", "11");
-		demoDataMap.put("2", "22");
-		demoDataMap.put("3", "33");
-
-		Map<String, String> bioDataMap = new HashMap<String, String>();
-		bioDataMap.put("1", "11");
-		bioDataMap.put("2", "22");
-		bioDataMap.put("3", "33");
 		IdentityEntity entity = getEntity();
-		Mockito.when(mapper.readValue(entity.getDemographicData(), Map.class)).thenReturn(demoDataMap);
-		Mockito.when(mapper.readValue(entity.getBiometricData(), Map.class)).thenReturn(bioDataMap);
-		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
+		Mockito.when(identityRepo.findDemoAndBioDataByIdIn(List.of("12"))).thenReturn(getBioDataRows("12", entity));
+		Map<String, Object> identity = idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
+		assertFalse(identity.containsKey("demographics"));
+		assertFalse(identity.containsKey("biometrics"));
+	}
 
-		Mockito.when(identityRepo.getOne("12")).thenReturn(entity);
-		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
+	@Test
+	public void getIdentityTest_filteredDemographics() throws IdAuthenticationBusinessException {
+		ReflectionTestUtils.setField(idServiceImpl, "zkUnEncryptedCredAttribs", "FullName");
+		ReflectionTestUtils.setField(idServiceImpl, "mapper", new ObjectMapper());
+		String uin = "12312312";
+		byte[] demographicData = ("{\"fullName\":\"[{\\\"language\\\":\\\"eng\\\",\\\"value\\\":\\\"Ravi\\\"}]\","
+				+ "\"phone\":\"encryptedPhone\",\"address\":{\"line1\":\"street\"},\"email\":\"encryptedEmail\"}")
+				.getBytes();
+		Object[] data = new Object[] { "12", demographicData, null, null, "token" };
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
+		Mockito.when(identityRepo.findDemoDataByIdIn(List.of("12"))).thenReturn(Collections.singletonList(data));
+		Mockito.when(securityManager.zkDecrypt(uin, Map.of("phone", "encryptedPhone")))
+				.thenReturn(Map.of("phone", "9876543210"));
+
+		Map<String, Object> identity = idServiceImpl.getIdentity(uin, false, IdType.UIN, Set.of("FullName", "Phone"));
+
+		assertEquals(Map.of("fullName", List.of(Map.of("language", "eng", "value", "Ravi")), "phone", "9876543210"),
+				identity.get("demographics"));
+	}
+
+	@Test
+	public void getIdentityTest_demoAndBioDecryptedTogether() throws IdAuthenticationBusinessException {
+		String uin = "12312312";
+		IdentityEntity entity = getEntity();
+		entity.setDemographicData("{\"phone\":\"encryptedPhone\",\"email\":\"encryptedEmail\"}".getBytes());
+		entity.setBiometricData("{\"Iris_Left\":\"encryptedIris\"}".getBytes());
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
+		Mockito.when(identityRepo.findDemoAndBioDataByIdIn(List.of("12"))).thenReturn(getBioDataRows("12", entity));
+		Mockito.when(securityManager.zkDecrypt(uin, Map.of("phone", "encryptedPhone", "Iris_Left", "encryptedIris")))
+				.thenReturn(Map.of("phone", "9876543210", "Iris_Left", "iris"));
+
+		Map<String, Object> identity = idServiceImpl.getIdentity(uin, true, IdType.UIN, Set.of("Phone", "Iris_Left"));
+
+		assertEquals(Map.of("phone", "9876543210"), identity.get("demographics"));
+		assertEquals(Map.of("Iris_Left", "iris"), identity.get("biometrics"));
+		Mockito.verify(securityManager, Mockito.times(1)).zkDecrypt(Mockito.any(), Mockito.any());
 	}
 
 	@Test(expected = IdAuthenticationBusinessException.class)
@@ -134,13 +257,12 @@ public class IdServiceImplTest {
 		Boolean isBio = false;
 		IdType idType = IdType.UIN;
 		Set<String> filterAttributes = new HashSet<String>();
-		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
 		byte[] demographicData = {};
-		Object[] data = new Object[] { 1, demographicData, "2018-12-30T19:34:50.63", 1, 1 };
+		Object[] data = new Object[] { "12", demographicData, "2018-12-30T19:34:50.63", 1, 1 };
 
 		System.out.println("time=" + LocalDateTime.parse(String.valueOf(data[2])));
-		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Collections.singletonList(data));
+		Mockito.when(identityRepo.findDemoDataByIdIn(List.of("12"))).thenReturn(Collections.singletonList(data));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -150,8 +272,8 @@ public class IdServiceImplTest {
 		Boolean isBio = false;
 		IdType idType = IdType.UIN;
 		Set<String> filterAttributes = new HashSet<String>();
-		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(false);
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
+		Mockito.when(identityRepo.findDemoDataByIdIn(List.of("12"))).thenReturn(Collections.emptyList());
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -165,10 +287,9 @@ public class IdServiceImplTest {
 		filterAttributes.add("22");
 		filterAttributes.add("33");
 		IdentityEntity entity = getEntity();
-		Mockito.doThrow(IOException.class).when(mapper).readValue(entity.getDemographicData(), Map.class);
-		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
-		Mockito.when(identityRepo.getOne("12")).thenReturn(entity);
+		entity.setDemographicData("{\"1\":".getBytes());
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
+		Mockito.when(identityRepo.findDemoAndBioDataByIdIn(List.of("12"))).thenReturn(getBioDataRows("12", entity));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -178,13 +299,12 @@ public class IdServiceImplTest {
 		Boolean isBio = false;
 		IdType idType = IdType.VID;
 		Set<String> filterAttributes = new HashSet<String>();
-		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
+		Mockito.when(securityManager.getIdHashCandidates(uin)).thenReturn(List.of("12"));
 		byte[] demographicData = {};
-		Object[] data = new Object[] { 1, demographicData, "2018-12-30T19:34:50.63", 1, 1 };
+		Object[] data = new Object[] { "12", demographicData, "2018-12-30T19:34:50.63", 1, 1 };
 
 		System.out.println("time=" + LocalDateTime.parse(String.valueOf(data[2])));
-		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Collections.singletonList(data));
+		Mockito.when(identityRepo.findDemoDataByIdIn(List.of("12"))).thenReturn(Collections.singletonList(data));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -197,21 +317,9 @@ public class IdServiceImplTest {
 		filterAttributes.add("11");
 		filterAttributes.add("22");
 		filterAttributes.add("33");
-		Map<String, String> demoDataMap = new HashMap<String, String>();
-		demoDataMap.put("1", "11");
-		demoDataMap.put("2", "22");
-		demoDataMap.put("3", "33");
-
-		Map<String, String> bioDataMap = new HashMap<String, String>();
-		bioDataMap.put("1", "11");
-		bioDataMap.put("2", "22");
-		bioDataMap.put("3", "33");
 		IdentityEntity entity = getEntity();
-		Mockito.when(mapper.readValue(entity.getDemographicData(), Map.class)).thenReturn(demoDataMap);
-		Mockito.when(mapper.readValue(entity.getBiometricData(), Map.class)).thenReturn(bioDataMap);
-		Mockito.when(securityManager.hash(idvId)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
-		Mockito.when(identityRepo.getOne("12")).thenReturn(entity);
+		Mockito.when(securityManager.getIdHashCandidates(idvId)).thenReturn(List.of("12"));
+		Mockito.when(identityRepo.findDemoAndBioDataByIdIn(List.of("12"))).thenReturn(getBioDataRows("12", entity));
 
 		String idvIdType = "VID";
 		idServiceImpl.processIdType(idvIdType, idvId, isBio, markVidConsumed, filterAttributes);
@@ -252,15 +360,10 @@ public class IdServiceImplTest {
 		Boolean isBio = true;
 		Boolean markVidConsumed = true;
 		Set<String> filterAttributes = new HashSet<String>();
-		Optional<IdentityEntity> entityOpt = Optional.of(getEntity());
-		entityOpt.get().setTransactionLimit(0);
-		Mockito.when(securityManager.hash(idvId)).thenReturn("11");
-		Mockito.when(identityRepo.existsById("11")).thenReturn(true);
-		Mockito.when(identityRepo.findById("11")).thenReturn(entityOpt);
 		IdServiceImpl idServiceSpy = Mockito.spy(idServiceImpl);
-		Mockito.doReturn(null).when(idServiceSpy).getIdByVid(idvId, isBio, filterAttributes);
+		Mockito.doReturn(Map.of("ID_HASH", "11", "TRANSACTION_LIMIT", 0)).when(idServiceSpy).getIdByVid(idvId, isBio, filterAttributes);
 		String idvIdType = "VID";
-		Mockito.doThrow(JDBCConnectionException.class).when(identityRepo).deleteById("11");
+		Mockito.doThrow(JDBCConnectionException.class).when(identityRepo).deleteByIdIfLastTransaction("11");
 		idServiceSpy.processIdType(idvIdType, idvId, isBio, markVidConsumed, filterAttributes);
 	}
 
@@ -292,14 +395,111 @@ public class IdServiceImplTest {
 	@Test
 	public void updateVidStatusTestTrnsLim2() throws IdAuthenticationBusinessException {
 		String vid = "213131";
-		Optional<IdentityEntity> entityOpt = Optional.of(getEntity());
-		entityOpt.get().setTransactionLimit(2);
-		Mockito.when(securityManager.hash(vid)).thenReturn(vid);
-		Mockito.when(identityRepo.existsById(vid)).thenReturn(true);
-		Mockito.when(identityRepo.findById(vid)).thenReturn(entityOpt);
-		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid);
-		Integer result = 1;
-		Assert.assertEquals(result, identityRepo.findById(vid).get().getTransactionLimit());
+		Mockito.when(identityRepo.decrementTransactionLimit(vid)).thenReturn(1);
+		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid, 2);
+		Mockito.verify(identityRepo, Mockito.never()).deleteByIdIfLastTransaction(vid);
+	}
+
+	/**
+	 * This class tests the updateVidStatusTest method when transaction limit is 2
+	 * as read, but decremented to 1 by a concurrent transaction
+	 *
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	@Test
+	public void updateVidStatusTestTrnsLim2DecrementedConcurrently() throws IdAuthenticationBusinessException {
+		String vid = "213131";
+		Mockito.when(identityRepo.decrementTransactionLimit(vid)).thenReturn(0);
+		Mockito.when(identityRepo.deleteByIdIfLastTransaction(vid)).thenReturn(1);
+		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid, 2);
+		Mockito.verify(idHashLookupFilter).remove(vid);
+	}
+
+	/**
+	 * This class tests the updateVidStatusTest method when the transaction limit
+	 * is consumed by concurrent transactions
+	 */
+	@Test
+	public void updateVidStatusTestTrnsLimConsumed() {
+		String vid = "213131";
+		Mockito.when(identityRepo.decrementTransactionLimit(vid)).thenReturn(0);
+		Mockito.when(identityRepo.deleteByIdIfLastTransaction(vid)).thenReturn(0);
+		try {
+			ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid, 2);
+			Assert.fail();
+		} catch (UndeclaredThrowableException e) {
+			assertEquals(IdAuthenticationErrorConstants.INVALID_VID.getErrorCode(),
+					((IdAuthenticationBusinessException) e.getCause()).getErrorCode());
+		}
+		Mockito.verify(idHashLookupFilter, Mockito.never()).remove(vid);
+	}
+
+	/**
+	 * Parallel transactions of a temporary VID are allowed only up to its
+	 * transaction limit
+	 */
+	@Test
+	public void processIdTypeConcurrentVidTransactionsTest() throws Exception {
+		String vid = "12312312";
+		int transactionLimit = 5;
+		int transactionCount = 20;
+		// Emulates the row of the VID updated and deleted with the row lock
+		AtomicReference<Integer> rowLimit = new AtomicReference<>(transactionLimit);
+		Mockito.when(securityManager.getIdHashCandidates(vid)).thenReturn(List.of("12"));
+		Mockito.when(identityRepo.findDemoDataByIdIn(List.of("12"))).thenAnswer(invocation -> {
+			Integer limit = rowLimit.get();
+			return limit == null ? List.of()
+					: Collections.singletonList(new Object[] { "12", "{}".getBytes(), null, limit, "token" });
+		});
+		Mockito.when(identityRepo.decrementTransactionLimit("12")).thenAnswer(invocation -> {
+			synchronized (rowLimit) {
+				Integer limit = rowLimit.get();
+				if (limit != null && limit > 1) {
+					rowLimit.set(limit - 1);
+					return 1;
+				}
+				return 0;
+			}
+		});
+		Mockito.when(identityRepo.deleteByIdIfLastTransaction("12")).thenAnswer(invocation -> {
+			synchronized (rowLimit) {
+				Integer limit = rowLimit.get();
+				if (limit != null && limit <= 1) {
+					rowLimit.set(null);
+					return 1;
+				}
+				return 0;
+			}
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(transactionCount);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < transactionCount; i++) {
+			results.add(executor.submit(() -> {
+				startLatch.await();
+				try {
+					idServiceImpl.processIdType("VID", vid, false, true, Set.of());
+					return true;
+				} catch (IdAuthenticationBusinessException e) {
+					assertEquals(IdAuthenticationErrorConstants.INVALID_VID.getErrorCode(), e.getErrorCode());
+					return false;
+				}
+			}));
+		}
+		startLatch.countDown();
+		int allowedCount = 0;
+		for (Future<Boolean> result : results) {
+			if (result.get(30, TimeUnit.SECONDS)) {
+				allowedCount++;
+			}
+		}
+		executor.shutdown();
+
+		assertEquals(transactionLimit, allowedCount);
+		assertEquals(null, rowLimit.get());
+		Mockito.verify(idHashLookupFilter, Mockito.times(1)).remove("12");
 	}
 
 	/**
@@ -311,13 +511,10 @@ public class IdServiceImplTest {
 	@Test
 	public void updateVidStatusTestTransLim0() throws IdAuthenticationBusinessException {
 		String vid = "213131";
-		Optional<IdentityEntity> entityOpt = Optional.of(getEntity());
-		Mockito.when(securityManager.hash(vid)).thenReturn(vid);
-		Mockito.when(identityRepo.existsById(vid)).thenReturn(true);
-		entityOpt.get().setTransactionLimit(0);
-		Mockito.when(identityRepo.findById(vid)).thenReturn(entityOpt);
-		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid);
-		Mockito.verify(identityRepo, Mockito.times(1)).deleteById(vid);
+		Mockito.when(identityRepo.deleteByIdIfLastTransaction(vid)).thenReturn(1);
+		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid, 0);
+		Mockito.verify(identityRepo, Mockito.never()).decrementTransactionLimit(vid);
+		Mockito.verify(idHashLookupFilter).remove(vid);
 	}
 
 	/**
@@ -329,13 +526,8 @@ public class IdServiceImplTest {
 	@Test
 	public void updateVidStatusTestTrnsLimNull() throws IdAuthenticationBusinessException {
 		String vid = "213131";
-		Optional<IdentityEntity> entityOpt = Optional.of(getEntity());
-		Mockito.when(securityManager.hash(vid)).thenReturn(vid);
-		Mockito.when(identityRepo.existsById(vid)).thenReturn(true);
-		entityOpt.get().setTransactionLimit(null);
-		Mockito.when(identityRepo.findById(vid)).thenReturn(entityOpt);
-		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid);
-		Mockito.verify(identityRepo, Mockito.times(1)).existsById(vid);
+		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid, null);
+		Mockito.verifyZeroInteractions(identityRepo);
 	}
 
 	/**
@@ -347,13 +539,9 @@ public class IdServiceImplTest {
 	@Test
 	public void updateVidStatusTestTrnsLim1() throws IdAuthenticationBusinessException {
 		String vid = "213131";
-		Optional<IdentityEntity> entityOpt = Optional.of(getEntity());
-		Mockito.when(securityManager.hash(vid)).thenReturn(vid);
-		Mockito.when(identityRepo.existsById(vid)).thenReturn(true);
-		entityOpt.get().setTransactionLimit(1);
-		Mockito.when(identityRepo.findById(vid)).thenReturn(entityOpt);
-		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid);
-		Mockito.verify(identityRepo, Mockito.times(1)).deleteById(vid);
+		Mockito.when(identityRepo.deleteByIdIfLastTransaction(vid)).thenReturn(1);
+		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid, 1);
+		Mockito.verify(identityRepo, Mockito.times(1)).deleteByIdIfLastTransaction(vid);
 	}
 
 	/**
@@ -365,13 +553,15 @@ public class IdServiceImplTest {
 	@Test
 	public void updateVidStatusTestTrnsLim_1() throws IdAuthenticationBusinessException {
 		String vid = "213131";
-		Optional<IdentityEntity> entityOpt = Optional.of(getEntity());
-		Mockito.when(securityManager.hash(vid)).thenReturn(vid);
-		Mockito.when(identityRepo.existsById(vid)).thenReturn(true);
-		entityOpt.get().setTransactionLimit(-1);
-		Mockito.when(identityRepo.findById(vid)).thenReturn(entityOpt);
-		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid);
-		Mockito.verify(identityRepo, Mockito.times(1)).deleteById(vid);
+		Mockito.when(identityRepo.deleteByIdIfLastTransaction(vid)).thenReturn(1);
+		ReflectionTestUtils.invokeMethod(idServiceImpl, "updateVIDstatus", vid, -1);
+		Mockito.verify(identityRepo, Mockito.times(1)).deleteByIdIfLastTransaction(vid);
+	}
+
+	private List<Object[]> getBioDataRows(String idHash, IdentityEntity entity) {
+		Object[] data = new Object[] { idHash, entity.getDemographicData(), entity.getExpiryTimestamp(),
+				entity.getTransactionLimit(), entity.getToken(), entity.getBiometricData() };
+		return Collections.singletonList(data);
 	}
 
 	private IdentityEntity getEntity() {
@@ -379,8 +569,8 @@ public class IdServiceImplTest {
 		LocalDateTime time = DateUtils.getUTCCurrentDateTime().plus(10, ChronoUnit.MINUTES);
 		entity.setExpiryTimestamp(time);
 
-		byte[] bioData = {};
-		entity.setBiometricData(bioData);
+		entity.setDemographicData("{\"1\":\"11\",\"2\":\"22\",\"3\":\"33\"}".getBytes());
+		entity.setBiometricData("{\"1\":\"11\",\"2\":\"22\",\"3\":\"33\"}".getBytes());
 		return entity;
 	}
     
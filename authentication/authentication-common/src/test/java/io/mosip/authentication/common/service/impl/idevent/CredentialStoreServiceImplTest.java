@@ -1,6 +1,7 @@
 package io.mosip.authentication.common.service.impl.idevent;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doThrow;
 
 import java.io.IOException;
@@ -29,7 +30,10 @@ import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.IdHashLookupFilter;
+import io.mosip.authentication.common.service.cache.IdHashSaltRegistry;
 import io.mosip.authentication.common.service.entity.CredentialEventStore;
+import io.mosip.authentication.common.service.entity.IdentityBioData;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
 import io.mosip.authentication.common.service.helper.AuditHelper;
 import io.mosip.authentication.common.service.helper.WebSubHelper;
@@ -37,8 +41,10 @@ import io.mosip.authentication.common.service.integration.CredentialRequestManag
 import io.mosip.authentication.common.service.integration.DataShareManager;
 import io.mosip.authentication.common.service.repository.CredentialEventStoreRepository;
 import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+import io.mosip.authentication.common.service.repository.IdentityBioDataRepository;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.common.service.util.IdentityDataCodec;
 import io.mosip.authentication.common.service.websub.impl.CredentialStoreStatusEventPublisher;
 import io.mosip.authentication.core.constant.AuditEvents;
 import io.mosip.authentication.core.constant.AuditModules;
@@ -80,6 +86,12 @@ public class CredentialStoreServiceImplTest {
     @Mock
     private IdaUinHashSaltRepo uinHashSaltRepo;
 
+    @Mock
+    private IdHashSaltRegistry saltRegistry;
+
+    @Mock
+    private IdHashLookupFilter idHashLookupFilter;
+
     @Mock
     private IdAuthSecurityManager securityManager;
 
@@ -92,9 +104,14 @@ public class CredentialStoreServiceImplTest {
     @Mock
     private IdentityCacheRepository identityCacheRepo;
 
+    @Mock
+    private IdentityBioDataRepository identityBioDataRepo;
+
     @Mock
     private CredentialRequestManager credentialRequestManager;
 
+    private IdentityDataCodec identityDataCodec;
+
 
     /**
      * Before.
@@ -108,6 +125,10 @@ public class CredentialStoreServiceImplTest {
         ReflectionTestUtils.setField(credentialStoreServiceImpl, "objectMapper", objectMapper);
         ReflectionTestUtils.setField(credentialStoreServiceImpl, "dataShareManager", dataShareManager);
         ReflectionTestUtils.setField(credentialStoreServiceImpl, "identityCacheRepo", identityCacheRepo);
+        identityDataCodec = new IdentityDataCodec();
+        ReflectionTestUtils.setField(identityDataCodec, "mapper", objectMapper);
+        ReflectionTestUtils.setField(identityDataCodec, "dataFormat", IdentityDataCodec.FORMAT_JSON);
+        ReflectionTestUtils.setField(credentialStoreServiceImpl, "identityDataCodec", identityDataCodec);
     }
 
     /**
@@ -340,6 +361,26 @@ public class CredentialStoreServiceImplTest {
     public void storeIdentityEntityTest(){
         List<IdentityEntity> idEntitites = new ArrayList<IdentityEntity>();
         ReflectionTestUtils.invokeMethod(credentialStoreServiceImpl, "storeIdentityEntity", idEntitites);
+        Mockito.verify(identityBioDataRepo, Mockito.never()).deleteByIdHashIn(Mockito.any());
+    }
+
+    /**
+     * This class tests the storeIdentityEntity method
+     * when biometric attributes are stored separately
+     */
+    @Test
+    public void storeIdentityEntityWithBioAttributesTest(){
+        IdentityBioData bioAttribute = new IdentityBioData();
+        bioAttribute.setIdHash("idHash");
+        bioAttribute.setBioAttribute("iris_left");
+        IdentityEntity identityEntity = new IdentityEntity();
+        identityEntity.setId("idHash");
+        identityEntity.setBioAttributes(List.of(bioAttribute));
+        ReflectionTestUtils.invokeMethod(credentialStoreServiceImpl, "storeIdentityEntity", List.of(identityEntity));
+        Mockito.verify(identityCacheRepo).saveAll(List.of(identityEntity));
+        Mockito.verify(idHashLookupFilter).put(List.of("idHash"));
+        Mockito.verify(identityBioDataRepo).deleteByIdHashIn(List.of("idHash"));
+        Mockito.verify(identityBioDataRepo).saveAll(List.of(bioAttribute));
     }
 
     @Test(expected = UndeclaredThrowableException.class)
@@ -370,6 +411,51 @@ public class CredentialStoreServiceImplTest {
         ReflectionTestUtils.invokeMethod(credentialStoreServiceImpl, "createIdentityEntity", idHash, token, transactionLimit, expiryTime, credentialData);
     }
 
+    /**
+     * This class tests the createIdentityEntity method
+     * when biometric attributes are stored separately
+     */
+    @Test
+    public void createIdentityEntityWithBioAttributesTest() throws IOException {
+        ReflectionTestUtils.setField(credentialStoreServiceImpl, "bioAttributeStoreEnabled", true);
+        String idHash = "9DCF43F9973826A8331209CAA22A8080995420D992D0BBEE2A3356077EA525E3";
+        Map<String, Object> credentialData = new HashMap<>();
+        credentialData.put("credentialSubject", objectMapper.readValue(getCredentialServiceJsonStr(), Map.class));
+        Mockito.when(identityCacheRepo.findById(idHash)).thenReturn(Optional.empty());
+        IdentityEntity identityEntity = ReflectionTestUtils.invokeMethod(credentialStoreServiceImpl,
+                "createIdentityEntity", idHash, "token", null, null, credentialData);
+        assertEquals("{}", new String(identityEntity.getBiometricData()));
+        IdentityBioData bioAttribute = identityEntity.getBioAttributes().stream()
+                .filter(bio -> bio.getBioAttribute().equals("iris_left")).findFirst().get();
+        assertEquals(idHash, bioAttribute.getIdHash());
+        assertEquals("Iris_Left", bioAttribute.getAttributeName());
+        assertEquals("\"aaa\"", new String(bioAttribute.getBioValue()));
+        assertTrue(identityEntity.getBioAttributes().stream()
+                .allMatch(bio -> bio.getBioAttribute().startsWith("finger") || bio.getBioAttribute().startsWith("iris")
+                        || bio.getBioAttribute().startsWith("face")));
+    }
+
+    /**
+     * This class tests the createIdentityEntity method
+     * when the data is stored in binary format
+     */
+    @Test
+    public void createIdentityEntityBinaryFormatTest() throws IOException {
+        ReflectionTestUtils.setField(identityDataCodec, "dataFormat", IdentityDataCodec.FORMAT_BINARY);
+        String idHash = "9DCF43F9973826A8331209CAA22A8080995420D992D0BBEE2A3356077EA525E3";
+        Map<String, Object> credentialSubject = objectMapper.readValue(getCredentialServiceJsonStr(), Map.class);
+        Map<String, Object> credentialData = new HashMap<>();
+        credentialData.put("credentialSubject", credentialSubject);
+        Mockito.when(identityCacheRepo.findById(idHash)).thenReturn(Optional.empty());
+        IdentityEntity identityEntity = ReflectionTestUtils.invokeMethod(credentialStoreServiceImpl,
+                "createIdentityEntity", idHash, "token", null, null, credentialData);
+        assertTrue(identityDataCodec.isBinary(identityEntity.getDemographicData()));
+        assertTrue(identityDataCodec.isBinary(identityEntity.getBiometricData()));
+        Map<String, Object> storedData = new HashMap<>(identityDataCodec.decode(identityEntity.getDemographicData()));
+        storedData.putAll(identityDataCodec.decode(identityEntity.getBiometricData()));
+        assertEquals(credentialSubject, storedData);
+    }
+
     @Test
     public void retriggerCredentialIssuanceTest(){
         String requestId=null;
@@ -15,6 +15,7 @@ import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.web.context.WebApplicationContext;
 
+import io.mosip.authentication.common.service.cache.IdHashLookupFilter;
 import io.mosip.authentication.common.service.helper.AuditHelper;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.spi.idevent.CredentialStoreService;
@@ -34,6 +35,9 @@ public class IdChangeEventHandlerServiceImplTest {
 	@Mock
 	private IdentityCacheRepository identityCacheRepo;
 
+	@Mock
+	private IdHashLookupFilter idHashLookupFilter;
+
 	@Mock
 	private AuditHelper auditHelper;
 
@@ -88,6 +88,7 @@ public class AddressMatchingStrategyTest {
 		matchProperties.put("langCode", "fra");
 		Mockito.when(demoMatcherUtil.doExactMatch(Mockito.anyString(),Mockito.anyString())).thenReturn(100);
 		Mockito.when(demoNormalizer.normalizeAddress(Mockito.anyString(), Mockito.anyString())).thenReturn("no 1 second street chennai");
+		Mockito.when(demoNormalizer.normalizeStoredAddress(Mockito.anyString(), Mockito.anyString())).thenReturn("no 1 second street chennai");
 		int value = matchFunction.match("no 1 second street chennai", "no 1 second street chennai", matchProperties);
 		assertEquals(100, value);
 	}
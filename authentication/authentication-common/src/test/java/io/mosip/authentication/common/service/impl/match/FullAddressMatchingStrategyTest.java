@@ -97,6 +97,8 @@ public class FullAddressMatchingStrategyTest {
 		Mockito.when(demoMatcherUtil.doExactMatch(Mockito.anyString(), Mockito.anyString())).thenReturn(100);
 		Mockito.when(demoNormalizer.normalizeAddress(Mockito.anyString(), Mockito.anyString()))
 		.thenReturn("a k Chowdary Beach view colony apt 12 main st TamilNadu 560055");
+		Mockito.when(demoNormalizer.normalizeStoredAddress(Mockito.anyString(), Mockito.anyString()))
+		.thenReturn("a k Chowdary Beach view colony apt 12 main st TamilNadu 560055");
 		int value = matchFunction.match("a k Chowdary Beach view colony apt 12 main st TamilNadu 560055", expected,
 				matchProperties);
 		assertEquals(100, value);
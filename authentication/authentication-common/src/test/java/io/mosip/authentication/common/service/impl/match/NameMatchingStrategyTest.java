@@ -104,6 +104,8 @@ public class NameMatchingStrategyTest {
 		Mockito.when(demoMatcherUtil.doExactMatch(Mockito.anyString(), Mockito.anyString())).thenReturn(100);
 		Mockito.when(demoNormalizer.normalizeName(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
 				.thenReturn("dinesh karuppiah");
+		Mockito.when(demoNormalizer.normalizeStoredName(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+				.thenReturn("dinesh karuppiah");
 		int value = matchFunction.match("dinesh karuppiah", "dinesh karuppiah", getFetcher());
 		assertEquals(100, value);
 	}
@@ -194,6 +196,8 @@ public class NameMatchingStrategyTest {
 		MatchFunction matchFunction = NameMatchingStrategy.PARTIAL.getMatchFunction();
 		Mockito.when(demoNormalizer.normalizeName(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
 		.thenReturn("dinesh karuppiah");
+		Mockito.when(demoNormalizer.normalizeStoredName(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+		.thenReturn("dinesh karuppiah");
 		Mockito.when(demoMatcherUtil.doPartialMatch(Mockito.anyString(), Mockito.anyString())).thenReturn(100);
 		int value = matchFunction.match("dinesh thiagarajan", "dinesh karuppiah", getFetcher());
 		assertEquals(100, value);
@@ -366,6 +370,8 @@ public class NameMatchingStrategyTest {
 		Mockito.when(demoMatcherUtil.doPhoneticsMatch(Mockito.anyString(), Mockito.anyString(),Mockito.anyString())).thenReturn(100);
 		Mockito.when(demoNormalizer.normalizeName(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
 		.thenReturn("dinesh karuppiah");
+		Mockito.when(demoNormalizer.normalizeStoredName(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+		.thenReturn("dinesh karuppiah");
 		int value = matchFunction.match("mos", "arabic", getFetcher());
 		assertEquals(100, value);
 	}
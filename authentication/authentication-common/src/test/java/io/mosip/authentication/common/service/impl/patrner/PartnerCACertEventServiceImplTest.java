@@ -10,6 +10,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ContextConfiguration;
@@ -18,6 +19,7 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
 
+import io.mosip.authentication.common.service.cache.VerifiedCertificateCache;
 import io.mosip.authentication.common.service.integration.DataShareManager;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.idrepository.core.exception.RestServiceException;
@@ -39,6 +41,9 @@ public class PartnerCACertEventServiceImplTest {
 	@Mock
 	private PartnerCertificateManagerService partnerCertManager;
 
+	@Mock
+	private VerifiedCertificateCache verifiedCertificateCache;
+
 	@Value("${ida-decrypt-ca-cert-data-share-content:false}")
 	private boolean decryptCaCertFromDataShare;
 
@@ -58,6 +63,7 @@ public class PartnerCACertEventServiceImplTest {
 		eventModel.setPublisher("Test");
 		eventModel.setTopic("Test");
 		partnerCACertEventServiceImpl.handleCACertEvent(eventModel);
+		Mockito.verify(verifiedCertificateCache).invalidate("partnerDomain");
 	}
 
 	@Test
@@ -71,6 +77,7 @@ public class PartnerCACertEventServiceImplTest {
 		eventModel.setPublisher("Test");
 		eventModel.setTopic("Test");
 		partnerCACertEventServiceImpl.evictCACertCache(eventModel);
+		Mockito.verify(verifiedCertificateCache).invalidate("partnerDomain");
 	}
 
 	private Map<String, Object> getEventData() throws IOException {
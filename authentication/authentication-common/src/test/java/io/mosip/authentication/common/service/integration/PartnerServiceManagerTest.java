@@ -28,6 +28,7 @@ import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.PartnerPolicyCache;
 import io.mosip.authentication.common.service.entity.ApiKeyData;
 import io.mosip.authentication.common.service.entity.MispLicenseData;
 import io.mosip.authentication.common.service.entity.PartnerData;
@@ -88,6 +89,9 @@ public class PartnerServiceManagerTest {
 	@Mock
 	private OIDCClientDataRepository oidcClientDataRepo; 
 
+	@Mock
+	private PartnerPolicyCache partnerPolicyCache;
+
 	@InjectMocks
 	private PartnerServiceManager partnerServiceManager;
 
@@ -160,6 +164,49 @@ public class PartnerServiceManagerTest {
 		assertEquals(partnerPolicyResponseDTO, partnerServiceManager.validateAndGetPolicy("1635497344579", "591856","rtaCBxYlsrWeuYpLgfUFT5ic6LetsOZzbvxBEe8yR5FCKkEsvQ", true, "RFVNTVktQ0VSVElGSUNBVEUtREFUQQ", false));
 	}
 
+	@Test
+	public void validateAndGetPolicyCachedTest() throws IdAuthenticationBusinessException, Exception {
+		PartnerPolicyCache cache = new PartnerPolicyCache();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxEntries", 10);
+		ReflectionTestUtils.setField(cache, "expireAfterWriteSecs", 600L);
+		ReflectionTestUtils.setField(partnerServiceManager, "partnerPolicyCache", cache);
+		String partnerMappingObj = "{\"partnerId\":\"1635497344579\",\"policyId\":\"21\",\"apiKeyId\":\"130956\",\"partnerData\":{\"partnerId\":\"1635497344579\",\"partnerName\":\"1635497344579\",\"certificateData\":\"data\",\"partnerStatus\":\"ACTIVE\"},\"policyData\":{\"policyId\":\"644269\",\"policyName\":\"policy 1635497343191\",\"policyDescription\":\"Auth Policy\",\"policyStatus\":\"ACTIVE\",\"policyCommenceOn\":\"2021-10-10T06:12:52.994Z\",\"policyExpiresOn\":\"2020-12-11T06:12:52.994Z\",\"policy\":{\"authPolicies\":[{\"authType\":\"otp\",\"authSubType\":\"\",\"mandatory\":true},{\"authType\":\"demo\",\"authSubType\":\"\",\"mandatory\":false},{\"authType\":\"bio\",\"authSubType\":\"FINGER\",\"mandatory\":true},{\"authType\":\"bio\",\"authSubType\":\"IRIS\",\"mandatory\":false},{\"authType\":\"bio\",\"authSubType\":\"FACE\",\"mandatory\":false},{\"authType\":\"kyc\",\"authSubType\":\"\",\"mandatory\":false}],\"allowedKycAttributes\":[{\"attributeName\":\"fullName\",\"required\":true},{\"attributeName\":\"dateOfBirth\",\"required\":true},{\"attributeName\":\"gender\",\"required\":true},{\"attributeName\":\"phone\",\"required\":true},{\"attributeName\":\"email\",\"required\":true},{\"attributeName\":\"addressLine1\",\"required\":true},{\"attributeName\":\"addressLine2\",\"required\":true},{\"attributeName\":\"addressLine3\",\"required\":true},{\"attributeName\":\"location1\",\"required\":true},{\"attributeName\":\"location2\",\"required\":true},{\"attributeName\":\"location3\",\"required\":true},{\"attributeName\":\"postalCode\",\"required\":false},{\"attributeName\":\"photo\",\"required\":true}]}},\"apiKeyData\":{\"apiKeyId\":\"591856\",\"apiKeyStatus\":\"ACTIVE\",\"apiKeyCommenceOn\":\"2021-10-10T06:12:52.994Z\",\"apiKeyExpiresOn\":\"2020-12-11T06:12:52.994Z\"}}";
+		String mispLicenseDataObj = "{\"mispId\":\"1635497344579\",\"licenseKey\":\"rtaCBxYlsrWeuYpLgfUFT5ic6LetsOZzbvxBEe8yR5FCKkEsvQ\",\"mispCommenceOn\":\"2021-10-10T06:12:52.994Z\",\"mispExpiresOn\":\"2020-12-11T06:12:52.994Z\",\"mispStatus\":\"ACTIVE\", \"policyId\":\"644269\"}";
+		PartnerMapping partnerMapping = mapper.readValue(partnerMappingObj, PartnerMapping.class);
+		MispLicenseData mispLicenseData = mapper.readValue(mispLicenseDataObj, MispLicenseData.class);
+		LocalDateTime plusHours = LocalDateTime.now().plusHours(1);
+		partnerMapping.getPolicyData().setPolicyExpiresOn(plusHours);
+		partnerMapping.getApiKeyData().setApiKeyExpiresOn(plusHours);
+		mispLicenseData.setMispExpiresOn(plusHours);
+		Mockito.<Optional<PartnerMapping>>when(partnerMappingRepo.findByPartnerIdAndApiKeyId("1635497344579", "591856"))
+				.thenReturn(Optional.of(partnerMapping));
+		Mockito.when(mispLicDataRepo.findByLicenseKey("rtaCBxYlsrWeuYpLgfUFT5ic6LetsOZzbvxBEe8yR5FCKkEsvQ"))
+				.thenReturn(Optional.of(mispLicenseData));
+		Mockito.when(policyDataRepo.findByPolicyId("644269")).thenReturn(Optional.of(partnerMapping.getPolicyData()));
+
+		PartnerPolicyResponseDTO response = partnerServiceManager.validateAndGetPolicy("1635497344579", "591856",
+				"rtaCBxYlsrWeuYpLgfUFT5ic6LetsOZzbvxBEe8yR5FCKkEsvQ", false, null, false);
+		assertEquals(response, partnerServiceManager.validateAndGetPolicy("1635497344579", "591856",
+				"rtaCBxYlsrWeuYpLgfUFT5ic6LetsOZzbvxBEe8yR5FCKkEsvQ", false, null, false));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		Mockito.verify(partnerMappingRepo, Mockito.times(1)).findByPartnerIdAndApiKeyId("1635497344579", "591856");
+		Mockito.verify(mispLicDataRepo, Mockito.times(1))
+				.findByLicenseKey("rtaCBxYlsrWeuYpLgfUFT5ic6LetsOZzbvxBEe8yR5FCKkEsvQ");
+		Mockito.verify(policyDataRepo, Mockito.times(1)).findByPolicyId("644269");
+
+		HashMap<String, Object> data = new HashMap<String, Object>();
+		data.put("policyData", partnerMapping.getPolicyData());
+		event.setData(data);
+		eventModel.setEvent(event);
+		partnerServiceManager.updatePolicyData(eventModel);
+		assertEquals(0, cache.getEntryCount());
+		partnerServiceManager.validateAndGetPolicy("1635497344579", "591856",
+				"rtaCBxYlsrWeuYpLgfUFT5ic6LetsOZzbvxBEe8yR5FCKkEsvQ", false, null, false);
+		Mockito.verify(partnerMappingRepo, Mockito.times(2)).findByPartnerIdAndApiKeyId("1635497344579", "591856");
+	}
+
 	// io.mosip.authentication.core.exception.IdAuthenticationBusinessException:IDA-MPA-012 --> Partner is deactivated
 	@Test(expected = IdAuthenticationBusinessException.class)
 	public void validateAndGetPolicyException1Test() throws IdAuthenticationBusinessException, Exception {
@@ -536,6 +583,7 @@ public class PartnerServiceManagerTest {
 		
 		Mockito.when(policyDataRepo.findById("644269")).thenReturn(policyDataOptional);
 		partnerServiceManager.updatePolicyData(eventModel);		
+		Mockito.verify(partnerPolicyCache).invalidateAll();
 	}
 	
 	@Test
@@ -3,6 +3,7 @@ package io.mosip.authentication.common.service.transaction.manager;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -13,6 +14,7 @@ import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -27,12 +29,16 @@ import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.IdHashLookupFilter;
+import io.mosip.authentication.common.service.cache.IdHashSaltRegistry;
+import io.mosip.authentication.common.service.cache.VerifiedCertificateCache;
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
 import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.kernel.zkcryptoservice.dto.CryptoDataDto;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.util.CryptoUtil;
 import io.mosip.authentication.core.util.IdTypeUtil;
@@ -44,8 +50,10 @@ import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
 import io.mosip.kernel.keymanagerservice.exception.NoUniqueAliasException;
 import io.mosip.kernel.keymanagerservice.repository.DataEncryptKeystoreRepository;
 import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.signature.constant.SignatureConstant;
 import io.mosip.kernel.signature.dto.JWTSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import io.mosip.kernel.signature.dto.JWTSignatureVerifyRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureVerifyResponseDto;
 import io.mosip.kernel.signature.service.SignatureService;
 import io.mosip.kernel.zkcryptoservice.dto.ReEncryptRandomKeyResponseDto;
@@ -92,13 +100,25 @@ public class IdAuthSecurityManagerTest {
 
 	@Mock
 	private IdaUinHashSaltRepo uinHashSaltRepo;
+
+	@InjectMocks
+	private IdHashSaltRegistry saltRegistry;
 	
 	@Mock
 	private IdentityCacheRepository identityRepo;
+
+	@Mock
+	private IdHashLookupFilter idHashLookupFilter;
+
+	@Mock
+	private VerifiedCertificateCache verifiedCertificateCache;
 	
 	@Mock
 	private IdTypeUtil idTypeUtil;
 
+	@Mock
+	private ZkDecryptionEngine zkDecryptionEngine;
+
 	@Value("${mosip.sign.applicationid:KERNEL}")
 	private String signApplicationid;
 
@@ -116,6 +136,7 @@ public class IdAuthSecurityManagerTest {
 		ReflectionTestUtils.setField(authSecurityManager, "signRefid", "12");
 		ReflectionTestUtils.setField(authSecurityManager, "keySplitter", "test");
 		ReflectionTestUtils.setField(authSecurityManager, "tokenIDLength", 4);
+		ReflectionTestUtils.setField(authSecurityManager, "saltRegistry", saltRegistry);
 	}
 
 	@Test
@@ -235,6 +256,17 @@ public class IdAuthSecurityManagerTest {
 		assertNotNull(response);
 	}
 
+	@Test
+	public void zkDecryptLocalTest() throws IdAuthenticationBusinessException {
+		String id = "1";
+		Map<String, String> encryptedAttributes = Map.of("key1", "value1");
+		Mockito.when(zkDecryptionEngine.isEnabled()).thenReturn(true);
+		Mockito.when(zkDecryptionEngine.zkDecrypt(id, encryptedAttributes)).thenReturn(Map.of("key1", "data1"));
+		Map<String, String> response = authSecurityManager.zkDecrypt(id, encryptedAttributes);
+		assertEquals(Map.of("key1", "data1"), response);
+		Mockito.verifyZeroInteractions(zkCryptoManagerService);
+	}
+
 	@Test
 	public void generateHashAndDigestAsPlainTextTest() {
 		byte[] data = "Test".getBytes();
@@ -272,6 +304,24 @@ public class IdAuthSecurityManagerTest {
 		assertEquals(response, data);
 	}
 
+	/**
+	 * The range of the buffer is signed as the same data signed as String
+	 */
+	@Test
+	public void signBufferRangeTest() {
+		JWTSignatureResponseDto responseDto = new JWTSignatureResponseDto();
+		responseDto.setJwtSignedData("signature");
+		Mockito.when(signatureService.jwtSign(Mockito.any())).thenReturn(responseDto);
+		String data = "{\"response\":{\"authStatus\":true}}";
+		byte[] buffer = new byte[64];
+		System.arraycopy(data.getBytes(), 0, buffer, 0, data.length());
+
+		assertEquals("signature", authSecurityManager.sign(buffer, 0, data.length()));
+		ArgumentCaptor<JWTSignatureRequestDto> requestCaptor = ArgumentCaptor.forClass(JWTSignatureRequestDto.class);
+		Mockito.verify(signatureService).jwtSign(requestCaptor.capture());
+		assertEquals(CryptoUtil.encodeBase64Url(data.getBytes()), requestCaptor.getValue().getDataToSign());
+	}
+
 	@Test
 	public void verifySignatureTest() {
 		JWTSignatureVerifyResponseDto jwtResponse = new JWTSignatureVerifyResponseDto();
@@ -304,6 +354,44 @@ public class IdAuthSecurityManagerTest {
 		assertEquals(response, false);
 	}
 
+	@Test
+	public void verifySignatureBufferRangeTest() {
+		JWTSignatureVerifyResponseDto jwtResponse = new JWTSignatureVerifyResponseDto();
+		jwtResponse.setTrustValid("Test");
+		jwtResponse.setSignatureValid(true);
+		Mockito.when(signatureService.jwtVerify(Mockito.any())).thenReturn(jwtResponse);
+		String data = "{\"id\":\"mosip.identity.auth\"}";
+		byte[] buffer = new byte[64];
+		System.arraycopy(data.getBytes(), 0, buffer, 0, data.length());
+
+		assertEquals(true, authSecurityManager.verifySignature("Test", "https://test", buffer, 0, data.length(), false));
+		ArgumentCaptor<JWTSignatureVerifyRequestDto> requestCaptor = ArgumentCaptor
+				.forClass(JWTSignatureVerifyRequestDto.class);
+		Mockito.verify(signatureService).jwtVerify(requestCaptor.capture());
+		assertEquals(CryptoUtil.encodeBase64Url(data.getBytes()), requestCaptor.getValue().getActualData());
+	}
+
+	@Test
+	public void verifySignatureWithCachedCertificateTest() {
+		Mockito.when(verifiedCertificateCache.isEnabled()).thenReturn(true);
+		Mockito.when(verifiedCertificateCache.verify("Test", CryptoUtil.encodeBase64Url("Test".getBytes()),
+				"https://test")).thenReturn(true);
+		assertEquals(true, authSecurityManager.verifySignature("Test", "https://test", "Test", true));
+		Mockito.verify(signatureService, Mockito.never()).jwtVerify(Mockito.any());
+	}
+
+	@Test
+	public void verifySignatureCachesTrustedCertificateTest() {
+		JWTSignatureVerifyResponseDto jwtResponse = new JWTSignatureVerifyResponseDto();
+		jwtResponse.setTrustValid(SignatureConstant.TRUST_VALID);
+		jwtResponse.setSignatureValid(true);
+		Mockito.when(verifiedCertificateCache.isEnabled()).thenReturn(true);
+		Mockito.when(verifiedCertificateCache.verify(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(null);
+		Mockito.when(signatureService.jwtVerify(Mockito.any())).thenReturn(jwtResponse);
+		assertEquals(true, authSecurityManager.verifySignature("Test", "https://test", "Test", true));
+		Mockito.verify(verifiedCertificateCache).put("Test", "https://test");
+	}
+
 	@Test
 	public void hashTest() throws IdAuthenticationBusinessException {
 		String id = "12";
@@ -323,6 +411,20 @@ public class IdAuthSecurityManagerTest {
 		String response = authSecurityManager.hash(id);
 	}
 	
+	@Test
+	public void hashTest_definitelyAbsent() {
+		String id = "12";
+		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.any())).thenReturn("328");
+		Mockito.when(idHashLookupFilter.isDefinitelyAbsent(Mockito.any())).thenReturn(true);
+		try {
+			authSecurityManager.hash(id);
+			fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorCode(), e.getErrorCode());
+		}
+		Mockito.verify(identityRepo, Mockito.never()).existsById(Mockito.anyString());
+	}
+
 	@Test(expected = IdAuthenticationBusinessException.class)
 	public void hashTest_salt_key_not_exists_legacy_hash_enabled() throws IdAuthenticationBusinessException {
 		try {
@@ -406,6 +508,44 @@ public class IdAuthSecurityManagerTest {
 		}
 	}
 	
+	@Test
+	public void getIdHashCandidatesTest_legacyEnabled() throws IdAuthenticationBusinessException {
+		try {
+			String id = "12";
+			Mockito.when(uinHashSaltRepo.retrieveSaltById(328)).thenReturn("328");
+			Mockito.when(uinHashSaltRepo.retrieveSaltById(12)).thenReturn(id);
+			ReflectionTestUtils.setField(authSecurityManager, "legacySaltSelectionEnabled", true);
+			List<String> idHashes = authSecurityManager.getIdHashCandidates(id);
+			assertEquals(List.of("827050EF00E06C5547A64C9208F244B9B96CFABEB043F6D2ADBC4142FC1B39B2",
+					"CBFAD02F9ED2A8D1E08D8F74F5303E9EB93637D47F82AB6F1C15871CF8DD0481"), idHashes);
+			Mockito.verify(identityRepo, Mockito.never()).existsById(Mockito.anyString());
+		} finally {
+			ReflectionTestUtils.setField(authSecurityManager, "legacySaltSelectionEnabled", false);
+		}
+	}
+
+	@Test
+	public void getIdHashCandidatesTest_legacyEnabled_legacySaltKeyNotExists() throws IdAuthenticationBusinessException {
+		try {
+			String id = "12";
+			Mockito.when(uinHashSaltRepo.retrieveSaltById(328)).thenReturn("328");
+			Mockito.when(uinHashSaltRepo.retrieveSaltById(12)).thenReturn(null);
+			ReflectionTestUtils.setField(authSecurityManager, "legacySaltSelectionEnabled", true);
+			List<String> idHashes = authSecurityManager.getIdHashCandidates(id);
+			assertEquals(List.of("827050EF00E06C5547A64C9208F244B9B96CFABEB043F6D2ADBC4142FC1B39B2"), idHashes);
+		} finally {
+			ReflectionTestUtils.setField(authSecurityManager, "legacySaltSelectionEnabled", false);
+		}
+	}
+
+	@Test
+	public void getIdHashCandidatesTest_legacyDisabled() throws IdAuthenticationBusinessException {
+		String id = "12";
+		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.any())).thenReturn(id);
+		List<String> idHashes = authSecurityManager.getIdHashCandidates(id);
+		assertEquals(List.of("CBFAD02F9ED2A8D1E08D8F74F5303E9EB93637D47F82AB6F1C15871CF8DD0481"), idHashes);
+	}
+
 	@Test(expected = IdAuthenticationBusinessException.class)
 	public void hashTestLegacy_newIdExists_legacyEnabled_legacyHashDoesNotExists() throws IdAuthenticationBusinessException {
 		try {
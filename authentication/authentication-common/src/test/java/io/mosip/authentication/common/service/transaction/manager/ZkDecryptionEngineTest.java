@@ -0,0 +1,162 @@
+package io.mosip.authentication.common.service.transaction.manager;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.common.service.cache.ZkRandomKeyCache;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.util.CryptoUtil;
+import io.mosip.kernel.core.keymanager.spi.KeyStore;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.helper.KeymanagerDBHelper;
+import io.mosip.kernel.keymanagerservice.repository.DataEncryptKeystoreRepository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ZkDecryptionEngineTest {
+
+	private static final String AES_ECB = "AES/ECB/NoPadding";
+
+	private static final String AES_GCM = "AES/GCM/NoPadding";
+
+	private static final String ID = "2345678901";
+
+	@InjectMocks
+	private ZkDecryptionEngine zkDecryptionEngine;
+
+	@Mock
+	private DataEncryptKeystoreRepository dataEncryptKeystoreRepo;
+
+	@Mock
+	private KeymanagerDBHelper keymanagerDBHelper;
+
+	@Mock
+	private KeyStore keyStore;
+
+	private ZkRandomKeyCache randomKeyCache;
+
+	private SecretKey masterKey = new SecretKeySpec(new byte[32], "AES");
+
+	@Before
+	public void before() throws GeneralSecurityException {
+		randomKeyCache = new ZkRandomKeyCache();
+		ReflectionTestUtils.setField(randomKeyCache, "maxEntries", 10);
+		ReflectionTestUtils.setField(randomKeyCache, "expireAfterWriteSecs", 3600L);
+		ReflectionTestUtils.setField(zkDecryptionEngine, "randomKeyCache", randomKeyCache);
+		ReflectionTestUtils.setField(zkDecryptionEngine, "parallelThreshold", 8);
+		ReflectionTestUtils.setField(zkDecryptionEngine, "masterKeyAppId", "IDA");
+		ReflectionTestUtils.setField(zkDecryptionEngine, "masterKeyRefId", "IDENTITY_CACHE");
+		ReflectionTestUtils.setField(zkDecryptionEngine, "aesGcmTransformation", AES_GCM);
+		ReflectionTestUtils.setField(zkDecryptionEngine, "aesEcbTransformation", AES_ECB);
+
+		KeyAlias keyAlias = new KeyAlias();
+		keyAlias.setAlias("masterKeyAlias");
+		Mockito.lenient().when(keymanagerDBHelper.getKeyAliases(Mockito.eq("IDA"), Mockito.eq("IDENTITY_CACHE"), Mockito.any()))
+				.thenReturn(Map.of("currentKeyAlias", List.of(keyAlias)));
+		Mockito.lenient().when(keyStore.getSymmetricKey("masterKeyAlias")).thenReturn(masterKey);
+		Mockito.lenient().when(dataEncryptKeystoreRepo.findKeyById(1)).thenReturn(wrapRandomKey(randomKey(1)));
+		Mockito.lenient().when(dataEncryptKeystoreRepo.findKeyById(2)).thenReturn(wrapRandomKey(randomKey(2)));
+	}
+
+	/**
+	 * Attributes encrypted with different random keys are decrypted, and the
+	 * unwrapped random keys are reused for the next request
+	 */
+	@Test
+	public void zkDecryptTest() throws Exception {
+		Map<String, String> encryptedAttributes = new LinkedHashMap<>();
+		encryptedAttributes.put("fullName", encrypt(1, "Ravi Kumar"));
+		encryptedAttributes.put("phone", encrypt(2, "9876543210"));
+
+		Map<String, String> expected = Map.of("fullName", "Ravi Kumar", "phone", "9876543210");
+		assertEquals(expected, zkDecryptionEngine.zkDecrypt(ID, encryptedAttributes));
+		assertEquals(expected, zkDecryptionEngine.zkDecrypt(ID, encryptedAttributes));
+
+		Mockito.verify(dataEncryptKeystoreRepo, Mockito.times(1)).findKeyById(1);
+		Mockito.verify(dataEncryptKeystoreRepo, Mockito.times(1)).findKeyById(2);
+		Mockito.verify(keyStore, Mockito.times(2)).getSymmetricKey("masterKeyAlias");
+	}
+
+	/**
+	 * Attributes are decrypted in parallel once the count reaches the threshold
+	 */
+	@Test
+	public void zkDecryptParallelTest() throws Exception {
+		Map<String, String> encryptedAttributes = new LinkedHashMap<>();
+		Map<String, String> expected = new LinkedHashMap<>();
+		for (int i = 0; i < 20; i++) {
+			encryptedAttributes.put("Finger_" + i, encrypt(i % 2 + 1, "template" + i));
+			expected.put("Finger_" + i, "template" + i);
+		}
+		Map<String, String> decrypted = zkDecryptionEngine.zkDecrypt(ID, encryptedAttributes);
+		assertEquals(expected, decrypted);
+		assertEquals(List.copyOf(expected.keySet()), List.copyOf(decrypted.keySet()));
+	}
+
+	/**
+	 * Attribute encrypted for another id is not decrypted
+	 */
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void zkDecryptOtherIdTest() throws Exception {
+		zkDecryptionEngine.zkDecrypt("1234567890", Map.of("fullName", encrypt(1, "Ravi Kumar")));
+	}
+
+	/**
+	 * Attribute encrypted with an unknown random key is not decrypted
+	 */
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void zkDecryptRandomKeyNotFoundTest() throws Exception {
+		zkDecryptionEngine.zkDecrypt(ID, Map.of("fullName", encrypt(3, "Ravi Kumar")));
+	}
+
+	private SecretKey randomKey(int index) {
+		byte[] keyBytes = new byte[32];
+		keyBytes[0] = (byte) index;
+		return new SecretKeySpec(keyBytes, "AES");
+	}
+
+	private String wrapRandomKey(SecretKey randomKey) throws GeneralSecurityException {
+		Cipher cipher = Cipher.getInstance(AES_ECB);
+		cipher.init(Cipher.ENCRYPT_MODE, masterKey);
+		return CryptoUtil.encodeBase64(cipher.doFinal(randomKey.getEncoded()));
+	}
+
+	/**
+	 * Encrypts the value as the kernel zero knowledge encryption does.
+	 */
+	private String encrypt(int index, String value) throws GeneralSecurityException {
+		Cipher deriveCipher = Cipher.getInstance(AES_ECB);
+		deriveCipher.init(Cipher.ENCRYPT_MODE, randomKey(index));
+		byte[] derivedKey = deriveCipher.doFinal(MessageDigest.getInstance("SHA-256").digest(ID.getBytes()));
+
+		byte[] nonce = new byte[12];
+		byte[] aad = new byte[32];
+		nonce[0] = (byte) index;
+		aad[0] = (byte) value.length();
+		Cipher cipher = Cipher.getInstance(AES_GCM);
+		cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(derivedKey, "AES"), new GCMParameterSpec(128, nonce));
+		cipher.updateAAD(aad);
+		byte[] cipherText = cipher.doFinal(value.getBytes());
+		return CryptoUtil.encodeBase64Url(ByteBuffer.allocate(4 + nonce.length + aad.length + cipherText.length)
+				.putInt(index).put(nonce).put(aad).put(cipherText).array());
+	}
+}
@@ -2,12 +2,18 @@ package io.mosip.authentication.common.service.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -15,6 +21,7 @@ import org.mockito.AdditionalMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
@@ -22,12 +29,18 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.cache.BirGalleryCache;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
 import io.mosip.authentication.core.spi.indauth.match.IdMapping;
 import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.entities.BDBInfo;
+import io.mosip.kernel.biometrics.entities.BIR;
+import io.mosip.kernel.biometrics.spi.CbeffUtil;
 import io.mosip.kernel.biosdk.provider.factory.BioAPIFactory;
 import io.mosip.kernel.biosdk.provider.spi.iBioProviderApi;
 import io.mosip.kernel.core.bioapi.exception.BiometricException;
@@ -46,10 +59,21 @@ public class BioMatcherUtilTest {
 	
 	@Mock
 	private BioAPIFactory bioApiFactory;
+
+	@Mock
+	private CbeffUtil cbeffUtil;
+
+	@Mock
+	private BirGalleryCache birGalleryCache;
+
+	@Spy
+	private BioSdkBulkhead bioSdkBulkhead = new BioSdkBulkhead();
 	
 	@InjectMocks
 	private BioMatcherUtil bioMatcherUtil;
 
+	private ExecutorService matchExecutor;
+
 	Map<String, String> valueMap = new HashMap<>();
 	private final String value = "Rk1SACAyMAAAAAEIAAABPAFiAMUAxQEAAAAoJ4CEAOs8UICiAQGXUIBzANXIV4CmARiXUEC6AObFZIB3ALUSZEBlATPYZICIAKUCZEBmAJ4YZEAnAOvBZIDOAKTjZEBCAUbQQ0ARANu0ZECRAOC4NYBnAPDUXYCtANzIXUBhAQ7bZIBTAQvQZICtASqWZEDSAPnMZICaAUAVZEDNAS63Q0CEAVZiSUDUAT+oNYBhAVprSUAmAJyvZICiAOeyQ0CLANDSPECgAMzXQ0CKAR8OV0DEAN/QZEBNAMy9ZECaAKfwZEC9ATieUEDaAMfWUEDJAUA2NYB5AVttSUBKAI+oZECLAG0FZAAA";
 	@Before
@@ -57,6 +81,13 @@ public class BioMatcherUtilTest {
 		ReflectionTestUtils.setField(bioMatcherUtil, "bdbProcessedLevel", "Raw");
 	}
 
+	@After
+	public void after() {
+		if (matchExecutor != null) {
+			matchExecutor.shutdownNow();
+		}
+	}
+
 	@Test
 	public void TestmatchValueFinger() throws IdAuthenticationBusinessException, BiometricException {
 		valueMap.put(value, value);
@@ -279,6 +310,93 @@ public class BioMatcherUtilTest {
 		}
 	}
 
+	@Test
+	public void TestMultipleValuesConcurrently() throws IdAuthenticationBusinessException, BiometricException {
+		MeterRegistry meterRegistry = enableConcurrentMatching(30000);
+		iBioProviderApi bioProvider = Mockito.mock(iBioProviderApi.class);
+		Mockito.when(bioApiFactory.getBioProvider(Mockito.any(), Mockito.any())).thenReturn(bioProvider);
+		Mockito.when(bioProvider.verify(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+
+		assertEquals(0, Double.compare(SUCCESS_SCORE, bioMatcherUtil.match(faceAndFingerValues(),
+				faceAndFingerGallery(), faceAndFingerProperties())));
+		assertEquals(1, meterRegistry.get("ida.bio.match").tag("modality", "FINGER").tag("result", "match").timer().count());
+		assertEquals(1, meterRegistry.get("ida.bio.match").tag("modality", "FACE").tag("result", "match").timer().count());
+	}
+
+	@Test
+	public void TestMultipleValuesConcurrentlyFailFast() throws IdAuthenticationBusinessException, BiometricException {
+		enableConcurrentMatching(30000);
+		iBioProviderApi bioProvider = Mockito.mock(iBioProviderApi.class);
+		Mockito.when(bioApiFactory.getBioProvider(Mockito.any(), Mockito.any())).thenReturn(bioProvider);
+		Mockito.when(bioProvider.verify(Mockito.any(), Mockito.any(), Mockito.eq(BiometricType.FACE), Mockito.any())).thenReturn(false);
+		Mockito.when(bioProvider.verify(Mockito.any(), Mockito.any(), Mockito.eq(BiometricType.FINGER), Mockito.any())).thenAnswer(invocation -> {
+			Thread.sleep(60000);
+			return true;
+		});
+
+		long startMillis = System.currentTimeMillis();
+		assertEquals(0, (int) bioMatcherUtil.match(faceAndFingerValues(), faceAndFingerGallery(), faceAndFingerProperties()));
+		assertEquals(true, System.currentTimeMillis() - startMillis < 30000);
+	}
+
+	@Test
+	public void TestMultipleValuesConcurrentlyTimeout() throws BiometricException {
+		enableConcurrentMatching(100);
+		iBioProviderApi bioProvider = Mockito.mock(iBioProviderApi.class);
+		Mockito.when(bioApiFactory.getBioProvider(Mockito.any(), Mockito.any())).thenReturn(bioProvider);
+		Mockito.when(bioProvider.verify(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+			Thread.sleep(60000);
+			return true;
+		});
+
+		try {
+			bioMatcherUtil.match(faceAndFingerValues(), faceAndFingerGallery(), faceAndFingerProperties());
+			fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO.getErrorCode(), e.getErrorCode());
+		}
+	}
+
+	private MeterRegistry enableConcurrentMatching(long timeoutMillis) {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		matchExecutor = Executors.newCachedThreadPool();
+		ReflectionTestUtils.setField(bioMatcherUtil, "matchingThreadCount", 1);
+		ReflectionTestUtils.setField(bioMatcherUtil, "matchingTimeoutMillis", timeoutMillis);
+		ReflectionTestUtils.setField(bioMatcherUtil, "fingerMatchExecutor", matchExecutor);
+		ReflectionTestUtils.setField(bioMatcherUtil, "irisMatchExecutor", matchExecutor);
+		ReflectionTestUtils.setField(bioMatcherUtil, "faceMatchExecutor", matchExecutor);
+		ReflectionTestUtils.setField(bioMatcherUtil, "meterRegistry", meterRegistry);
+		bioMatcherUtil.init();
+		return meterRegistry;
+	}
+
+	private Map<String, String> faceAndFingerValues() {
+		Map<String, String> valueMap = new HashMap<>();
+		valueMap.put("Face", value);
+		valueMap.put("Finger", value);
+		return valueMap;
+	}
+
+	private Map<String, String> faceAndFingerGallery() {
+		Map<String, String> galleryMap = new HashMap<>();
+		for (BiometricType type : List.of(BiometricType.FACE, BiometricType.FINGER)) {
+			BIR bir = new BIR.BIRBuilder().withBdbInfo(new BDBInfo.BDBInfoBuilder().withType(List.of(type)).build())
+					.build();
+			Mockito.when(birGalleryCache.get(type.value().getBytes())).thenReturn(bir);
+			galleryMap.put(type == BiometricType.FACE ? "Face" : "Finger", type.value());
+		}
+		return galleryMap;
+	}
+
+	private Map<String, Object> faceAndFingerProperties() {
+		IdMapping[] idMappings = new IdMapping[0];
+		Mockito.when(idInfoFetcher.getTypeForIdName("Face", idMappings)).thenReturn(Optional.of(BiometricType.FACE.value()));
+		Mockito.when(idInfoFetcher.getTypeForIdName("Finger", idMappings)).thenReturn(Optional.of(BiometricType.FINGER.value()));
+		Map<String, Object> properties = new HashMap<>();
+		properties.put(IdMapping.class.getSimpleName(), idMappings);
+		return properties;
+	}
+
 	@Test(expected=IdAuthenticationBusinessException.class)
 	public void TestInvaidMultipleValues() throws IdAuthenticationBusinessException, BiometricException {
 		Map<String, String> reqInfo = new HashMap<>();
@@ -306,4 +424,26 @@ public class BioMatcherUtilTest {
 
 	}
 
+	@Test
+	public void TestGetBirFromCbeffCached() throws Exception {
+		BIR bir = new BIR.BIRBuilder().build();
+		Mockito.when(birGalleryCache.get(value.getBytes())).thenReturn(bir);
+
+		BIR result = ReflectionTestUtils.invokeMethod(bioMatcherUtil, "getBirFromCbeff", value);
+
+		assertSame(bir, result);
+		Mockito.verify(cbeffUtil, Mockito.never()).getBIRDataFromXML(Mockito.any());
+	}
+
+	@Test
+	public void TestGetBirFromCbeffNotCached() throws Exception {
+		BIR bir = new BIR.BIRBuilder().build();
+		Mockito.when(cbeffUtil.getBIRDataFromXML(value.getBytes())).thenReturn(List.of(bir));
+
+		BIR result = ReflectionTestUtils.invokeMethod(bioMatcherUtil, "getBirFromCbeff", value);
+
+		assertSame(bir, result);
+		Mockito.verify(birGalleryCache).put(value.getBytes(), bir);
+	}
+
 }
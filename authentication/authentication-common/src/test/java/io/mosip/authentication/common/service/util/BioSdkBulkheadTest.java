@@ -0,0 +1,191 @@
+package io.mosip.authentication.common.service.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.kernel.biometrics.constant.BiometricFunction;
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.entities.BIR;
+import io.mosip.kernel.biosdk.provider.factory.BioAPIFactory;
+import io.mosip.kernel.biosdk.provider.spi.iBioProviderApi;
+
+public class BioSdkBulkheadTest {
+
+	private BioSdkBulkhead bioSdkBulkhead;
+
+	private MeterRegistry meterRegistry;
+
+	private iBioProviderApi bioProvider;
+
+	private ExecutorService executor;
+
+	@Before
+	public void before() {
+		bioSdkBulkhead = new BioSdkBulkhead();
+		meterRegistry = new SimpleMeterRegistry();
+		bioProvider = Mockito.mock(iBioProviderApi.class);
+		executor = Executors.newCachedThreadPool();
+		ReflectionTestUtils.setField(bioSdkBulkhead, "maxConcurrentCalls", 1);
+		ReflectionTestUtils.setField(bioSdkBulkhead, "maxWaitingCalls", 1);
+		ReflectionTestUtils.setField(bioSdkBulkhead, "maxWaitMillis", 100L);
+		ReflectionTestUtils.setField(bioSdkBulkhead, "meterRegistry", meterRegistry);
+	}
+
+	@After
+	public void after() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * The calls go straight to the SDK when disabled
+	 */
+	@Test
+	public void disabledTest() throws Exception {
+		ReflectionTestUtils.setField(bioSdkBulkhead, "maxConcurrentCalls", 0);
+		bioSdkBulkhead.init();
+		Mockito.when(bioProvider.verify(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+		assertFalse(bioSdkBulkhead.isEnabled());
+		assertTrue(verify(BiometricType.FINGER));
+		assertTrue(meterRegistry.getMeters().isEmpty());
+	}
+
+	/**
+	 * A call beyond the limit waits, is rejected once the waiting calls are full,
+	 * and is rejected when no call completes within the max wait time, while the
+	 * calls of the other modalities go through
+	 */
+	@Test
+	public void limitTest() throws Exception {
+		bioSdkBulkhead.init();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+		Mockito.when(bioProvider.verify(Mockito.any(), Mockito.any(), Mockito.eq(BiometricType.FINGER), Mockito.any()))
+				.thenAnswer(invocation -> {
+					started.countDown();
+					finish.await();
+					return true;
+				});
+		Mockito.when(bioProvider.verify(Mockito.any(), Mockito.any(), Mockito.eq(BiometricType.FACE), Mockito.any()))
+				.thenReturn(true);
+
+		Future<Boolean> running = executor.submit(() -> verify(BiometricType.FINGER));
+		started.await();
+		ReflectionTestUtils.setField(bioSdkBulkhead, "maxWaitingCalls", 0);
+		assertBusy(BiometricType.FINGER);
+		ReflectionTestUtils.setField(bioSdkBulkhead, "maxWaitingCalls", 1);
+		assertBusy(BiometricType.FINGER);
+		assertTrue(verify(BiometricType.FACE));
+
+		finish.countDown();
+		assertTrue(running.get());
+		assertTrue(verify(BiometricType.FINGER));
+		assertEquals(0, bioSdkBulkhead.getWaitingCount(BiometricType.FINGER));
+		assertEquals(2, bioSdkBulkhead.getRejectedCount(BiometricType.FINGER));
+		assertEquals(2.0, meterRegistry.get("ida.bio.sdk.rejected").tag("modality", "FINGER").functionCounter().count(), 0);
+		assertEquals(1, meterRegistry.get("ida.bio.sdk.wait").tag("modality", "FINGER").timer().count());
+		assertEquals(2, meterRegistry.get("ida.bio.sdk.call").tag("modality", "FINGER").timer().count());
+	}
+
+	/**
+	 * Each call is served by a pooled SDK instance of the provider class,
+	 * initialized with the vendor parameters of the modality
+	 */
+	@Test
+	public void sdkInstancePoolTest() throws Exception {
+		BioAPIFactory bioApiFactory = Mockito.mock(BioAPIFactory.class);
+		Mockito.when(bioApiFactory.getFinger()).thenReturn(Map.of("vendor", Map.of("classname", "TestSdk")));
+		ReflectionTestUtils.setField(bioSdkBulkhead, "bioApiFactory", bioApiFactory);
+		ReflectionTestUtils.setField(bioSdkBulkhead, "sdkInstancePoolEnabled", true);
+		ReflectionTestUtils.setField(bioSdkBulkhead, "maxConcurrentCalls", 2);
+		bioSdkBulkhead.init();
+		TestBioProvider.instances.clear();
+		TestBioProvider registered = new TestBioProvider();
+
+		assertTrue(bioSdkBulkhead.verify(BiometricType.FINGER, registered, List.of(), List.of(), Map.of()));
+		assertTrue(bioSdkBulkhead.verify(BiometricType.FINGER, registered, List.of(), List.of(), Map.of()));
+		assertEquals(3, TestBioProvider.instances.size());
+		assertEquals(0, registered.verifyCount);
+		assertEquals(Map.of(BiometricType.FINGER, Map.of("classname", "TestSdk")), TestBioProvider.instances.get(1).params);
+		assertEquals(1, TestBioProvider.instances.get(1).verifyCount);
+		assertEquals(1, TestBioProvider.instances.get(2).verifyCount);
+	}
+
+	private void assertBusy(BiometricType modality) {
+		try {
+			verify(modality);
+			fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(IdAuthenticationErrorConstants.BIO_MATCH_BUSY.getErrorCode(), e.getErrorCode());
+		}
+	}
+
+	private boolean verify(BiometricType modality) throws IdAuthenticationBusinessException {
+		return bioSdkBulkhead.verify(modality, bioProvider, List.of(), List.of(), Map.of());
+	}
+
+	public static class TestBioProvider implements iBioProviderApi {
+
+		private static final List<TestBioProvider> instances = new CopyOnWriteArrayList<>();
+
+		private Map<BiometricType, Map<String, String>> params;
+
+		private int verifyCount;
+
+		public TestBioProvider() {
+			instances.add(this);
+		}
+
+		@Override
+		public Map<BiometricType, List<BiometricFunction>> init(Map<BiometricType, Map<String, String>> params) {
+			this.params = params;
+			return Map.of(BiometricType.FINGER, List.of(BiometricFunction.MATCH));
+		}
+
+		@Override
+		public boolean verify(List<BIR> sample, List<BIR> record, BiometricType modality, Map<String, String> flags) {
+			verifyCount++;
+			return true;
+		}
+
+		@Override
+		public Map<String, Boolean> identify(List<BIR> sample, Map<String, List<BIR>> gallery, BiometricType modality,
+				Map<String, String> flags) {
+			return null;
+		}
+
+		@Override
+		public float[] getSegmentQuality(BIR[] sample, Map<String, String> flags) {
+			return null;
+		}
+
+		@Override
+		public Map<BiometricType, Float> getModalityQuality(BIR[] sample, Map<String, String> flags) {
+			return null;
+		}
+
+		@Override
+		public List<BIR> extractTemplate(List<BIR> sample, Map<String, String> flags) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package io.mosip.authentication.common.service.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.mosip.authentication.core.partner.dto.AuthPolicy;
+import io.mosip.authentication.core.spi.indauth.match.MatchType.Category;
+
+public class CompiledAuthPoliciesTest {
+
+	/**
+	 * The auth types and bio sub-types are allowed ignoring the case
+	 */
+	@Test
+	public void isAllowedTest() {
+		CompiledAuthPolicies policies = CompiledAuthPolicies.of(Arrays.asList(authPolicy("demo", null, false),
+				authPolicy("bio", "FINGER", false), authPolicy("bio", "Iris", false), authPolicy("kyc-auth", null, false)));
+		assertEquals(4, policies.size());
+		assertTrue(policies.isAllowed("DEMO"));
+		assertTrue(policies.isAllowed("bio"));
+		assertTrue(policies.isAllowed("kyc-auth"));
+		assertFalse(policies.isAllowed("otp"));
+		assertFalse(policies.isAllowed("kyc"));
+		assertTrue(policies.isAllowed("bio", "Finger"));
+		assertTrue(policies.isAllowed("bio", "IRIS"));
+		assertFalse(policies.isAllowed("bio", "Face"));
+		assertFalse(policies.isAllowed("demo", "Finger"));
+		assertTrue(policies.isAllowed("bio", null));
+	}
+
+	/**
+	 * The mandatory auth types are satisfied only when all are requested
+	 */
+	@Test
+	public void isMandatorySatisfiedTest() {
+		List<AuthPolicy> authPolicies = Arrays.asList(authPolicy("otp", null, true), authPolicy("bio", "Face", true),
+				authPolicy("demo", null, false));
+		CompiledAuthPolicies mandatoryPolicies = CompiledAuthPolicies.of(authPolicies).getMandatoryPolicies();
+		assertEquals(2, mandatoryPolicies.size());
+		assertTrue(mandatoryPolicies.isMandatorySatisfied(EnumSet.of(Category.OTP, Category.BIO),
+				Collections.singletonList("FACE"), false));
+		assertFalse(mandatoryPolicies.isMandatorySatisfied(EnumSet.of(Category.OTP, Category.BIO),
+				Collections.singletonList("FINGER"), false));
+		assertFalse(mandatoryPolicies.isMandatorySatisfied(EnumSet.of(Category.BIO, Category.DEMO),
+				Collections.singletonList("FACE"), false));
+
+		CompiledAuthPolicies kycPolicies = CompiledAuthPolicies
+				.of(Collections.singletonList(authPolicy("kyc", null, true)));
+		assertSame(kycPolicies, kycPolicies.getMandatoryPolicies());
+		assertTrue(kycPolicies.isMandatorySatisfied(EnumSet.noneOf(Category.class), Collections.emptyList(), true));
+		assertFalse(kycPolicies.isMandatorySatisfied(EnumSet.allOf(Category.class), Collections.emptyList(), false));
+	}
+
+	/**
+	 * The compiled policies are not compiled again
+	 */
+	@Test
+	public void ofCompiledTest() {
+		CompiledAuthPolicies policies = CompiledAuthPolicies.of(Collections.singletonList(authPolicy("otp", null, false)));
+		assertSame(policies, CompiledAuthPolicies.of(policies));
+		assertTrue(CompiledAuthPolicies.of(null).isEmpty());
+		assertFalse(CompiledAuthPolicies.of(null).isAllowed("otp"));
+	}
+
+	private AuthPolicy authPolicy(String authType, String authSubType, boolean mandatory) {
+		AuthPolicy authPolicy = new AuthPolicy();
+		authPolicy.setAuthType(authType);
+		authPolicy.setAuthSubType(authSubType);
+		authPolicy.setMandatory(mandatory);
+		return authPolicy;
+	}
+}
@@ -2,6 +2,7 @@ package io.mosip.authentication.common.service.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.helper.WriteBehindRecordWriter;
 import io.mosip.authentication.common.service.websub.impl.AuthTransactionStatusEventPublisher;
 import io.mosip.authentication.core.dto.ObjectWithIdVersionTransactionID;
 import io.mosip.authentication.core.dto.ObjectWithMetadata;
@@ -48,6 +49,9 @@ public class IdaRequestResponseConsumerUtilTest {
     @Mock
     private AuthTransactionStatusEventPublisher authTransactionStatusEventPublisher;
 
+    @Mock
+    private WriteBehindRecordWriter writeBehindRecordWriter;
+
     private ObjectWithMetadata sourceRequestWithMetadata;
 
     private ObjectWithIdVersionTransactionID targetResponseWithIdVersion;
@@ -141,6 +145,48 @@ public class IdaRequestResponseConsumerUtilTest {
         idaRequestResponsConsumerUtil.storeAuthTransaction(metadata, requestSignature, responseSignature);
     }
 
+    /**
+     * This class tests the storeAuthTransaction method with the write behind
+     * enabled
+     *
+     * @throws IdAuthenticationAppException
+     * @throws IdAuthenticationBusinessException
+     */
+    @Test
+    public void storeAuthTransactionWriteBehindTest() throws IdAuthenticationAppException, IdAuthenticationBusinessException {
+        Map<String, Object> metadata = new HashMap<>();
+        Object authTxnObj = new Object();
+        metadata.put("AutnTxn", authTxnObj);
+        AutnTxn autnTxn = new AutnTxn();
+        Mockito.when(mapper.convertValue(authTxnObj, AutnTxn.class)).thenReturn(autnTxn);
+        Mockito.when(writeBehindRecordWriter.isEnabled()).thenReturn(true);
+        idaRequestResponsConsumerUtil.storeAuthTransaction(metadata, "requestSignature", "responseSignature");
+        Mockito.verify(writeBehindRecordWriter).write(autnTxn);
+        Mockito.verify(idService, Mockito.never()).saveAutnTxn(Mockito.any());
+        Mockito.verify(authTransactionStatusEventPublisher, Mockito.never()).publishEvent(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * This class tests the storeAuthTransaction method of an auth transaction
+     * which may not be written behind, such as of an OTP request
+     *
+     * @throws IdAuthenticationAppException
+     * @throws IdAuthenticationBusinessException
+     */
+    @Test
+    public void storeAuthTransactionNotWrittenBehindTest() throws IdAuthenticationAppException, IdAuthenticationBusinessException {
+        Map<String, Object> metadata = new HashMap<>();
+        Object authTxnObj = new Object();
+        metadata.put("AutnTxn", authTxnObj);
+        AutnTxn autnTxn = new AutnTxn();
+        Mockito.when(mapper.convertValue(authTxnObj, AutnTxn.class)).thenReturn(autnTxn);
+        Mockito.when(writeBehindRecordWriter.isEnabled()).thenReturn(true);
+        idaRequestResponsConsumerUtil.storeAuthTransaction(metadata, "requestSignature", "responseSignature", false);
+        Mockito.verify(writeBehindRecordWriter, Mockito.never()).write(Mockito.any(AutnTxn.class));
+        Mockito.verify(idService).saveAutnTxn(autnTxn);
+        Mockito.verify(authTransactionStatusEventPublisher).publishEvent(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
     /**
      * This class tests the processCredentialStoreEvent method
      *
@@ -0,0 +1,152 @@
+package io.mosip.authentication.common.service.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class IdentityDataCodecTest {
+
+	private IdentityDataCodec identityDataCodec;
+
+	private ObjectMapper mapper = new ObjectMapper();
+
+	@Before
+	public void before() {
+		identityDataCodec = new IdentityDataCodec();
+		ReflectionTestUtils.setField(identityDataCodec, "mapper", mapper);
+		ReflectionTestUtils.setField(identityDataCodec, "dataFormat", IdentityDataCodec.FORMAT_BINARY);
+	}
+
+	/**
+	 * All kinds of values are restored exactly from binary format
+	 */
+	@Test
+	public void encodeDecodeBinaryTest() throws IOException {
+		byte[] raw = new byte[300];
+		for (int i = 0; i < raw.length; i++) {
+			raw[i] = (byte) i;
+		}
+		Map<String, Object> data = new LinkedHashMap<>();
+		data.put("fullName", "[{\"language\":\"eng\",\"value\":\"Ravi Kumar\"}]");
+		data.put("gender", "M");
+		data.put("addressLine1", "தமிழ் \"street\"");
+		data.put("plainBase64", Base64.getEncoder().encodeToString(raw));
+		data.put("urlBase64", Base64.getUrlEncoder().encodeToString(raw));
+		data.put("urlBase64NoPadding", Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14 }));
+		data.put("alphaNumeric", "ABCDEFGHIJKLMNOPQRSTUVWXYZabc");
+		data.put("phone", List.of("9876543210"));
+		data.put("empty", "");
+
+		byte[] encoded = identityDataCodec.encode(data);
+
+		assertTrue(identityDataCodec.isBinary(encoded));
+		Map<String, Object> decoded = identityDataCodec.decode(encoded);
+		assertEquals(data, decoded);
+		assertEquals(List.copyOf(data.keySet()), List.copyOf(decoded.keySet()));
+	}
+
+	/**
+	 * Base64 values are stored as raw bytes
+	 */
+	@Test
+	public void encodeBase64AsRawBytesTest() throws IOException {
+		byte[] raw = new byte[3000];
+		Arrays.fill(raw, (byte) 7);
+		Map<String, Object> data = Map.of("Finger_Left Thumb", Base64.getUrlEncoder().encodeToString(raw));
+
+		byte[] encoded = identityDataCodec.encode(data);
+
+		assertTrue(encoded.length < raw.length + 100);
+		assertTrue(encoded.length < mapper.writeValueAsBytes(data).length);
+	}
+
+	/**
+	 * Only the requested attributes are decoded, matching the names ignoring case
+	 */
+	@Test
+	public void decodeFilteredTest() throws IOException {
+		Map<String, Object> data = new LinkedHashMap<>();
+		data.put("fullName", "name");
+		data.put("Phone", "9876543210");
+		data.put("email", "a@b.com");
+		Set<String> filter = Set.of("phone", "email", "dob");
+
+		Map<String, Object> expected = Map.of("Phone", "9876543210", "email", "a@b.com");
+		assertEquals(expected, identityDataCodec.decode(identityDataCodec.encode(data), filter));
+		assertEquals(expected, identityDataCodec.decode(mapper.writeValueAsBytes(data), filter));
+	}
+
+	/**
+	 * Values of the attributes not requested are skipped, including nested
+	 * values, and non-string values are decoded as read by Jackson
+	 */
+	@Test
+	public void decodeJsonFilteredNestedValuesTest() throws IOException {
+		byte[] json = ("{\"address\":{\"line1\":[\"a\",{\"b\":\"c\"}]},\"phone\":[\"98765\"],"
+				+ "\"age\":30,\"photo\":null,\"email\":\"a@b.com\"}").getBytes(StandardCharsets.UTF_8);
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("phone", List.of("98765"));
+		expected.put("age", 30);
+		expected.put("photo", null);
+		assertEquals(expected, identityDataCodec.decode(json, Set.of("phone", "age", "photo")));
+	}
+
+	/**
+	 * Data which is not a JSON object is reported as IOException
+	 */
+	@Test(expected = IOException.class)
+	public void decodeJsonNotObjectTest() throws IOException {
+		identityDataCodec.decode("[\"a\"]".getBytes(StandardCharsets.UTF_8), Set.of("a"));
+	}
+
+	/**
+	 * Data stored in json format is decoded while binary format is configured,
+	 * and json format is encoded when configured
+	 */
+	@Test
+	public void jsonFormatTest() throws IOException {
+		Map<String, Object> data = Map.of("fullName", "name", "phone", "9876543210");
+		assertEquals(data, identityDataCodec.decode(mapper.writeValueAsBytes(data)));
+
+		ReflectionTestUtils.setField(identityDataCodec, "dataFormat", IdentityDataCodec.FORMAT_JSON);
+		byte[] encoded = identityDataCodec.encode(data);
+		assertFalse(identityDataCodec.isBinary(encoded));
+		assertEquals(data, mapper.readValue(encoded, Map.class));
+		assertEquals(data, identityDataCodec.decode(encoded));
+	}
+
+	/**
+	 * Truncated binary data is reported as IOException
+	 */
+	@Test(expected = IOException.class)
+	public void decodeTruncatedTest() throws IOException {
+		byte[] encoded = identityDataCodec.encode(Map.of("fullName", "name".repeat(10)));
+		identityDataCodec.decode(Arrays.copyOf(encoded, encoded.length - 5));
+	}
+
+	/**
+	 * Empty map is encoded in binary format
+	 */
+	@Test
+	public void encodeEmptyTest() throws IOException {
+		byte[] encoded = identityDataCodec.encode(Map.of());
+		assertTrue(identityDataCodec.isBinary(encoded));
+		assertTrue(identityDataCodec.decode(encoded).isEmpty());
+		assertFalse(identityDataCodec.isBinary("{}".getBytes(StandardCharsets.UTF_8)));
+	}
+}
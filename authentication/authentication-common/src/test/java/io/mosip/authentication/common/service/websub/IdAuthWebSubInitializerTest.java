@@ -9,12 +9,14 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import io.mosip.authentication.common.service.cache.PartnerPolicyCache;
 import io.mosip.authentication.common.service.helper.WebSubHelper;
 import io.mosip.authentication.common.service.websub.impl.AuthAnonymousEventPublisher;
 import io.mosip.authentication.common.service.websub.impl.AuthTransactionStatusEventPublisher;
 import io.mosip.authentication.common.service.websub.impl.IdAuthFraudAnalysisEventPublisher;
 import io.mosip.authentication.common.service.websub.impl.MasterDataUpdateEventInitializer;
 import io.mosip.authentication.common.service.websub.impl.PartnerCACertEventInitializer;
+import io.mosip.authentication.common.service.websub.impl.PartnerServiceEventsInitializer;
 
 @RunWith(MockitoJUnitRunner.class)
 public class IdAuthWebSubInitializerTest {
@@ -36,6 +38,12 @@ public class IdAuthWebSubInitializerTest {
 	
 	@Mock
 	private PartnerCACertEventInitializer partnerCACertEventInitializer;
+
+	@Mock
+	private PartnerServiceEventsInitializer partnerServiceEventsInitializer;
+
+	@Mock
+	private PartnerPolicyCache partnerPolicyCache;
 	
 	@InjectMocks
 	private IdAuthWebSubInitializer idAuthWebSubInitializer;
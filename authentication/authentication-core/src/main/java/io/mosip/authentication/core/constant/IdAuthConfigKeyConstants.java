@@ -175,4 +175,126 @@ public final class IdAuthConfigKeyConstants {
 	public static final String IDP_AMR_ACR_IDA_MAPPING_SOURCE = "idp.amr-acr.ida.mapping.property.source";
 	
 	public static final String AUTHENTICATION_ERROR_EVENTING_ENABLED = "mosip.ida.authentication.error.eventing.enabled";
+
+	public static final String IDENTITY_CACHE_BIO_ATTRIBUTE_STORE_ENABLED = "mosip.ida.identity-cache.bio-attribute-store.enabled";
+
+	public static final String ID_HASH_FILTER_ENABLED = "mosip.ida.id-hash-filter.enabled";
+
+	public static final String ID_HASH_FILTER_EXPECTED_ENTRIES = "mosip.ida.id-hash-filter.expected-entries";
+
+	public static final String ID_HASH_FILTER_FALSE_POSITIVE_RATE = "mosip.ida.id-hash-filter.false-positive-rate";
+
+	public static final String ID_HASH_FILTER_LOAD_PAGE_SIZE = "mosip.ida.id-hash-filter.load-page-size";
+
+	public static final String ID_HASH_FILTER_REFRESH_INTERVAL_MILLIS = "mosip.ida.id-hash-filter.refresh-interval-millis";
+
+	public static final String ID_HASH_FILTER_REFRESH_OVERLAP_SECS = "mosip.ida.id-hash-filter.refresh-overlap-secs";
+
+	public static final String ID_HASH_FILTER_REBUILD_INTERVAL_SECS = "mosip.ida.id-hash-filter.rebuild-interval-secs";
+
+	public static final String BIR_GALLERY_CACHE_ENABLED = "mosip.ida.bir-gallery-cache.enabled";
+
+	public static final String BIR_GALLERY_CACHE_MAX_SIZE_BYTES = "mosip.ida.bir-gallery-cache.max-size-bytes";
+
+	public static final String BIR_GALLERY_CACHE_EXPIRE_AFTER_ACCESS_SECS = "mosip.ida.bir-gallery-cache.expire-after-access-secs";
+
+	public static final String IDENTITY_CACHE_DATA_FORMAT = "mosip.ida.identity-cache.data-format";
+
+	public static final String IDENTITY_CACHE_DATA_FORMAT_MIGRATION_ENABLED = "mosip.ida.identity-cache.data-format.migration.enabled";
+
+	public static final String IDENTITY_CACHE_DATA_FORMAT_MIGRATION_BATCH_SIZE = "mosip.ida.identity-cache.data-format.migration.batch-size";
+
+	public static final String IDENTITY_CACHE_DATA_FORMAT_MIGRATION_DELAY_MILLIS = "mosip.ida.identity-cache.data-format.migration.delay-millis";
+
+	public static final String ZK_LOCAL_DECRYPTION_ENABLED = "mosip.ida.zk-decryption.local.enabled";
+
+	public static final String ZK_DECRYPTION_PARALLEL_THRESHOLD = "mosip.ida.zk-decryption.parallel-threshold";
+
+	public static final String ZK_RANDOM_KEY_CACHE_MAX_ENTRIES = "mosip.ida.zk-decryption.random-key-cache.max-entries";
+
+	public static final String ZK_RANDOM_KEY_CACHE_EXPIRE_AFTER_WRITE_SECS = "mosip.ida.zk-decryption.random-key-cache.expire-after-write-secs";
+
+	public static final String READ_REPLICA_ENABLED = "mosip.ida.datasource.read-replica.enabled";
+
+	public static final String READ_REPLICA_JDBC_URL = "mosip.ida.datasource.read-replica.url";
+
+	public static final String READ_REPLICA_JDBC_USER = "mosip.ida.datasource.read-replica.user";
+
+	public static final String READ_REPLICA_JDBC_PASSWORD = "mosip.ida.datasource.read-replica.password";
+
+	public static final String READ_REPLICA_MAXIMUM_POOL_SIZE = "mosip.ida.datasource.read-replica.maximum-pool-size";
+
+	public static final String READ_REPLICA_MAX_LAG_MILLIS = "mosip.ida.datasource.read-replica.max-lag-millis";
+
+	public static final String BODY_BUFFER_POOL_MAX_BUFFERS = "mosip.ida.body-buffer-pool.max-buffers";
+
+	public static final String BODY_BUFFER_POOL_MAX_BUFFER_SIZE = "mosip.ida.body-buffer-pool.max-buffer-size";
+
+	public static final String BIO_DECRYPTION_THREAD_COUNT = "mosip.ida.bio-decryption.thread-count";
+
+	public static final String BIO_DECRYPTION_QUEUE_CAPACITY = "mosip.ida.bio-decryption.queue-capacity";
+
+	public static final String VERIFIED_CERT_CACHE_ENABLED = "mosip.ida.verified-certificate-cache.enabled";
+
+	public static final String VERIFIED_CERT_CACHE_MAX_ENTRIES = "mosip.ida.verified-certificate-cache.max-entries";
+
+	public static final String VERIFIED_CERT_CACHE_EXPIRE_AFTER_WRITE_SECS = "mosip.ida.verified-certificate-cache.expire-after-write-secs";
+
+	public static final String PARTNER_POLICY_CACHE_ENABLED = "mosip.ida.partner-policy-cache.enabled";
+
+	public static final String PARTNER_POLICY_CACHE_MAX_ENTRIES = "mosip.ida.partner-policy-cache.max-entries";
+
+	public static final String PARTNER_POLICY_CACHE_EXPIRE_AFTER_WRITE_SECS = "mosip.ida.partner-policy-cache.expire-after-write-secs";
+
+	public static final String PARTNER_POLICY_CACHE_INVALIDATION_GRACE_SECS = "mosip.ida.partner-policy-cache.invalidation-grace-secs";
+
+	public static final String WRITE_BEHIND_ENABLED = "mosip.ida.write-behind.enabled";
+
+	public static final String WRITE_BEHIND_QUEUE_CAPACITY = "mosip.ida.write-behind.queue-capacity";
+
+	public static final String WRITE_BEHIND_BATCH_SIZE = "mosip.ida.write-behind.batch-size";
+
+	public static final String WRITE_BEHIND_FLUSH_INTERVAL_MILLIS = "mosip.ida.write-behind.flush-interval-millis";
+
+	public static final String WRITE_BEHIND_OFFER_TIMEOUT_MILLIS = "mosip.ida.write-behind.offer-timeout-millis";
+
+	public static final String WRITE_BEHIND_SPILL_FILE = "mosip.ida.write-behind.spill-file";
+
+	public static final String AUTH_STAGE_METRICS_ENABLED = "mosip.ida.auth-stage-metrics.enabled";
+
+	public static final String AUTH_STAGE_METRICS_PERCENTILE_HISTOGRAM = "mosip.ida.auth-stage-metrics.percentile-histogram";
+
+	public static final String REPLAY_GUARD_ENABLED = "mosip.ida.replay-guard.enabled";
+
+	public static final String REPLAY_GUARD_WINDOW_SECS = "mosip.ida.replay-guard.window-secs";
+
+	public static final String REPLAY_GUARD_MAX_ENTRIES = "mosip.ida.replay-guard.max-entries";
+
+	public static final String REPLAY_GUARD_REJECT_REUSED_TRANSACTION_ID = "mosip.ida.replay-guard.reject-reused-transaction-id";
+
+	public static final String BIO_MATCHING_THREAD_COUNT = "mosip.ida.bio-matching.thread-count";
+
+	public static final String BIO_MATCHING_QUEUE_CAPACITY = "mosip.ida.bio-matching.queue-capacity";
+
+	public static final String BIO_MATCHING_TIMEOUT_MILLIS = "mosip.ida.bio-matching.timeout-millis";
+
+	public static final String BIO_MATCHING_MAX_CONCURRENT_CALLS = "mosip.ida.bio-matching.max-concurrent-calls";
+
+	public static final String BIO_MATCHING_MAX_WAITING_CALLS = "mosip.ida.bio-matching.max-waiting-calls";
+
+	public static final String BIO_MATCHING_MAX_WAIT_MILLIS = "mosip.ida.bio-matching.max-wait-millis";
+
+	public static final String BIO_MATCHING_SDK_INSTANCE_POOL_ENABLED = "mosip.ida.bio-matching.sdk-instance-pool.enabled";
+
+	public static final String NORMALIZED_DEMO_CACHE_ENABLED = "mosip.ida.normalized-demo-cache.enabled";
+
+	public static final String NORMALIZED_DEMO_CACHE_MAX_ENTRIES = "mosip.ida.normalized-demo-cache.max-entries";
+
+	public static final String NORMALIZED_DEMO_CACHE_EXPIRE_AFTER_ACCESS_SECS = "mosip.ida.normalized-demo-cache.expire-after-access-secs";
+
+	public static final String DEMO_MATCHING_PARALLELISM = "mosip.ida.demo-matching.parallelism";
+
+	public static final String DEMO_MATCHING_PARALLEL_THRESHOLD = "mosip.ida.demo-matching.parallel-threshold";
+
+	public static final String DEMO_MATCHING_FAIL_FAST = "mosip.ida.demo-matching.fail-fast";
 }
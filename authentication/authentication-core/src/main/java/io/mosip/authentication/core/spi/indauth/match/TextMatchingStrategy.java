@@ -27,6 +27,29 @@ public interface TextMatchingStrategy extends MatchingStrategy {
 			Map<String, Object> props,
 			NormalizeFunction normalizeFunction, 
 			BiFunction<String, String, Integer> matchFunction) throws IdAuthenticationBusinessException {
+		return normalizeAndMatch(reqInfo, entityInfo, props, normalizeFunction, normalizeFunction, matchFunction);
+	}
+
+	/**
+	 * Normalizes the request and the stored values with their own functions, so
+	 * that the stored values, which do not change between the credential updates,
+	 * can be normalized once, and matches them.
+	 *
+	 * @param reqInfo the request value
+	 * @param entityInfo the stored value
+	 * @param props the match properties
+	 * @param normalizeFunction the function normalizing the request value
+	 * @param storedNormalizeFunction the function normalizing the stored value
+	 * @param matchFunction the match function
+	 * @return the match value
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	public static int normalizeAndMatch(Object reqInfo, 
+			Object entityInfo, 
+			Map<String, Object> props,
+			NormalizeFunction normalizeFunction, 
+			NormalizeFunction storedNormalizeFunction, 
+			BiFunction<String, String, Integer> matchFunction) throws IdAuthenticationBusinessException {
 		if (reqInfo instanceof String && entityInfo instanceof String) {
 			Object demoNormalizerObject=  props.get("demoNormalizer");
 			Object langObject=props.get("langCode");
@@ -34,7 +57,7 @@ public interface TextMatchingStrategy extends MatchingStrategy {
 				DemoNormalizer demoNormalizer=(DemoNormalizer)demoNormalizerObject;
 			    String langCode=(String)langObject;
 				String refInfoText = normalizeFunction.normalizeText(demoNormalizer, (String) reqInfo, langCode, props);
-				String entityInfoText = normalizeFunction.normalizeText(demoNormalizer, (String) entityInfo, langCode, props);
+				String entityInfoText = storedNormalizeFunction.normalizeText(demoNormalizer, (String) entityInfo, langCode, props);
 				return matchFunction.apply(refInfoText, entityInfoText);
 			} else {
 				//If language code is not present or demo normalizer is not present, directly perform match
@@ -1,5 +1,9 @@
 package io.mosip.authentication.core.util;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 /**
  * Crypto Util for common methods in various module
  * 
@@ -47,6 +51,23 @@ public class CryptoUtil {
 
 	}
 
+	/**
+	 * Encodes the range of the data to BASE64 URL Safe, without copying the
+	 * range out of the data
+	 * 
+	 * @param data   data to encode
+	 * @param offset the offset of the range
+	 * @param length the length of the range
+	 * @return encoded data, or null if the range is empty
+	 */
+	public static String encodeBase64Url(byte[] data, int offset, int length) {
+		if (length == 0) {
+			return null;
+		}
+		ByteBuffer encoded = Base64.getUrlEncoder().withoutPadding().encode(ByteBuffer.wrap(data, offset, length));
+		return new String(encoded.array(), StandardCharsets.US_ASCII);
+	}
+
 	/**
 	 * Decodes from BASE64
 	 * 
@@ -1,6 +1,16 @@
 package io.mosip.authentication.core.util;
 
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.NORMALIZED_DEMO_CACHE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.NORMALIZED_DEMO_CACHE_EXPIRE_AFTER_ACCESS_SECS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.NORMALIZED_DEMO_CACHE_MAX_ENTRIES;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
@@ -9,6 +19,12 @@ import io.mosip.kernel.demographics.spi.IDemoNormalizer;
 
 /**
  * Generic class to normalize individual name, address.
+ * <p>
+ * The normalized stored values can be cached, keyed by the digest of the
+ * stored value and its language, so that the stored name and address of a
+ * repeat authenticator, which do not change between the credential updates,
+ * are not normalized on every demo authentication. The normalized names are
+ * cleared when the title master data changes.
  *
  * @author Rakesh Roshan
  * @author Arun Bose S
@@ -16,10 +32,31 @@ import io.mosip.kernel.demographics.spi.IDemoNormalizer;
  */
 @Component
 public class DemoNormalizer {
-	
+
+	private static final String NAME = "name";
+
+	private static final String ADDRESS = "address";
+
 	@Autowired
 	private IDemoNormalizer iDemoNormalizer;
-	
+
+	@Value("${" + NORMALIZED_DEMO_CACHE_ENABLED + ":false}")
+	private boolean storedValueCacheEnabled;
+
+	@Value("${" + NORMALIZED_DEMO_CACHE_MAX_ENTRIES + ":10000}")
+	private int storedValueCacheMaxEntries;
+
+	@Value("${" + NORMALIZED_DEMO_CACHE_EXPIRE_AFTER_ACCESS_SECS + ":3600}")
+	private long storedValueCacheExpireAfterAccessSecs;
+
+	/** The normalized stored values in the access order, least recently used first. */
+	private final LinkedHashMap<String, StoredValue> storedValues = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The generation of the normalized names, incremented when they are cleared,
+	 * so that a name normalized with the earlier titles is not cached after.
+	 */
+	private long nameGeneration;
 
 	/**
 	 * This method is used to normalize name. Calss the demo normalizer api instance to normalize the name
@@ -45,4 +82,136 @@ public class DemoNormalizer {
 	public String normalizeAddress(String address, String language) {
 		return iDemoNormalizer.normalizeAddress(address, language);
 	}
+
+	/**
+	 * Normalizes the stored name, or gets it from the cache if it was normalized
+	 * earlier.
+	 *
+	 * @param nameInfo     the stored name
+	 * @param language     the language
+	 * @param titleFetcher the title fetcher
+	 * @return the normalized name
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public String normalizeStoredName(String nameInfo, String language, MasterDataFetcher titleFetcher)
+			throws IdAuthenticationBusinessException {
+		if (!storedValueCacheEnabled) {
+			return normalizeName(nameInfo, language, titleFetcher);
+		}
+		String key = getStoredValueKey(NAME, nameInfo, language);
+		String normalizedName = getStoredValue(key);
+		if (normalizedName == null) {
+			long generation;
+			synchronized (storedValues) {
+				generation = nameGeneration;
+			}
+			normalizedName = normalizeName(nameInfo, language, titleFetcher);
+			putStoredValue(key, normalizedName, generation);
+		}
+		return normalizedName;
+	}
+
+	/**
+	 * Normalizes the stored address, or gets it from the cache if it was
+	 * normalized earlier.
+	 *
+	 * @param address  the stored address
+	 * @param language the language
+	 * @return the normalized address
+	 */
+	public String normalizeStoredAddress(String address, String language) {
+		if (!storedValueCacheEnabled) {
+			return normalizeAddress(address, language);
+		}
+		String key = getStoredValueKey(ADDRESS, address, language);
+		String normalizedAddress = getStoredValue(key);
+		if (normalizedAddress == null) {
+			normalizedAddress = normalizeAddress(address, language);
+			putStoredValue(key, normalizedAddress, -1);
+		}
+		return normalizedAddress;
+	}
+
+	/**
+	 * Clears the normalized stored names, as they depend on the titles.
+	 */
+	public void clearStoredNames() {
+		synchronized (storedValues) {
+			nameGeneration++;
+			storedValues.keySet().removeIf(key -> key.startsWith(NAME));
+		}
+	}
+
+	/**
+	 * Gets the count of the normalized stored values cached.
+	 *
+	 * @return the entry count
+	 */
+	public int getStoredValueCount() {
+		synchronized (storedValues) {
+			return storedValues.size();
+		}
+	}
+
+	private String getStoredValue(String key) {
+		long nowMillis = System.currentTimeMillis();
+		synchronized (storedValues) {
+			StoredValue storedValue = storedValues.get(key);
+			if (storedValue == null) {
+				return null;
+			}
+			if (isExpired(storedValue, nowMillis)) {
+				storedValues.remove(key);
+				return null;
+			}
+			storedValue.lastAccessMillis = nowMillis;
+			return storedValue.normalizedValue;
+		}
+	}
+
+	/**
+	 * Caches the normalized value, unless it is a name normalized before the names
+	 * were cleared, evicting the least recently used and the expired values.
+	 */
+	private void putStoredValue(String key, String normalizedValue, long generation) {
+		if (normalizedValue == null) {
+			return;
+		}
+		long nowMillis = System.currentTimeMillis();
+		synchronized (storedValues) {
+			if (generation >= 0 && generation != nameGeneration) {
+				return;
+			}
+			storedValues.put(key, new StoredValue(normalizedValue, nowMillis));
+			Iterator<StoredValue> iterator = storedValues.values().iterator();
+			while (iterator.hasNext()) {
+				StoredValue eldest = iterator.next();
+				if (storedValues.size() <= storedValueCacheMaxEntries && !isExpired(eldest, nowMillis)) {
+					break;
+				}
+				iterator.remove();
+			}
+		}
+	}
+
+	private boolean isExpired(StoredValue storedValue, long nowMillis) {
+		return nowMillis - storedValue.lastAccessMillis > storedValueCacheExpireAfterAccessSecs * 1000;
+	}
+
+	private static String getStoredValueKey(String kind, String value, String language) {
+		return kind + ":" + language + ":" + DigestUtils.sha256Hex(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static class StoredValue {
+
+		private final String normalizedValue;
+
+		private long lastAccessMillis;
+
+		private StoredValue(String normalizedValue, long lastAccessMillis) {
+			this.normalizedValue = normalizedValue;
+			this.lastAccessMillis = lastAccessMillis;
+		}
+	}
 }
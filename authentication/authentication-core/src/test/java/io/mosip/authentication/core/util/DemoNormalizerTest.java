@@ -0,0 +1,91 @@
+package io.mosip.authentication.core.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.spi.indauth.match.MasterDataFetcher;
+import io.mosip.kernel.demographics.spi.IDemoNormalizer;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DemoNormalizerTest {
+
+	@InjectMocks
+	private DemoNormalizer demoNormalizer;
+
+	@Mock
+	private IDemoNormalizer iDemoNormalizer;
+
+	private MasterDataFetcher titleFetcher = () -> Map.of("eng", List.of("Mr"));
+
+	@Before
+	public void before() {
+		ReflectionTestUtils.setField(demoNormalizer, "storedValueCacheEnabled", true);
+		ReflectionTestUtils.setField(demoNormalizer, "storedValueCacheMaxEntries", 2);
+		ReflectionTestUtils.setField(demoNormalizer, "storedValueCacheExpireAfterAccessSecs", 3600L);
+		Mockito.when(iDemoNormalizer.normalizeName(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+				.thenAnswer(invocation -> ((String) invocation.getArgument(0)).toLowerCase());
+	}
+
+	/**
+	 * The stored values are normalized once, until the names are cleared
+	 */
+	@Test
+	public void testNormalizeStoredName() throws IdAuthenticationBusinessException {
+		Mockito.when(iDemoNormalizer.normalizeAddress(Mockito.anyString(), Mockito.anyString()))
+				.thenAnswer(invocation -> ((String) invocation.getArgument(0)).toLowerCase());
+		assertEquals("mr john", demoNormalizer.normalizeStoredName("Mr John", "eng", titleFetcher));
+		assertEquals("mr john", demoNormalizer.normalizeStoredName("Mr John", "eng", titleFetcher));
+		assertEquals("street 1", demoNormalizer.normalizeStoredAddress("Street 1", "eng"));
+		assertEquals("street 1", demoNormalizer.normalizeStoredAddress("Street 1", "eng"));
+		Mockito.verify(iDemoNormalizer, Mockito.times(1)).normalizeName(Mockito.eq("Mr John"), Mockito.eq("eng"), Mockito.any());
+		Mockito.verify(iDemoNormalizer, Mockito.times(1)).normalizeAddress("Street 1", "eng");
+		assertEquals(2, demoNormalizer.getStoredValueCount());
+
+		demoNormalizer.clearStoredNames();
+		assertEquals(1, demoNormalizer.getStoredValueCount());
+		assertEquals("mr john", demoNormalizer.normalizeStoredName("Mr John", "eng", titleFetcher));
+		Mockito.verify(iDemoNormalizer, Mockito.times(2)).normalizeName(Mockito.eq("Mr John"), Mockito.eq("eng"), Mockito.any());
+	}
+
+	/**
+	 * The least recently used value is evicted beyond the max entries, and the
+	 * input values are not cached
+	 */
+	@Test
+	public void testNormalizeStoredNameEviction() throws IdAuthenticationBusinessException {
+		demoNormalizer.normalizeStoredName("A", "eng", titleFetcher);
+		demoNormalizer.normalizeStoredName("B", "eng", titleFetcher);
+		demoNormalizer.normalizeStoredName("A", "eng", titleFetcher);
+		demoNormalizer.normalizeStoredName("C", "eng", titleFetcher);
+		demoNormalizer.normalizeName("D", "eng", titleFetcher);
+		assertEquals(2, demoNormalizer.getStoredValueCount());
+		demoNormalizer.normalizeStoredName("A", "eng", titleFetcher);
+		demoNormalizer.normalizeStoredName("B", "eng", titleFetcher);
+		Mockito.verify(iDemoNormalizer, Mockito.times(1)).normalizeName(Mockito.eq("A"), Mockito.eq("eng"), Mockito.any());
+		Mockito.verify(iDemoNormalizer, Mockito.times(2)).normalizeName(Mockito.eq("B"), Mockito.eq("eng"), Mockito.any());
+	}
+
+	/**
+	 * The stored values are normalized each time when disabled
+	 */
+	@Test
+	public void testNormalizeStoredNameDisabled() throws IdAuthenticationBusinessException {
+		ReflectionTestUtils.setField(demoNormalizer, "storedValueCacheEnabled", false);
+		demoNormalizer.normalizeStoredName("Mr John", "eng", titleFetcher);
+		demoNormalizer.normalizeStoredName("Mr John", "eng", titleFetcher);
+		Mockito.verify(iDemoNormalizer, Mockito.times(2)).normalizeName(Mockito.eq("Mr John"), Mockito.eq("eng"), Mockito.any());
+		assertEquals(0, demoNormalizer.getStoredValueCount());
+	}
+}
@@ -0,0 +1,114 @@
+package io.mosip.authentication.internal.service.batch;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_CACHE_DATA_FORMAT_MIGRATION_BATCH_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_CACHE_DATA_FORMAT_MIGRATION_DELAY_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_CACHE_DATA_FORMAT_MIGRATION_ENABLED;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
+import io.mosip.authentication.common.service.util.IdentityDataCodec;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class IdentityDataFormatMigrationJob - re-encodes the demo_data and
+ * bio_data of the identity_cache records stored in json format into the binary
+ * format, once the binary format is configured.
+ * <p>
+ * The records are migrated in batches in the order of the id hash. A failed
+ * run is resumed from the last migrated batch on the next run. Records updated
+ * by the credential store job while being migrated are left as updated.
+ */
+@Component
+public class IdentityDataFormatMigrationJob {
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdaLogger.getLogger(IdentityDataFormatMigrationJob.class);
+
+	/** The identity cache repo. */
+	@Autowired
+	private IdentityCacheRepository identityCacheRepo;
+
+	/** The identity data codec. */
+	@Autowired
+	private IdentityDataCodec identityDataCodec;
+
+	@Value("${" + IDENTITY_CACHE_DATA_FORMAT_MIGRATION_ENABLED + ":false}")
+	private boolean migrationEnabled;
+
+	@Value("${" + IDENTITY_CACHE_DATA_FORMAT_MIGRATION_BATCH_SIZE + ":100}")
+	private int batchSize;
+
+	/** The last id hash migrated. */
+	private String lastId = "";
+
+	private boolean completed;
+
+	/**
+	 * Migrates the records from the last migrated id hash till the end of the
+	 * table.
+	 */
+	@Scheduled(fixedDelayString = "${" + IDENTITY_CACHE_DATA_FORMAT_MIGRATION_DELAY_MILLIS + ":60000}")
+	public void migrateIdentityData() {
+		if (!migrationEnabled || completed || !identityDataCodec.isBinaryFormatEnabled()) {
+			return;
+		}
+		try {
+			long migratedCount = 0;
+			List<String> ids;
+			do {
+				ids = identityCacheRepo.findIdsGreaterThan(lastId, PageRequest.of(0, batchSize));
+				// An empty IN list is not valid SQL, and there is nothing more to migrate
+				if (ids.isEmpty()) {
+					break;
+				}
+				for (Object[] row : identityCacheRepo.findDemoAndBioDataByIdIn(ids)) {
+					if (migrateRecord(String.valueOf(row[0]), (byte[]) row[1], (byte[]) row[5])) {
+						migratedCount++;
+					}
+				}
+				lastId = ids.get(ids.size() - 1);
+			} while (ids.size() == batchSize);
+			completed = true;
+			mosipLogger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "migrateIdentityData",
+					"Completed migration of identity data to binary format, migrated count: " + migratedCount);
+		} catch (IOException | DataAccessException e) {
+			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "migrateIdentityData",
+					"Migration of identity data failed after id hash: " + lastId + " - " + ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	/**
+	 * Re-encodes the demographic and biometric data of the record if any of them
+	 * is not in binary format.
+	 *
+	 * @param id              the id hash
+	 * @param demographicData the demographic data
+	 * @param biometricData   the biometric data
+	 * @return true, if migrated
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private boolean migrateRecord(String id, byte[] demographicData, byte[] biometricData) throws IOException {
+		boolean demoMigrated = identityDataCodec.isBinary(demographicData);
+		boolean bioMigrated = biometricData == null || identityDataCodec.isBinary(biometricData);
+		if (demoMigrated && bioMigrated) {
+			return false;
+		}
+		byte[] newDemographicData = demoMigrated ? demographicData
+				: identityDataCodec.encode(identityDataCodec.decode(demographicData));
+		byte[] newBiometricData = bioMigrated ? biometricData
+				: identityDataCodec.encode(identityDataCodec.decode(biometricData));
+		return identityCacheRepo.updateDataIfUnchanged(id, newDemographicData, newBiometricData, demographicData) > 0;
+	}
+}
@@ -0,0 +1,119 @@
+package io.mosip.authentication.internal.service.batch;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
+import io.mosip.authentication.common.service.util.IdentityDataCodec;
+
+@WebMvcTest
+@ContextConfiguration(classes = {TestContext.class, WebApplicationContext.class})
+@RunWith(SpringRunner.class)
+public class IdentityDataFormatMigrationJobTest {
+
+    @InjectMocks
+    private IdentityDataFormatMigrationJob migrationJob;
+
+    @Mock
+    private IdentityCacheRepository identityCacheRepo;
+
+    private IdentityDataCodec identityDataCodec;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Before
+    public void before() {
+        identityDataCodec = new IdentityDataCodec();
+        ReflectionTestUtils.setField(identityDataCodec, "mapper", mapper);
+        ReflectionTestUtils.setField(identityDataCodec, "dataFormat", IdentityDataCodec.FORMAT_BINARY);
+        ReflectionTestUtils.setField(migrationJob, "identityDataCodec", identityDataCodec);
+        ReflectionTestUtils.setField(migrationJob, "migrationEnabled", true);
+        ReflectionTestUtils.setField(migrationJob, "batchSize", 2);
+    }
+
+    /**
+     * Records in json format are re-encoded in binary format, and records already
+     * in binary format are left as is
+     */
+    @Test
+    public void migrateIdentityDataTest() throws Exception {
+        byte[] jsonDemo = mapper.writeValueAsBytes(Map.of("fullName", "name"));
+        byte[] jsonBio = mapper.writeValueAsBytes(Map.of("Iris_Left", "iris"));
+        byte[] binaryDemo = identityDataCodec.encode(Map.of("fullName", "name"));
+        byte[] binaryBio = identityDataCodec.encode(Map.of("Iris_Left", "iris"));
+        Mockito.when(identityCacheRepo.findIdsGreaterThan("", PageRequest.of(0, 2))).thenReturn(List.of("1", "2"));
+        Mockito.when(identityCacheRepo.findIdsGreaterThan("2", PageRequest.of(0, 2))).thenReturn(List.of("3"));
+        Mockito.when(identityCacheRepo.findDemoAndBioDataByIdIn(List.of("1", "2"))).thenReturn(List.of(
+                new Object[] { "1", jsonDemo, null, null, "token1", jsonBio },
+                new Object[] { "2", binaryDemo, null, null, "token2", binaryBio }));
+        Mockito.when(identityCacheRepo.findDemoAndBioDataByIdIn(List.of("3")))
+                .thenReturn(Collections.singletonList(new Object[] { "3", jsonDemo, null, null, "token3", binaryBio }));
+        Mockito.when(identityCacheRepo.updateDataIfUnchanged(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(1);
+
+        migrationJob.migrateIdentityData();
+        migrationJob.migrateIdentityData();
+
+        Mockito.verify(identityCacheRepo).updateDataIfUnchanged("1", binaryDemo, binaryBio, jsonDemo);
+        Mockito.verify(identityCacheRepo).updateDataIfUnchanged("3", binaryDemo, binaryBio, jsonDemo);
+        Mockito.verify(identityCacheRepo, Mockito.never()).updateDataIfUnchanged(Mockito.eq("2"), Mockito.any(),
+                Mockito.any(), Mockito.any());
+        // Not run again once completed
+        Mockito.verify(identityCacheRepo, Mockito.times(2)).findIdsGreaterThan(Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * The migration completes without querying the data of an empty page when the
+     * last page is exactly the batch size
+     */
+    @Test
+    public void migrateIdentityDataFullLastPageTest() throws Exception {
+        byte[] jsonDemo = mapper.writeValueAsBytes(Map.of("fullName", "name"));
+        Mockito.when(identityCacheRepo.findIdsGreaterThan("", PageRequest.of(0, 2))).thenReturn(List.of("1", "2"));
+        Mockito.when(identityCacheRepo.findIdsGreaterThan("2", PageRequest.of(0, 2))).thenReturn(List.of());
+        Mockito.when(identityCacheRepo.findDemoAndBioDataByIdIn(List.of("1", "2"))).thenReturn(List.of(
+                new Object[] { "1", jsonDemo, null, null, "token1", null },
+                new Object[] { "2", jsonDemo, null, null, "token2", null }));
+        Mockito.when(identityCacheRepo.updateDataIfUnchanged(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(1);
+
+        migrationJob.migrateIdentityData();
+        migrationJob.migrateIdentityData();
+
+        Mockito.verify(identityCacheRepo, Mockito.never()).findDemoAndBioDataByIdIn(Collections.emptyList());
+        Mockito.verify(identityCacheRepo, Mockito.times(2)).updateDataIfUnchanged(Mockito.any(), Mockito.any(),
+                Mockito.isNull(), Mockito.eq(jsonDemo));
+        assertTrue((Boolean) ReflectionTestUtils.getField(migrationJob, "completed"));
+        // Not run again once completed
+        Mockito.verify(identityCacheRepo, Mockito.times(2)).findIdsGreaterThan(Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * Records are not migrated while json format is configured
+     */
+    @Test
+    public void migrateIdentityDataJsonFormatTest() {
+        ReflectionTestUtils.setField(identityDataCodec, "dataFormat", IdentityDataCodec.FORMAT_JSON);
+        migrationJob.migrateIdentityData();
+        Mockito.verifyZeroInteractions(identityCacheRepo);
+    }
+}
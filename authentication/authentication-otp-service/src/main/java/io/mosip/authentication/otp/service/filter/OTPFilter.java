@@ -109,6 +109,11 @@ public class OTPFilter extends IdAuthFilter {
 	protected boolean needStoreAuthTransaction() {
 		return true;
 	}
+
+	@Override
+	protected boolean canWriteBehindAuthTransaction() {
+		return false;
+	}
 	
 	protected boolean needStoreAnonymousProfile() {
 		return false;
@@ -1,5 +1,19 @@
 package io.mosip.authentication.service;
 
+import io.mosip.authentication.common.service.cache.BirGalleryCache;
+import io.mosip.authentication.common.service.cache.IdHashLookupFilter;
+import io.mosip.authentication.common.service.cache.IdHashSaltRegistry;
+import io.mosip.authentication.common.service.cache.PartnerPolicyCache;
+import io.mosip.authentication.common.service.cache.VerifiedCertificateCache;
+import io.mosip.authentication.common.service.cache.ZkRandomKeyCache;
+import io.mosip.authentication.common.service.filter.BodyBufferPool;
+import io.mosip.authentication.common.service.filter.ReplayGuard;
+import io.mosip.authentication.common.service.filter.RequestBodyContextHttpMessageConverter;
+import io.mosip.authentication.common.service.helper.AuthStageMetrics;
+import io.mosip.authentication.common.service.helper.WriteBehindRecordWriter;
+import io.mosip.authentication.common.service.transaction.manager.ZkDecryptionEngine;
+import io.mosip.authentication.common.service.util.BioSdkBulkhead;
+import io.mosip.authentication.common.service.util.IdentityDataCodec;
 import io.mosip.authentication.common.service.util.KeyBindedTokenMatcherUtil;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -111,12 +125,12 @@ import io.mosip.kernel.keymanager.hsm.health.HSMHealthCheck;
 		IdInfoFetcherImpl.class, OTPManager.class, MasterDataManager.class, IdInfoHelper.class, OTPAuthServiceImpl.class,
 		AuditHelper.class, KeyManager.class, PinValidatorImpl.class, AuthRequestValidator.class, AuthFacadeImpl.class,
 		MatchInputBuilder.class, IdServiceImpl.class, DemoAuthServiceImpl.class, BioAuthServiceImpl.class, TokenIdManager.class,
-		SwaggerConfig.class, BioMatcherUtil.class, BioAPIFactory.class, BioProviderImpl_V_0_8.class, BioProviderImpl_V_0_9.class,
+		SwaggerConfig.class, BioMatcherUtil.class, BioSdkBulkhead.class, BioAPIFactory.class, BioProviderImpl_V_0_8.class, BioProviderImpl_V_0_9.class,
 		IdAuthSecurityManager.class, RestRequestFactory.class,
 		AuthtypeStatusImpl.class, CryptoCore.class, PartnerServiceImpl.class, CryptomanagerServiceImpl.class, KeyGenerator.class,
 		CryptomanagerUtils.class, KeymanagerServiceImpl.class, KeymanagerUtil.class, TokenIDGeneratorServiceImpl.class,
 		TokenIDGenerator.class, PartnerServiceManager.class, ZKCryptoManagerServiceImpl.class, SignatureServiceImpl.class,
-		KeyStoreImpl.class, KeymanagerDBHelper.class, IdTypeUtil.class, MasterDataCache.class, MasterDataCacheInitializer.class,
+		KeyStoreImpl.class, KeymanagerDBHelper.class, IdTypeUtil.class, MasterDataCache.class, IdHashSaltRegistry.class, IdHashLookupFilter.class, IdentityDataCodec.class, ZkRandomKeyCache.class, ZkDecryptionEngine.class, RequestBodyContextHttpMessageConverter.class, BodyBufferPool.class, VerifiedCertificateCache.class, PartnerPolicyCache.class, WriteBehindRecordWriter.class, AuthStageMetrics.class, ReplayGuard.class, BirGalleryCache.class, MasterDataCacheInitializer.class,
 		PartnerCertificateManagerServiceImpl.class, PartnerCertManagerDBHelper.class, WebSubHelper.class,
 		IdAuthWebSubInitializer.class, PartnerServiceEventsInitializer.class, RetryConfig.class, RetryUtil.class,
 		RetryListenerImpl.class, RetryAspect.class, AuthTransactionHelper.class, HotlistServiceImpl.class,
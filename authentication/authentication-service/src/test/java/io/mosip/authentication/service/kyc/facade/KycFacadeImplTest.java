@@ -56,6 +56,7 @@ import io.mosip.authentication.common.service.builder.AuthTransactionBuilder;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.facade.AuthFacadeImpl;
 import io.mosip.authentication.common.service.helper.AuditHelper;
+import io.mosip.authentication.common.service.helper.AuthStageMetrics;
 import io.mosip.authentication.common.service.helper.AuthTransactionHelper;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
 import io.mosip.authentication.common.service.impl.patrner.PartnerServiceImpl;
@@ -165,6 +166,9 @@ public class KycFacadeImplTest {
 	@Mock
 	private KeymanagerUtil keymanagerUtil;
 
+	@Mock
+	private AuthStageMetrics authStageMetrics;
+
 	private KeyPair keyPair;
 	private String audienceId = "test-ida-binding";
 
@@ -8,6 +8,7 @@
 \ir ddl/ida-key_policy_def.sql
 \ir ddl/ida-key_policy_def_h.sql
 \ir ddl/ida-identity_cache.sql
+\ir ddl/ida-identity_bio_data.sql
 \ir ddl/ida-data_encrypt_keystore.sql
 \ir ddl/ida-otp_transaction.sql
 \ir ddl/ida-ca_cert_store.sql
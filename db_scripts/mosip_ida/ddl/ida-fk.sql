@@ -41,6 +41,12 @@ ALTER TABLE ida.batch_job_execution_params ADD CONSTRAINT JOB_EXEC_PARAMS_FK FOR
 REFERENCES BATCH_JOB_EXECUTION(JOB_EXECUTION_ID);
 -- ddl-end --
 
+-- object: fk_idbiodata_idhash | type: CONSTRAINT --
+-- ALTER TABLE ida.identity_bio_data DROP CONSTRAINT IF EXISTS fk_idbiodata_idhash CASCADE;
+ALTER TABLE ida.identity_bio_data ADD CONSTRAINT fk_idbiodata_idhash FOREIGN KEY (id_hash)
+REFERENCES ida.identity_cache(id) ON DELETE CASCADE;
+-- ddl-end --
+
 CREATE SEQUENCE ida.batch_job_seq;
 CREATE SEQUENCE ida.batch_job_execution_seq;
 CREATE SEQUENCE ida.batch_step_execution_seq;
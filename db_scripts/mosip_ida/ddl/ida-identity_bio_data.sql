@@ -0,0 +1,36 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_ida
+-- Table Name 	: ida.identity_bio_data
+-- Purpose    	: Identity Bio Data: Biometric attributes of the identity cache records stored one record per attribute, so that only the attributes needed for an authentication request are read
+--           
+-- ------------------------------------------------------------------------------------------
+
+-- ------------------------------------------------------------------------------------------
+-- object: ida.identity_bio_data | type: TABLE --
+-- DROP TABLE IF EXISTS ida.identity_bio_data CASCADE;
+CREATE TABLE ida.identity_bio_data(
+	id_hash character varying(256) NOT NULL,
+	bio_attribute character varying(128) NOT NULL,
+	attribute_name character varying(128) NOT NULL,
+	bio_value bytea NOT NULL,
+	cr_by character varying(256) NOT NULL,
+	cr_dtimes timestamp NOT NULL,
+	CONSTRAINT pk_idbiodata_id PRIMARY KEY (id_hash,bio_attribute)
+
+);
+-- ddl-end --
+
+COMMENT ON TABLE ida.identity_bio_data IS 'Identity Bio Data: Biometric attributes of the identity cache records stored one record per attribute, so that only the attributes needed for an authentication request are read.';
+-- ddl-end --
+COMMENT ON COLUMN ida.identity_bio_data.id_hash IS 'ID Hash: ID of the identity cache record to which the biometric attribute belongs.';
+-- ddl-end --
+COMMENT ON COLUMN ida.identity_bio_data.bio_attribute IS 'Bio Attribute: Biometric attribute name in lower case, for example finger_left thumb.';
+-- ddl-end --
+COMMENT ON COLUMN ida.identity_bio_data.attribute_name IS 'Attribute Name: Biometric attribute name as received in the credential.';
+-- ddl-end --
+COMMENT ON COLUMN ida.identity_bio_data.bio_value IS 'Bio Value: Biometric data of the attribute.';
+-- ddl-end --
+COMMENT ON COLUMN ida.identity_bio_data.cr_by IS 'Created By : ID or name of the user who create / insert record';
+-- ddl-end --
+COMMENT ON COLUMN ida.identity_bio_data.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+-- ddl-end --
@@ -32,6 +32,7 @@ CREATE TABLE ida.identity_cache(
 -- ddl-end --
 --index section starts----
 CREATE INDEX ind_id ON ida.identity_cache (id);
+CREATE INDEX ind_idcache_crdtimes ON ida.identity_cache (cr_dtimes);
 --index section ends------
 
 COMMENT ON TABLE ida.identity_cache IS 'Identity Cache: Details of UIN stored along with uin data and biometric details, This data is synched from ID Repo whenever it is needed and used for authentication request during validation and response to authentication.';
@@ -1 +1,5 @@
-\echo 'Rollback Queries not required for transition from $CURRENT_VERSION to $UPGRADE_VERSION'
\ No newline at end of file
+\c mosip_ida
+
+DROP TABLE IF EXISTS ida.identity_bio_data CASCADE;
+
+DROP INDEX IF EXISTS ida.ind_idcache_crdtimes;
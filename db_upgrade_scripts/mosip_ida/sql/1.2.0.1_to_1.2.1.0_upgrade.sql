@@ -1 +1,22 @@
-\echo 'Upgrade Queries not required for transition from $CURRENT_VERSION to $UPGRADE_VERSION'
\ No newline at end of file
+\c mosip_ida
+
+-- object: ida.identity_bio_data | type: TABLE --
+CREATE TABLE ida.identity_bio_data(
+	id_hash character varying(256) NOT NULL,
+	bio_attribute character varying(128) NOT NULL,
+	attribute_name character varying(128) NOT NULL,
+	bio_value bytea NOT NULL,
+	cr_by character varying(256) NOT NULL,
+	cr_dtimes timestamp NOT NULL,
+	CONSTRAINT pk_idbiodata_id PRIMARY KEY (id_hash,bio_attribute)
+
+);
+
+ALTER TABLE ida.identity_bio_data ADD CONSTRAINT fk_idbiodata_idhash FOREIGN KEY (id_hash)
+REFERENCES ida.identity_cache(id) ON DELETE CASCADE;
+
+GRANT SELECT, INSERT, TRUNCATE, REFERENCES, UPDATE, DELETE
+   ON ida.identity_bio_data
+   TO idauser;
+
+CREATE INDEX IF NOT EXISTS ind_idcache_crdtimes ON ida.identity_cache (cr_dtimes);